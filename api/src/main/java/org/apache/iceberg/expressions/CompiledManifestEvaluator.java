@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.expressions;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.Accessors;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFile.PartitionFieldSummary;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.BinaryUtil;
+
+/**
+ * A {@link ManifestEvaluator} that compiles the bound partition expression into a tree of nodes
+ * once, instead of visiting the expression for every manifest.
+ *
+ * <p>Predicates on a partition field are compiled into nodes that hold the position of the field's
+ * summary and a {@link SerializedBoundComparator} for the literal.
+ */
+class CompiledManifestEvaluator extends ManifestEvaluator {
+  private static final int IN_PREDICATE_LIMIT = 200;
+  private static final Comparator<ByteBuffer> UNSIGNED_BYTES = Comparators.unsignedBytes();
+
+  private static final boolean ROWS_MIGHT_MATCH = true;
+  private static final boolean ROWS_CANNOT_MATCH = false;
+
+  private final Node root;
+
+  CompiledManifestEvaluator(PartitionSpec spec, Expression partitionFilter, boolean caseSensitive) {
+    super(spec, partitionFilter, caseSensitive);
+    this.root = ExpressionVisitors.visit(expr(), new Compiler());
+  }
+
+  @Override
+  public boolean eval(ManifestFile manifest) {
+    List<PartitionFieldSummary> partitions = manifest.partitions();
+    if (partitions == null) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    return root.eval(partitions);
+  }
+
+  private interface Node {
+    boolean eval(List<PartitionFieldSummary> partitions);
+  }
+
+  private class Compiler extends ExpressionVisitors.ExpressionVisitor<Node> {
+    @Override
+    public Node alwaysTrue() {
+      return partitions -> ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public Node alwaysFalse() {
+      return partitions -> ROWS_CANNOT_MATCH;
+    }
+
+    @Override
+    public Node not(Node child) {
+      return partitions -> !child.eval(partitions);
+    }
+
+    @Override
+    public Node and(Node left, Node right) {
+      return partitions -> left.eval(partitions) && right.eval(partitions);
+    }
+
+    @Override
+    public Node or(Node left, Node right) {
+      return partitions -> left.eval(partitions) || right.eval(partitions);
+    }
+
+    @Override
+    public <T> Node predicate(BoundPredicate<T> pred) {
+      if (!(pred.term() instanceof BoundReference)) {
+        return partitions -> CompiledManifestEvaluator.this.eval(partitions, pred);
+      }
+
+      int pos = Accessors.toPosition(pred.ref().accessor());
+      Type type = pred.ref().type();
+      switch (pred.op()) {
+        case IS_NULL:
+          return partitions -> partitions.get(pos).containsNull();
+        case NOT_NULL:
+          return partitions -> !allValuesAreNull(partitions.get(pos), type.typeId());
+        case IS_NAN:
+          return partitions -> mayContainNaN(partitions.get(pos), type.typeId());
+        case NOT_NAN:
+          return partitions -> !containsNaNsOnly(partitions.get(pos));
+        case LT:
+          return lt(pos, comparator(type, pred), false);
+        case LT_EQ:
+          return lt(pos, comparator(type, pred), true);
+        case GT:
+          return gt(pos, comparator(type, pred), false);
+        case GT_EQ:
+          return gt(pos, comparator(type, pred), true);
+        case EQ:
+          return eq(pos, comparator(type, pred));
+        case IN:
+          return in(pos, type, pred.asSetPredicate().literalSet());
+        case STARTS_WITH:
+          return startsWith(pos, pred.asLiteralPredicate().literal().toByteBuffer());
+        case NOT_STARTS_WITH:
+          return notStartsWith(pos, pred.asLiteralPredicate().literal().toByteBuffer());
+        case NOT_EQ:
+        case NOT_IN:
+          // bounds are not necessarily a min or max value, so these cannot be answered
+          return partitions -> ROWS_MIGHT_MATCH;
+        default:
+          return partitions -> CompiledManifestEvaluator.this.eval(partitions, pred);
+      }
+    }
+  }
+
+  private static SerializedBoundComparator comparator(Type type, BoundPredicate<?> pred) {
+    return SerializedBoundComparator.forLiteral(type, pred.asLiteralPredicate().literal().value());
+  }
+
+  private static Node lt(int pos, SerializedBoundComparator cmp, boolean orEqual) {
+    return partitions -> {
+      ByteBuffer lower = partitions.get(pos).lowerBound();
+      if (lower == null) {
+        return ROWS_CANNOT_MATCH; // values are all null
+      }
+
+      int result = cmp.compare(lower);
+      return orEqual ? result <= 0 : result < 0;
+    };
+  }
+
+  private static Node gt(int pos, SerializedBoundComparator cmp, boolean orEqual) {
+    return partitions -> {
+      ByteBuffer upper = partitions.get(pos).upperBound();
+      if (upper == null) {
+        return ROWS_CANNOT_MATCH; // values are all null
+      }
+
+      int result = cmp.compare(upper);
+      return orEqual ? result >= 0 : result > 0;
+    };
+  }
+
+  private static Node eq(int pos, SerializedBoundComparator cmp) {
+    return partitions -> {
+      PartitionFieldSummary summary = partitions.get(pos);
+      ByteBuffer lower = summary.lowerBound();
+      if (lower == null) {
+        return ROWS_CANNOT_MATCH; // values are all null and literal cannot contain null
+      }
+
+      return cmp.compare(lower) <= 0 && cmp.compare(summary.upperBound()) >= 0;
+    };
+  }
+
+  private static <T> Node in(int pos, Type type, Set<T> literalSet) {
+    if (literalSet.size() > IN_PREDICATE_LIMIT) {
+      // skip evaluating the predicate if the number of values is too big
+      return partitions -> partitions.get(pos).lowerBound() != null;
+    }
+
+    SerializedBoundComparator[] comparators = new SerializedBoundComparator[literalSet.size()];
+    int index = 0;
+    for (T literal : literalSet) {
+      comparators[index] = SerializedBoundComparator.forLiteral(type, literal);
+      index += 1;
+    }
+
+    return partitions -> {
+      PartitionFieldSummary summary = partitions.get(pos);
+      ByteBuffer lower = summary.lowerBound();
+      if (lower == null) {
+        return ROWS_CANNOT_MATCH; // values are all null and literalSet cannot contain null
+      }
+
+      // rows may match if any value is between the lower and upper bounds
+      ByteBuffer upper = summary.upperBound();
+      for (SerializedBoundComparator cmp : comparators) {
+        if (cmp.compare(lower) <= 0 && cmp.compare(upper) >= 0) {
+          return ROWS_MIGHT_MATCH;
+        }
+      }
+
+      return ROWS_CANNOT_MATCH;
+    };
+  }
+
+  private static Node startsWith(int pos, ByteBuffer prefix) {
+    return partitions -> {
+      PartitionFieldSummary summary = partitions.get(pos);
+      ByteBuffer lower = summary.lowerBound();
+      if (lower == null) {
+        return ROWS_CANNOT_MATCH; // values are all null and literal cannot contain null
+      }
+
+      return comparePrefix(lower, prefix) <= 0 && comparePrefix(summary.upperBound(), prefix) >= 0;
+    };
+  }
+
+  private static Node notStartsWith(int pos, ByteBuffer prefix) {
+    return partitions -> {
+      PartitionFieldSummary summary = partitions.get(pos);
+      if (summary.containsNull()) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      // notStartsWith will match unless all values must start with the prefix. This happens when
+      // the lower and upper bounds both start with the prefix.
+      ByteBuffer lower = summary.lowerBound();
+      ByteBuffer upper = summary.upperBound();
+      if (lower == null || upper == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      return !startsWithPrefix(lower, prefix) || !startsWithPrefix(upper, prefix);
+    };
+  }
+
+  /** Compares a bound truncated to the length of the prefix with the prefix. */
+  private static int comparePrefix(ByteBuffer bound, ByteBuffer prefix) {
+    int length = Math.min(prefix.remaining(), bound.remaining());
+    return UNSIGNED_BYTES.compare(BinaryUtil.truncateBinary(bound, length), prefix);
+  }
+
+  private static boolean startsWithPrefix(ByteBuffer bound, ByteBuffer prefix) {
+    return bound.remaining() >= prefix.remaining() && comparePrefix(bound, prefix) == 0;
+  }
+
+  private static boolean mayContainNaN(PartitionFieldSummary summary, Type.TypeID typeId) {
+    if (summary.containsNaN() != null && !summary.containsNaN()) {
+      return false;
+    }
+
+    return !allValuesAreNull(summary, typeId);
+  }
+
+  private static boolean containsNaNsOnly(PartitionFieldSummary summary) {
+    // if containsNaN is true, containsNull is false and lowerBound is null, all values are NaN
+    return summary.containsNaN() != null
+        && summary.containsNaN()
+        && !summary.containsNull()
+        && summary.lowerBound() == null;
+  }
+
+  private static boolean allValuesAreNull(PartitionFieldSummary summary, Type.TypeID typeId) {
+    // containsNull encodes whether at least one partition value is null,
+    // lowerBound is null if all partition values are null
+    boolean allNull = summary.containsNull() && summary.lowerBound() == null;
+
+    if (allNull && (Type.TypeID.DOUBLE.equals(typeId) || Type.TypeID.FLOAT.equals(typeId))) {
+      // floating point types may include NaN values, which we check separately.
+      // In case bounds don't include NaN value, containsNaN needs to be checked against.
+      allNull = summary.containsNaN() != null && !summary.containsNaN();
+    }
+
+    return allNull;
+  }
+}
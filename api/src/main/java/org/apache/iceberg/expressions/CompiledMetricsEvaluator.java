@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.expressions;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.BinaryUtil;
+
+/**
+ * An {@link InclusiveMetricsEvaluator} that compiles the bound expression into a tree of nodes
+ * once, instead of visiting the expression for every file.
+ *
+ * <p>Predicates on a column reference are compiled into nodes that hold the boxed field ID and a
+ * {@link SerializedBoundComparator} for the literal. Predicates on transforms or variant extracts
+ * are evaluated by the visitor.
+ */
+class CompiledMetricsEvaluator extends InclusiveMetricsEvaluator {
+  private static final int IN_PREDICATE_LIMIT = 200;
+  private static final Comparator<ByteBuffer> UNSIGNED_BYTES = Comparators.unsignedBytes();
+
+  private static final boolean ROWS_MIGHT_MATCH = true;
+  private static final boolean ROWS_CANNOT_MATCH = false;
+
+  private final Node root;
+
+  CompiledMetricsEvaluator(Schema schema, Expression unbound, boolean caseSensitive) {
+    super(schema, unbound, caseSensitive);
+    this.root = ExpressionVisitors.visit(expr(), new Compiler());
+  }
+
+  @Override
+  public boolean eval(ContentFile<?> file) {
+    if (file.recordCount() == 0) {
+      return ROWS_CANNOT_MATCH;
+    }
+
+    if (file.recordCount() < 0) {
+      // see InclusiveMetricsEvaluator: files imported from avro tables have no record count
+      return ROWS_MIGHT_MATCH;
+    }
+
+    return root.eval(file);
+  }
+
+  private interface Node {
+    boolean eval(ContentFile<?> file);
+  }
+
+  private class Compiler extends ExpressionVisitors.ExpressionVisitor<Node> {
+    @Override
+    public Node alwaysTrue() {
+      return file -> ROWS_MIGHT_MATCH;
+    }
+
+    @Override
+    public Node alwaysFalse() {
+      return file -> ROWS_CANNOT_MATCH;
+    }
+
+    @Override
+    public Node not(Node child) {
+      return file -> !child.eval(file);
+    }
+
+    @Override
+    public Node and(Node left, Node right) {
+      return file -> left.eval(file) && right.eval(file);
+    }
+
+    @Override
+    public Node or(Node left, Node right) {
+      return file -> left.eval(file) || right.eval(file);
+    }
+
+    @Override
+    public <T> Node predicate(BoundPredicate<T> pred) {
+      if (!(pred.term() instanceof BoundReference)) {
+        return file -> CompiledMetricsEvaluator.this.eval(file, pred);
+      }
+
+      Integer id = pred.ref().fieldId();
+      Type type = pred.ref().type();
+      switch (pred.op()) {
+        case IS_NULL:
+          return file -> mayContainNull(file, id);
+        case NOT_NULL:
+          return file -> !containsNullsOnly(file, id);
+        case IS_NAN:
+          return file -> mayContainNaN(file, id);
+        case NOT_NAN:
+          return file -> !containsNaNsOnly(file, id);
+        case LT:
+          return lt(id, comparator(type, pred), false);
+        case LT_EQ:
+          return lt(id, comparator(type, pred), true);
+        case GT:
+          return gt(id, comparator(type, pred), false);
+        case GT_EQ:
+          return gt(id, comparator(type, pred), true);
+        case EQ:
+          return eq(id, comparator(type, pred));
+        case IN:
+          return in(id, type, pred.asSetPredicate().literalSet());
+        case STARTS_WITH:
+          return startsWith(id, pred.asLiteralPredicate().literal().toByteBuffer());
+        case NOT_STARTS_WITH:
+          return notStartsWith(id, pred.asLiteralPredicate().literal().toByteBuffer());
+        case NOT_EQ:
+        case NOT_IN:
+          // bounds are not necessarily a min or max value, so these cannot be answered
+          return file -> ROWS_MIGHT_MATCH;
+        default:
+          return file -> CompiledMetricsEvaluator.this.eval(file, pred);
+      }
+    }
+  }
+
+  private static SerializedBoundComparator comparator(Type type, BoundPredicate<?> pred) {
+    return SerializedBoundComparator.forLiteral(type, pred.asLiteralPredicate().literal().value());
+  }
+
+  private static Node lt(Integer id, SerializedBoundComparator cmp, boolean orEqual) {
+    return file -> {
+      if (containsNullsOnly(file, id) || containsNaNsOnly(file, id)) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer lower = bound(file.lowerBounds(), id);
+      if (lower == null || cmp.isNaN(lower)) {
+        // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
+        return ROWS_MIGHT_MATCH;
+      }
+
+      int result = cmp.compare(lower);
+      return orEqual ? result <= 0 : result < 0;
+    };
+  }
+
+  private static Node gt(Integer id, SerializedBoundComparator cmp, boolean orEqual) {
+    return file -> {
+      if (containsNullsOnly(file, id) || containsNaNsOnly(file, id)) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer upper = bound(file.upperBounds(), id);
+      if (upper == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      int result = cmp.compare(upper);
+      return orEqual ? result >= 0 : result > 0;
+    };
+  }
+
+  private static Node eq(Integer id, SerializedBoundComparator cmp) {
+    return file -> {
+      if (containsNullsOnly(file, id) || containsNaNsOnly(file, id)) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer lower = bound(file.lowerBounds(), id);
+      if (lower != null && !cmp.isNaN(lower) && cmp.compare(lower) > 0) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer upper = bound(file.upperBounds(), id);
+      return upper == null || cmp.compare(upper) >= 0;
+    };
+  }
+
+  private static <T> Node in(Integer id, Type type, Set<T> literalSet) {
+    if (literalSet.size() > IN_PREDICATE_LIMIT) {
+      // skip evaluating the predicate if the number of values is too big
+      return file -> !containsNullsOnly(file, id) && !containsNaNsOnly(file, id);
+    }
+
+    SerializedBoundComparator[] comparators = new SerializedBoundComparator[literalSet.size()];
+    int index = 0;
+    for (T literal : literalSet) {
+      comparators[index] = SerializedBoundComparator.forLiteral(type, literal);
+      index += 1;
+    }
+
+    return file -> {
+      if (containsNullsOnly(file, id) || containsNaNsOnly(file, id)) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer lower = bound(file.lowerBounds(), id);
+      if (lower == null) {
+        return ROWS_MIGHT_MATCH;
+      } else if (comparators.length == 0) {
+        return ROWS_CANNOT_MATCH;
+      } else if (comparators[0].isNaN(lower)) {
+        // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
+        return ROWS_MIGHT_MATCH;
+      }
+
+      // rows may match if any value is between the lower and upper bounds
+      ByteBuffer upper = bound(file.upperBounds(), id);
+      for (SerializedBoundComparator cmp : comparators) {
+        if (cmp.compare(lower) <= 0 && (upper == null || cmp.compare(upper) >= 0)) {
+          return ROWS_MIGHT_MATCH;
+        }
+      }
+
+      return ROWS_CANNOT_MATCH;
+    };
+  }
+
+  private static Node startsWith(Integer id, ByteBuffer prefix) {
+    return file -> {
+      if (containsNullsOnly(file, id)) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer lower = bound(file.lowerBounds(), id);
+      if (lower == null) {
+        return ROWS_MIGHT_MATCH;
+      } else if (comparePrefix(lower, prefix) > 0) {
+        return ROWS_CANNOT_MATCH;
+      }
+
+      ByteBuffer upper = bound(file.upperBounds(), id);
+      return upper == null || comparePrefix(upper, prefix) >= 0;
+    };
+  }
+
+  private static Node notStartsWith(Integer id, ByteBuffer prefix) {
+    return file -> {
+      if (mayContainNull(file, id)) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      // notStartsWith will match unless all values must start with the prefix. This happens when
+      // the lower and upper bounds both start with the prefix.
+      ByteBuffer lower = bound(file.lowerBounds(), id);
+      ByteBuffer upper = bound(file.upperBounds(), id);
+      if (lower == null || upper == null) {
+        return ROWS_MIGHT_MATCH;
+      }
+
+      return !startsWithPrefix(lower, prefix) || !startsWithPrefix(upper, prefix);
+    };
+  }
+
+  /** Compares a bound truncated to the length of the prefix with the prefix. */
+  private static int comparePrefix(ByteBuffer bound, ByteBuffer prefix) {
+    int length = Math.min(prefix.remaining(), bound.remaining());
+    return UNSIGNED_BYTES.compare(BinaryUtil.truncateBinary(bound, length), prefix);
+  }
+
+  private static boolean startsWithPrefix(ByteBuffer bound, ByteBuffer prefix) {
+    return bound.remaining() >= prefix.remaining() && comparePrefix(bound, prefix) == 0;
+  }
+
+  private static ByteBuffer bound(Map<Integer, ByteBuffer> bounds, Integer id) {
+    return bounds != null ? bounds.get(id) : null;
+  }
+
+  private static boolean mayContainNull(ContentFile<?> file, Integer id) {
+    Map<Integer, Long> nullCounts = file.nullValueCounts();
+    Long nullCount = nullCounts != null ? nullCounts.get(id) : null;
+    return nullCount == null || nullCount != 0;
+  }
+
+  private static boolean containsNullsOnly(ContentFile<?> file, Integer id) {
+    Map<Integer, Long> valueCounts = file.valueCounts();
+    Map<Integer, Long> nullCounts = file.nullValueCounts();
+    if (valueCounts == null || nullCounts == null) {
+      return false;
+    }
+
+    Long valueCount = valueCounts.get(id);
+    Long nullCount = nullCounts.get(id);
+    return valueCount != null && nullCount != null && valueCount - nullCount == 0;
+  }
+
+  private static boolean containsNaNsOnly(ContentFile<?> file, Integer id) {
+    Map<Integer, Long> nanCounts = file.nanValueCounts();
+    Map<Integer, Long> valueCounts = file.valueCounts();
+    if (nanCounts == null || valueCounts == null) {
+      return false;
+    }
+
+    Long nanCount = nanCounts.get(id);
+    return nanCount != null && nanCount.equals(valueCounts.get(id));
+  }
+
+  private static boolean mayContainNaN(ContentFile<?> file, Integer id) {
+    // when there's no nanCounts information, but we already know the column only contains null,
+    // it's guaranteed that there's no NaN value
+    if (containsNullsOnly(file, id)) {
+      return false;
+    }
+
+    Map<Integer, Long> nanCounts = file.nanValueCounts();
+    Long nanCount = nanCounts != null ? nanCounts.get(id) : null;
+    return nanCount == null || nanCount != 0;
+  }
+}
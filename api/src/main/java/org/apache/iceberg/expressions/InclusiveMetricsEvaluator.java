@@ -66,6 +66,23 @@ public class InclusiveMetricsEvaluator {
     this.expr = Binder.bind(struct, rewriteNot(unbound), caseSensitive);
   }
 
+  /**
+   * Returns an evaluator that compiles the expression once instead of visiting it for each file.
+   *
+   * <p>The compiled evaluator returns the same results, but resolves field IDs and converts
+   * literals up front and compares serialized bounds without deserializing them where the ordering
+   * of the serialized form allows it. This is faster when evaluating many files.
+   *
+   * @param schema a table schema
+   * @param unbound an unbound expression
+   * @param caseSensitive whether binding is case sensitive
+   * @return a compiled evaluator for the expression
+   */
+  public static InclusiveMetricsEvaluator compiled(
+      Schema schema, Expression unbound, boolean caseSensitive) {
+    return new CompiledMetricsEvaluator(schema, unbound, caseSensitive);
+  }
+
   /**
    * Test whether the file may contain records that match the expression.
    *
@@ -74,7 +91,16 @@ public class InclusiveMetricsEvaluator {
    */
   public boolean eval(ContentFile<?> file) {
     // TODO: detect the case where a column is missing from the file using file's max field id.
-    return new MetricsEvalVisitor().eval(file);
+    return new MetricsEvalVisitor().eval(file, expr);
+  }
+
+  Expression expr() {
+    return expr;
+  }
+
+  /** Evaluates a bound expression, which may be part of this evaluator's expression. */
+  boolean eval(ContentFile<?> file, Expression boundExpr) {
+    return new MetricsEvalVisitor().eval(file, boundExpr);
   }
 
   private static final boolean ROWS_MIGHT_MATCH = true;
@@ -87,7 +113,7 @@ public class InclusiveMetricsEvaluator {
     private Map<Integer, ByteBuffer> lowerBounds = null;
     private Map<Integer, ByteBuffer> upperBounds = null;
 
-    private boolean eval(ContentFile<?> file) {
+    private boolean eval(ContentFile<?> file, Expression boundExpr) {
       if (file.recordCount() == 0) {
         return ROWS_CANNOT_MATCH;
       }
@@ -105,7 +131,7 @@ public class InclusiveMetricsEvaluator {
       this.lowerBounds = file.lowerBounds();
       this.upperBounds = file.upperBounds();
 
-      return ExpressionVisitors.visitEvaluator(expr, this);
+      return ExpressionVisitors.visitEvaluator(boundExpr, this);
     }
 
     @Override
@@ -63,7 +63,38 @@ public class ManifestEvaluator {
     return new ManifestEvaluator(spec, partitionFilter, caseSensitive);
   }
 
-  private ManifestEvaluator(PartitionSpec spec, Expression partitionFilter, boolean caseSensitive) {
+  /**
+   * Returns a compiled evaluator for a row filter, see {@link #compiledForPartitionFilter}.
+   *
+   * @param rowFilter a row filter
+   * @param spec the partition spec of manifests that will be evaluated
+   * @param caseSensitive whether binding is case sensitive
+   * @return a compiled evaluator for the inclusive projection of the row filter
+   */
+  public static ManifestEvaluator compiledForRowFilter(
+      Expression rowFilter, PartitionSpec spec, boolean caseSensitive) {
+    return new CompiledManifestEvaluator(
+        spec, Projections.inclusive(spec, caseSensitive).project(rowFilter), caseSensitive);
+  }
+
+  /**
+   * Returns an evaluator that compiles the expression once instead of visiting it for each file.
+   *
+   * <p>The compiled evaluator returns the same results, but resolves partition field positions and
+   * converts literals up front and compares serialized bounds without deserializing them where the
+   * ordering of the serialized form allows it. This is faster when evaluating many manifests.
+   *
+   * @param partitionFilter a partition filter
+   * @param spec the partition spec of manifests that will be evaluated
+   * @param caseSensitive whether binding is case sensitive
+   * @return a compiled evaluator for the partition filter
+   */
+  public static ManifestEvaluator compiledForPartitionFilter(
+      Expression partitionFilter, PartitionSpec spec, boolean caseSensitive) {
+    return new CompiledManifestEvaluator(spec, partitionFilter, caseSensitive);
+  }
+
+  ManifestEvaluator(PartitionSpec spec, Expression partitionFilter, boolean caseSensitive) {
     this.expr = Binder.bind(spec.partitionType(), rewriteNot(partitionFilter), caseSensitive);
   }
 
@@ -74,7 +105,16 @@ public class ManifestEvaluator {
    * @return false if the file cannot contain rows that match the expression, true otherwise.
    */
   public boolean eval(ManifestFile manifest) {
-    return new ManifestEvalVisitor().eval(manifest);
+    return new ManifestEvalVisitor().eval(manifest.partitions(), expr);
+  }
+
+  Expression expr() {
+    return expr;
+  }
+
+  /** Evaluates a bound expression, which may be part of this evaluator's expression. */
+  boolean eval(List<PartitionFieldSummary> partitions, Expression boundExpr) {
+    return new ManifestEvalVisitor().eval(partitions, boundExpr);
   }
 
   private static final boolean ROWS_MIGHT_MATCH = true;
@@ -83,13 +123,13 @@ public class ManifestEvaluator {
   private class ManifestEvalVisitor extends BoundExpressionVisitor<Boolean> {
     private List<PartitionFieldSummary> stats = null;
 
-    private boolean eval(ManifestFile manifest) {
-      this.stats = manifest.partitions();
+    private boolean eval(List<PartitionFieldSummary> partitions, Expression boundExpr) {
+      this.stats = partitions;
       if (stats == null) {
         return ROWS_MIGHT_MATCH;
       }
 
-      return ExpressionVisitors.visitEvaluator(expr, this);
+      return ExpressionVisitors.visitEvaluator(boundExpr, this);
     }
 
     @Override
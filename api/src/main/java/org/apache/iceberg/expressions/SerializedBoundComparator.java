@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.expressions;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.NaNUtil;
+
+/**
+ * Compares serialized lower or upper bounds with a literal that is converted once, when the
+ * comparator is created.
+ *
+ * <p>Integral and floating point bounds are read directly from the buffer without boxing. String,
+ * binary, and fixed bounds are compared to the serialized literal as unsigned bytes, which matches
+ * the ordering of the values because UTF-8 preserves code point order. Other types are deserialized
+ * and compared using the type's comparator.
+ */
+abstract class SerializedBoundComparator {
+
+  static SerializedBoundComparator forLiteral(Type type, Object value) {
+    switch (type.typeId()) {
+      case INTEGER:
+      case DATE:
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+      case TIMESTAMP_NANO:
+        return new LongComparator(((Number) value).longValue());
+      case FLOAT:
+      case DOUBLE:
+        return new DoubleComparator(((Number) value).doubleValue());
+      case STRING:
+      case BINARY:
+      case FIXED:
+        return new BytesComparator(Conversions.toByteBuffer(type, value));
+      default:
+        return new ObjectComparator<>(type, value);
+    }
+  }
+
+  /**
+   * Returns a negative value, zero, or a positive value as the bound is less than, equal to, or
+   * greater than the literal.
+   */
+  abstract int compare(ByteBuffer bound);
+
+  /** Returns true if the bound is NaN, which indicates unreliable bounds. */
+  boolean isNaN(ByteBuffer bound) {
+    return false;
+  }
+
+  private static int readInt(ByteBuffer buffer) {
+    int value = buffer.getInt(buffer.position());
+    return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+  }
+
+  private static long readLong(ByteBuffer buffer) {
+    if (buffer.remaining() < 8) {
+      // type was later promoted to long
+      return readInt(buffer);
+    }
+
+    long value = buffer.getLong(buffer.position());
+    return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+  }
+
+  private static double readDouble(ByteBuffer buffer) {
+    if (buffer.remaining() < 8) {
+      // type was later promoted to double
+      return Float.intBitsToFloat(readInt(buffer));
+    }
+
+    return Double.longBitsToDouble(readLong(buffer));
+  }
+
+  private static class LongComparator extends SerializedBoundComparator {
+    private final long literal;
+
+    private LongComparator(long literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    int compare(ByteBuffer bound) {
+      return Long.compare(readLong(bound), literal);
+    }
+  }
+
+  private static class DoubleComparator extends SerializedBoundComparator {
+    private final double literal;
+
+    private DoubleComparator(double literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    int compare(ByteBuffer bound) {
+      // widening a float is exact, so this is consistent with comparing the original floats
+      return Double.compare(readDouble(bound), literal);
+    }
+
+    @Override
+    boolean isNaN(ByteBuffer bound) {
+      return Double.isNaN(readDouble(bound));
+    }
+  }
+
+  private static class BytesComparator extends SerializedBoundComparator {
+    private static final Comparator<ByteBuffer> CMP = Comparators.unsignedBytes();
+    private final ByteBuffer literal;
+
+    private BytesComparator(ByteBuffer literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    int compare(ByteBuffer bound) {
+      return CMP.compare(bound, literal);
+    }
+  }
+
+  private static class ObjectComparator<T> extends SerializedBoundComparator {
+    private final Type type;
+    private final T literal;
+    private final Comparator<T> comparator;
+
+    @SuppressWarnings("unchecked")
+    private ObjectComparator(Type type, Object literal) {
+      this.type = type;
+      this.literal = (T) literal;
+      this.comparator = Comparators.forType(type.asPrimitiveType());
+    }
+
+    @Override
+    int compare(ByteBuffer bound) {
+      T value = Conversions.fromByteBuffer(type, bound);
+      return comparator.compare(value, literal);
+    }
+
+    @Override
+    boolean isNaN(ByteBuffer bound) {
+      return NaNUtil.isNaN(Conversions.fromByteBuffer(type, bound));
+    }
+  }
+}
@@ -27,6 +27,8 @@ import org.apache.iceberg.metrics.MetricsContext;
 public interface FileIOMetricsContext extends MetricsContext {
   String READ_BYTES = "read.bytes";
   String READ_OPERATIONS = "read.operations";
+  String READ_PREFETCHED_BYTES = "read.prefetched.bytes";
+  String READ_WASTED_BYTES = "read.wasted.bytes";
   String WRITE_BYTES = "write.bytes";
   String WRITE_OPERATIONS = "write.operations";
 }
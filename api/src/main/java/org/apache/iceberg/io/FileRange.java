@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A range of bytes in a file to read with {@link RangeReadable#readVectored}.
+ *
+ * <p>The data of the range is returned through a future that is completed when the read finishes.
+ */
+public class FileRange {
+  private final long offset;
+  private final int length;
+  private final CompletableFuture<ByteBuffer> byteBuffer = new CompletableFuture<>();
+
+  /**
+   * Creates a range.
+   *
+   * @param offset start position of the range in the file
+   * @param length number of bytes in the range
+   */
+  public FileRange(long offset, int length) {
+    Preconditions.checkArgument(offset >= 0, "Invalid offset: %s (must be >= 0)", offset);
+    Preconditions.checkArgument(length >= 0, "Invalid length: %s (must be >= 0)", length);
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /** Returns the start position of the range in the file. */
+  public long offset() {
+    return offset;
+  }
+
+  /** Returns the number of bytes in the range. */
+  public int length() {
+    return length;
+  }
+
+  /** Returns the end position of the range in the file, exclusive. */
+  public long end() {
+    return offset + length;
+  }
+
+  /**
+   * Returns a future for the data of the range.
+   *
+   * <p>The future is completed with a buffer that is positioned at 0 and whose remaining bytes are
+   * the bytes of the range, or completed exceptionally if the range could not be read.
+   */
+  public CompletableFuture<ByteBuffer> byteBuffer() {
+    return byteBuffer;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("offset", offset).add("length", length).toString();
+  }
+}
@@ -20,6 +20,9 @@ package org.apache.iceberg.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * {@code RangeReadable} is an interface that allows for implementations of {@link InputFile}
@@ -77,4 +80,48 @@ public interface RangeReadable extends Closeable {
   default int readTail(byte[] buffer) throws IOException {
     return readTail(buffer, 0, buffer.length);
   }
+
+  /**
+   * Read a list of ranges from the input source.
+   *
+   * <p>The data of each range is returned by completing the range's {@link FileRange#byteBuffer()}
+   * future with a buffer from {@code allocate}. Reads may complete asynchronously and in any order,
+   * so callers must wait on the futures before using the data. Ranges must not overlap.
+   *
+   * <p>Implementations for object stores should coalesce nearby ranges into fewer requests and
+   * issue requests in parallel. The default implementation reads each range in order using {@link
+   * #readFully(long, byte[], int, int)}.
+   *
+   * @param ranges the ranges to read
+   * @param allocate a function to allocate a buffer of a given size for the data of a range
+   * @throws IOException if an error occurs before the reads are started
+   */
+  default void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate)
+      throws IOException {
+    for (FileRange range : ranges) {
+      try {
+        byte[] bytes = new byte[range.length()];
+        readFully(range.offset(), bytes, 0, bytes.length);
+        ByteBuffer buffer = allocate.apply(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        range.byteBuffer().complete(buffer);
+      } catch (IOException | RuntimeException e) {
+        range.byteBuffer().completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * Returns whether large reads are split into parts that are fetched in parallel.
+   *
+   * <p>Callers may use this to decide whether to read a whole file with {@link
+   * #readVectored(List, IntFunction)} instead of reading the stream. The default implementation
+   * returns {@code false}.
+   *
+   * @return true if multipart downloads are enabled for this input source
+   */
+  default boolean isMultipartDownloadEnabled() {
+    return false;
+  }
 }
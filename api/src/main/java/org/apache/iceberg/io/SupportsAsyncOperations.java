@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This interface is intended as an extension for FileIO implementations that can issue requests
+ * without blocking a thread for each request, for example using the asynchronous client of an
+ * object store.
+ *
+ * <p>Callers can use these operations to keep many requests in flight, such as when loading
+ * manifests or delete files, without a thread pool sized to the number of concurrent requests.
+ * Returned futures may be completed by threads of the underlying client, so dependent stages that
+ * block or do expensive work should use an async stage with a separate executor.
+ *
+ * <p>Failures are reported by completing the returned future exceptionally. A read of a file that
+ * does not exist fails with {@link org.apache.iceberg.exceptions.NotFoundException}.
+ */
+public interface SupportsAsyncOperations extends FileIO {
+
+  /**
+   * Read a range of a file.
+   *
+   * <p>If the range extends past the end of the file, the returned buffer contains only the bytes
+   * up to the end of the file.
+   *
+   * @param path the location of the file
+   * @param position the position in the file of the first byte to read
+   * @param length the number of bytes to read
+   * @return a future for a buffer that contains the bytes of the range
+   */
+  CompletableFuture<ByteBuffer> readRangeAsync(String path, long position, int length);
+
+  /**
+   * Read the content of a file.
+   *
+   * @param path the location of the file
+   * @return a future for a buffer that contains the content of the file
+   */
+  CompletableFuture<ByteBuffer> readAsync(String path);
+
+  /**
+   * Delete the files at the given paths.
+   *
+   * @param pathsToDelete the paths to delete
+   * @return a future that completes when all deletes have completed, exceptionally with a {@link
+   *     BulkDeletionFailureException} if at least 1 file could not be deleted
+   */
+  CompletableFuture<Void> deleteFilesAsync(Iterable<String> pathsToDelete);
+}
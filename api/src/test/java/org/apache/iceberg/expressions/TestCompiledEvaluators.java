@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.expressions;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.greaterThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.isNaN;
+import static org.apache.iceberg.expressions.Expressions.isNull;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.apache.iceberg.expressions.Expressions.lessThanOrEqual;
+import static org.apache.iceberg.expressions.Expressions.not;
+import static org.apache.iceberg.expressions.Expressions.notEqual;
+import static org.apache.iceberg.expressions.Expressions.notIn;
+import static org.apache.iceberg.expressions.Expressions.notNaN;
+import static org.apache.iceberg.expressions.Expressions.notNull;
+import static org.apache.iceberg.expressions.Expressions.notStartsWith;
+import static org.apache.iceberg.expressions.Expressions.or;
+import static org.apache.iceberg.expressions.Expressions.startsWith;
+import static org.apache.iceberg.expressions.Expressions.truncate;
+import static org.apache.iceberg.types.Conversions.toByteBuffer;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.TestHelpers.TestDataFile;
+import org.apache.iceberg.TestHelpers.TestFieldSummary;
+import org.apache.iceberg.TestHelpers.TestManifestFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+
+/** Checks that compiled evaluators return the same results as the visitor-based evaluators. */
+public class TestCompiledEvaluators {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "price", Types.DoubleType.get()),
+          optional(4, "ts", Types.LongType.get()),
+          optional(5, "dec", Types.DecimalType.of(9, 2)),
+          optional(6, "score", Types.DoubleType.get()));
+
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA)
+          .identity("id")
+          .identity("data")
+          .identity("price")
+          .identity("ts")
+          .identity("dec")
+          .identity("score")
+          .build();
+
+  private static final List<Expression> EXPRESSIONS =
+      ImmutableList.<Expression>builder()
+          .addAll(comparisons("id", 29, 30, 50, 79, 80))
+          .addAll(comparisons("data", "", "a", "abc", "abcd", "abd", "b", "イ", "イロハ"))
+          .addAll(comparisons("price", -1.0D, 1.5D, 50.0D, 99.0D, 100.0D))
+          .addAll(comparisons("ts", 9L, 10L, 15L, 20L, 21L))
+          .addAll(comparisons("dec", decimal("0.99"), decimal("1.00"), decimal("5.01")))
+          .addAll(comparisons("score", -0.0D, 0.0D, 1.0D, 2.0D))
+          .add(startsWith("data", "ab"))
+          .add(startsWith("data", "abc"))
+          .add(startsWith("data", "abcde"))
+          .add(startsWith("data", "b"))
+          .add(startsWith("data", "イ"))
+          .add(notStartsWith("data", "ab"))
+          .add(notStartsWith("data", "abc"))
+          .add(notStartsWith("data", "abcde"))
+          .add(notStartsWith("data", "イ"))
+          .add(in("id", 1, 2, 3))
+          .add(in("id", 1, 50, 100))
+          .add(in("data", "a", "abc"))
+          .add(in("price", 1.0D, 2.0D))
+          .add(in("id", IntStream.range(0, 300).boxed().collect(Collectors.toList())))
+          .add(notIn("id", 30, 79))
+          .add(isNull("data"))
+          .add(notNull("data"))
+          .add(isNaN("price"))
+          .add(notNaN("price"))
+          .add(isNaN("score"))
+          .add(notNaN("score"))
+          .add(and(greaterThan("id", 40), lessThan("price", 10.0D)))
+          .add(or(lessThan("id", 30), equal("data", "abc")))
+          .add(not(and(greaterThanOrEqual("id", 30), lessThanOrEqual("id", 79))))
+          .add(lessThan(truncate("data", 2), "ab"))
+          .add(equal(truncate("id", 10), 30))
+          .build();
+
+  private static final List<DataFile> FILES =
+      ImmutableList.of(
+          new TestDataFile(
+              "values.avro",
+              Row.of(),
+              100,
+              counts(100L),
+              counts(0L),
+              ImmutableMap.of(3, 0L, 6, 0L),
+              ImmutableMap.<Integer, ByteBuffer>builder()
+                  .put(1, toByteBuffer(Types.IntegerType.get(), 30))
+                  .put(2, toByteBuffer(Types.StringType.get(), "abc"))
+                  .put(3, toByteBuffer(Types.DoubleType.get(), 1.5D))
+                  // bounds written before the column was promoted from int to long
+                  .put(4, toByteBuffer(Types.IntegerType.get(), 10))
+                  .put(5, toByteBuffer(Types.DecimalType.of(9, 2), decimal("1.00")))
+                  // bounds written before the column was promoted from float to double
+                  .put(6, toByteBuffer(Types.FloatType.get(), -0.0F))
+                  .buildOrThrow(),
+              ImmutableMap.<Integer, ByteBuffer>builder()
+                  .put(1, toByteBuffer(Types.IntegerType.get(), 79))
+                  .put(2, toByteBuffer(Types.StringType.get(), "イロハニホヘト"))
+                  .put(3, toByteBuffer(Types.DoubleType.get(), 99.0D))
+                  .put(4, toByteBuffer(Types.IntegerType.get(), 20))
+                  .put(5, toByteBuffer(Types.DecimalType.of(9, 2), decimal("5.00")))
+                  .put(6, toByteBuffer(Types.FloatType.get(), 1.0F))
+                  .buildOrThrow()),
+          new TestDataFile(
+              "same-prefix.avro",
+              Row.of(),
+              100,
+              counts(100L),
+              counts(0L),
+              null,
+              ImmutableMap.of(2, toByteBuffer(Types.StringType.get(), "abc")),
+              ImmutableMap.of(2, toByteBuffer(Types.StringType.get(), "abcdefghi"))),
+          new TestDataFile(
+              "nulls.avro", Row.of(), 100, counts(100L), counts(100L), null, null, null),
+          new TestDataFile(
+              "nans.avro",
+              Row.of(),
+              100,
+              counts(100L),
+              counts(0L),
+              ImmutableMap.of(3, 100L, 6, 10L),
+              ImmutableMap.of(
+                  3, toByteBuffer(Types.DoubleType.get(), Double.NaN),
+                  6, toByteBuffer(Types.FloatType.get(), Float.NaN)),
+              ImmutableMap.of(
+                  3, toByteBuffer(Types.DoubleType.get(), Double.NaN),
+                  6, toByteBuffer(Types.FloatType.get(), Float.NaN))),
+          new TestDataFile("no-stats.avro", Row.of(), 100),
+          new TestDataFile("empty.avro", Row.of(), 0),
+          new TestDataFile("unknown-count.avro", Row.of(), -1));
+
+  private static final List<ManifestFile> MANIFESTS =
+      ImmutableList.of(
+          manifest(
+              new TestFieldSummary(false, intBound(30), intBound(79)),
+              new TestFieldSummary(true, stringBound("abc"), stringBound("イロハニホヘト")),
+              new TestFieldSummary(false, false, doubleBound(1.5D), doubleBound(99.0D)),
+              new TestFieldSummary(false, intBound(10), intBound(20)),
+              new TestFieldSummary(
+                  false,
+                  toByteBuffer(Types.DecimalType.of(9, 2), decimal("1.00")),
+                  toByteBuffer(Types.DecimalType.of(9, 2), decimal("5.00"))),
+              new TestFieldSummary(false, true, floatBound(-0.0F), floatBound(1.0F))),
+          manifest(
+              new TestFieldSummary(false, intBound(50), intBound(50)),
+              new TestFieldSummary(false, stringBound("abc"), stringBound("abcdefghi")),
+              new TestFieldSummary(true, true, null, null),
+              new TestFieldSummary(true, null, null),
+              new TestFieldSummary(true, null, null),
+              new TestFieldSummary(false, true, null, null)),
+          manifest(
+              new TestFieldSummary(false, intBound(1), intBound(2)),
+              new TestFieldSummary(true, null, null),
+              new TestFieldSummary(true, false, null, null),
+              new TestFieldSummary(true, intBound(15), intBound(15)),
+              new TestFieldSummary(true, null, null),
+              new TestFieldSummary(true, null, null, null)),
+          new TestManifestFile(
+              "no-stats.avro", 1024, 0, System.currentTimeMillis(), null, null, null, null, null));
+
+  @Test
+  public void testCompiledMetricsEvaluator() {
+    for (Expression expr : EXPRESSIONS) {
+      for (boolean caseSensitive : new boolean[] {true, false}) {
+        InclusiveMetricsEvaluator visitor =
+            new InclusiveMetricsEvaluator(SCHEMA, expr, caseSensitive);
+        InclusiveMetricsEvaluator compiled =
+            InclusiveMetricsEvaluator.compiled(SCHEMA, expr, caseSensitive);
+        for (DataFile file : FILES) {
+          assertThat(compiled.eval(file))
+              .as("Should match visitor result for %s on %s", expr, file.location())
+              .isEqualTo(visitor.eval(file));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCompiledManifestEvaluator() {
+    for (Expression expr : EXPRESSIONS) {
+      ManifestEvaluator visitor = ManifestEvaluator.forRowFilter(expr, SPEC, true);
+      ManifestEvaluator compiled = ManifestEvaluator.compiledForRowFilter(expr, SPEC, true);
+      for (ManifestFile manifest : MANIFESTS) {
+        assertThat(compiled.eval(manifest))
+            .as("Should match visitor result for %s on %s", expr, manifest.partitions())
+            .isEqualTo(visitor.eval(manifest));
+      }
+    }
+  }
+
+  @Test
+  public void testCompiledPartitionFilter() {
+    ManifestFile manifest = MANIFESTS.get(0);
+    assertThat(
+            ManifestEvaluator.compiledForPartitionFilter(equal("id", 50), SPEC, true)
+                .eval(manifest))
+        .as("Should read: 50 is between 30 and 79")
+        .isTrue();
+    assertThat(
+            ManifestEvaluator.compiledForPartitionFilter(greaterThan("id", 79), SPEC, true)
+                .eval(manifest))
+        .as("Should skip: all ids are at most 79")
+        .isFalse();
+  }
+
+  private static List<Expression> comparisons(String column, Object... values) {
+    List<Expression> exprs = Lists.newArrayList();
+    for (Object value : values) {
+      exprs.add(lessThan(column, value));
+      exprs.add(lessThanOrEqual(column, value));
+      exprs.add(greaterThan(column, value));
+      exprs.add(greaterThanOrEqual(column, value));
+      exprs.add(equal(column, value));
+      exprs.add(notEqual(column, value));
+      exprs.add(not(equal(column, value)));
+    }
+
+    return exprs;
+  }
+
+  private static ImmutableMap<Integer, Long> counts(long count) {
+    ImmutableMap.Builder<Integer, Long> builder = ImmutableMap.builder();
+    for (Types.NestedField field : SCHEMA.columns()) {
+      builder.put(field.fieldId(), count);
+    }
+
+    return builder.buildOrThrow();
+  }
+
+  private static ManifestFile manifest(TestFieldSummary... summaries) {
+    return new TestManifestFile(
+        "manifest.avro",
+        1024,
+        0,
+        System.currentTimeMillis(),
+        5,
+        10,
+        0,
+        ImmutableList.copyOf(summaries),
+        null);
+  }
+
+  private static BigDecimal decimal(String value) {
+    return new BigDecimal(value);
+  }
+
+  private static ByteBuffer intBound(int value) {
+    return toByteBuffer(Types.IntegerType.get(), value);
+  }
+
+  private static ByteBuffer floatBound(float value) {
+    return toByteBuffer(Types.FloatType.get(), value);
+  }
+
+  private static ByteBuffer doubleBound(double value) {
+    return toByteBuffer(Types.DoubleType.get(), value);
+  }
+
+  private static ByteBuffer stringBound(String value) {
+    return toByteBuffer(Types.StringType.get(), value);
+  }
+}
@@ -18,18 +18,90 @@
  */
 package org.apache.iceberg.arrow.vectorized;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 
 /**
  * A collection of vectorized readers per column (in the expected read schema) and Arrow Vector
  * holders. This class owns the Arrow vectors and is responsible for closing the Arrow vectors.
+ *
+ * <p>If position or equality deletes are set, each batch carries a selection vector of the rows
+ * that are not deleted. Deleted rows are still read into the Arrow vectors. Key columns that are
+ * only read to apply equality deletes are not returned in the batch.
+ *
+ * <p>If a residual filter is set, rows that do not match the residual are also removed from the
+ * selection vector. Columns used by filters are read first; the other columns are decoded only for
+ * the rows that survive, and the values of filtered rows are skipped and left null.
  */
 class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
 
+  private PositionDeleteIndex deletes = null;
+  private EqualityDeleteFilter eqDeletes = null;
+  private ResidualFilter residual = null;
+  private boolean[] isFilterColumn = null;
+  private int numColumns;
+  private long rowStartPosInBatch = 0;
+
   ArrowBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
+    this.numColumns = readers.size();
+  }
+
+  void setDeletes(PositionDeleteIndex deleteIndex) {
+    this.deletes = deleteIndex != null && deleteIndex.isNotEmpty() ? deleteIndex : null;
+  }
+
+  /**
+   * Sets the equality deletes to apply.
+   *
+   * @param eqDeleteFilter a filter for the columns of the filter's read schema
+   * @param numProjectedColumns the number of leading columns to return in each batch
+   */
+  void setEqualityDeletes(EqualityDeleteFilter eqDeleteFilter, int numProjectedColumns) {
+    Preconditions.checkArgument(
+        numProjectedColumns <= readers.length,
+        "Invalid number of projected columns: %s",
+        numProjectedColumns);
+    this.eqDeletes = eqDeleteFilter;
+    this.numColumns = numProjectedColumns;
+  }
+
+  /**
+   * Sets a residual filter to apply and enables late materialization of the columns it does not
+   * reference.
+   *
+   * @param residualFilter a filter for the columns of the read schema
+   * @param numProjectedColumns the number of leading columns to return in each batch
+   */
+  void setResidual(ResidualFilter residualFilter, int numProjectedColumns) {
+    Preconditions.checkArgument(
+        numProjectedColumns <= readers.length,
+        "Invalid number of projected columns: %s",
+        numProjectedColumns);
+    this.residual = residualFilter;
+    this.numColumns = numProjectedColumns;
+  }
+
+  @Override
+  public void setRowGroupInfo(
+      PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
+    super.setRowGroupInfo(pageStore, metaData);
+    if (deletes != null) {
+      this.rowStartPosInBatch =
+          pageStore
+              .getRowIndexOffset()
+              .orElseThrow(
+                  () ->
+                      new IllegalArgumentException(
+                          "PageReadStore does not contain row index offset"));
+    }
   }
 
   @Override
@@ -43,16 +115,92 @@ class ArrowBatchReader extends BaseBatchReader<ColumnarBatch> {
 
     ColumnVector[] columnVectors = new ColumnVector[readers.length];
     for (int i = 0; i < readers.length; i += 1) {
-      vectorHolders[i] = readers[i].read(vectorHolders[i], numRowsToRead);
-      int numRowsInVector = vectorHolders[i].numValues();
-      Preconditions.checkState(
-          numRowsInVector == numRowsToRead,
-          "Number of rows in the vector %s didn't match expected %s ",
-          numRowsInVector,
-          numRowsToRead);
-      // Handle null vector for constant case
-      columnVectors[i] = new ColumnVector(vectorHolders[i]);
-    }
-    return new ColumnarBatch(numRowsToRead, columnVectors);
+      if (residual == null || filterColumns()[i]) {
+        columnVectors[i] = readColumn(i, numRowsToRead);
+      }
+    }
+
+    if (deletes == null && eqDeletes == null && residual == null) {
+      return new ColumnarBatch(numRowsToRead, columnVectors);
+    }
+
+    int[] rowIdMapping = new int[numRowsToRead];
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < numRowsToRead; rowId += 1) {
+      if (deletes == null || !deletes.isDeleted(rowStartPosInBatch + rowId)) {
+        rowIdMapping[numLiveRows] = rowId;
+        numLiveRows += 1;
+      }
+    }
+
+    rowStartPosInBatch += numRowsToRead;
+
+    if (eqDeletes != null) {
+      numLiveRows = eqDeletes.filter(columnVectors, rowIdMapping, numLiveRows);
+    }
+
+    if (residual != null) {
+      numLiveRows = residual.filter(columnVectors, rowIdMapping, numLiveRows);
+      readRemainingColumns(columnVectors, numRowsToRead, rowIdMapping, numLiveRows);
+    }
+
+    ColumnVector[] batchVectors =
+        numColumns < columnVectors.length
+            ? Arrays.copyOf(columnVectors, numColumns)
+            : columnVectors;
+    return new ColumnarBatch(numRowsToRead, batchVectors, rowIdMapping, numLiveRows);
+  }
+
+  private ColumnVector readColumn(int pos, int numRowsToRead) {
+    vectorHolders[pos] = readers[pos].read(vectorHolders[pos], numRowsToRead);
+    int numRowsInVector = vectorHolders[pos].numValues();
+    Preconditions.checkState(
+        numRowsInVector == numRowsToRead,
+        "Number of rows in the vector %s didn't match expected %s ",
+        numRowsInVector,
+        numRowsToRead);
+    // Handle null vector for constant case
+    return new ColumnVector(vectorHolders[pos]);
+  }
+
+  private ColumnVector readSelectedRows(
+      int pos, int numRowsToRead, int[] rowIdMapping, int numLiveRows) {
+    vectorHolders[pos] =
+        readers[pos].readSelected(vectorHolders[pos], numRowsToRead, rowIdMapping, numLiveRows);
+    return new ColumnVector(vectorHolders[pos]);
+  }
+
+  private void readRemainingColumns(
+      ColumnVector[] columnVectors, int numRowsToRead, int[] rowIdMapping, int numLiveRows) {
+    for (int i = 0; i < readers.length; i += 1) {
+      if (columnVectors[i] == null) {
+        if (numLiveRows == numRowsToRead) {
+          columnVectors[i] = readColumn(i, numRowsToRead);
+        } else if (numLiveRows > 0) {
+          columnVectors[i] = readSelectedRows(i, numRowsToRead, rowIdMapping, numLiveRows);
+        } else {
+          // no rows survive, so the column is skipped and returned as a dummy vector
+          readers[i].skip(numRowsToRead);
+          columnVectors[i] = new ColumnVector(VectorHolder.dummyHolder(numRowsToRead));
+        }
+      }
+    }
+  }
+
+  private boolean[] filterColumns() {
+    if (isFilterColumn == null) {
+      this.isFilterColumn = new boolean[readers.length];
+      for (int pos : residual.columnPositions()) {
+        isFilterColumn[pos] = true;
+      }
+
+      if (eqDeletes != null) {
+        for (int pos : eqDeletes.keyPositions()) {
+          isFilterColumn[pos] = true;
+        }
+      }
+    }
+
+    return isFilterColumn;
   }
 }
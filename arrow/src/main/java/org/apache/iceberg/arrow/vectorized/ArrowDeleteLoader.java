@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.InternalData;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.EqualityDeleteSets;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.deletes.PositionDeleteIndexCache;
+import org.apache.iceberg.deletes.PositionDeleteIndexUtil;
+import org.apache.iceberg.encryption.EncryptedFiles;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DeleteSchemaUtil;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.util.ContentFileUtil;
+import org.apache.iceberg.util.StructLikeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the deletes of a {@link FileScanTask} for the Arrow reader.
+ *
+ * <p>Deletion vectors are read directly from Puffin files. Delete files are read with the {@link
+ * InternalData internal readers}, so only Avro and Parquet delete files are supported. Loaded
+ * position indexes are kept in the {@link PositionDeleteIndexCache#shared() shared cache} if it is
+ * enabled.
+ *
+ * <p>Equality deletes usually apply to many data files of a partition, which are read one after
+ * the other. The equality deletes of the last task are kept and reused if the next task has the
+ * same equality delete files.
+ */
+class ArrowDeleteLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(ArrowDeleteLoader.class);
+  private static final Schema POS_DELETE_SCHEMA = DeleteSchemaUtil.pathPosSchema();
+
+  private final FileIO io;
+  private final EncryptionManager encryption;
+  private final Schema tableSchema;
+  private final Schema expectedSchema;
+  private Set<String> lastEqDeleteLocations = null;
+  private EqualityDeleteFilter lastEqDeletes = null;
+
+  ArrowDeleteLoader(
+      FileIO io, EncryptionManager encryption, Schema tableSchema, Schema expectedSchema) {
+    this.io = io;
+    this.encryption = encryption;
+    this.tableSchema = tableSchema;
+    this.expectedSchema = expectedSchema;
+  }
+
+  /**
+   * Returns the position deletes that apply to the data file of a task.
+   *
+   * @param task a file scan task
+   * @return an index of deleted positions, or null if the task has no position deletes
+   */
+  PositionDeleteIndex loadPositionDeletes(FileScanTask task) {
+    List<DeleteFile> deleteFiles =
+        task.deletes().stream()
+            .filter(deleteFile -> deleteFile.content() == FileContent.POSITION_DELETES)
+            .collect(Collectors.toList());
+    if (deleteFiles.isEmpty()) {
+      return null;
+    }
+
+    String filePath = task.file().location();
+    if (ContentFileUtil.containsSingleDV(deleteFiles)) {
+      DeleteFile dv = Iterables.getOnlyElement(deleteFiles);
+      validateDV(dv, filePath);
+      return getOrReadDV(dv);
+    }
+
+    List<PositionDeleteIndex> indexes = Lists.newArrayListWithExpectedSize(deleteFiles.size());
+    for (DeleteFile deleteFile : deleteFiles) {
+      indexes.add(getOrReadPosDeletes(deleteFile, filePath));
+    }
+
+    return PositionDeleteIndexUtil.merge(indexes);
+  }
+
+  /**
+   * Returns the equality deletes that apply to the data file of a task.
+   *
+   * @param task a file scan task
+   * @return a filter for equality deletes, or null if the task has no equality deletes
+   */
+  EqualityDeleteFilter loadEqualityDeletes(FileScanTask task) {
+    List<DeleteFile> deleteFiles =
+        task.deletes().stream()
+            .filter(deleteFile -> deleteFile.content() == FileContent.EQUALITY_DELETES)
+            .collect(Collectors.toList());
+    if (deleteFiles.isEmpty()) {
+      return null;
+    }
+
+    Set<String> locations =
+        deleteFiles.stream().map(DeleteFile::location).collect(Collectors.toSet());
+    if (!locations.equals(lastEqDeleteLocations)) {
+      this.lastEqDeletes = readEqDeletes(deleteFiles);
+      this.lastEqDeleteLocations = locations;
+    }
+
+    return lastEqDeletes;
+  }
+
+  private EqualityDeleteFilter readEqDeletes(List<DeleteFile> deleteFiles) {
+    Map<Set<Integer>, List<DeleteFile>> filesByDeleteIds = Maps.newLinkedHashMap();
+    for (DeleteFile deleteFile : deleteFiles) {
+      filesByDeleteIds
+          .computeIfAbsent(
+              Sets.newHashSet(deleteFile.equalityFieldIds()), ids -> Lists.newArrayList())
+          .add(deleteFile);
+    }
+
+    Set<Integer> keyIds = Sets.newHashSet();
+    filesByDeleteIds.keySet().forEach(keyIds::addAll);
+    Schema readSchema = TypeUtil.join(expectedSchema, TypeUtil.select(tableSchema, keyIds));
+
+    List<Schema> deleteSchemas = Lists.newArrayList();
+    List<EqualityDeleteSet> deleteSets = Lists.newArrayList();
+    for (Map.Entry<Set<Integer>, List<DeleteFile>> entry : filesByDeleteIds.entrySet()) {
+      Schema deleteSchema = TypeUtil.select(tableSchema, entry.getKey());
+      deleteSchemas.add(deleteSchema);
+      deleteSets.add(readEqDeletes(entry.getValue(), deleteSchema));
+    }
+
+    return new EqualityDeleteFilter(readSchema, deleteSchemas, deleteSets);
+  }
+
+  private EqualityDeleteSet readEqDeletes(List<DeleteFile> deleteFiles, Schema deleteSchema) {
+    List<CloseableIterable<StructLike>> deletes = Lists.newArrayList();
+    for (DeleteFile deleteFile : deleteFiles) {
+      LOG.trace("Opening delete file {}", deleteFile.location());
+      deletes.add(
+          InternalData.read(deleteFile.format(), newInputFile(deleteFile))
+              .project(deleteSchema)
+              .build());
+    }
+
+    try (CloseableIterable<StructLike> keys = CloseableIterable.concat(deletes)) {
+      if (EqualityDeleteSets.isSpecialized(deleteSchema)) {
+        return EqualityDeleteSets.specialized(deleteSchema, keys);
+      } else {
+        StructLikeSet deleteSet = StructLikeSet.create(deleteSchema.asStruct());
+        Iterables.addAll(deleteSet, keys);
+        return EqualityDeleteSets.wrap(deleteSet);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close equality delete files", e);
+    }
+  }
+
+  private PositionDeleteIndex getOrReadDV(DeleteFile dv) {
+    PositionDeleteIndexCache cache = PositionDeleteIndexCache.shared();
+    if (cache != null) {
+      return cache.get(dv.location(), dv.contentOffset(), () -> readDV(dv));
+    } else {
+      return readDV(dv);
+    }
+  }
+
+  private PositionDeleteIndex readDV(DeleteFile dv) {
+    LOG.trace("Opening DV file {}", dv.location());
+    InputFile inputFile = newInputFile(dv);
+    long offset = dv.contentOffset();
+    byte[] bytes = new byte[dv.contentSizeInBytes().intValue()];
+
+    try (SeekableInputStream stream = inputFile.newStream()) {
+      if (stream instanceof RangeReadable) {
+        ((RangeReadable) stream).readFully(offset, bytes);
+      } else {
+        stream.seek(offset);
+        ByteStreams.readFully(stream, bytes);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return PositionDeleteIndex.deserialize(bytes, dv);
+  }
+
+  private PositionDeleteIndex getOrReadPosDeletes(DeleteFile deleteFile, String filePath) {
+    PositionDeleteIndexCache cache = PositionDeleteIndexCache.shared();
+    if (cache != null) {
+      return cache.get(
+          deleteFile.location(), filePath, () -> readPosDeletes(deleteFile, filePath));
+    } else {
+      return readPosDeletes(deleteFile, filePath);
+    }
+  }
+
+  private PositionDeleteIndex readPosDeletes(DeleteFile deleteFile, String filePath) {
+    LOG.trace("Opening delete file {}", deleteFile.location());
+    CloseableIterable<StructLike> deletes =
+        InternalData.read(deleteFile.format(), newInputFile(deleteFile))
+            .project(POS_DELETE_SCHEMA)
+            .reuseContainers()
+            .build();
+    return Deletes.toPositionIndex(filePath, deletes, deleteFile);
+  }
+
+  private InputFile newInputFile(DeleteFile deleteFile) {
+    return encryption.decrypt(
+        EncryptedFiles.encryptedInput(
+            io.newInputFile(deleteFile.location()), deleteFile.keyMetadata()));
+  }
+
+  private static void validateDV(DeleteFile dv, String filePath) {
+    Preconditions.checkArgument(
+        dv.contentOffset() != null,
+        "Invalid DV, offset cannot be null: %s",
+        ContentFileUtil.dvDesc(dv));
+    Preconditions.checkArgument(
+        dv.contentSizeInBytes() != null,
+        "Invalid DV, length is null: %s",
+        ContentFileUtil.dvDesc(dv));
+    Preconditions.checkArgument(
+        dv.contentSizeInBytes() <= Integer.MAX_VALUE,
+        "Can't read DV larger than 2GB: %s",
+        dv.contentSizeInBytes());
+    Preconditions.checkArgument(
+        filePath.equals(dv.referencedDataFile()),
+        "DV is expected to reference %s, not %s",
+        filePath,
+        dv.referencedDataFile());
+  }
+}
@@ -37,9 +37,13 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableScan;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.encryption.EncryptedInputFile;
 import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
@@ -49,11 +53,13 @@ import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Type.TypeID;
+import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ExceptionUtil;
 import org.apache.iceberg.util.TableScanUtil;
@@ -95,8 +101,18 @@ import org.slf4j.LoggerFactory;
  *       Types.FixedType} and {@link Types.DecimalType} See
  *       https://github.com/apache/iceberg/issues/2485 and
  *       https://github.com/apache/iceberg/issues/2486.
- *   <li>Delete files are not supported. See https://github.com/apache/iceberg/issues/2487.
  * </ul>
+ *
+ * <p>Files that require applying delete files can only be read if the caller opts in to applying
+ * deletes. Delete files and deletion vectors are then applied as a selection vector over each
+ * {@link ColumnarBatch}, see {@link ColumnarBatch#numLiveRows()}. Deleted rows are still counted
+ * by {@link ColumnarBatch#numRows()} and exposed by {@link ColumnarBatch#column(int)}. Equality
+ * deletes are only supported for top-level key columns of the supported data types.
+ *
+ * <p>If late materialization is enabled, the residual filter of each task is also applied to the
+ * selection vector. The columns referenced by the residual are decoded first, and the other columns
+ * are decoded only for the matching rows. Predicates on nested columns or on unsupported data types
+ * are not applied; those rows are returned and must be filtered by the caller.
  */
 public class ArrowReader extends CloseableGroup {
   private static final Logger LOG = LoggerFactory.getLogger(ArrowReader.class);
@@ -117,10 +133,13 @@ public class ArrowReader extends CloseableGroup {
           TypeID.DECIMAL);
 
   private final Schema schema;
+  private final Schema tableSchema;
   private final FileIO io;
   private final EncryptionManager encryption;
   private final int batchSize;
   private final boolean reuseContainers;
+  private final boolean lateMaterialization;
+  private final boolean applyDeletes;
 
   /**
    * Create a new instance of the reader.
@@ -136,12 +155,54 @@ public class ArrowReader extends CloseableGroup {
    *     before creating new instances if the current {@link Iterator#next()}.
    */
   public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
+    this(scan, batchSize, reuseContainers, false);
+  }
+
+  /**
+   * Create a new instance of the reader.
+   *
+   * @param scan the table scan object.
+   * @param batchSize the maximum number of rows per Arrow batch.
+   * @param reuseContainers whether to reuse Arrow vectors when iterating through the data, see
+   *     {@link #ArrowReader(TableScan, int, boolean)}.
+   * @param lateMaterialization whether to apply the residual filter of each task to the rows of a
+   *     batch, decoding the columns it references first and the other columns only for matching
+   *     rows.
+   */
+  public ArrowReader(
+      TableScan scan, int batchSize, boolean reuseContainers, boolean lateMaterialization) {
+    this(scan, batchSize, reuseContainers, lateMaterialization, false);
+  }
+
+  /**
+   * Create a new instance of the reader.
+   *
+   * @param scan the table scan object.
+   * @param batchSize the maximum number of rows per Arrow batch.
+   * @param reuseContainers whether to reuse Arrow vectors when iterating through the data, see
+   *     {@link #ArrowReader(TableScan, int, boolean)}.
+   * @param lateMaterialization whether to apply the residual filter of each task to the rows of a
+   *     batch, see {@link #ArrowReader(TableScan, int, boolean, boolean)}.
+   * @param applyDeletes whether to read files with delete files. Deleted rows are still returned in
+   *     each batch and callers must only read the rows of the selection vector, see {@link
+   *     ColumnarBatch#numLiveRows()} and {@link ColumnarBatch#liveRowId(int)}. If {@code false},
+   *     reading files with delete files fails.
+   */
+  public ArrowReader(
+      TableScan scan,
+      int batchSize,
+      boolean reuseContainers,
+      boolean lateMaterialization,
+      boolean applyDeletes) {
     this.schema = scan.schema();
+    this.tableSchema = scan.table().schema();
     this.io = scan.table().io();
     this.encryption = scan.table().encryption();
     this.batchSize = batchSize;
     // start planning tasks in the background
     this.reuseContainers = reuseContainers;
+    this.lateMaterialization = lateMaterialization;
+    this.applyDeletes = applyDeletes;
   }
 
   /**
@@ -164,8 +225,9 @@ public class ArrowReader extends CloseableGroup {
    *
    * <ol>
    *   <li>At least one column is queried,
-   *   <li>There are no delete files, and
-   *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}).
+   *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}), and
+   *   <li>No data file requires applying delete files, unless deletes are applied (see {@link
+   *       #ArrowReader(TableScan, int, boolean, boolean, boolean)}).
    * </ol>
    *
    * When any of these conditions fail, an {@link UnsupportedOperationException} is thrown.
@@ -173,7 +235,17 @@ public class ArrowReader extends CloseableGroup {
   public CloseableIterator<ColumnarBatch> open(CloseableIterable<CombinedScanTask> tasks) {
     CloseableIterator<ColumnarBatch> itr =
         new VectorizedCombinedScanIterator(
-            tasks, schema, null, io, encryption, true, batchSize, reuseContainers);
+            tasks,
+            schema,
+            tableSchema,
+            null,
+            io,
+            encryption,
+            true,
+            batchSize,
+            reuseContainers,
+            lateMaterialization,
+            applyDeletes);
     addCloseable(itr);
     return itr;
   }
@@ -192,11 +264,14 @@ public class ArrowReader extends CloseableGroup {
 
     private final Iterator<FileScanTask> fileItr;
     private final Map<String, InputFile> inputFiles;
+    private final ArrowDeleteLoader deleteLoader;
     private final Schema expectedSchema;
+    private final Schema tableSchema;
     private final String nameMapping;
     private final boolean caseSensitive;
     private final int batchSize;
     private final boolean reuseContainers;
+    private final boolean lateMaterialization;
     private CloseableIterator<ColumnarBatch> currentIterator;
     private FileScanTask currentTask;
 
@@ -205,6 +280,7 @@ public class ArrowReader extends CloseableGroup {
      *
      * @param tasks Combined file scan tasks.
      * @param expectedSchema Read schema. The returned data will have this schema.
+     * @param tableSchema Table schema, used to resolve equality delete columns.
      * @param nameMapping Mapping from external schema names to Iceberg type IDs.
      * @param io File I/O.
      * @param encryptionManager Encryption manager.
@@ -219,16 +295,23 @@ public class ArrowReader extends CloseableGroup {
      *     the value of {@code reuseContainers}, the Arrow vectors in the previous {@link
      *     Iterator#next()} call are closed before creating new instances if the current {@link
      *     Iterator#next()}.
+     * @param lateMaterialization If {@code true}, the residual filter of each task is applied to
+     *     the rows of a batch and columns it does not reference are read only for matching rows.
+     * @param applyDeletes If {@code true}, delete files are applied to the selection vector of each
+     *     batch. If {@code false}, files that require applying delete files cannot be read.
      */
     VectorizedCombinedScanIterator(
         CloseableIterable<CombinedScanTask> tasks,
         Schema expectedSchema,
+        Schema tableSchema,
         String nameMapping,
         FileIO io,
         EncryptionManager encryptionManager,
         boolean caseSensitive,
         int batchSize,
-        boolean reuseContainers) {
+        boolean reuseContainers,
+        boolean lateMaterialization,
+        boolean applyDeletes) {
       List<FileScanTask> fileTasks =
           StreamSupport.stream(tasks.spliterator(), false)
               .map(CombinedScanTask::files)
@@ -236,7 +319,7 @@ public class ArrowReader extends CloseableGroup {
               .collect(Collectors.toList());
       this.fileItr = fileTasks.iterator();
 
-      if (fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
+      if (!applyDeletes && fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
         throw new UnsupportedOperationException(
             "Cannot read files that require applying delete files");
       }
@@ -276,12 +359,16 @@ public class ArrowReader extends CloseableGroup {
       Map<String, InputFile> files = Maps.newHashMapWithExpectedSize(fileTasks.size());
       decryptedFiles.forEach(decrypted -> files.putIfAbsent(decrypted.location(), decrypted));
       this.inputFiles = ImmutableMap.copyOf(files);
+      this.deleteLoader =
+          new ArrowDeleteLoader(io, encryptionManager, tableSchema, expectedSchema);
       this.currentIterator = CloseableIterator.empty();
       this.expectedSchema = expectedSchema;
+      this.tableSchema = tableSchema;
       this.nameMapping = nameMapping;
       this.caseSensitive = caseSensitive;
       this.batchSize = batchSize;
       this.reuseContainers = reuseContainers;
+      this.lateMaterialization = lateMaterialization;
     }
 
     @Override
@@ -322,16 +409,39 @@ public class ArrowReader extends CloseableGroup {
       InputFile location = getInputFile(task);
       Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
       if (task.file().format() == FileFormat.PARQUET) {
+        PositionDeleteIndex deletes = deleteLoader.loadPositionDeletes(task);
+        EqualityDeleteFilter eqDeletes = deleteLoader.loadEqualityDeletes(task);
+        Schema deleteSchema = eqDeletes != null ? eqDeletes.readSchema() : expectedSchema;
+        Schema readSchema = deleteSchema;
+        ResidualFilter residual = null;
+        Expression supportedResidual =
+            lateMaterialization
+                ? ResidualFilter.supportedResidual(tableSchema, task.residual(), caseSensitive)
+                : Expressions.alwaysTrue();
+        if (supportedResidual.op() != Expression.Operation.TRUE) {
+          Set<Integer> residualIds =
+              Binder.boundReferences(
+                  tableSchema.asStruct(), ImmutableList.of(supportedResidual), caseSensitive);
+          readSchema = TypeUtil.join(deleteSchema, TypeUtil.select(tableSchema, residualIds));
+          residual = new ResidualFilter(readSchema, supportedResidual, caseSensitive);
+        }
+
+        Schema fileReadSchema = readSchema;
+        ResidualFilter residualFilter = residual;
         Parquet.ReadBuilder builder =
             Parquet.read(location)
-                .project(expectedSchema)
+                .project(fileReadSchema)
                 .split(task.start(), task.length())
                 .createBatchedReaderFunc(
                     fileSchema ->
                         buildReader(
-                            expectedSchema,
+                            fileReadSchema,
                             fileSchema, /* setArrowValidityVector */
-                            NullCheckingForGet.NULL_CHECKING_ENABLED))
+                            NullCheckingForGet.NULL_CHECKING_ENABLED,
+                            deletes,
+                            eqDeletes,
+                            residualFilter,
+                            expectedSchema.columns().size()))
                 .recordsPerBatch(batchSize)
                 .filter(task.residual())
                 .caseSensitive(caseSensitive);
@@ -373,19 +483,41 @@ public class ArrowReader extends CloseableGroup {
      * @param expectedSchema Expected schema of the data returned.
      * @param fileSchema Schema of the data file.
      * @param setArrowValidityVector Indicates whether to set the validity vector in Arrow vectors.
+     * @param deletes Position deletes to apply to the data file, or null if there are none.
+     * @param eqDeletes Equality deletes to apply to the data file, or null if there are none.
+     * @param residual Residual filter to apply to the rows, or null if late materialization is not
+     *     used.
+     * @param numProjectedColumns Number of leading columns of the expected schema to return.
      */
     private static ArrowBatchReader buildReader(
-        Schema expectedSchema, MessageType fileSchema, boolean setArrowValidityVector) {
-      return (ArrowBatchReader)
-          TypeWithSchemaVisitor.visit(
-              expectedSchema.asStruct(),
-              fileSchema,
-              new VectorizedReaderBuilder(
-                  expectedSchema,
+        Schema expectedSchema,
+        MessageType fileSchema,
+        boolean setArrowValidityVector,
+        PositionDeleteIndex deletes,
+        EqualityDeleteFilter eqDeletes,
+        ResidualFilter residual,
+        int numProjectedColumns) {
+      ArrowBatchReader reader =
+          (ArrowBatchReader)
+              TypeWithSchemaVisitor.visit(
+                  expectedSchema.asStruct(),
                   fileSchema,
-                  setArrowValidityVector,
-                  ImmutableMap.of(),
-                  ArrowBatchReader::new));
+                  new VectorizedReaderBuilder(
+                      expectedSchema,
+                      fileSchema,
+                      setArrowValidityVector,
+                      ImmutableMap.of(),
+                      ArrowBatchReader::new));
+      reader.setDeletes(deletes);
+      if (eqDeletes != null) {
+        reader.setEqualityDeletes(eqDeletes, numProjectedColumns);
+      }
+
+      if (residual != null) {
+        reader.setResidual(residual, numProjectedColumns);
+      }
+
+      return reader;
     }
   }
 }
@@ -53,7 +53,8 @@ public class ColumnVector implements AutoCloseable {
   ColumnVector(VectorHolder vectorHolder) {
     this.vectorHolder = vectorHolder;
     this.nullabilityHolder = vectorHolder.nullabilityHolder();
-    this.accessor = getVectorAccessor(vectorHolder);
+    // dummy holders are used for columns that are skipped, which have no values to access
+    this.accessor = vectorHolder.isDummy() ? null : getVectorAccessor(vectorHolder);
   }
 
   /**
@@ -84,7 +85,9 @@ public class ColumnVector implements AutoCloseable {
 
   @Override
   public void close() {
-    accessor.close();
+    if (accessor != null) {
+      accessor.close();
+    }
   }
 
   public boolean isNullAt(int rowId) {
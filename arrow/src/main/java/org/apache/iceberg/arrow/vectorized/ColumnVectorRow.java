@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * A reused {@link StructLike} that reads the values of one row in their internal representation
+ * from column vectors.
+ *
+ * <p>Each field of the row reads the column vector at its position in the batch. Values are only
+ * read when requested, so columns that are not accessed may be missing from the batch.
+ */
+class ColumnVectorRow implements StructLike {
+  private final Type[] types;
+  private final int[] positions;
+  private ColumnVector[] columns = null;
+  private int rowId = 0;
+
+  /**
+   * Creates a row.
+   *
+   * @param types the type of each field in the row
+   * @param positions the position of each field's column vector in a batch
+   */
+  ColumnVectorRow(Type[] types, int[] positions) {
+    this.types = types;
+    this.positions = positions;
+  }
+
+  ColumnVectorRow wrap(ColumnVector[] newColumns, int newRowId) {
+    this.columns = newColumns;
+    this.rowId = newRowId;
+    return this;
+  }
+
+  /** Returns whether values of a type can be read from a column vector. */
+  static boolean isSupported(Type type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+      case INTEGER:
+      case DATE:
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+      case FLOAT:
+      case DOUBLE:
+      case STRING:
+      case BINARY:
+      case UUID:
+      case DECIMAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public int size() {
+    return types.length;
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(get(pos));
+  }
+
+  private Object get(int pos) {
+    ColumnVector column = columns[positions[pos]];
+    if (column.isNullAt(rowId)) {
+      return null;
+    }
+
+    Type type = types[pos];
+    switch (type.typeId()) {
+      case BOOLEAN:
+        return column.getBoolean(rowId);
+      case INTEGER:
+      case DATE:
+        return column.getInt(rowId);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return column.getLong(rowId);
+      case FLOAT:
+        return column.getFloat(rowId);
+      case DOUBLE:
+        return column.getDouble(rowId);
+      case STRING:
+        return column.getString(rowId);
+      case BINARY:
+        return ByteBuffer.wrap(column.getBinary(rowId));
+      case UUID:
+        return UUIDUtil.convert(column.getBinary(rowId));
+      case DECIMAL:
+        Types.DecimalType decimal = (Types.DecimalType) type;
+        return column.getDecimal(rowId, decimal.precision(), decimal.scale());
+      default:
+        throw new UnsupportedOperationException("Cannot read column type: " + type);
+    }
+  }
+
+  @Override
+  public <T> void set(int pos, T value) {
+    throw new UnsupportedOperationException("Cannot modify a column vector row");
+  }
+}
@@ -26,14 +26,40 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 /**
  * This class is inspired by Spark's {@code ColumnarBatch}. This class wraps a columnar batch in the
  * result set of an Iceberg table query.
+ *
+ * <p>Rows that are removed by position deletes are not removed from the column vectors. Instead,
+ * the batch carries a selection vector of the row ids that are not deleted, see {@link
+ * #numLiveRows()} and {@link #liveRowId(int)}.
  */
 public class ColumnarBatch implements AutoCloseable {
 
   private final int numRows;
   private final ColumnVector[] columns;
+  private final int[] rowIdMapping;
+  private final int numLiveRows;
 
   ColumnarBatch(int numRows, ColumnVector[] columns) {
+    this(numRows, columns, null, numRows);
+  }
+
+  /**
+   * Creates a batch with a selection vector.
+   *
+   * @param numRows the number of rows in the column vectors
+   * @param columns the column vectors
+   * @param rowIdMapping ascending ids of the rows that are not deleted, or null if all rows are
+   *     live
+   * @param numLiveRows the number of valid entries in {@code rowIdMapping}
+   */
+  ColumnarBatch(int numRows, ColumnVector[] columns, int[] rowIdMapping, int numLiveRows) {
     for (int i = 0; i < columns.length; i++) {
+      if (columns[i].getFieldVector() == null) {
+        // columns that are skipped because no rows are live have no vector
+        Preconditions.checkArgument(
+            numLiveRows == 0, "Invalid column without a vector: %s", columns[i]);
+        continue;
+      }
+
       int columnValueCount = columns[i].getFieldVector().getValueCount();
       Preconditions.checkArgument(
           numRows == columnValueCount,
@@ -45,15 +71,28 @@ public class ColumnarBatch implements AutoCloseable {
               + columnValueCount
               + ")");
     }
+    Preconditions.checkArgument(
+        rowIdMapping != null ? numLiveRows <= rowIdMapping.length : numLiveRows == numRows,
+        "Invalid number of live rows: %s",
+        numLiveRows);
     this.numRows = numRows;
     this.columns = columns;
+    this.rowIdMapping = rowIdMapping;
+    this.numLiveRows = numLiveRows;
   }
 
   /**
    * Create a new instance of {@link VectorSchemaRoot} from the arrow vectors stored in this arrow
    * batch. The arrow vectors are owned by the reader.
+   *
+   * <p>The vectors contain all rows, so this is not allowed for batches with deleted rows.
+   *
+   * @throws IllegalStateException if the batch has deleted rows
    */
   public VectorSchemaRoot createVectorSchemaRootFromVectors() {
+    Preconditions.checkState(
+        !hasDeletedRows(),
+        "Cannot create a VectorSchemaRoot for a batch with deleted rows, use liveRowId instead");
     return VectorSchemaRoot.of(
         Arrays.stream(columns).map(ColumnVector::getArrowVector).toArray(FieldVector[]::new));
   }
@@ -74,12 +113,38 @@ public class ColumnarBatch implements AutoCloseable {
     return columns.length;
   }
 
-  /** Returns the number of rows for read, including filtered rows. */
+  /**
+   * Returns the number of rows for read, including filtered rows and rows that are deleted. Use
+   * {@link #numLiveRows()} to count only the rows in the selection vector.
+   */
   public int numRows() {
     return numRows;
   }
 
-  /** Returns the column at `ordinal`. */
+  /** Returns the number of rows that are not deleted. */
+  public int numLiveRows() {
+    return numLiveRows;
+  }
+
+  /** Returns true if the column vectors contain rows that are deleted. */
+  public boolean hasDeletedRows() {
+    return numLiveRows < numRows;
+  }
+
+  /**
+   * Returns the id of a row that is not deleted, to pass to {@link ColumnVector} accessors.
+   *
+   * @param index the index of the live row, between 0 and {@link #numLiveRows()} (exclusive)
+   * @return the row id in the column vectors
+   */
+  public int liveRowId(int index) {
+    return rowIdMapping != null ? rowIdMapping[index] : index;
+  }
+
+  /**
+   * Returns the column at `ordinal`. The column contains all {@link #numRows()} rows, so rows must
+   * be accessed through {@link #liveRowId(int)} if the batch has deleted rows.
+   */
   public ColumnVector column(int ordinal) {
     return columns[ordinal];
   }
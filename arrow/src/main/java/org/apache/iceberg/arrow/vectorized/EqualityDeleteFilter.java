@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.BinaryEqualityDeleteSet;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.LongEqualityDeleteSet;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Applies equality deletes to the rows of a batch, reading keys directly from the column vectors.
+ *
+ * <p>Deletes are grouped by equality field ids. Each group probes its delete set once per live
+ * row and removes deleted rows from the batch selection vector. Single int, long and string keys
+ * probe a primitive-specialized set without creating a row; string keys that are not dictionary
+ * encoded are probed with the UTF-8 bytes in the Arrow buffer. Other keys are projected into a
+ * reused {@link StructLike}.
+ */
+class EqualityDeleteFilter {
+  private final Schema readSchema;
+  private final KeyFilter[] filters;
+  private final Set<Integer> keyPositions = Sets.newHashSet();
+
+  /**
+   * Creates a filter.
+   *
+   * @param readSchema the schema of the column vectors in a batch, including equality key columns
+   * @param deleteSchemas the equality delete schema of each delete set
+   * @param deleteSets the delete set for each equality delete schema
+   */
+  EqualityDeleteFilter(
+      Schema readSchema, List<Schema> deleteSchemas, List<EqualityDeleteSet> deleteSets) {
+    Preconditions.checkArgument(
+        deleteSchemas.size() == deleteSets.size(),
+        "Number of delete schemas (%s) != number of delete sets (%s)",
+        deleteSchemas.size(),
+        deleteSets.size());
+    this.readSchema = readSchema;
+    this.filters = new KeyFilter[deleteSets.size()];
+    for (int i = 0; i < filters.length; i += 1) {
+      filters[i] = newFilter(readSchema, deleteSchemas.get(i), deleteSets.get(i));
+    }
+  }
+
+  /** Returns the schema to read, which contains the requested columns and all key columns. */
+  Schema readSchema() {
+    return readSchema;
+  }
+
+  /** Returns the positions of the key columns in the read schema. */
+  Set<Integer> keyPositions() {
+    return keyPositions;
+  }
+
+  /**
+   * Removes deleted rows from a selection vector.
+   *
+   * @param columns the column vectors of the batch, in the order of the read schema
+   * @param rowIdMapping ids of the live rows, which is compacted in place
+   * @param numLiveRows the number of live rows in {@code rowIdMapping}
+   * @return the number of live rows that are not deleted
+   */
+  int filter(ColumnVector[] columns, int[] rowIdMapping, int numLiveRows) {
+    int numRows = numLiveRows;
+    for (KeyFilter keyFilter : filters) {
+      numRows = keyFilter.filter(columns, rowIdMapping, numRows);
+    }
+
+    return numRows;
+  }
+
+  private KeyFilter newFilter(
+      Schema readSchema, Schema deleteSchema, EqualityDeleteSet deleteSet) {
+    List<Types.NestedField> keyFields = deleteSchema.columns();
+    int[] positions = new int[keyFields.size()];
+    for (int i = 0; i < positions.length; i += 1) {
+      Types.NestedField field = keyFields.get(i);
+      positions[i] = readSchema.columns().indexOf(readSchema.findField(field.fieldId()));
+      Preconditions.checkArgument(
+          positions[i] >= 0, "Cannot apply equality deletes on nested field: %s", field);
+      keyPositions.add(positions[i]);
+    }
+
+    if (deleteSet instanceof LongEqualityDeleteSet) {
+      boolean isInt = keyFields.get(0).type().typeId() == Type.TypeID.INTEGER;
+      return new LongKeyFilter(positions[0], isInt, (LongEqualityDeleteSet) deleteSet);
+    } else if (deleteSet instanceof BinaryEqualityDeleteSet) {
+      return new StringKeyFilter(positions[0], (BinaryEqualityDeleteSet) deleteSet);
+    } else {
+      return new StructKeyFilter(deleteSchema, positions, deleteSet);
+    }
+  }
+
+  private abstract static class KeyFilter {
+    int filter(ColumnVector[] columns, int[] rowIdMapping, int numLiveRows) {
+      int numRows = 0;
+      for (int i = 0; i < numLiveRows; i += 1) {
+        int rowId = rowIdMapping[i];
+        if (!isDeleted(columns, rowId)) {
+          rowIdMapping[numRows] = rowId;
+          numRows += 1;
+        }
+      }
+
+      return numRows;
+    }
+
+    abstract boolean isDeleted(ColumnVector[] columns, int rowId);
+  }
+
+  private static class LongKeyFilter extends KeyFilter {
+    private final int position;
+    private final boolean isInt;
+    private final LongEqualityDeleteSet deleteSet;
+
+    private LongKeyFilter(int position, boolean isInt, LongEqualityDeleteSet deleteSet) {
+      this.position = position;
+      this.isInt = isInt;
+      this.deleteSet = deleteSet;
+    }
+
+    @Override
+    boolean isDeleted(ColumnVector[] columns, int rowId) {
+      ColumnVector column = columns[position];
+      if (column.isNullAt(rowId)) {
+        return deleteSet.isNullDeleted();
+      } else if (isInt) {
+        return deleteSet.isDeleted(column.getInt(rowId));
+      } else {
+        return deleteSet.isDeleted(column.getLong(rowId));
+      }
+    }
+  }
+
+  private static class StringKeyFilter extends KeyFilter {
+    private final int position;
+    private final BinaryEqualityDeleteSet deleteSet;
+
+    private StringKeyFilter(int position, BinaryEqualityDeleteSet deleteSet) {
+      this.position = position;
+      this.deleteSet = deleteSet;
+    }
+
+    @Override
+    int filter(ColumnVector[] columns, int[] rowIdMapping, int numLiveRows) {
+      FieldVector vector = columns[position].getFieldVector();
+      if (vector instanceof VarCharVector) {
+        return filterUtf8(columns[position], (VarCharVector) vector, rowIdMapping, numLiveRows);
+      } else {
+        return super.filter(columns, rowIdMapping, numLiveRows);
+      }
+    }
+
+    private int filterUtf8(
+        ColumnVector column, VarCharVector vector, int[] rowIdMapping, int numLiveRows) {
+      int numRows = 0;
+      for (int i = 0; i < numLiveRows; i += 1) {
+        int rowId = rowIdMapping[i];
+        boolean isDeleted;
+        if (column.isNullAt(rowId)) {
+          isDeleted = deleteSet.isNullDeleted();
+        } else {
+          int start = vector.getStartOffset(rowId);
+          int length = vector.getEndOffset(rowId) - start;
+          ByteBuffer utf8 = vector.getDataBuffer().nioBuffer(start, length);
+          isDeleted = deleteSet.isDeleted(utf8);
+        }
+
+        if (!isDeleted) {
+          rowIdMapping[numRows] = rowId;
+          numRows += 1;
+        }
+      }
+
+      return numRows;
+    }
+
+    @Override
+    boolean isDeleted(ColumnVector[] columns, int rowId) {
+      ColumnVector column = columns[position];
+      if (column.isNullAt(rowId)) {
+        return deleteSet.isNullDeleted();
+      } else {
+        return deleteSet.isDeleted(column.getString(rowId));
+      }
+    }
+  }
+
+  private static class StructKeyFilter extends KeyFilter {
+    private final EqualityDeleteSet deleteSet;
+    private final ColumnVectorRow key;
+
+    private StructKeyFilter(Schema deleteSchema, int[] positions, EqualityDeleteSet deleteSet) {
+      Type[] types =
+          deleteSchema.columns().stream().map(Types.NestedField::type).toArray(Type[]::new);
+      for (Type type : types) {
+        if (!ColumnVectorRow.isSupported(type)) {
+          throw new UnsupportedOperationException(
+              "Cannot apply equality deletes on column type: " + type);
+        }
+      }
+
+      this.deleteSet = deleteSet;
+      this.key = new ColumnVectorRow(types, positions);
+    }
+
+    @Override
+    boolean isDeleted(ColumnVector[] columns, int rowId) {
+      return deleteSet.isDeleted(key.wrap(columns, rowId));
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.UnboundPredicate;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Removes rows that do not match a residual filter expression from the selection vector of a
+ * batch.
+ *
+ * <p>The expression is evaluated row by row over the column vectors of the batch. Only the columns
+ * referenced by the expression are read, so the other columns are decoded after filtering, and only
+ * for the rows that match.
+ *
+ * <p>Predicates on nested columns or on types that cannot be read from a column vector are not
+ * applied; see {@link #supportedResidual(Schema, Expression, boolean)}.
+ */
+class ResidualFilter {
+  private final Evaluator evaluator;
+  private final ColumnVectorRow row;
+  private final Set<Integer> columnPositions = Sets.newHashSet();
+
+  /**
+   * Creates a filter.
+   *
+   * @param readSchema the schema of the column vectors in a batch
+   * @param residual the residual expression, which must reference only supported top-level
+   *     columns
+   * @param caseSensitive whether column name matching should be case sensitive
+   */
+  ResidualFilter(Schema readSchema, Expression residual, boolean caseSensitive) {
+    this.evaluator = new Evaluator(readSchema.asStruct(), residual, caseSensitive);
+
+    List<Types.NestedField> columns = readSchema.columns();
+    Type[] types = new Type[columns.size()];
+    int[] positions = new int[columns.size()];
+    for (int pos = 0; pos < types.length; pos += 1) {
+      types[pos] = columns.get(pos).type();
+      positions[pos] = pos;
+    }
+
+    Set<Integer> fieldIds =
+        Binder.boundReferences(readSchema.asStruct(), ImmutableList.of(residual), caseSensitive);
+    for (int fieldId : fieldIds) {
+      Types.NestedField field = readSchema.findField(fieldId);
+      int pos = columns.indexOf(field);
+      Preconditions.checkArgument(
+          pos >= 0 && ColumnVectorRow.isSupported(field.type()),
+          "Cannot apply residual filter on column: %s",
+          field);
+
+      columnPositions.add(pos);
+    }
+
+    this.row = new ColumnVectorRow(types, positions);
+  }
+
+  /**
+   * Returns a residual that only references top-level columns that can be read from a column
+   * vector.
+   *
+   * <p>Predicates on other columns are replaced by {@code alwaysTrue}, after negations are pushed
+   * down to predicates, so the returned residual matches every row that the original matches. Rows
+   * that match it may still not match the original residual.
+   *
+   * @param schema the table schema
+   * @param residual an unbound residual expression
+   * @param caseSensitive whether column name matching should be case sensitive
+   * @return a residual on supported columns, or {@code alwaysTrue} if none can be applied
+   */
+  static Expression supportedResidual(Schema schema, Expression residual, boolean caseSensitive) {
+    return ExpressionVisitors.visit(
+        Expressions.rewriteNot(residual), new SupportedResidual(schema, caseSensitive));
+  }
+
+  /** Returns the positions of the columns referenced by the residual in the read schema. */
+  Set<Integer> columnPositions() {
+    return columnPositions;
+  }
+
+  /**
+   * Removes rows that do not match the residual from a selection vector.
+   *
+   * @param columns the column vectors of the batch, in the order of the read schema
+   * @param rowIdMapping ids of the live rows, which is compacted in place
+   * @param numLiveRows the number of live rows in {@code rowIdMapping}
+   * @return the number of live rows that match the residual
+   */
+  int filter(ColumnVector[] columns, int[] rowIdMapping, int numLiveRows) {
+    int numRows = 0;
+    for (int i = 0; i < numLiveRows; i += 1) {
+      int rowId = rowIdMapping[i];
+      if (evaluator.eval(row.wrap(columns, rowId))) {
+        rowIdMapping[numRows] = rowId;
+        numRows += 1;
+      }
+    }
+
+    return numRows;
+  }
+
+  private static class SupportedResidual extends ExpressionVisitors.ExpressionVisitor<Expression> {
+    private final Schema schema;
+    private final boolean caseSensitive;
+
+    private SupportedResidual(Schema schema, boolean caseSensitive) {
+      this.schema = schema;
+      this.caseSensitive = caseSensitive;
+    }
+
+    @Override
+    public Expression alwaysTrue() {
+      return Expressions.alwaysTrue();
+    }
+
+    @Override
+    public Expression alwaysFalse() {
+      return Expressions.alwaysFalse();
+    }
+
+    @Override
+    public Expression not(Expression result) {
+      return Expressions.not(result);
+    }
+
+    @Override
+    public Expression and(Expression leftResult, Expression rightResult) {
+      return Expressions.and(leftResult, rightResult);
+    }
+
+    @Override
+    public Expression or(Expression leftResult, Expression rightResult) {
+      return Expressions.or(leftResult, rightResult);
+    }
+
+    @Override
+    public <T> Expression predicate(BoundPredicate<T> pred) {
+      // the residual is evaluated after binding it to the read schema
+      return Expressions.alwaysTrue();
+    }
+
+    @Override
+    public <T> Expression predicate(UnboundPredicate<T> pred) {
+      Set<Integer> fieldIds =
+          Binder.boundReferences(schema.asStruct(), ImmutableList.of(pred), caseSensitive);
+      for (int fieldId : fieldIds) {
+        Types.NestedField field = schema.findField(fieldId);
+        if (!schema.columns().contains(field) || !ColumnVectorRow.isSupported(field.type())) {
+          return Expressions.alwaysTrue();
+        }
+      }
+
+      return pred;
+    }
+  }
+}
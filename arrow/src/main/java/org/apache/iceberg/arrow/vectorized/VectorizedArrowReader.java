@@ -135,6 +135,45 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
 
   @Override
   public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+    boolean dictEncoded = prepareVector(reuse);
+    if (vectorizedColumnIterator.hasNext()) {
+      batchReader(dictEncoded).nextBatch(vec, batchTypeWidth(dictEncoded), nullabilityHolder);
+    }
+    return vectorHolder(dictEncoded, numValsToRead);
+  }
+
+  /**
+   * Reads only the selected values of the next batch. Values that are not selected are skipped
+   * without decoding them and are null in the returned vector.
+   *
+   * @param reuse the vector holder to reuse, or null
+   * @param numValsToRead the number of values in the batch
+   * @param rowIds the ids of the rows to read, in ascending order
+   * @param numRowIds the number of row ids to use from {@code rowIds}
+   * @return a vector holder with {@code numValsToRead} values
+   */
+  public VectorHolder readSelected(
+      VectorHolder reuse, int numValsToRead, int[] rowIds, int numRowIds) {
+    if (vectorizedColumnIterator == null) {
+      // metadata and constant readers do not decode values, so they read the full batch
+      return read(reuse, numValsToRead);
+    }
+
+    boolean dictEncoded = prepareVector(reuse);
+    if (vectorizedColumnIterator.hasNext()) {
+      batchReader(dictEncoded)
+          .nextBatch(
+              vec,
+              batchTypeWidth(dictEncoded),
+              nullabilityHolder,
+              numValsToRead,
+              rowIds,
+              numRowIds);
+    }
+    return vectorHolder(dictEncoded, numValsToRead);
+  }
+
+  private boolean prepareVector(VectorHolder reuse) {
     boolean dictEncoded = vectorizedColumnIterator.producesDictionaryEncodedVector();
     if (reuse == null
         || (!dictEncoded && readType == ReadType.DICTIONARY)
@@ -145,60 +184,55 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       vec.setValueCount(0);
       nullabilityHolder.reset();
     }
-    if (vectorizedColumnIterator.hasNext()) {
-      if (dictEncoded) {
-        vectorizedColumnIterator.dictionaryBatchReader().nextBatch(vec, -1, nullabilityHolder);
-      } else {
-        switch (readType) {
-          case VARBINARY:
-          case VARCHAR:
-            vectorizedColumnIterator
-                .varWidthTypeBatchReader()
-                .nextBatch(vec, -1, nullabilityHolder);
-            break;
-          case BOOLEAN:
-            vectorizedColumnIterator.booleanBatchReader().nextBatch(vec, -1, nullabilityHolder);
-            break;
-          case INT:
-          case INT_BACKED_DECIMAL:
-            vectorizedColumnIterator
-                .integerBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case LONG:
-          case LONG_BACKED_DECIMAL:
-            vectorizedColumnIterator.longBatchReader().nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case FLOAT:
-            vectorizedColumnIterator
-                .floatBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case DOUBLE:
-            vectorizedColumnIterator
-                .doubleBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case TIMESTAMP_MILLIS:
-            vectorizedColumnIterator
-                .timestampMillisBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case TIMESTAMP_INT96:
-            vectorizedColumnIterator
-                .timestampInt96BatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-          case UUID:
-          case FIXED_WIDTH_BINARY:
-          case FIXED_LENGTH_DECIMAL:
-            vectorizedColumnIterator
-                .fixedSizeBinaryBatchReader()
-                .nextBatch(vec, typeWidth, nullabilityHolder);
-            break;
-        }
-      }
+    return dictEncoded;
+  }
+
+  private VectorizedColumnIterator.BatchReader batchReader(boolean dictEncoded) {
+    if (dictEncoded) {
+      return vectorizedColumnIterator.dictionaryBatchReader();
+    }
+
+    switch (readType) {
+      case VARBINARY:
+      case VARCHAR:
+        return vectorizedColumnIterator.varWidthTypeBatchReader();
+      case BOOLEAN:
+        return vectorizedColumnIterator.booleanBatchReader();
+      case INT:
+      case INT_BACKED_DECIMAL:
+        return vectorizedColumnIterator.integerBatchReader();
+      case LONG:
+      case LONG_BACKED_DECIMAL:
+        return vectorizedColumnIterator.longBatchReader();
+      case FLOAT:
+        return vectorizedColumnIterator.floatBatchReader();
+      case DOUBLE:
+        return vectorizedColumnIterator.doubleBatchReader();
+      case TIMESTAMP_MILLIS:
+        return vectorizedColumnIterator.timestampMillisBatchReader();
+      case TIMESTAMP_INT96:
+        return vectorizedColumnIterator.timestampInt96BatchReader();
+      case UUID:
+      case FIXED_WIDTH_BINARY:
+      case FIXED_LENGTH_DECIMAL:
+        return vectorizedColumnIterator.fixedSizeBinaryBatchReader();
+      default:
+        throw new UnsupportedOperationException("Unsupported read type: " + readType);
     }
+  }
+
+  private int batchTypeWidth(boolean dictEncoded) {
+    if (dictEncoded
+        || readType == ReadType.VARBINARY
+        || readType == ReadType.VARCHAR
+        || readType == ReadType.BOOLEAN) {
+      return -1;
+    }
+
+    return typeWidth;
+  }
+
+  private VectorHolder vectorHolder(boolean dictEncoded, int numValsToRead) {
     Preconditions.checkState(
         vec.getValueCount() == numValsToRead,
         "Number of values read, %s, does not equal expected, %s",
@@ -208,6 +242,15 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         columnDescriptor, vec, dictEncoded, dictionary, nullabilityHolder, icebergField);
   }
 
+  /**
+   * Skips the next values of the column without reading them into a vector.
+   *
+   * @param numValsToSkip the number of values to skip
+   */
+  public void skip(int numValsToSkip) {
+    vectorizedColumnIterator.skip(numValsToSkip);
+  }
+
   private void allocateFieldVector(boolean dictionaryEncodedVector) {
     if (dictionaryEncodedVector) {
       allocateDictEncodedVector();
@@ -516,6 +559,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return VectorHolder.dummyHolder(numValsToRead);
     }
 
+    @Override
+    public void skip(int numValsToSkip) {}
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
@@ -570,6 +616,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return new VectorHolder.PositionVectorHolder(vec, MetadataColumns.ROW_POSITION, nulls);
     }
 
+    @Override
+    public void skip(int numValsToSkip) {
+      rowStart += numValsToSkip;
+    }
+
     private static BigIntVector newVector(int valueCount) {
       BigIntVector vector =
           (BigIntVector) ROW_POSITION_ARROW_FIELD.createVector(ArrowAllocation.rootAllocator());
@@ -612,8 +663,8 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     private static final Field ROW_ID_ARROW_FIELD = ArrowSchemaUtil.convert(MetadataColumns.ROW_ID);
 
     private final long firstRowId;
-    private final VectorizedReader<VectorHolder> idReader;
-    private final VectorizedReader<VectorHolder> posReader;
+    private final VectorizedArrowReader idReader;
+    private final VectorizedArrowReader posReader;
     private NullabilityHolder nulls;
 
     private RowIdVectorReader(long firstRowId, VectorizedArrowReader idReader) {
@@ -660,6 +711,12 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
     }
 
+    @Override
+    public void skip(int numValsToSkip) {
+      idReader.skip(numValsToSkip);
+      posReader.skip(numValsToSkip);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
@@ -688,11 +745,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         ArrowSchemaUtil.convert(MetadataColumns.LAST_UPDATED_SEQUENCE_NUMBER);
 
     private final long lastUpdatedSeq;
-    private final VectorizedReader<VectorHolder> seqReader;
+    private final VectorizedArrowReader seqReader;
     private NullabilityHolder nulls;
 
-    private LastUpdatedSeqVectorReader(
-        long lastUpdatedSeq, VectorizedReader<VectorHolder> seqReader) {
+    private LastUpdatedSeqVectorReader(long lastUpdatedSeq, VectorizedArrowReader seqReader) {
       this.lastUpdatedSeq = lastUpdatedSeq;
       this.seqReader = seqReader == null ? nulls() : seqReader;
     }
@@ -729,6 +785,11 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       }
     }
 
+    @Override
+    public void skip(int numValsToSkip) {
+      seqReader.skip(numValsToSkip);
+    }
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
@@ -785,6 +846,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return VectorHolder.constantHolder(icebergField(), numValsToRead, value);
     }
 
+    @Override
+    public void skip(int numValsToSkip) {}
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
@@ -812,6 +876,9 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
       return VectorHolder.deletedVectorHolder(numValsToRead);
     }
 
+    @Override
+    public void skip(int numValsToSkip) {}
+
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {}
@@ -52,7 +52,18 @@ public class VectorizedTableScanIterable extends CloseableGroup
    * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean)} for details.
    */
   public VectorizedTableScanIterable(TableScan scan, int batchSize, boolean reuseContainers) {
-    this.reader = new ArrowReader(scan, batchSize, reuseContainers);
+    this(scan, batchSize, reuseContainers, false);
+  }
+
+  /**
+   * Create a new instance.
+   *
+   * <p>See {@link ArrowReader#ArrowReader(TableScan, int, boolean, boolean, boolean)} for details
+   * on {@code applyDeletes}.
+   */
+  public VectorizedTableScanIterable(
+      TableScan scan, int batchSize, boolean reuseContainers, boolean applyDeletes) {
+    this.reader = new ArrowReader(scan, batchSize, reuseContainers, false, applyDeletes);
     // start planning tasks in the background
     this.tasks = scan.planTasks();
   }
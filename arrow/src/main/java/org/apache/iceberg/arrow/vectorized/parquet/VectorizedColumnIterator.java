@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.arrow.vectorized.parquet;
 
+import org.apache.arrow.vector.BitVectorHelper;
 import org.apache.arrow.vector.FieldVector;
 import org.apache.arrow.vector.IntVector;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
@@ -35,6 +36,7 @@ import org.apache.parquet.column.page.PageReader;
 public class VectorizedColumnIterator extends BaseColumnIterator {
 
   private final VectorizedPageIterator vectorizedPageIterator;
+  private final boolean setArrowValidityVector;
   private int batchSize;
 
   public VectorizedColumnIterator(
@@ -45,6 +47,7 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
         "Only non-nested columns are supported for vectorized reads");
     this.vectorizedPageIterator =
         new VectorizedPageIterator(desc, writerVersion, setArrowValidityVector);
+    this.setArrowValidityVector = setArrowValidityVector;
   }
 
   public void setBatchSize(int batchSize) {
@@ -68,6 +71,21 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
     return vectorizedPageIterator.producesDictionaryEncodedVector();
   }
 
+  /**
+   * Skips the next rows of the column without decoding them into a vector.
+   *
+   * @param numRowsToSkip the number of rows to skip
+   */
+  public void skip(int numRowsToSkip) {
+    int rowsSkippedSoFar = 0;
+    while (rowsSkippedSoFar < numRowsToSkip && hasNext()) {
+      advance();
+      int rowsInThisBatch = vectorizedPageIterator.skipBatch(numRowsToSkip - rowsSkippedSoFar);
+      rowsSkippedSoFar += rowsInThisBatch;
+      triplesRead += rowsInThisBatch;
+    }
+  }
+
   public abstract class BatchReader {
     public void nextBatch(FieldVector fieldVector, int typeWidth, NullabilityHolder holder) {
       int rowsReadSoFar = 0;
@@ -81,6 +99,77 @@ public class VectorizedColumnIterator extends BaseColumnIterator {
       }
     }
 
+    /**
+     * Reads only the selected rows of the next batch. Rows that are not selected are skipped
+     * without decoding their values and are set to null in the vector.
+     *
+     * @param fieldVector the vector to read into
+     * @param typeWidth the width of the values in the vector
+     * @param holder the nullability holder of the vector
+     * @param numRows the number of rows in the batch
+     * @param rowIds the ids of the rows to read, in ascending order
+     * @param numRowIds the number of row ids to use from {@code rowIds}
+     */
+    public void nextBatch(
+        FieldVector fieldVector,
+        int typeWidth,
+        NullabilityHolder holder,
+        int numRows,
+        int[] rowIds,
+        int numRowIds) {
+      int rowsReadSoFar = 0;
+      int index = 0;
+      while (index < numRowIds) {
+        int runStart = rowIds[index];
+        int runEnd = runStart + 1;
+        index += 1;
+        while (index < numRowIds && rowIds[index] == runEnd) {
+          runEnd += 1;
+          index += 1;
+        }
+
+        skipRows(fieldVector, holder, rowsReadSoFar, runStart);
+        readRows(fieldVector, typeWidth, holder, runStart, runEnd);
+        rowsReadSoFar = runEnd;
+      }
+
+      skipRows(fieldVector, holder, rowsReadSoFar, numRows);
+    }
+
+    private void readRows(
+        FieldVector fieldVector, int typeWidth, NullabilityHolder holder, int start, int end) {
+      int rowsReadSoFar = start;
+      while (rowsReadSoFar < end && hasNext()) {
+        advance();
+        int rowsInThisBatch =
+            nextBatchOf(fieldVector, end - rowsReadSoFar, rowsReadSoFar, typeWidth, holder);
+        rowsReadSoFar += rowsInThisBatch;
+        triplesRead += rowsInThisBatch;
+        fieldVector.setValueCount(rowsReadSoFar);
+      }
+    }
+
+    private void skipRows(FieldVector fieldVector, NullabilityHolder holder, int start, int end) {
+      int rowsSkippedSoFar = start;
+      while (rowsSkippedSoFar < end && hasNext()) {
+        advance();
+        int rowsInThisBatch = vectorizedPageIterator.skipBatch(end - rowsSkippedSoFar);
+        rowsSkippedSoFar += rowsInThisBatch;
+        triplesRead += rowsInThisBatch;
+      }
+
+      if (rowsSkippedSoFar > start) {
+        holder.setNulls(start, rowsSkippedSoFar - start);
+        if (setArrowValidityVector) {
+          for (int rowId = start; rowId < rowsSkippedSoFar; rowId += 1) {
+            BitVectorHelper.setValidityBit(fieldVector.getValidityBuffer(), rowId, 0);
+          }
+        }
+
+        fieldVector.setValueCount(rowsSkippedSoFar);
+      }
+    }
+
     protected abstract int nextBatchOf(
         FieldVector vector,
         int expectedBatchSize,
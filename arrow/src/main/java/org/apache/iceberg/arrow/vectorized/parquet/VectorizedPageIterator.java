@@ -174,6 +174,75 @@ public class VectorizedPageIterator extends BasePageIterator {
     return actualBatchSize;
   }
 
+  /**
+   * Skips a batch of values without decoding them into a vector. Definition levels are read to
+   * find the number of non-null values to skip; dictionary ids and plain values are skipped
+   * without being converted.
+   *
+   * @param expectedBatchSize the maximum number of rows to skip
+   * @return the number of rows skipped in this page
+   */
+  public int skipBatch(final int expectedBatchSize) {
+    final int actualBatchSize = getActualBatchSize(expectedBatchSize);
+    if (actualBatchSize <= 0) {
+      return 0;
+    }
+
+    int maxDefLevel = desc.getMaxDefinitionLevel();
+    int numValues = 0;
+    for (int i = 0; i < actualBatchSize; i += 1) {
+      if (vectorizedDefinitionLevelReader.readInteger() == maxDefLevel) {
+        numValues += 1;
+      }
+    }
+
+    skipValues(numValues);
+    triplesRead += actualBatchSize;
+    this.hasNext = triplesRead < triplesCount;
+    return actualBatchSize;
+  }
+
+  private void skipValues(int numValues) {
+    if (dictionaryDecodeMode != DictionaryDecodeMode.NONE) {
+      for (int i = 0; i < numValues; i += 1) {
+        dictionaryEncodedValuesReader.readInteger();
+      }
+
+      return;
+    }
+
+    VectorizedPlainValuesReader plainValuesReader = (VectorizedPlainValuesReader) valuesReader;
+    switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
+      case BOOLEAN:
+        for (int i = 0; i < numValues; i += 1) {
+          plainValuesReader.readBoolean();
+        }
+        break;
+      case BINARY:
+        for (int i = 0; i < numValues; i += 1) {
+          plainValuesReader.getBuffer(plainValuesReader.readInteger());
+        }
+        break;
+      case INT32:
+      case FLOAT:
+        plainValuesReader.getBuffer(numValues * VectorizedPlainValuesReader.INT_SIZE);
+        break;
+      case INT64:
+      case DOUBLE:
+        plainValuesReader.getBuffer(numValues * VectorizedPlainValuesReader.LONG_SIZE);
+        break;
+      case INT96:
+        plainValuesReader.getBuffer(numValues * 12);
+        break;
+      case FIXED_LEN_BYTE_ARRAY:
+        plainValuesReader.getBuffer(numValues * desc.getPrimitiveType().getTypeLength());
+        break;
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot skip values of type: " + desc.getPrimitiveType());
+    }
+  }
+
   abstract class BasePageReader {
     public int nextBatch(
         FieldVector vector,
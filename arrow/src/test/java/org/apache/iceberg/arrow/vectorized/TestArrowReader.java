@@ -20,6 +20,7 @@ package org.apache.iceberg.arrow.vectorized;
 
 import static org.apache.iceberg.Files.localInput;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
@@ -60,23 +61,33 @@ import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.FieldType;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.OverwriteFiles;
 import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.deletes.BaseDVFileWriter;
+import org.apache.iceberg.deletes.DVFileWriter;
+import org.apache.iceberg.deletes.EqualityDeleteWriter;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFileFactory;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
@@ -282,6 +293,207 @@ public class TestArrowReader {
         scan, NUM_ROWS_PER_MONTH, 12 * NUM_ROWS_PER_MONTH, 2, ALL_COLUMNS);
   }
 
+  /**
+   * Read all rows from a table with deletion vectors. The test asserts that reading fails unless
+   * deletes are applied, and that deleted rows are not selected in the returned batches, including
+   * deletes at batch and file boundaries.
+   */
+  @Test
+  public void testReadWithDeletionVectors() throws Exception {
+    writeTableWithIncrementalRecords();
+    Table table = tables.load(tableLocation);
+    table.updateProperties().set(TableProperties.FORMAT_VERSION, "3").commit();
+
+    // the int column holds the position of the row in its data file
+    List<Long> deletedPositions = ImmutableList.of(0L, 5L, 7L, 8L, 19L);
+    DVFileWriter writer =
+        new BaseDVFileWriter(
+            OutputFileFactory.builderFor(table, 1, 1).format(FileFormat.PUFFIN).build(),
+            path -> null);
+    try (DVFileWriter closeableWriter = writer;
+        CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        for (long pos : deletedPositions) {
+          closeableWriter.delete(
+              task.file().location(), pos, task.spec(), task.file().partition());
+        }
+      }
+    }
+
+    RowDelta rowDelta = table.newRowDelta();
+    writer.result().deleteFiles().forEach(rowDelta::addDeletes);
+    rowDelta.commit();
+
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan().select("int"), 8, false)) {
+      assertThatThrownBy(itr::iterator)
+          .isInstanceOf(UnsupportedOperationException.class)
+          .hasMessage("Cannot read files that require applying delete files");
+    }
+
+    List<Integer> liveValues = Lists.newArrayList();
+    int totalRows = 0;
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan().select("int"), 8, false, true)) {
+      for (ColumnarBatch batch : itr) {
+        totalRows += batch.numRows();
+        for (int i = 0; i < batch.numLiveRows(); i++) {
+          liveValues.add(batch.column(0).getInt(batch.liveRowId(i)));
+        }
+
+        if (batch.hasDeletedRows()) {
+          assertThatThrownBy(batch::createVectorSchemaRootFromVectors)
+              .isInstanceOf(IllegalStateException.class)
+              .hasMessageStartingWith("Cannot create a VectorSchemaRoot for a batch with deleted");
+        }
+      }
+    }
+
+    assertThat(totalRows).isEqualTo(12 * NUM_ROWS_PER_MONTH);
+    assertThat(liveValues)
+        .hasSize(12 * (NUM_ROWS_PER_MONTH - deletedPositions.size()))
+        .allMatch(value -> !deletedPositions.contains((long) value));
+  }
+
+  /**
+   * Read a column from a table with equality deletes on other columns. The test asserts that rows
+   * with deleted int or string keys are not selected and that key columns are not returned.
+   */
+  @Test
+  public void testReadWithEqualityDeletes() throws Exception {
+    writeTableWithIncrementalRecords();
+    Table table = tables.load(tableLocation);
+    Schema intSchema = table.schema().select("int");
+    Schema stringSchema = table.schema().select("string");
+
+    RowDelta rowDelta = table.newRowDelta();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        Record intKey = GenericRecord.create(intSchema);
+        Record stringKey = GenericRecord.create(stringSchema);
+        rowDelta.addDeletes(
+            writeEqualityDeletes(
+                table,
+                task,
+                intSchema,
+                ImmutableList.of(intKey.copy("int", 3), intKey.copy("int", 11))));
+        rowDelta.addDeletes(
+            writeEqualityDeletes(
+                table, task, stringSchema, ImmutableList.of(stringKey.copy("string", "String-4"))));
+      }
+    }
+
+    rowDelta.commit();
+
+    List<Long> liveValues = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr =
+        new VectorizedTableScanIterable(table.newScan().select("long"), 8, false, true)) {
+      for (ColumnarBatch batch : itr) {
+        assertThat(batch.numCols()).isEqualTo(1);
+        for (int i = 0; i < batch.numLiveRows(); i++) {
+          liveValues.add(batch.column(0).getLong(batch.liveRowId(i)));
+        }
+      }
+    }
+
+    // the long column holds twice the int column
+    assertThat(liveValues)
+        .hasSize(12 * (NUM_ROWS_PER_MONTH - 3))
+        .doesNotContain(6L, 22L, 8L)
+        .contains(0L, 38L);
+  }
+
+  /**
+   * Read a column with a filter on other columns and late materialization enabled. The test asserts
+   * that only matching rows are selected, including for batches without matching rows where the
+   * projected column is skipped, and that filter columns are not returned.
+   */
+  @Test
+  public void testReadWithLateMaterialization() throws Exception {
+    writeTableWithIncrementalRecords();
+    Table table = tables.load(tableLocation);
+    TableScan scan =
+        table
+            .newScan()
+            .select("long")
+            .filter(
+                Expressions.or(
+                    Expressions.lessThan("int", 5), Expressions.equal("string", "String-17")));
+
+    List<Long> liveValues = Lists.newArrayList();
+    int numBatchesWithoutLiveRows = 0;
+    try (ArrowReader reader = new ArrowReader(scan, 8, false, true);
+        CloseableIterator<ColumnarBatch> itr = reader.open(scan.planTasks())) {
+      while (itr.hasNext()) {
+        ColumnarBatch batch = itr.next();
+        assertThat(batch.numCols()).isEqualTo(1);
+        if (batch.numLiveRows() == 0) {
+          numBatchesWithoutLiveRows += 1;
+        }
+
+        for (int i = 0; i < batch.numLiveRows(); i++) {
+          liveValues.add(batch.column(0).getLong(batch.liveRowId(i)));
+        }
+      }
+    }
+
+    // the long column holds twice the int column
+    assertThat(liveValues)
+        .hasSize(12 * 6)
+        .containsOnly(0L, 2L, 4L, 6L, 8L, 34L);
+    assertThat(numBatchesWithoutLiveRows).isEqualTo(12);
+  }
+
+  /**
+   * Remove predicates on nested or unsupported columns from a residual. The test asserts that
+   * predicates on supported top-level columns are kept and the others match all rows.
+   */
+  @Test
+  public void testSupportedResidualSkipsUnsupportedColumns() {
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "int", Types.IntegerType.get()),
+            Types.NestedField.optional(2, "fixed", Types.FixedType.ofLength(4)),
+            Types.NestedField.optional(
+                3,
+                "struct",
+                Types.StructType.of(Types.NestedField.optional(4, "x", Types.IntegerType.get()))));
+
+    Expression residual =
+        Expressions.and(
+            Expressions.lessThan("int", 5),
+            Expressions.not(Expressions.equal("struct.x", 3)));
+    assertThat(ResidualFilter.supportedResidual(schema, residual, true))
+        .asString()
+        .isEqualTo(Expressions.lessThan("int", 5).toString());
+
+    Expression unsupported =
+        Expressions.or(Expressions.lessThan("int", 5), Expressions.isNull("fixed"));
+    assertThat(ResidualFilter.supportedResidual(schema, unsupported, true).op())
+        .isEqualTo(Expression.Operation.TRUE);
+  }
+
+  private DeleteFile writeEqualityDeletes(
+      Table table, FileScanTask task, Schema deleteSchema, List<Record> keys)
+      throws IOException {
+    File deleteFile = File.createTempFile("junit", null, tempDir);
+    assertThat(deleteFile.delete()).isTrue();
+    EqualityDeleteWriter<Record> writer =
+        Parquet.writeDeletes(Files.localOutput(deleteFile))
+            .forTable(table)
+            .withPartition(task.file().partition())
+            .rowSchema(deleteSchema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .equalityFieldIds(deleteSchema.columns().get(0).fieldId())
+            .overwrite()
+            .buildEqualityWriter();
+    try (EqualityDeleteWriter<Record> closeableWriter = writer) {
+      closeableWriter.write(keys);
+    }
+
+    return writer.toDeleteFile();
+  }
+
   /**
    * Run the following verifications:
    *
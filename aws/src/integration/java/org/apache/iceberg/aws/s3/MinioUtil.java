@@ -26,6 +26,7 @@ import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.LegacyMd5Plugin;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
@@ -73,4 +74,15 @@ public class MinioUtil {
     builder.forcePathStyle(true); // OSX won't resolve subdomains
     return builder.build();
   }
+
+  public static S3AsyncClient createS3AsyncClient(MinIOContainer container) {
+    return S3AsyncClient.builder()
+        .credentialsProvider(
+            StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(container.getUserName(), container.getPassword())))
+        .endpointOverride(URI.create(container.getS3URL()))
+        .region(Region.US_EAST_1)
+        .forcePathStyle(true) // OSX won't resolve subdomains
+        .build();
+  }
 }
@@ -41,6 +41,7 @@ import java.util.Random;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -192,6 +193,37 @@ public class TestS3FileIO {
     assertThat(s3FileIO.newInputFile(location).exists()).isFalse();
   }
 
+  @Test
+  public void testAsyncOperations() throws IOException {
+    S3FileIO io = new S3FileIO(() -> s3mock, () -> MinioUtil.createS3AsyncClient(minio));
+    io.initialize(properties);
+
+    String location = "s3://bucket/path/to/async-file.txt";
+    byte[] expected = new byte[1024];
+    random.nextBytes(expected);
+    try (OutputStream os = io.newOutputFile(location).createOrOverwrite()) {
+      os.write(expected);
+    }
+
+    assertThat(io.readAsync(location).join()).isEqualTo(ByteBuffer.wrap(expected));
+    assertThat(io.readRangeAsync(location, 100, 10).join())
+        .isEqualTo(ByteBuffer.wrap(expected, 100, 10));
+    assertThat(io.readRangeAsync(location, 1000, 100).join())
+        .as("Should return the bytes up to the end of the file")
+        .isEqualTo(ByteBuffer.wrap(expected, 1000, 24));
+
+    io.deleteFilesAsync(ImmutableList.of(location)).join();
+    assertThat(io.newInputFile(location).exists()).isFalse();
+
+    assertThatThrownBy(() -> io.readAsync(location).join())
+        .isInstanceOf(CompletionException.class)
+        .cause()
+        .isInstanceOf(NotFoundException.class)
+        .hasMessage("Location does not exist: " + location);
+
+    io.close();
+  }
+
   @Test
   public void testDeleteFilesMultipleBatches() {
     testBatchDelete(batchDeletionSize * 2);
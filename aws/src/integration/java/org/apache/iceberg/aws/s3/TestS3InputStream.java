@@ -23,10 +23,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Random;
+import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.MinIOContainer;
@@ -92,6 +98,54 @@ public class TestS3InputStream {
     }
   }
 
+  @Test
+  public void testReadAhead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/read-ahead.dat");
+    int dataSize = 1024 * 1024 * 10 + 100;
+    byte[] data = randomData(dataSize);
+
+    writeS3Data(uri, data);
+
+    S3FileIOProperties properties =
+        new S3FileIOProperties(
+            ImmutableMap.of(
+                S3FileIOProperties.READ_AHEAD_ENABLED, "true",
+                S3FileIOProperties.READ_AHEAD_BLOCK_SIZE, String.valueOf(1024 * 1024),
+                S3FileIOProperties.READ_AHEAD_NUM_BLOCKS, "2"));
+    Map<String, Counter> counters = Maps.newHashMap();
+    DefaultMetricsContext metrics =
+        new DefaultMetricsContext() {
+          @Override
+          public org.apache.iceberg.metrics.Counter counter(String name, Unit unit) {
+            return counters.computeIfAbsent(name, ignored -> super.counter(name, unit));
+          }
+        };
+
+    try (SeekableInputStream in = new S3InputStream(s3, uri, properties, metrics)) {
+      // sequential reads across block boundaries and up to the end of the object
+      int readSize = 100 * 1024;
+      for (long pos = 0; pos + readSize <= dataSize; pos += readSize) {
+        readAndCheck(in, pos, readSize, data, true);
+      }
+
+      readAndCheck(in, in.getPos(), (int) (dataSize - in.getPos()), data, true);
+      assertThat(in.read()).isEqualTo(-1);
+      assertThat(in.read(new byte[10], 0, 10)).isEqualTo(-1);
+
+      // random reads, including single byte reads and a backward seek
+      readAndCheck(in, 5 * 1024 * 1024 + 7, 1024, data, false);
+      readAndCheck(in, 100, 1024 * 1024 + 1, data, true);
+      readAndCheck(in, dataSize - 10, 10, data, true);
+    }
+
+    long prefetched = counters.get(FileIOMetricsContext.READ_PREFETCHED_BYTES).value();
+    long wasted = counters.get(FileIOMetricsContext.READ_WASTED_BYTES).value();
+    long read = counters.get(FileIOMetricsContext.READ_BYTES).value();
+    assertThat(prefetched).isGreaterThanOrEqualTo(dataSize);
+    assertThat(read).isGreaterThan(dataSize);
+    assertThat(wasted).isPositive().isLessThan(prefetched);
+  }
+
   private void readAndCheck(
       SeekableInputStream in, long rangeStart, int size, byte[] original, boolean buffered)
       throws IOException {
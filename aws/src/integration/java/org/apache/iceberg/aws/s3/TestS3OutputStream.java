@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -45,6 +46,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -182,6 +184,82 @@ public class TestS3OutputStream {
     writeTest();
   }
 
+  @Test
+  public void testWriteStagedInMemory() throws IOException {
+    S3FileIOProperties memoryStagingProperties =
+        new S3FileIOProperties(
+            ImmutableMap.of(
+                S3FileIOProperties.MULTIPART_SIZE,
+                Integer.toString(FIVE_MBS),
+                S3FileIOProperties.STAGING_DIRECTORY,
+                tmpDir.toString(),
+                S3FileIOProperties.STAGING_BUFFER_TYPE,
+                S3FileIOProperties.STAGING_BUFFER_TYPE_MEMORY));
+
+    for (int size : new int[] {1024, 12 * 1024 * 1024}) {
+      byte[] data = randomData(size);
+      S3URI uri = randomURI();
+      try (S3OutputStream stream =
+          new S3OutputStream(s3mock, uri, memoryStagingProperties, nullMetrics())) {
+        stream.write(data, 0, 100);
+        stream.write(data[100]);
+        stream.write(data, 101, data.length - 101);
+      }
+
+      assertThat(readS3Data(uri)).isEqualTo(data);
+      assertThat(Files.list(tmpDir)).as("Should not write staging files").isEmpty();
+    }
+
+    verify(s3mock, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    verify(s3mock, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+  }
+
+  @Test
+  public void testReleasePartsAfterFailedPartUpload() throws IOException {
+    RuntimeException mockException = new RuntimeException("mock uploadPart failure");
+    doAnswer(
+            invocation -> {
+              UploadPartRequest request = invocation.getArgument(0);
+              if (request.partNumber() == 1) {
+                throw mockException;
+              }
+
+              return s3.uploadPart(request, invocation.<RequestBody>getArgument(1));
+            })
+        .when(s3mock)
+        .uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+
+    S3FileIOProperties memoryStagingProperties =
+        new S3FileIOProperties(
+            ImmutableMap.of(
+                S3FileIOProperties.MULTIPART_SIZE,
+                Integer.toString(FIVE_MBS),
+                S3FileIOProperties.STAGING_DIRECTORY,
+                tmpDir.toString(),
+                S3FileIOProperties.STAGING_BUFFER_TYPE,
+                S3FileIOProperties.STAGING_BUFFER_TYPE_MEMORY));
+
+    for (S3FileIOProperties stagingProperties :
+        ImmutableList.of(properties, memoryStagingProperties)) {
+      assertThatThrownBy(
+              () -> {
+                try (S3OutputStream stream =
+                    new S3OutputStream(s3mock, randomURI(), stagingProperties, nullMetrics())) {
+                  stream.write(randomData(16 * 1024 * 1024));
+                }
+              })
+          .isInstanceOf(mockException.getClass())
+          .hasMessageContaining(mockException.getMessage());
+
+      assertThat(Files.list(tmpDir)).as("Should remove all staging files").isEmpty();
+    }
+
+    assertThat(S3OutputStream.bufferPool().usedBytes())
+        .as("Should release all staging buffers")
+        .isZero();
+    verify(s3mock, times(2)).abortMultipartUpload((AbortMultipartUploadRequest) any());
+  }
+
   @Test
   public void testDoubleClose() throws IOException {
     IllegalStateException mockException =
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.aws.s3;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
@@ -25,6 +26,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -32,6 +35,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.aws.S3FileIOAwsClientFactories;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.CredentialSupplier;
 import org.apache.iceberg.io.DelegateFileIO;
@@ -39,6 +43,7 @@ import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.io.StorageCredential;
+import org.apache.iceberg.io.SupportsAsyncOperations;
 import org.apache.iceberg.io.SupportsRecoveryOperations;
 import org.apache.iceberg.io.SupportsStorageCredentials;
 import org.apache.iceberg.metrics.MetricsContext;
@@ -60,6 +65,7 @@ import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -67,9 +73,12 @@ import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectTaggingRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectTaggingResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.ObjectVersion;
 import software.amazon.awssdk.services.s3.model.PutObjectTaggingRequest;
@@ -88,6 +97,7 @@ import software.amazon.awssdk.services.s3.paginators.ListObjectVersionsIterable;
 public class S3FileIO
     implements CredentialSupplier,
         DelegateFileIO,
+        SupportsAsyncOperations,
         SupportsRecoveryOperations,
         SupportsStorageCredentials {
   private static final Logger LOG = LoggerFactory.getLogger(S3FileIO.class);
@@ -326,34 +336,161 @@ public class S3FileIO
 
   private List<String> deleteBatch(
       PrefixedS3Client client, String bucket, Collection<String> keysToDelete) {
+    DeleteObjectsRequest request = deleteObjectsRequest(bucket, keysToDelete);
+    try {
+      return failedDeletions(request, client.s3().deleteObjects(request));
+    } catch (Exception e) {
+      return failedDeletions(request, e);
+    }
+  }
+
+  private CompletableFuture<List<String>> deleteBatchAsync(
+      PrefixedS3Client client, String bucket, Collection<String> keysToDelete) {
+    DeleteObjectsRequest request = deleteObjectsRequest(bucket, keysToDelete);
+    return client
+        .s3Async()
+        .deleteObjects(request)
+        .handle(
+            (response, thrown) ->
+                thrown == null
+                    ? failedDeletions(request, response)
+                    : failedDeletions(request, thrown));
+  }
+
+  private static DeleteObjectsRequest deleteObjectsRequest(
+      String bucket, Collection<String> keysToDelete) {
     List<ObjectIdentifier> objectIds =
         keysToDelete.stream()
             .map(key -> ObjectIdentifier.builder().key(key).build())
             .collect(Collectors.toList());
-    DeleteObjectsRequest request =
-        DeleteObjectsRequest.builder()
-            .bucket(bucket)
-            .delete(Delete.builder().objects(objectIds).build())
-            .build();
+    return DeleteObjectsRequest.builder()
+        .bucket(bucket)
+        .delete(Delete.builder().objects(objectIds).build())
+        .build();
+  }
+
+  private static List<String> failedDeletions(
+      DeleteObjectsRequest request, DeleteObjectsResponse response) {
     List<String> failures = Lists.newArrayList();
-    try {
-      DeleteObjectsResponse response = client.s3().deleteObjects(request);
-      if (response.hasErrors()) {
-        failures.addAll(
-            response.errors().stream()
-                .map(error -> String.format("s3://%s/%s", request.bucket(), error.key()))
-                .collect(Collectors.toList()));
-      }
-    } catch (Exception e) {
-      LOG.warn("Encountered failure when deleting batch", e);
+    if (response.hasErrors()) {
       failures.addAll(
-          request.delete().objects().stream()
-              .map(obj -> String.format("s3://%s/%s", request.bucket(), obj.key()))
+          response.errors().stream()
+              .map(error -> String.format("s3://%s/%s", request.bucket(), error.key()))
               .collect(Collectors.toList()));
     }
+
     return failures;
   }
 
+  private static List<String> failedDeletions(DeleteObjectsRequest request, Throwable thrown) {
+    LOG.warn("Encountered failure when deleting batch", thrown);
+    return request.delete().objects().stream()
+        .map(obj -> String.format("s3://%s/%s", request.bucket(), obj.key()))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readRangeAsync(String path, long position, int length) {
+    Preconditions.checkArgument(position >= 0, "Invalid position: %s (must be >= 0)", position);
+    Preconditions.checkArgument(length >= 0, "Invalid length: %s (must be >= 0)", length);
+    if (length == 0) {
+      return CompletableFuture.completedFuture(ByteBuffer.allocate(0));
+    }
+
+    return getObjectAsync(path, String.format("bytes=%s-%s", position, position + length - 1));
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readAsync(String path) {
+    return getObjectAsync(path, null);
+  }
+
+  private CompletableFuture<ByteBuffer> getObjectAsync(String path, String range) {
+    PrefixedS3Client client = clientForStoragePath(path);
+    S3URI location = new S3URI(path, client.s3FileIOProperties().bucketToAccessPointMapping());
+    GetObjectRequest.Builder requestBuilder =
+        GetObjectRequest.builder().bucket(location.bucket()).key(location.key()).range(range);
+    S3RequestUtil.configureEncryption(client.s3FileIOProperties(), requestBuilder);
+
+    return client
+        .s3Async()
+        .getObject(
+            requestBuilder.build(), AsyncResponseTransformer.<GetObjectResponse>toBytes())
+        .handle(
+            (bytes, thrown) -> {
+              if (thrown == null) {
+                return bytes.asByteBuffer();
+              }
+
+              Throwable cause = thrown instanceof CompletionException ? thrown.getCause() : thrown;
+              if (cause instanceof NoSuchKeyException) {
+                throw new NotFoundException(cause, "Location does not exist: %s", path);
+              }
+
+              throw new CompletionException(cause);
+            });
+  }
+
+  /**
+   * Deletes the given paths in a batched manner using the async client.
+   *
+   * <p>Batches are created as in {@link #deleteFiles(Iterable)}. When delete tags are configured,
+   * objects are tagged and deleted with the sync client on the delete thread pool.
+   *
+   * @param paths paths to delete
+   */
+  @Override
+  public CompletableFuture<Void> deleteFilesAsync(Iterable<String> paths) {
+    S3FileIOProperties s3FileIOProperties = clientForStoragePath(ROOT_PREFIX).s3FileIOProperties();
+    if (s3FileIOProperties.deleteTags() != null && !s3FileIOProperties.deleteTags().isEmpty()) {
+      return CompletableFuture.runAsync(() -> deleteFiles(paths), executorService());
+    }
+
+    if (!s3FileIOProperties.isDeleteEnabled()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    SetMultimap<String, String> bucketToObjects =
+        Multimaps.newSetMultimap(Maps.newHashMap(), Sets::newHashSet);
+    List<CompletableFuture<List<String>>> deletionTasks = Lists.newArrayList();
+    for (String path : paths) {
+      PrefixedS3Client client = clientForStoragePath(path);
+      S3URI location = new S3URI(path, client.s3FileIOProperties().bucketToAccessPointMapping());
+      String bucket = location.bucket();
+      bucketToObjects.get(bucket).add(location.key());
+      if (bucketToObjects.get(bucket).size() == client.s3FileIOProperties().deleteBatchSize()) {
+        Set<String> keys = Sets.newHashSet(bucketToObjects.get(bucket));
+        deletionTasks.add(deleteBatchAsync(client, bucket, keys));
+        bucketToObjects.removeAll(bucket);
+      }
+    }
+
+    // Delete the remainder
+    for (Map.Entry<String, Collection<String>> bucketToObjectsEntry :
+        bucketToObjects.asMap().entrySet()) {
+      String bucket = bucketToObjectsEntry.getKey();
+      deletionTasks.add(
+          deleteBatchAsync(
+              clientForStoragePath("s3://" + bucket), bucket, bucketToObjectsEntry.getValue()));
+    }
+
+    return CompletableFuture.allOf(deletionTasks.toArray(new CompletableFuture<?>[0]))
+        .thenRun(
+            () -> {
+              int totalFailedDeletions = 0;
+              for (CompletableFuture<List<String>> deletionTask : deletionTasks) {
+                List<String> failedDeletions = deletionTask.join();
+                failedDeletions.forEach(
+                    path -> LOG.warn("Failed to delete object at path {}", path));
+                totalFailedDeletions += failedDeletions.size();
+              }
+
+              if (totalFailedDeletions > 0) {
+                throw new BulkDeletionFailureException(totalFailedDeletions);
+              }
+            });
+  }
+
   @Override
   public Iterable<FileInfo> listPrefix(String prefix) {
     PrefixedS3Client client = clientForStoragePath(prefix);
@@ -32,6 +32,7 @@ import org.apache.iceberg.aws.glue.GlueCatalog;
 import org.apache.iceberg.aws.s3.signer.S3V4RestSignerClient;
 import org.apache.iceberg.common.DynMethods;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -112,6 +113,61 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final int S3_CRT_MAX_CONCURRENCY_DEFAULT = 500;
 
+  /**
+   * Enables adaptive read-ahead in S3 input streams. When sequential reads are detected, the next
+   * blocks of an object are prefetched in the background with ranged GET requests. Random reads
+   * fetch only the requested range instead of opening a stream to the end of the object.
+   */
+  public static final String READ_AHEAD_ENABLED = "s3.read-ahead.enabled";
+
+  public static final boolean READ_AHEAD_ENABLED_DEFAULT = false;
+
+  /** Size of each block that is fetched by read-ahead. */
+  public static final String READ_AHEAD_BLOCK_SIZE = "s3.read-ahead.block-size-bytes";
+
+  public static final int READ_AHEAD_BLOCK_SIZE_DEFAULT = 4 * 1024 * 1024;
+
+  /**
+   * Number of blocks to prefetch ahead of the current read position, which bounds the memory used
+   * by each input stream.
+   */
+  public static final String READ_AHEAD_NUM_BLOCKS = "s3.read-ahead.num-blocks";
+
+  public static final int READ_AHEAD_NUM_BLOCKS_DEFAULT = 4;
+
+  /**
+   * Maximum number of bytes between two ranges of a vectored read that are fetched with a single
+   * GET request. Ranges that are further apart are fetched with separate requests in parallel.
+   */
+  public static final String VECTORED_READ_MAX_GAP_BYTES = "s3.vectored-read.max-gap-bytes";
+
+  public static final int VECTORED_READ_MAX_GAP_BYTES_DEFAULT = FileRanges.MAX_GAP_BYTES_DEFAULT;
+
+  /**
+   * Maximum number of bytes to fetch with a single GET request in a vectored read. Larger ranges
+   * are split into several requests that are fetched in parallel.
+   */
+  public static final String VECTORED_READ_MAX_REQUEST_BYTES = "s3.vectored-read.max-request-bytes";
+
+  public static final int VECTORED_READ_MAX_REQUEST_BYTES_DEFAULT =
+      FileRanges.MAX_REQUEST_BYTES_DEFAULT;
+
+  /**
+   * Enables multipart downloads. Positional reads that are larger than the part size, including
+   * the requests of vectored reads and whole-file reads, are split into parts that are fetched with
+   * parallel GET requests and reassembled in order.
+   */
+  public static final String MULTIPART_DOWNLOAD_ENABLED = "s3.multipart-download.enabled";
+
+  public static final boolean MULTIPART_DOWNLOAD_ENABLED_DEFAULT = false;
+
+  /** Size of each part of a multipart download. */
+  public static final String MULTIPART_DOWNLOAD_PART_SIZE =
+      "s3.multipart-download.part-size-bytes";
+
+  public static final int MULTIPART_DOWNLOAD_PART_SIZE_DEFAULT =
+      FileRanges.DOWNLOAD_PART_SIZE_BYTES_DEFAULT;
+
   /**
    * The fallback-to-iam property allows users to customize whether or not they would like their
    * jobs fall back to the Job Execution IAM role in case they get an Access Denied from the S3
@@ -211,6 +267,26 @@ public class S3FileIOProperties implements Serializable {
    */
   public static final String STAGING_DIRECTORY = "s3.staging-dir";
 
+  /**
+   * Where parts are buffered before they are uploaded to S3: "disk" stages each part as a file in
+   * the staging directory and "memory" buffers parts in a bounded pool of direct memory that is
+   * shared by all output streams (default: disk). In both modes, a part is uploaded while the next
+   * part is written.
+   */
+  public static final String STAGING_BUFFER_TYPE = "s3.staging-buffer-type";
+
+  public static final String STAGING_BUFFER_TYPE_DISK = "disk";
+  public static final String STAGING_BUFFER_TYPE_MEMORY = "memory";
+
+  /**
+   * Maximum number of bytes of direct memory used to buffer parts when the staging buffer type is
+   * memory (default: 256MB). When the limit is reached, writers block until part uploads complete.
+   * The pool is shared by all output streams and is sized by the first stream that uses it.
+   */
+  public static final String STAGING_MEMORY_MAX_BYTES = "s3.staging-memory.max-bytes";
+
+  public static final long STAGING_MEMORY_MAX_BYTES_DEFAULT = 256L * 1024 * 1024;
+
   /**
    * Used to configure canned access control list (ACL) for S3 client to use during write. If not
    * set, ACL will not be set for requests.
@@ -507,6 +583,8 @@ public class S3FileIOProperties implements Serializable {
   private int deleteBatchSize;
   private double multipartThresholdFactor;
   private String stagingDirectory;
+  private final boolean isStagingInMemory;
+  private final long stagingMemoryMaxBytes;
   private ObjectCannedACL acl;
   private boolean isChecksumEnabled;
   private final Set<Tag> writeTags;
@@ -528,6 +606,13 @@ public class S3FileIOProperties implements Serializable {
   private final Map<String, String> s3AnalyticsacceleratorProperties;
   private final boolean isS3CRTEnabled;
   private final int s3CrtMaxConcurrency;
+  private final boolean isReadAheadEnabled;
+  private final int readAheadBlockSize;
+  private final int readAheadNumBlocks;
+  private final int vectoredReadMaxGapBytes;
+  private final int vectoredReadMaxRequestBytes;
+  private final boolean isMultipartDownloadEnabled;
+  private final int multipartDownloadPartSize;
   private String writeStorageClass;
   private int s3RetryNumRetries;
   private long s3RetryMinWaitMs;
@@ -550,6 +635,8 @@ public class S3FileIOProperties implements Serializable {
     this.multipartThresholdFactor = MULTIPART_THRESHOLD_FACTOR_DEFAULT;
     this.deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
     this.stagingDirectory = System.getProperty("java.io.tmpdir");
+    this.isStagingInMemory = false;
+    this.stagingMemoryMaxBytes = STAGING_MEMORY_MAX_BYTES_DEFAULT;
     this.isChecksumEnabled = CHECKSUM_ENABLED_DEFAULT;
     this.writeTags = Sets.newHashSet();
     this.isWriteTableTagEnabled = WRITE_TABLE_TAG_ENABLED_DEFAULT;
@@ -576,6 +663,13 @@ public class S3FileIOProperties implements Serializable {
     this.s3AnalyticsacceleratorProperties = Maps.newHashMap();
     this.isS3CRTEnabled = S3_CRT_ENABLED_DEFAULT;
     this.s3CrtMaxConcurrency = S3_CRT_MAX_CONCURRENCY_DEFAULT;
+    this.isReadAheadEnabled = READ_AHEAD_ENABLED_DEFAULT;
+    this.readAheadBlockSize = READ_AHEAD_BLOCK_SIZE_DEFAULT;
+    this.readAheadNumBlocks = READ_AHEAD_NUM_BLOCKS_DEFAULT;
+    this.vectoredReadMaxGapBytes = VECTORED_READ_MAX_GAP_BYTES_DEFAULT;
+    this.vectoredReadMaxRequestBytes = VECTORED_READ_MAX_REQUEST_BYTES_DEFAULT;
+    this.isMultipartDownloadEnabled = MULTIPART_DOWNLOAD_ENABLED_DEFAULT;
+    this.multipartDownloadPartSize = MULTIPART_DOWNLOAD_PART_SIZE_DEFAULT;
     this.allProperties = Maps.newHashMap();
 
     ValidationException.check(
@@ -634,6 +728,25 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory =
         PropertyUtil.propertyAsString(
             properties, STAGING_DIRECTORY, System.getProperty("java.io.tmpdir"));
+    String stagingBufferType =
+        PropertyUtil.propertyAsString(properties, STAGING_BUFFER_TYPE, STAGING_BUFFER_TYPE_DISK);
+    Preconditions.checkArgument(
+        STAGING_BUFFER_TYPE_DISK.equals(stagingBufferType)
+            || STAGING_BUFFER_TYPE_MEMORY.equals(stagingBufferType),
+        "Invalid %s: %s (must be %s or %s)",
+        STAGING_BUFFER_TYPE,
+        stagingBufferType,
+        STAGING_BUFFER_TYPE_DISK,
+        STAGING_BUFFER_TYPE_MEMORY);
+    this.isStagingInMemory = STAGING_BUFFER_TYPE_MEMORY.equals(stagingBufferType);
+    this.stagingMemoryMaxBytes =
+        PropertyUtil.propertyAsLong(
+            properties, STAGING_MEMORY_MAX_BYTES, STAGING_MEMORY_MAX_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        stagingMemoryMaxBytes > 0,
+        "Invalid %s: %s (must be > 0)",
+        STAGING_MEMORY_MAX_BYTES,
+        stagingMemoryMaxBytes);
     String aclType = properties.get(ACL);
     this.acl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(
@@ -698,6 +811,49 @@ public class S3FileIOProperties implements Serializable {
     this.s3CrtMaxConcurrency =
         PropertyUtil.propertyAsInt(
             properties, S3_CRT_MAX_CONCURRENCY, S3_CRT_MAX_CONCURRENCY_DEFAULT);
+    this.isReadAheadEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, READ_AHEAD_ENABLED, READ_AHEAD_ENABLED_DEFAULT);
+    this.readAheadBlockSize =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_BLOCK_SIZE, READ_AHEAD_BLOCK_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadBlockSize > 0, "%s must be > 0: %s", READ_AHEAD_BLOCK_SIZE, readAheadBlockSize);
+    this.readAheadNumBlocks =
+        PropertyUtil.propertyAsInt(
+            properties, READ_AHEAD_NUM_BLOCKS, READ_AHEAD_NUM_BLOCKS_DEFAULT);
+    Preconditions.checkArgument(
+        readAheadNumBlocks >= 0,
+        "%s must be >= 0: %s",
+        READ_AHEAD_NUM_BLOCKS,
+        readAheadNumBlocks);
+    this.vectoredReadMaxGapBytes =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_MAX_GAP_BYTES, VECTORED_READ_MAX_GAP_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        vectoredReadMaxGapBytes >= 0,
+        "%s must be >= 0: %s",
+        VECTORED_READ_MAX_GAP_BYTES,
+        vectoredReadMaxGapBytes);
+    this.vectoredReadMaxRequestBytes =
+        PropertyUtil.propertyAsInt(
+            properties, VECTORED_READ_MAX_REQUEST_BYTES, VECTORED_READ_MAX_REQUEST_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        vectoredReadMaxRequestBytes > 0,
+        "%s must be > 0: %s",
+        VECTORED_READ_MAX_REQUEST_BYTES,
+        vectoredReadMaxRequestBytes);
+    this.isMultipartDownloadEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, MULTIPART_DOWNLOAD_ENABLED, MULTIPART_DOWNLOAD_ENABLED_DEFAULT);
+    this.multipartDownloadPartSize =
+        PropertyUtil.propertyAsInt(
+            properties, MULTIPART_DOWNLOAD_PART_SIZE, MULTIPART_DOWNLOAD_PART_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        multipartDownloadPartSize > 0,
+        "Invalid %s: %s (must be > 0)",
+        MULTIPART_DOWNLOAD_PART_SIZE,
+        multipartDownloadPartSize);
 
     ValidationException.check(
         keyIdAccessKeyBothConfigured(),
@@ -768,6 +924,14 @@ public class S3FileIOProperties implements Serializable {
     this.stagingDirectory = directory;
   }
 
+  public boolean isStagingInMemory() {
+    return isStagingInMemory;
+  }
+
+  public long stagingMemoryMaxBytes() {
+    return stagingMemoryMaxBytes;
+  }
+
   public ObjectCannedACL acl() {
     return this.acl;
   }
@@ -828,6 +992,34 @@ public class S3FileIOProperties implements Serializable {
     return s3CrtMaxConcurrency;
   }
 
+  public boolean isReadAheadEnabled() {
+    return isReadAheadEnabled;
+  }
+
+  public int readAheadBlockSize() {
+    return readAheadBlockSize;
+  }
+
+  public int readAheadNumBlocks() {
+    return readAheadNumBlocks;
+  }
+
+  public int vectoredReadMaxGapBytes() {
+    return vectoredReadMaxGapBytes;
+  }
+
+  public int vectoredReadMaxRequestBytes() {
+    return vectoredReadMaxRequestBytes;
+  }
+
+  public boolean isMultipartDownloadEnabled() {
+    return isMultipartDownloadEnabled;
+  }
+
+  public int multipartDownloadPartSize() {
+    return multipartDownloadPartSize;
+  }
+
   public String endpoint() {
     return this.endpoint;
   }
@@ -25,11 +25,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntFunction;
 import javax.net.ssl.SSLException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
@@ -41,6 +48,8 @@ import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -48,6 +57,7 @@ import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 class S3InputStream extends SeekableInputStream implements RangeReadable {
   private static final Logger LOG = LoggerFactory.getLogger(S3InputStream.class);
@@ -55,6 +65,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   private static final List<Class<? extends Throwable>> RETRYABLE_EXCEPTIONS =
       ImmutableList.of(SSLException.class, SocketTimeoutException.class, SocketException.class);
 
+  private static final int RANGE_NOT_SATISFIABLE = 416;
+
+  private static volatile ExecutorService readAheadExecutor;
+
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
@@ -67,6 +81,7 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
 
   private final Counter readBytes;
   private final Counter readOperations;
+  private final S3ReadAhead readAhead;
 
   private int skipSize = 1024 * 1024;
   private RetryPolicy<Object> retryPolicy =
@@ -85,6 +100,8 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
                       e.getException()))
           .withMaxRetries(3)
           .build();
+  private final RetryPolicy<Object> rangeRetryPolicy =
+      RetryPolicy.builder().handle(RETRYABLE_EXCEPTIONS).withMaxRetries(3).build();
 
   S3InputStream(S3Client s3, S3URI location) {
     this(s3, location, new S3FileIOProperties(), MetricsContext.nullMetrics());
@@ -99,6 +116,19 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     this.readBytes = metrics.counter(FileIOMetricsContext.READ_BYTES, Unit.BYTES);
     this.readOperations = metrics.counter(FileIOMetricsContext.READ_OPERATIONS);
 
+    if (s3FileIOProperties.isReadAheadEnabled()) {
+      this.readAhead =
+          new S3ReadAhead(
+              this::readBlock,
+              readAheadExecutor(),
+              s3FileIOProperties.readAheadBlockSize(),
+              s3FileIOProperties.readAheadNumBlocks(),
+              metrics.counter(FileIOMetricsContext.READ_PREFETCHED_BYTES, Unit.BYTES),
+              metrics.counter(FileIOMetricsContext.READ_WASTED_BYTES, Unit.BYTES));
+    } else {
+      this.readAhead = null;
+    }
+
     this.createStack = Thread.currentThread().getStackTrace();
   }
 
@@ -119,6 +149,12 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAhead != null) {
+      byte[] single = new byte[1];
+      int bytesRead = readWithReadAhead(single, 0, 1);
+      return bytesRead < 0 ? -1 : Byte.toUnsignedInt(single[0]);
+    }
+
     positionStream();
     try {
       int bytesRead = Failsafe.with(retryPolicy).get(() -> stream.read());
@@ -140,6 +176,10 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (readAhead != null) {
+      return readWithReadAhead(b, off, len);
+    }
+
     positionStream();
 
     try {
@@ -159,13 +199,88 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     }
   }
 
+  private int readWithReadAhead(byte[] b, int off, int len) throws IOException {
+    int bytesRead = readAhead.read(next, b, off, len);
+    if (bytesRead > 0) {
+      next += bytesRead;
+      readBytes.increment(bytesRead);
+    }
+
+    readOperations.increment();
+
+    return bytesRead;
+  }
+
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
     Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
 
+    if (s3FileIOProperties.isMultipartDownloadEnabled()) {
+      FileRanges.readFully(
+          this::readRangeFully,
+          position,
+          buffer,
+          offset,
+          length,
+          s3FileIOProperties.multipartDownloadPartSize());
+    } else {
+      readRangeFully(position, buffer, offset, length);
+    }
+  }
+
+  private void readRangeFully(long position, byte[] buffer, int offset, int length)
+      throws IOException {
     String range = String.format("bytes=%s-%s", position, position + length - 1);
 
-    IOUtil.readFully(readRange(range), buffer, offset, length);
+    try (InputStream rangeStream = readRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
+  }
+
+  /** Reads a block for read-ahead, returning fewer bytes at the end of the object. */
+  private int readBlock(long position, byte[] buffer, int length) throws IOException {
+    String range = String.format("bytes=%s-%s", position, position + length - 1);
+
+    try {
+      return Failsafe.with(rangeRetryPolicy)
+          .get(
+              () -> {
+                try (InputStream rangeStream = readRange(range)) {
+                  return IOUtil.readRemaining(rangeStream, buffer, 0, length);
+                }
+              });
+    } catch (FailsafeException ex) {
+      if (ex.getCause() instanceof IOException) {
+        throw (IOException) ex.getCause();
+      }
+
+      throw ex;
+    } catch (NoSuchKeyException e) {
+      throw new NotFoundException(e, "Location does not exist: %s", location);
+    } catch (S3Exception e) {
+      if (e.statusCode() == RANGE_NOT_SATISFIABLE) {
+        // the block starts at or past the end of the object
+        return 0;
+      }
+
+      throw e;
+    }
+  }
+
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    FileRanges.readVectored(
+        this,
+        ranges,
+        allocate,
+        s3FileIOProperties.vectoredReadMaxGapBytes(),
+        s3FileIOProperties.vectoredReadMaxRequestBytes());
+  }
+
+  @Override
+  public boolean isMultipartDownloadEnabled() {
+    return s3FileIOProperties.isMultipartDownloadEnabled();
   }
 
   @Override
@@ -191,6 +306,9 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     super.close();
     closed = true;
     closeStream(false);
+    if (readAhead != null) {
+      readAhead.close();
+    }
   }
 
   private void positionStream() throws IOException {
@@ -282,6 +400,26 @@ class S3InputStream extends SeekableInputStream implements RangeReadable {
     }
   }
 
+  private static ExecutorService readAheadExecutor() {
+    if (readAheadExecutor == null) {
+      synchronized (S3InputStream.class) {
+        if (readAheadExecutor == null) {
+          readAheadExecutor =
+              MoreExecutors.getExitingExecutorService(
+                  (ThreadPoolExecutor)
+                      Executors.newFixedThreadPool(
+                          Runtime.getRuntime().availableProcessors(),
+                          new ThreadFactoryBuilder()
+                              .setDaemon(true)
+                              .setNameFormat("iceberg-s3fileio-read-ahead-%d")
+                              .build()));
+        }
+      }
+    }
+
+    return readAheadExecutor;
+  }
+
   public void setSkipSize(int skipSize) {
     this.skipSize = skipSize;
   }
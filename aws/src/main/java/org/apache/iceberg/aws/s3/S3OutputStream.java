@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
@@ -36,17 +37,21 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import org.apache.iceberg.io.ByteBufferInputStream;
 import org.apache.iceberg.io.FileIOMetricsContext;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.metrics.Counter;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.metrics.MetricsContext.Unit;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Predicates;
@@ -78,7 +83,14 @@ class S3OutputStream extends PositionOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(S3OutputStream.class);
   private static final String DIGEST_ALGORITHM = "MD5";
 
+  // size of the direct buffers that hold parts staged in memory
+  private static final int MEMORY_CHUNK_SIZE = 1024 * 1024;
+
+  // S3 allows at most 10,000 parts, so the part size is doubled after every 1,000 parts
+  private static final int PARTS_PER_SIZE_INCREASE = 1000;
+
   private static volatile ExecutorService executorService;
+  private static volatile S3WriteBufferPool bufferPool;
 
   private final StackTraceElement[] createStack;
   private final S3Client s3;
@@ -87,12 +99,15 @@ class S3OutputStream extends PositionOutputStream {
   private final Set<Tag> writeTags;
 
   private CountingOutputStream stream;
-  private final List<FileAndDigest> stagingFiles = Lists.newArrayList();
+  private final List<StagedPart> stagedParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private final boolean isStagingInMemory;
+  private StagedPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagedPart, CompletableFuture<CompletedPart>> multiPartMap =
+      Maps.newHashMap();
   private final int multiPartSize;
+  private int currentPartSize;
   private final int multiPartThresholdSize;
   private final boolean isChecksumEnabled;
   private final MessageDigest completeMessageDigest;
@@ -103,6 +118,7 @@ class S3OutputStream extends PositionOutputStream {
 
   private long pos = 0;
   private boolean closed = false;
+  private volatile boolean uploadFailed = false;
 
   @SuppressWarnings("StaticAssignmentInConstructor")
   S3OutputStream(
@@ -124,6 +140,17 @@ class S3OutputStream extends PositionOutputStream {
       }
     }
 
+    if (s3FileIOProperties.isStagingInMemory() && bufferPool == null) {
+      synchronized (S3OutputStream.class) {
+        if (bufferPool == null) {
+          bufferPool =
+              new S3WriteBufferPool(
+                  MEMORY_CHUNK_SIZE,
+                  Math.max(MEMORY_CHUNK_SIZE, s3FileIOProperties.stagingMemoryMaxBytes()));
+        }
+      }
+    }
+
     this.s3 = s3;
     this.location = location;
     this.s3FileIOProperties = s3FileIOProperties;
@@ -135,6 +162,7 @@ class S3OutputStream extends PositionOutputStream {
     this.multiPartThresholdSize =
         (int) (multiPartSize * s3FileIOProperties.multipartThresholdFactor());
     this.stagingDirectory = new File(s3FileIOProperties.stagingDirectory());
+    this.isStagingInMemory = s3FileIOProperties.isStagingInMemory();
     this.isChecksumEnabled = s3FileIOProperties.isChecksumEnabled();
     try {
       this.completeMessageDigest =
@@ -162,7 +190,7 @@ class S3OutputStream extends PositionOutputStream {
 
   @Override
   public void write(int b) throws IOException {
-    if (stream.getCount() >= multiPartSize) {
+    if (stream.getCount() >= currentPartSize) {
       newStream();
       uploadParts();
     }
@@ -184,11 +212,11 @@ class S3OutputStream extends PositionOutputStream {
     int remaining = len;
     int relativeOffset = off;
 
-    // Write the remainder of the part size to the staging file
-    // and continue to write new staging files if the write is
+    // Write the remainder of the part size to the staged part
+    // and continue to write new parts if the write is
     // larger than the part size.
-    while (stream.getCount() + remaining > multiPartSize) {
-      int writeSize = multiPartSize - (int) stream.getCount();
+    while (stream.getCount() + remaining > currentPartSize) {
+      int writeSize = currentPartSize - (int) stream.getCount();
 
       stream.write(b, relativeOffset, writeSize);
       remaining -= writeSize;
@@ -215,9 +243,6 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
     }
 
-    createStagingDirectoryIfNotExists();
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
     try {
       currentPartMessageDigest =
           isChecksumEnabled ? MessageDigest.getInstance(DIGEST_ALGORITHM) : null;
@@ -226,31 +251,44 @@ class S3OutputStream extends PositionOutputStream {
           "Failed to create message digest needed for s3 checksum checks.", e);
     }
 
-    stagingFiles.add(new FileAndDigest(currentStagingFile, currentPartMessageDigest));
-    OutputStream outputStream = Files.newOutputStream(currentStagingFile.toPath());
+    if (isStagingInMemory) {
+      currentPart = new MemoryPart(bufferPool, currentPartMessageDigest);
+    } else {
+      createStagingDirectoryIfNotExists();
+      File stagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+      stagingFile.deleteOnExit();
+      currentPart = new FilePart(stagingFile, currentPartMessageDigest);
+    }
+
+    stagedParts.add(currentPart);
+    currentPartSize = partSize(stagedParts.size());
+    OutputStream outputStream = currentPart.outputStream();
 
     if (isChecksumEnabled) {
       DigestOutputStream digestOutputStream;
 
       // if switched over to multipart threshold already, no need to update complete message digest
       if (multipartUploadId != null) {
-        digestOutputStream =
-            new DigestOutputStream(
-                new BufferedOutputStream(outputStream), currentPartMessageDigest);
+        digestOutputStream = new DigestOutputStream(outputStream, currentPartMessageDigest);
       } else {
         digestOutputStream =
             new DigestOutputStream(
-                new DigestOutputStream(
-                    new BufferedOutputStream(outputStream), currentPartMessageDigest),
+                new DigestOutputStream(outputStream, currentPartMessageDigest),
                 completeMessageDigest);
       }
 
       stream = new CountingOutputStream(digestOutputStream);
     } else {
-      stream = new CountingOutputStream(new BufferedOutputStream(outputStream));
+      stream = new CountingOutputStream(outputStream);
     }
   }
 
+  /** Returns the size of a part, which grows with the number of parts of large objects. */
+  private int partSize(int partNumber) {
+    int doublings = Math.min((partNumber - 1) / PARTS_PER_SIZE_INCREASE, 30);
+    return (int) Math.min((long) multiPartSize << doublings, Integer.MAX_VALUE);
+  }
+
   @Override
   public void close() throws IOException {
     close(true);
@@ -270,10 +308,15 @@ class S3OutputStream extends PositionOutputStream {
         completeUploads();
       }
     } finally {
-      cleanUpStagingFiles();
+      cleanUpStagedParts();
     }
   }
 
+  @VisibleForTesting
+  static S3WriteBufferPool bufferPool() {
+    return bufferPool;
+  }
+
   private void initializeMultiPartUpload() {
     CreateMultipartUploadRequest.Builder requestBuilder =
         CreateMultipartUploadRequest.builder().bucket(location.bucket()).key(location.key());
@@ -297,35 +340,43 @@ class S3OutputStream extends PositionOutputStream {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.file().equals(currentStagingFile))
-        // do not upload any files that have already been processed
-        .filter(Predicates.not(f -> multiPartMap.containsKey(f.file())))
+    stagedParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || part != currentPart)
+        // do not upload any parts that have already been processed
+        .filter(Predicates.not(multiPartMap::containsKey))
         .forEach(
-            fileAndDigest -> {
-              File f = fileAndDigest.file();
+            part -> {
               UploadPartRequest.Builder requestBuilder =
                   UploadPartRequest.builder()
                       .bucket(location.bucket())
                       .key(location.key())
                       .uploadId(multipartUploadId)
-                      .partNumber(stagingFiles.indexOf(fileAndDigest) + 1)
-                      .contentLength(f.length());
+                      .partNumber(stagedParts.indexOf(part) + 1)
+                      .contentLength(part.length());
 
-              if (fileAndDigest.hasDigest()) {
-                requestBuilder.contentMD5(BinaryUtils.toBase64(fileAndDigest.digest()));
+              if (part.hasDigest()) {
+                requestBuilder.contentMD5(BinaryUtils.toBase64(part.digest()));
               }
 
               S3RequestUtil.configureEncryption(s3FileIOProperties, requestBuilder);
 
               UploadPartRequest uploadRequest = requestBuilder.build();
 
+              if (isStagingInMemory) {
+                bufferPool.uploadStarted();
+              }
+
               CompletableFuture<CompletedPart> future =
                   CompletableFuture.supplyAsync(
                           () -> {
+                            if (uploadFailed) {
+                              throw new CancellationException(
+                                  "Skipping part upload after another part failed");
+                            }
+
                             UploadPartResponse response =
-                                s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                                s3.uploadPart(uploadRequest, part.requestBody());
                             return CompletedPart.builder()
                                 .eTag(response.eTag())
                                 .partNumber(uploadRequest.partNumber())
@@ -334,13 +385,13 @@ class S3OutputStream extends PositionOutputStream {
                           executorService)
                       .whenComplete(
                           (result, thrown) -> {
-                            try {
-                              Files.deleteIfExists(f.toPath());
-                            } catch (IOException e) {
-                              LOG.warn("Failed to delete staging file: {}", f, e);
+                            part.release();
+                            if (isStagingInMemory) {
+                              bufferPool.uploadFinished();
                             }
 
-                            if (thrown != null) {
+                            if (thrown != null
+                                && !(thrown.getCause() instanceof CancellationException)) {
                               // Exception observed here will be thrown as part of
                               // CompletionException
                               // when we will join completable futures.
@@ -348,7 +399,7 @@ class S3OutputStream extends PositionOutputStream {
                             }
                           });
 
-              multiPartMap.put(f, future);
+              multiPartMap.put(part, future);
             });
   }
 
@@ -363,8 +414,12 @@ class S3OutputStream extends PositionOutputStream {
               .sorted(Comparator.comparing(CompletedPart::partNumber))
               .collect(Collectors.toList());
     } catch (CompletionException ce) {
-      // cancel the remaining futures.
-      multiPartMap.values().forEach(c -> c.cancel(true));
+      // skip the parts that have not started uploading and wait for the rest to settle, so that
+      // every part is released before the upload is aborted
+      uploadFailed = true;
+      CompletableFuture.allOf(multiPartMap.values().toArray(new CompletableFuture<?>[0]))
+          .handle((result, thrown) -> null)
+          .join();
       abortUpload();
       throw ce;
     }
@@ -398,28 +453,32 @@ class S3OutputStream extends PositionOutputStream {
                 .uploadId(multipartUploadId)
                 .build());
       } finally {
-        cleanUpStagingFiles();
+        cleanUpStagedParts();
       }
     }
   }
 
-  private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles.stream().map(FileAndDigest::file))
+  private void cleanUpStagedParts() {
+    // parts that are still uploading are released when the upload completes
+    Tasks.foreach(stagedParts.stream().filter(part -> !isUploading(part)))
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to release staged part: {}", part, thrown))
+        .run(StagedPart::release);
+  }
+
+  private boolean isUploading(StagedPart part) {
+    CompletableFuture<CompletedPart> future = multiPartMap.get(part);
+    return future != null && !future.isDone();
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength =
-          stagingFiles.stream().map(FileAndDigest::file).mapToLong(File::length).sum();
+      long contentLength = stagedParts.stream().mapToLong(StagedPart::length).sum();
       ContentStreamProvider contentProvider =
           () ->
               new BufferedInputStream(
-                  stagingFiles.stream()
-                      .map(FileAndDigest::file)
-                      .map(S3OutputStream::uncheckedInputStream)
+                  stagedParts.stream()
+                      .map(StagedPart::newInputStream)
                       .reduce(SequenceInputStream::new)
                       .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -492,25 +551,165 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
-  private static class FileAndDigest {
-    private final File file;
+  /** A part of the object that is staged until it is uploaded. */
+  private abstract static class StagedPart {
     private final MessageDigest digest;
+    private final AtomicBoolean released = new AtomicBoolean(false);
 
-    FileAndDigest(File file, MessageDigest digest) {
-      this.file = file;
+    StagedPart(MessageDigest digest) {
       this.digest = digest;
     }
 
-    File file() {
-      return file;
+    /** Returns a stream to write the part, which is called once before the part is uploaded. */
+    abstract OutputStream outputStream() throws IOException;
+
+    abstract long length();
+
+    abstract InputStream newInputStream();
+
+    abstract RequestBody requestBody();
+
+    /** Releases the resources of the part, once it is uploaded or no longer needed. */
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        doRelease();
+      }
     }
 
+    abstract void doRelease();
+
     byte[] digest() {
       return digest.digest();
     }
 
-    public boolean hasDigest() {
+    boolean hasDigest() {
       return digest != null;
     }
   }
+
+  /** A part that is staged as a file in the staging directory. */
+  private static class FilePart extends StagedPart {
+    private final File file;
+
+    FilePart(File file, MessageDigest digest) {
+      super(digest);
+      this.file = file;
+    }
+
+    @Override
+    OutputStream outputStream() throws IOException {
+      return new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+    }
+
+    @Override
+    long length() {
+      return file.length();
+    }
+
+    @Override
+    InputStream newInputStream() {
+      return uncheckedInputStream(file);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromFile(file);
+    }
+
+    @Override
+    void doRelease() {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        LOG.warn("Failed to delete staging file: {}", file, e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return file.toString();
+    }
+  }
+
+  /** A part that is staged in direct buffers from the shared buffer pool. */
+  private static class MemoryPart extends StagedPart {
+    private final S3WriteBufferPool pool;
+    private final List<ByteBuffer> chunks = Lists.newArrayList();
+    private long length = 0L;
+
+    MemoryPart(S3WriteBufferPool pool, MessageDigest digest) {
+      super(digest);
+      this.pool = pool;
+    }
+
+    @Override
+    OutputStream outputStream() {
+      return new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+          currentChunk().put((byte) b);
+          length += 1;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          int remaining = len;
+          int offset = off;
+          while (remaining > 0) {
+            ByteBuffer chunk = currentChunk();
+            int bytesToWrite = Math.min(remaining, chunk.remaining());
+            chunk.put(b, offset, bytesToWrite);
+            offset += bytesToWrite;
+            remaining -= bytesToWrite;
+            length += bytesToWrite;
+          }
+        }
+      };
+    }
+
+    private ByteBuffer currentChunk() throws IOException {
+      ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+      if (chunk == null || !chunk.hasRemaining()) {
+        // blocks until uploads release memory if the pool is exhausted
+        chunk = pool.acquire();
+        chunks.add(chunk);
+      }
+
+      return chunk;
+    }
+
+    @Override
+    long length() {
+      return length;
+    }
+
+    @Override
+    InputStream newInputStream() {
+      List<ByteBuffer> buffers = Lists.newArrayListWithCapacity(chunks.size());
+      for (ByteBuffer chunk : chunks) {
+        ByteBuffer buffer = chunk.asReadOnlyBuffer();
+        buffer.flip();
+        buffers.add(buffer);
+      }
+
+      return ByteBufferInputStream.wrap(buffers);
+    }
+
+    @Override
+    RequestBody requestBody() {
+      return RequestBody.fromContentProvider(
+          this::newInputStream, length, Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
+    @Override
+    void doRelease() {
+      pool.release(chunks);
+      chunks.clear();
+    }
+
+    @Override
+    public String toString() {
+      return "in-memory part (" + length + " bytes)";
+    }
+  }
 }
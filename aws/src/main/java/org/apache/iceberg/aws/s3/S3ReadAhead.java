@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves reads of an S3 object from buffered blocks that are fetched with ranged GET requests.
+ *
+ * <p>Reads that continue where the previous read ended are sequential. Once enough sequential reads
+ * are seen, blocks aligned to the block size are prefetched in the background, up to a fixed number
+ * of blocks ahead of the current position. Any other read is random: prefetched blocks are dropped
+ * and only the requested range is fetched.
+ *
+ * <p>Bytes that are fetched but never returned to the caller are counted as wasted.
+ *
+ * <p>This class is not thread-safe and must be used by the thread that reads the stream.
+ */
+class S3ReadAhead implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(S3ReadAhead.class);
+
+  // number of consecutive sequential reads before blocks are prefetched
+  private static final int SEQUENTIAL_READ_THRESHOLD = 2;
+
+  // minimum size of a random read, so that single byte reads do not each issue a request
+  private static final int MIN_RANDOM_READ_SIZE = 64 * 1024;
+
+  /** Reads a range of the object and returns the number of bytes read, or 0 past the end. */
+  interface RangeReader {
+    int read(long position, byte[] buffer, int length) throws IOException;
+  }
+
+  private final RangeReader reader;
+  private final ExecutorService executor;
+  private final int blockSize;
+  private final int numBlocks;
+  private final Counter prefetchedBytes;
+  private final Counter wastedBytes;
+  private final NavigableMap<Long, Future<Block>> prefetched = Maps.newTreeMap();
+
+  private Block current = null;
+  private long lastReadEnd = 0;
+  private int sequentialReads = 0;
+  private long length = Long.MAX_VALUE;
+
+  S3ReadAhead(
+      RangeReader reader,
+      ExecutorService executor,
+      int blockSize,
+      int numBlocks,
+      Counter prefetchedBytes,
+      Counter wastedBytes) {
+    Preconditions.checkArgument(blockSize > 0, "Invalid block size: %s", blockSize);
+    Preconditions.checkArgument(numBlocks >= 0, "Invalid number of blocks: %s", numBlocks);
+    this.reader = reader;
+    this.executor = executor;
+    this.blockSize = blockSize;
+    this.numBlocks = numBlocks;
+    this.prefetchedBytes = prefetchedBytes;
+    this.wastedBytes = wastedBytes;
+  }
+
+  /**
+   * Reads up to {@code len} bytes starting at {@code position} into the buffer.
+   *
+   * @return the number of bytes read, or -1 if the position is at or past the end of the object
+   */
+  int read(long position, byte[] buffer, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    boolean sequential = updateAccessPattern(position);
+
+    if (current == null || !current.contains(position)) {
+      if (position >= length) {
+        return -1;
+      }
+
+      Block block = sequential ? sequentialBlock(position) : randomBlock(position, len);
+      replaceCurrent(block);
+
+      if (!block.contains(position)) {
+        return -1;
+      }
+    }
+
+    int bytesRead = current.copy(position, buffer, off, len);
+    this.lastReadEnd = position + bytesRead;
+
+    return bytesRead;
+  }
+
+  private boolean updateAccessPattern(long position) {
+    // a short forward skip, for example over a column that is not projected, is still sequential
+    if (position >= lastReadEnd && position - lastReadEnd < blockSize) {
+      this.sequentialReads += 1;
+    } else {
+      this.sequentialReads = 0;
+      discardPrefetched(Long.MAX_VALUE);
+    }
+
+    return sequentialReads > SEQUENTIAL_READ_THRESHOLD;
+  }
+
+  private Block sequentialBlock(long position) throws IOException {
+    long blockStart = position - (position % blockSize);
+    discardPrefetched(blockStart);
+
+    for (int i = 0; i <= numBlocks; i += 1) {
+      long start = blockStart + ((long) i * blockSize);
+      if (start >= length) {
+        break;
+      }
+
+      if (!prefetched.containsKey(start)) {
+        prefetched.put(start, executor.submit(() -> fetch(start, blockSize)));
+      }
+    }
+
+    return await(prefetched.remove(blockStart));
+  }
+
+  private Block randomBlock(long position, int len) throws IOException {
+    long remaining = length - position;
+    int size = (int) Math.min(Math.max(len, MIN_RANDOM_READ_SIZE), remaining);
+    return checkLength(fetch(position, size));
+  }
+
+  private Block fetch(long start, int size) throws IOException {
+    byte[] data = new byte[size];
+    int bytesRead = reader.read(start, data, size);
+    prefetchedBytes.increment(bytesRead);
+    return new Block(start, data, bytesRead);
+  }
+
+  private Block await(Future<Block> future) throws IOException {
+    try {
+      return checkLength(future.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for read-ahead");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+
+      throw new UncheckedIOException(new IOException(cause));
+    }
+  }
+
+  private Block checkLength(Block block) {
+    if (block.length < block.data.length) {
+      // a short read is only returned at the end of the object
+      this.length = Math.min(length, block.start + block.length);
+    }
+
+    return block;
+  }
+
+  private void replaceCurrent(Block block) {
+    if (current != null) {
+      wastedBytes.increment(current.unread());
+    }
+
+    this.current = block;
+  }
+
+  private void discardPrefetched(long before) {
+    Iterator<Map.Entry<Long, Future<Block>>> iter =
+        prefetched.headMap(before, false).entrySet().iterator();
+    while (iter.hasNext()) {
+      Future<Block> future = iter.next().getValue();
+      iter.remove();
+
+      if (future.isDone()) {
+        try {
+          wastedBytes.increment(future.get().length);
+        } catch (InterruptedException | ExecutionException e) {
+          LOG.debug("Discarded failed read-ahead block", e);
+        }
+      } else {
+        // the request is left to complete in the background and its bytes are not counted
+        future.cancel(false);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    discardPrefetched(Long.MAX_VALUE);
+    replaceCurrent(null);
+  }
+
+  private static class Block {
+    private final long start;
+    private final byte[] data;
+    private final int length;
+    private int bytesServed = 0;
+
+    private Block(long start, byte[] data, int length) {
+      this.start = start;
+      this.data = data;
+      this.length = length;
+    }
+
+    private boolean contains(long position) {
+      return position >= start && position < start + length;
+    }
+
+    private int copy(long position, byte[] buffer, int off, int len) {
+      int blockOffset = (int) (position - start);
+      int bytesToCopy = Math.min(len, length - blockOffset);
+      System.arraycopy(data, blockOffset, buffer, off, bytesToCopy);
+      this.bytesServed += bytesToCopy;
+      return bytesToCopy;
+    }
+
+    private int unread() {
+      return Math.max(0, length - bytesServed);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A bounded pool of direct buffers that stage parts of S3 uploads in memory.
+ *
+ * <p>Buffers are allocated in fixed-size chunks so that a part only holds as much memory as has
+ * been written to it. When the pool is exhausted, {@link #acquire()} blocks until a part upload
+ * completes and releases its buffers. If no upload is in progress, no memory would be released, so
+ * the pool allocates beyond its limit instead of blocking forever.
+ */
+class S3WriteBufferPool {
+  private final int chunkSize;
+  private final long maxBytes;
+  private final Deque<ByteBuffer> freeChunks = new ArrayDeque<>();
+  private long usedBytes = 0L;
+  private int uploadsInProgress = 0;
+
+  S3WriteBufferPool(int chunkSize, long maxBytes) {
+    Preconditions.checkArgument(chunkSize > 0, "Invalid chunk size: %s", chunkSize);
+    Preconditions.checkArgument(maxBytes >= chunkSize, "Invalid max bytes: %s", maxBytes);
+    this.chunkSize = chunkSize;
+    this.maxBytes = maxBytes;
+  }
+
+  int chunkSize() {
+    return chunkSize;
+  }
+
+  /** Returns an empty chunk, waiting for uploads to release memory if the pool is exhausted. */
+  synchronized ByteBuffer acquire() throws InterruptedIOException {
+    while (usedBytes + chunkSize > maxBytes && uploadsInProgress > 0) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for an upload buffer");
+      }
+    }
+
+    usedBytes += chunkSize;
+
+    ByteBuffer chunk = freeChunks.poll();
+    if (chunk == null) {
+      chunk = ByteBuffer.allocateDirect(chunkSize);
+    }
+
+    chunk.clear();
+    return chunk;
+  }
+
+  /** Returns chunks to the pool. */
+  synchronized void release(List<ByteBuffer> chunks) {
+    for (ByteBuffer chunk : chunks) {
+      usedBytes -= chunkSize;
+      // keep free chunks only while the pool is within its limit
+      if (usedBytes + ((long) (freeChunks.size() + 1) * chunkSize) <= maxBytes) {
+        freeChunks.push(chunk);
+      }
+    }
+
+    notifyAll();
+  }
+
+  synchronized void uploadStarted() {
+    uploadsInProgress += 1;
+  }
+
+  synchronized void uploadFinished() {
+    uploadsInProgress -= 1;
+    notifyAll();
+  }
+
+  @VisibleForTesting
+  synchronized long usedBytes() {
+    return usedBytes;
+  }
+}
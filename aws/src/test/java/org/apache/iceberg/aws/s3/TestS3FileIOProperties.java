@@ -314,6 +314,26 @@ public class TestS3FileIOProperties {
         .hasMessage("S3 client access key ID and secret access key must be set at the same time");
   }
 
+  @Test
+  public void testS3FileIoReadAhead_invalidBlockSize() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(S3FileIOProperties.READ_AHEAD_BLOCK_SIZE, "0");
+
+    assertThatThrownBy(() -> new S3FileIOProperties(map))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("s3.read-ahead.block-size-bytes must be > 0: 0");
+  }
+
+  @Test
+  public void testS3FileIoStagingBufferType_invalid() {
+    Map<String, String> map = Maps.newHashMap();
+    map.put(S3FileIOProperties.STAGING_BUFFER_TYPE, "heap");
+
+    assertThatThrownBy(() -> new S3FileIOProperties(map))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid s3.staging-buffer-type: heap (must be disk or memory)");
+  }
+
   @Test
   public void testS3FileIoSseCustom_mustHaveCustomKey() {
     Map<String, String> map = Maps.newHashMap();
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.aws.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class TestS3WriteBufferPool {
+
+  @Test
+  public void testReuseReleasedChunks() throws IOException {
+    S3WriteBufferPool pool = new S3WriteBufferPool(16, 32);
+    ByteBuffer chunk = pool.acquire();
+    chunk.put((byte) 1);
+    assertThat(pool.usedBytes()).isEqualTo(16);
+
+    pool.release(Collections.singletonList(chunk));
+    assertThat(pool.usedBytes()).isEqualTo(0);
+
+    ByteBuffer reused = pool.acquire();
+    assertThat(reused).isSameAs(chunk);
+    assertThat(reused.position()).isEqualTo(0);
+    assertThat(reused.remaining()).isEqualTo(16);
+  }
+
+  @Test
+  public void testAllocateBeyondLimitWithoutUploads() throws IOException {
+    S3WriteBufferPool pool = new S3WriteBufferPool(16, 16);
+    pool.acquire();
+    pool.acquire();
+    assertThat(pool.usedBytes())
+        .as("Should not block when no upload can release memory")
+        .isEqualTo(32);
+  }
+
+  @Test
+  public void testBlockUntilUploadReleasesChunks() throws Exception {
+    S3WriteBufferPool pool = new S3WriteBufferPool(16, 16);
+    ByteBuffer chunk = pool.acquire();
+    pool.uploadStarted();
+
+    CompletableFuture<ByteBuffer> waiting =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return pool.acquire();
+              } catch (IOException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    Thread.sleep(100);
+    assertThat(waiting).as("Should wait while the pool is exhausted").isNotDone();
+
+    pool.release(Collections.singletonList(chunk));
+    pool.uploadFinished();
+
+    assertThat(waiting.get(10, TimeUnit.SECONDS)).isSameAs(chunk);
+    assertThat(pool.usedBytes()).isEqualTo(16);
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.iceberg.azure.adlsv2;
 
 import static org.apache.iceberg.azure.AzureProperties.ADLS_SAS_TOKEN_PREFIX;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
@@ -38,10 +39,14 @@ import com.azure.storage.file.datalake.models.PathItem;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
 import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
 import org.apache.iceberg.TestHelpers;
 import org.apache.iceberg.azure.AzureProperties;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
@@ -78,6 +83,31 @@ public class TestADLSFileIO extends AzuriteTestBase {
     assertThat(fileClient.exists()).isFalse();
   }
 
+  @Test
+  public void testAsyncOperations() throws IOException {
+    String path = "path/to/async-file";
+    String location = AZURITE_CONTAINER.location(path);
+    ADLSFileIO io = createFileIO();
+
+    byte[] expected = new byte[1024];
+    new Random(1).nextBytes(expected);
+    try (OutputStream out = io.newOutputFile(location).create()) {
+      out.write(expected);
+    }
+
+    assertThat(io.readAsync(location).join()).isEqualTo(ByteBuffer.wrap(expected));
+    assertThat(io.readRangeAsync(location, 100, 10).join())
+        .isEqualTo(ByteBuffer.wrap(expected, 100, 10));
+
+    io.deleteFilesAsync(ImmutableList.of(location)).join();
+    assertThat(AZURITE_CONTAINER.fileClient(path).exists()).isFalse();
+
+    assertThatThrownBy(() -> io.readAsync(location).join())
+        .isInstanceOf(CompletionException.class)
+        .cause()
+        .isInstanceOf(NotFoundException.class);
+  }
+
   @Test
   public void testBulkDeleteFiles() {
     String path1 = "path/to/file1";
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.azure.adlsv2.VendedAdlsCredentialProvider;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
@@ -53,6 +54,20 @@ public class AzureProperties implements Serializable {
   /** Controls whether vended credentials should be refreshed or not. Defaults to true. */
   public static final String ADLS_REFRESH_CREDENTIALS_ENABLED = "adls.refresh-credentials-enabled";
 
+  /** Max number of bytes between two ranges of a vectored read that are fetched together. */
+  public static final String ADLS_VECTORED_READ_MAX_GAP_BYTES = "adls.vectored-read.max-gap-bytes";
+
+  /** Max number of bytes to fetch with a single request in a vectored read. */
+  public static final String ADLS_VECTORED_READ_MAX_REQUEST_BYTES =
+      "adls.vectored-read.max-request-bytes";
+
+  /** Controls whether large reads are split into parts that are fetched in parallel. */
+  public static final String ADLS_MULTIPART_DOWNLOAD_ENABLED = "adls.multipart-download.enabled";
+
+  /** Size of each part of a multipart download. */
+  public static final String ADLS_MULTIPART_DOWNLOAD_PART_SIZE =
+      "adls.multipart-download.part-size-bytes";
+
   private Map<String, String> adlsSasTokens = Collections.emptyMap();
   private Map<String, String> adlsConnectionStrings = Collections.emptyMap();
   private Map.Entry<String, String> namedKeyCreds;
@@ -60,6 +75,10 @@ public class AzureProperties implements Serializable {
   private Long adlsWriteBlockSize;
   private String adlsRefreshCredentialsEndpoint;
   private boolean adlsRefreshCredentialsEnabled;
+  private int adlsVectoredReadMaxGapBytes = FileRanges.MAX_GAP_BYTES_DEFAULT;
+  private int adlsVectoredReadMaxRequestBytes = FileRanges.MAX_REQUEST_BYTES_DEFAULT;
+  private boolean adlsMultipartDownloadEnabled = false;
+  private int adlsMultipartDownloadPartSize = FileRanges.DOWNLOAD_PART_SIZE_BYTES_DEFAULT;
   private Map<String, String> allProperties;
 
   public AzureProperties() {}
@@ -92,6 +111,34 @@ public class AzureProperties implements Serializable {
             properties.get(ADLS_REFRESH_CREDENTIALS_ENDPOINT));
     this.adlsRefreshCredentialsEnabled =
         PropertyUtil.propertyAsBoolean(properties, ADLS_REFRESH_CREDENTIALS_ENABLED, true);
+    this.adlsVectoredReadMaxGapBytes =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_VECTORED_READ_MAX_GAP_BYTES, FileRanges.MAX_GAP_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        adlsVectoredReadMaxGapBytes >= 0,
+        "Invalid %s: %s (must be >= 0)",
+        ADLS_VECTORED_READ_MAX_GAP_BYTES,
+        adlsVectoredReadMaxGapBytes);
+    this.adlsVectoredReadMaxRequestBytes =
+        PropertyUtil.propertyAsInt(
+            properties, ADLS_VECTORED_READ_MAX_REQUEST_BYTES, FileRanges.MAX_REQUEST_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        adlsVectoredReadMaxRequestBytes > 0,
+        "Invalid %s: %s (must be > 0)",
+        ADLS_VECTORED_READ_MAX_REQUEST_BYTES,
+        adlsVectoredReadMaxRequestBytes);
+    this.adlsMultipartDownloadEnabled =
+        PropertyUtil.propertyAsBoolean(properties, ADLS_MULTIPART_DOWNLOAD_ENABLED, false);
+    this.adlsMultipartDownloadPartSize =
+        PropertyUtil.propertyAsInt(
+            properties,
+            ADLS_MULTIPART_DOWNLOAD_PART_SIZE,
+            FileRanges.DOWNLOAD_PART_SIZE_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        adlsMultipartDownloadPartSize > 0,
+        "Invalid %s: %s (must be > 0)",
+        ADLS_MULTIPART_DOWNLOAD_PART_SIZE,
+        adlsMultipartDownloadPartSize);
     this.allProperties = SerializableMap.copyOf(properties);
   }
 
@@ -103,6 +150,22 @@ public class AzureProperties implements Serializable {
     return Optional.ofNullable(adlsWriteBlockSize);
   }
 
+  public int adlsVectoredReadMaxGapBytes() {
+    return adlsVectoredReadMaxGapBytes;
+  }
+
+  public int adlsVectoredReadMaxRequestBytes() {
+    return adlsVectoredReadMaxRequestBytes;
+  }
+
+  public boolean adlsMultipartDownloadEnabled() {
+    return adlsMultipartDownloadEnabled;
+  }
+
+  public int adlsMultipartDownloadPartSize() {
+    return adlsMultipartDownloadPartSize;
+  }
+
   public Optional<VendedAdlsCredentialProvider> vendedAdlsCredentialProvider() {
     if (adlsRefreshCredentialsEnabled && !Strings.isNullOrEmpty(adlsRefreshCredentialsEndpoint)) {
       Map<String, String> credentialProviderProperties = Maps.newHashMap(allProperties);
@@ -20,24 +20,35 @@ package org.apache.iceberg.azure.adlsv2;
 
 import com.azure.core.http.HttpClient;
 import com.azure.core.util.Context;
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.file.datalake.DataLakeFileAsyncClient;
 import com.azure.storage.file.datalake.DataLakeFileClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClientBuilder;
 import com.azure.storage.file.datalake.models.DataLakeStorageException;
+import com.azure.storage.file.datalake.models.FileRange;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
+import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.iceberg.azure.AzureProperties;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.DelegateFileIO;
 import org.apache.iceberg.io.FileInfo;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsAsyncOperations;
 import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.SerializableMap;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -45,7 +56,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** FileIO implementation backed by Azure Data Lake Storage Gen2. */
-public class ADLSFileIO implements DelegateFileIO {
+public class ADLSFileIO implements DelegateFileIO, SupportsAsyncOperations {
 
   private static final Logger LOG = LoggerFactory.getLogger(ADLSFileIO.class);
   private static final String DEFAULT_METRICS_IMPL =
@@ -109,6 +120,10 @@ public class ADLSFileIO implements DelegateFileIO {
 
   @VisibleForTesting
   DataLakeFileSystemClient client(ADLSLocation location) {
+    return clientBuilder(location).buildClient();
+  }
+
+  private DataLakeFileSystemClientBuilder clientBuilder(ADLSLocation location) {
     DataLakeFileSystemClientBuilder clientBuilder =
         new DataLakeFileSystemClientBuilder().httpClient(HTTP);
 
@@ -118,7 +133,7 @@ public class ADLSFileIO implements DelegateFileIO {
         .ifPresent(clientBuilder::addPolicy);
     azureProperties.applyClientConfiguration(location.host(), clientBuilder);
 
-    return clientBuilder.buildClient();
+    return clientBuilder;
   }
 
   private DataLakeFileClient fileClient(String path) {
@@ -126,6 +141,11 @@ public class ADLSFileIO implements DelegateFileIO {
     return client(location).getFileClient(location.path());
   }
 
+  private DataLakeFileAsyncClient fileAsyncClient(String path) {
+    ADLSLocation location = new ADLSLocation(path);
+    return clientBuilder(location).buildAsyncClient().getFileAsyncClient(location.path());
+  }
+
   @Override
   public void initialize(Map<String, String> props) {
     this.properties = SerializableMap.copyOf(props);
@@ -175,6 +195,71 @@ public class ADLSFileIO implements DelegateFileIO {
     }
   }
 
+  @Override
+  public CompletableFuture<ByteBuffer> readRangeAsync(String path, long position, int length) {
+    Preconditions.checkArgument(position >= 0, "Invalid position: %s (must be >= 0)", position);
+    Preconditions.checkArgument(length >= 0, "Invalid length: %s (must be >= 0)", length);
+    if (length == 0) {
+      return CompletableFuture.completedFuture(ByteBuffer.allocate(0));
+    }
+
+    return readAsync(path, new FileRange(position, (long) length));
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readAsync(String path) {
+    return readAsync(path, null);
+  }
+
+  private CompletableFuture<ByteBuffer> readAsync(String path, FileRange range) {
+    return fileAsyncClient(path)
+        .readWithResponse(range, null, null, false)
+        .flatMap(response -> FluxUtil.collectBytesInByteBufferStream(response.getValue()))
+        .map(ByteBuffer::wrap)
+        .toFuture()
+        .handle(
+            (buffer, thrown) -> {
+              if (thrown == null) {
+                return buffer;
+              }
+
+              Throwable cause = thrown instanceof CompletionException ? thrown.getCause() : thrown;
+              if (cause instanceof DataLakeStorageException
+                  && ((DataLakeStorageException) cause).getStatusCode() == 404) {
+                throw new NotFoundException(cause, "Location does not exist: %s", path);
+              }
+
+              throw new CompletionException(cause);
+            });
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteFilesAsync(Iterable<String> pathsToDelete) {
+    // as in deleteFiles, each file is deleted with a separate request
+    AtomicInteger failureCount = new AtomicInteger();
+    List<CompletableFuture<Void>> deletes = Lists.newArrayList();
+    for (String path : pathsToDelete) {
+      deletes.add(
+          fileAsyncClient(path)
+              .delete()
+              .toFuture()
+              .exceptionally(
+                  exc -> {
+                    failureCount.incrementAndGet();
+                    LOG.warn("Failed to delete file {}", path, exc);
+                    return null;
+                  }));
+    }
+
+    return CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0]))
+        .thenRun(
+            () -> {
+              if (failureCount.get() > 0) {
+                throw new BulkDeletionFailureException(failureCount.get());
+              }
+            });
+  }
+
   @Override
   public Iterable<FileInfo> listPrefix(String prefix) {
     ADLSLocation location = new ADLSLocation(prefix);
@@ -24,9 +24,13 @@ import com.azure.storage.file.datalake.models.FileRange;
 import com.azure.storage.file.datalake.options.DataLakeFileInputStreamOptions;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
 import org.apache.iceberg.azure.AzureProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.io.IOUtil;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
@@ -160,9 +164,43 @@ class ADLSInputStream extends SeekableInputStream implements RangeReadable {
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
     Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
 
+    if (azureProperties.adlsMultipartDownloadEnabled()) {
+      FileRanges.readFully(
+          this::readRangeFully,
+          position,
+          buffer,
+          offset,
+          length,
+          azureProperties.adlsMultipartDownloadPartSize());
+    } else {
+      readRangeFully(position, buffer, offset, length);
+    }
+  }
+
+  private void readRangeFully(long position, byte[] buffer, int offset, int length)
+      throws IOException {
     FileRange range = new FileRange(position, position + length);
 
-    IOUtil.readFully(openRange(range), buffer, offset, length);
+    try (InputStream rangeStream = openRange(range)) {
+      IOUtil.readFully(rangeStream, buffer, offset, length);
+    }
+  }
+
+  @Override
+  public void readVectored(
+      List<org.apache.iceberg.io.FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    FileRanges.readVectored(
+        this,
+        ranges,
+        allocate,
+        azureProperties.adlsVectoredReadMaxGapBytes(),
+        azureProperties.adlsVectoredReadMaxRequestBytes());
+  }
+
+  @Override
+  public boolean isMultipartDownloadEnabled() {
+    return azureProperties.adlsMultipartDownloadEnabled();
   }
 
   @Override
@@ -21,8 +21,14 @@ package org.apache.iceberg;
 import static org.apache.iceberg.types.Types.NestedField.required;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.io.SimulatedObjectStoreFileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -47,6 +53,12 @@ import org.openjdk.jmh.annotations.Warmup;
  *       -PjmhIncludeRegex=AppendBenchmark
  *       -PjmhOutputPath=benchmark/append-benchmark.txt
  * </code>
+ *
+ * <p>Manifests are written through a {@link SimulatedObjectStoreFileIO} to measure the impact of
+ * object store request latency on commits.
+ *
+ * <p>When {@code numExistingManifests} is set, the table starts with that many small manifests and
+ * a low manifest target size, so that merge appends rewrite many bins of existing manifests.
  */
 @Fork(1)
 @State(Scope.Benchmark)
@@ -74,6 +86,8 @@ public class AppendBenchmark {
           required(13, "str_col7", Types.StringType.get()));
   private static final PartitionSpec SPEC = PartitionSpec.unpartitioned();
   private static final HadoopTables TABLES = new HadoopTables();
+  // small enough that existing manifests are packed into many bins
+  private static final long MANIFEST_TARGET_SIZE = 64 * 1024;
 
   private Table table;
   private List<DataFile> dataFiles;
@@ -84,11 +98,18 @@ public class AppendBenchmark {
   @Param({"true", "false"})
   private boolean fast;
 
+  @Param({"0", "20"})
+  private int requestLatencyMs;
+
+  @Param({"0", "500"})
+  private int numExistingManifests;
+
   @Setup
   public void setupBenchmark() {
     dropTable();
     initTable();
     initDataFiles();
+    initExistingManifests();
   }
 
   @TearDown
@@ -109,7 +130,20 @@ public class AppendBenchmark {
   }
 
   private void initTable() {
-    this.table = TABLES.create(SCHEMA, SPEC, TABLE_IDENT);
+    Map<String, String> properties =
+        numExistingManifests > 0
+            ? ImmutableMap.of(
+                TableProperties.MANIFEST_TARGET_SIZE_BYTES, String.valueOf(MANIFEST_TARGET_SIZE))
+            : ImmutableMap.of();
+    Table hadoopTable = TABLES.create(SCHEMA, SPEC, properties, TABLE_IDENT);
+    TableOperations ops = ((HasTableOperations) hadoopTable).operations();
+
+    SimulatedObjectStoreFileIO io = new SimulatedObjectStoreFileIO(ops.io());
+    io.initialize(
+        ImmutableMap.of(
+            SimulatedObjectStoreFileIO.REQUEST_LATENCY_MS, String.valueOf(requestLatencyMs)));
+
+    this.table = new BaseTable(new SimulatedStoreTableOperations(ops, io), hadoopTable.name());
   }
 
   private void dropTable() {
@@ -126,4 +160,61 @@ public class AppendBenchmark {
 
     this.dataFiles = generatedDataFiles;
   }
+
+  private void initExistingManifests() {
+    for (int ordinal = 0; ordinal < numExistingManifests; ordinal++) {
+      table.newFastAppend().appendFile(FileGenerationUtil.generateDataFile(table, null)).commit();
+    }
+  }
+
+  /** Table operations that read and write files through a simulated object store. */
+  private static class SimulatedStoreTableOperations implements TableOperations {
+    private final TableOperations ops;
+    private final FileIO io;
+
+    private SimulatedStoreTableOperations(TableOperations ops, FileIO io) {
+      this.ops = ops;
+      this.io = io;
+    }
+
+    @Override
+    public TableMetadata current() {
+      return ops.current();
+    }
+
+    @Override
+    public TableMetadata refresh() {
+      return ops.refresh();
+    }
+
+    @Override
+    public void commit(TableMetadata base, TableMetadata metadata) {
+      ops.commit(base, metadata);
+    }
+
+    @Override
+    public FileIO io() {
+      return io;
+    }
+
+    @Override
+    public EncryptionManager encryption() {
+      return ops.encryption();
+    }
+
+    @Override
+    public String metadataFileLocation(String fileName) {
+      return ops.metadataFileLocation(fileName);
+    }
+
+    @Override
+    public LocationProvider locationProvider() {
+      return ops.locationProvider();
+    }
+
+    @Override
+    public long newSnapshotId() {
+      return ops.newSnapshotId();
+    }
+  }
 }
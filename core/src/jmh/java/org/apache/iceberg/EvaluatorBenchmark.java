@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.expressions.ManifestEvaluator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares visitor-based and compiled metrics and manifest evaluators.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=EvaluatorBenchmark
+ *       -PjmhOutputPath=benchmark/evaluator-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EvaluatorBenchmark {
+
+  private static final int NUM_FILES = 100_000;
+  private static final int NUM_MANIFESTS = 10_000;
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "category", Types.StringType.get()),
+          optional(3, "price", Types.DoubleType.get()),
+          optional(4, "ts", Types.TimestampType.withZone()));
+
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).identity("category").identity("id").build();
+
+  @Param({"range", "in", "string"})
+  private String filter;
+
+  private List<DataFile> files;
+  private List<ManifestFile> manifests;
+  private InclusiveMetricsEvaluator metricsEvaluator;
+  private InclusiveMetricsEvaluator compiledMetricsEvaluator;
+  private ManifestEvaluator manifestEvaluator;
+  private ManifestEvaluator compiledManifestEvaluator;
+
+  @Setup
+  public void setupBenchmark() {
+    Random random = new Random(42);
+    this.files = Lists.newArrayListWithCapacity(NUM_FILES);
+    for (int i = 0; i < NUM_FILES; i += 1) {
+      files.add(newDataFile(random, i));
+    }
+
+    this.manifests = Lists.newArrayListWithCapacity(NUM_MANIFESTS);
+    for (int i = 0; i < NUM_MANIFESTS; i += 1) {
+      manifests.add(newManifest(random, i));
+    }
+
+    Expression expr = filterExpression();
+    this.metricsEvaluator = new InclusiveMetricsEvaluator(SCHEMA, expr, true);
+    this.compiledMetricsEvaluator = InclusiveMetricsEvaluator.compiled(SCHEMA, expr, true);
+    this.manifestEvaluator = ManifestEvaluator.forRowFilter(expr, SPEC, true);
+    this.compiledManifestEvaluator = ManifestEvaluator.compiledForRowFilter(expr, SPEC, true);
+  }
+
+  @Benchmark
+  public void visitorMetricsEvaluator(Blackhole blackhole) {
+    for (DataFile file : files) {
+      blackhole.consume(metricsEvaluator.eval(file));
+    }
+  }
+
+  @Benchmark
+  public void compiledMetricsEvaluator(Blackhole blackhole) {
+    for (DataFile file : files) {
+      blackhole.consume(compiledMetricsEvaluator.eval(file));
+    }
+  }
+
+  @Benchmark
+  public void visitorManifestEvaluator(Blackhole blackhole) {
+    for (ManifestFile manifest : manifests) {
+      blackhole.consume(manifestEvaluator.eval(manifest));
+    }
+  }
+
+  @Benchmark
+  public void compiledManifestEvaluator(Blackhole blackhole) {
+    for (ManifestFile manifest : manifests) {
+      blackhole.consume(compiledManifestEvaluator.eval(manifest));
+    }
+  }
+
+  private Expression filterExpression() {
+    switch (filter) {
+      case "range":
+        return Expressions.and(
+            Expressions.greaterThanOrEqual("id", 500_000L),
+            Expressions.and(
+                Expressions.lessThan("id", 600_000L), Expressions.lessThan("price", 50.0D)));
+      case "in":
+        return Expressions.in("id", 10L, 250_000L, 500_000L, 750_000L, 999_000L);
+      case "string":
+        return Expressions.or(
+            Expressions.equal("category", "category-0042"),
+            Expressions.startsWith("category", "category-01"));
+      default:
+        throw new IllegalArgumentException("Unknown filter: " + filter);
+    }
+  }
+
+  private static DataFile newDataFile(Random random, int index) {
+    long minId = random.nextInt(1_000_000);
+    long maxId = minId + random.nextInt(1_000);
+    String minCategory = category(random.nextInt(1_000));
+    String maxCategory = category(random.nextInt(1_000));
+    if (minCategory.compareTo(maxCategory) > 0) {
+      String tmp = minCategory;
+      minCategory = maxCategory;
+      maxCategory = tmp;
+    }
+
+    double minPrice = random.nextDouble() * 100;
+    long minTs = 1_700_000_000_000_000L + random.nextInt(1_000_000);
+
+    Map<Integer, ByteBuffer> lowerBounds =
+        ImmutableMap.of(
+            1, Conversions.toByteBuffer(Types.LongType.get(), minId),
+            2, Conversions.toByteBuffer(Types.StringType.get(), minCategory),
+            3, Conversions.toByteBuffer(Types.DoubleType.get(), minPrice),
+            4, Conversions.toByteBuffer(Types.TimestampType.withZone(), minTs));
+    Map<Integer, ByteBuffer> upperBounds =
+        ImmutableMap.of(
+            1, Conversions.toByteBuffer(Types.LongType.get(), maxId),
+            2, Conversions.toByteBuffer(Types.StringType.get(), maxCategory),
+            3, Conversions.toByteBuffer(Types.DoubleType.get(), minPrice + 10),
+            4, Conversions.toByteBuffer(Types.TimestampType.withZone(), minTs + 3_600_000_000L));
+
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/path/to/data-" + index + ".parquet")
+        .withFileSizeInBytes(128 * 1024 * 1024)
+        .withMetrics(
+            new Metrics(
+                100_000L,
+                null,
+                ImmutableMap.of(1, 100_000L, 2, 100_000L, 3, 100_000L, 4, 100_000L),
+                ImmutableMap.of(1, 0L, 2, 10L, 3, 0L, 4, 0L),
+                ImmutableMap.of(3, 0L),
+                lowerBounds,
+                upperBounds))
+        .build();
+  }
+
+  private static ManifestFile newManifest(Random random, int index) {
+    String minCategory = category(random.nextInt(900));
+    long minId = random.nextInt(1_000_000);
+    List<ManifestFile.PartitionFieldSummary> partitions =
+        ImmutableList.of(
+            new GenericPartitionFieldSummary(
+                false,
+                Conversions.toByteBuffer(Types.StringType.get(), minCategory),
+                Conversions.toByteBuffer(Types.StringType.get(), category(999))),
+            new GenericPartitionFieldSummary(
+                false,
+                Conversions.toByteBuffer(Types.LongType.get(), minId),
+                Conversions.toByteBuffer(Types.LongType.get(), minId + 10_000)));
+    return new GenericManifestFile(
+        "/path/to/manifest-" + index + ".avro",
+        8 * 1024 * 1024,
+        SPEC.specId(),
+        ManifestContent.DATA,
+        1L,
+        1L,
+        1L,
+        partitions,
+        null,
+        100,
+        10_000_000L,
+        0,
+        0L,
+        0,
+        0L,
+        null);
+  }
+
+  private static String category(int value) {
+    return String.format("category-%04d", value);
+  }
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SimulatedObjectStoreFileIO;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -41,6 +42,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -62,6 +64,10 @@ public class ManifestReadBenchmark {
   private String baseDir;
   private String manifestListFile;
 
+  // latency of each simulated object store request, 0 to read local files directly
+  @Param({"0", "20"})
+  private int requestLatencyMs;
+
   @Setup
   public void before() {
     baseDir =
@@ -120,7 +126,11 @@ public class ManifestReadBenchmark {
   public void readManifestFile() throws IOException {
     List<ManifestFile> manifests =
         ManifestLists.read(org.apache.iceberg.Files.localInput(manifestListFile));
-    TestTables.LocalFileIO fileIO = new TestTables.LocalFileIO();
+    SimulatedObjectStoreFileIO fileIO =
+        new SimulatedObjectStoreFileIO(new TestTables.LocalFileIO());
+    fileIO.initialize(
+        ImmutableMap.of(
+            SimulatedObjectStoreFileIO.REQUEST_LATENCY_MS, String.valueOf(requestLatencyMs)));
     Map<Integer, PartitionSpec> specs =
         ImmutableMap.of(PartitionSpec.unpartitioned().specId(), PartitionSpec.unpartitioned());
     for (ManifestFile manifestFile : manifests) {
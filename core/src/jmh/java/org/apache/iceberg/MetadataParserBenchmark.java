@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.TableMetadataParser.Codec;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that measures writing and reading large table metadata files with each metadata
+ * compression codec.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=MetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/metadata-parser-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MetadataParserBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+
+  @Param({"none", "gzip", "zstd"})
+  private String codecName;
+
+  @Param({"10000", "100000"})
+  private int numSnapshots;
+
+  private File baseDir;
+  private TableMetadata metadata;
+  private String metadataLocation;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    Path tempDir = java.nio.file.Files.createTempDirectory("metadata-parser-benchmark-");
+    this.baseDir = tempDir.toFile();
+    this.metadataLocation =
+        new File(baseDir, "v1" + TableMetadataParser.getFileExtension(Codec.fromName(codecName)))
+            .getAbsolutePath();
+    this.metadata = newMetadata(baseDir.getAbsolutePath(), numSnapshots);
+    TableMetadataParser.write(metadata, Files.localOutput(metadataLocation));
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    File[] files = baseDir.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+
+    baseDir.delete();
+  }
+
+  @Benchmark
+  public void writeMetadata() {
+    TableMetadataParser.overwrite(metadata, Files.localOutput(metadataLocation));
+  }
+
+  @Benchmark
+  public void readMetadata(Blackhole blackhole) {
+    blackhole.consume(TableMetadataParser.read(null, Files.localInput(metadataLocation)));
+  }
+
+  @Benchmark
+  public void readMetadataWithAllSnapshots(Blackhole blackhole) {
+    TableMetadata read = TableMetadataParser.read(null, Files.localInput(metadataLocation));
+    blackhole.consume(read.snapshots());
+  }
+
+  private static TableMetadata newMetadata(String location, int numSnapshots) {
+    TableMetadata.Builder builder =
+        TableMetadata.buildFrom(
+            TableMetadata.newTableMetadata(
+                SCHEMA,
+                PartitionSpec.unpartitioned(),
+                location,
+                ImmutableMap.of(TableProperties.FORMAT_VERSION, "2")));
+
+    long timestamp = System.currentTimeMillis() - numSnapshots;
+    Long parentId = null;
+    for (long id = 1; id <= numSnapshots; id += 1) {
+      Map<String, String> summary =
+          ImmutableMap.<String, String>builder()
+              .put(SnapshotSummary.ADDED_FILES_PROP, "10")
+              .put(SnapshotSummary.ADDED_RECORDS_PROP, "100000")
+              .put(SnapshotSummary.ADDED_FILE_SIZE_PROP, "104857600")
+              .put(SnapshotSummary.TOTAL_DATA_FILES_PROP, String.valueOf(id * 10))
+              .put(SnapshotSummary.TOTAL_RECORDS_PROP, String.valueOf(id * 100000))
+              .put(SnapshotSummary.TOTAL_FILE_SIZE_PROP, String.valueOf(id * 104857600))
+              .build();
+      builder.addSnapshot(
+          new BaseSnapshot(
+              id,
+              id,
+              parentId,
+              timestamp + id,
+              DataOperations.APPEND,
+              summary,
+              SCHEMA.schemaId(),
+              location + "/metadata/snap-" + id + ".avro",
+              null,
+              null,
+              null));
+      parentId = id;
+    }
+
+    return builder.setBranchSnapshot(numSnapshots, SnapshotRef.MAIN_BRANCH).build();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.io.SimulatedObjectStoreFileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that compares worker pools backed by platform threads and by virtual threads for
+ * tasks that block on object store requests.
+ *
+ * <p>Virtual threads require Java 21 or later. To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=WorkerPoolBenchmark
+ *       -PjmhOutputPath=benchmark/worker-pool-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkerPoolBenchmark {
+
+  private static final int NUM_FILES = 1024;
+  private static final int FILE_SIZE = 4 * 1024;
+
+  @Param({"platform", "virtual"})
+  private String threads;
+
+  @Param({"8", "64", "512"})
+  private int poolSize;
+
+  @Param({"10"})
+  private int requestLatencyMs;
+
+  private SimulatedObjectStoreFileIO io;
+  private ExecutorService pool;
+
+  @Setup
+  public void setupBenchmark() {
+    this.io = new SimulatedObjectStoreFileIO();
+    io.initialize(
+        ImmutableMap.of(
+            SimulatedObjectStoreFileIO.REQUEST_LATENCY_MS, String.valueOf(requestLatencyMs)));
+
+    byte[] data = new byte[FILE_SIZE];
+    for (int i = 0; i < NUM_FILES; i += 1) {
+      try (PositionOutputStream out = io.newOutputFile(location(i)).create()) {
+        out.write(data);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    this.pool =
+        "virtual".equals(threads)
+            ? ThreadPools.newVirtualThreadPool("benchmark-worker", poolSize)
+            : ThreadPools.newFixedThreadPool("benchmark-worker", poolSize);
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    pool.shutdownNow();
+    io.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void readFiles() {
+    Tasks.range(NUM_FILES)
+        .executeWith(pool)
+        .run(
+            i -> {
+              byte[] buffer = new byte[FILE_SIZE];
+              try (SeekableInputStream in = io.newInputFile(location(i)).newStream()) {
+                IOUtil.readFully(in, buffer, 0, FILE_SIZE);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
+  private static String location(int index) {
+    return "s3://bucket/worker-pool-benchmark/" + index;
+  }
+}
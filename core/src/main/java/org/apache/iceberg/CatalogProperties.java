@@ -119,6 +119,26 @@ public class CatalogProperties {
 
   public static final long IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT = 8 * 1024 * 1024;
 
+  /**
+   * Local directory used as a second, on-disk tier of the manifest cache.
+   *
+   * <p>Cached manifests are stored in this directory and reused after the process restarts. The
+   * on-disk tier is disabled when this property is not set. Only used when {@link
+   * #IO_MANIFEST_CACHE_ENABLED} is true. FileIO instances that use the same directory must use the
+   * same {@link #IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES}.
+   */
+  public static final String IO_MANIFEST_CACHE_DISK_DIRECTORY = "io.manifest.cache.disk.directory";
+
+  /**
+   * Controls the maximum total amount of bytes to keep in the on-disk tier of the manifest cache.
+   *
+   * <p>Must be a positive value.
+   */
+  public static final String IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES =
+      "io.manifest.cache.disk.max-total-bytes";
+
+  public static final long IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT = 1024 * 1024 * 1024;
+
   public static final String URI = "uri";
   public static final String CLIENT_POOL_SIZE = "clients";
   public static final int CLIENT_POOL_SIZE_DEFAULT = 2;
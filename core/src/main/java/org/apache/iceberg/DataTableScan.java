@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class DataTableScan extends BaseTableScan {
   protected DataTableScan(Table table, Schema schema, TableScanContext context) {
@@ -79,6 +80,16 @@ public class DataTableScan extends BaseTableScan {
             .ignoreDeleted()
             .columnsToKeepStats(columnsToKeepStats());
 
+    if (usePartitionStats()) {
+      PartitionStatisticsFile statsFile =
+          PartitionStatsHandler.statsFileForSnapshot(table(), snapshot.snapshotId());
+      if (statsFile != null) {
+        manifestGroup =
+            manifestGroup.filterWithPartitionStats(
+                statsFile, Partitioning.partitionType(table()), TableUtil.formatVersion(table()));
+      }
+    }
+
     if (shouldIgnoreResiduals()) {
       manifestGroup = manifestGroup.ignoreResiduals();
     }
@@ -89,4 +100,14 @@ public class DataTableScan extends BaseTableScan {
 
     return manifestGroup.planFiles();
   }
+
+  private boolean usePartitionStats() {
+    boolean tableValue =
+        PropertyUtil.propertyAsBoolean(
+            table().properties(),
+            TableProperties.PARTITION_STATS_PRUNING_ENABLED,
+            TableProperties.PARTITION_STATS_PRUNING_ENABLED_DEFAULT);
+    return PropertyUtil.propertyAsBoolean(
+        options(), TableProperties.PARTITION_STATS_PRUNING_ENABLED, tableValue);
+  }
 }
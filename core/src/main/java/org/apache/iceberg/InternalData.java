@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.avro.InternalReader;
@@ -163,6 +164,15 @@ public class InternalData {
     /** Set a custom class for in-memory objects at the given field ID. */
     ReadBuilder setCustomType(int fieldId, Class<? extends StructLike> structClass);
 
+    /**
+     * Read only the given keys of the map with the given field ID.
+     *
+     * <p>This is an optimization: readers that cannot skip map entries may return all keys.
+     */
+    default ReadBuilder selectMapKeys(int fieldId, Set<?> keys) {
+      return this;
+    }
+
     /** Build the configured reader. */
     <D> CloseableIterable<D> build();
   }
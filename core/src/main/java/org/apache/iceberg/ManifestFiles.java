@@ -30,6 +30,7 @@ import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.ContentCache;
+import org.apache.iceberg.io.DiskContentCache;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
@@ -37,6 +38,7 @@ import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTest
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,13 +73,38 @@ public class ManifestFiles {
   private static final Cache<FileIO, ContentCache> CONTENT_CACHES =
       newManifestCacheBuilder().build();
 
+  // disk caches are shared by all FileIO instances that use the same directory, which must also
+  // use the same max size
+  private static final Map<String, DiskContentCache> DISK_CACHES = Maps.newConcurrentMap();
+
   @VisibleForTesting
   static ContentCache contentCache(FileIO io) {
     return CONTENT_CACHES.get(
         io,
         fileIO ->
             new ContentCache(
-                cacheDurationMs(fileIO), cacheTotalBytes(fileIO), cacheMaxContentLength(fileIO)));
+                cacheDurationMs(fileIO),
+                cacheTotalBytes(fileIO),
+                cacheMaxContentLength(fileIO),
+                diskCache(fileIO)));
+  }
+
+  private static DiskContentCache diskCache(FileIO io) {
+    String directory = cacheDiskDirectory(io);
+    if (directory == null) {
+      return null;
+    }
+
+    long maxTotalBytes = cacheDiskTotalBytes(io);
+    DiskContentCache diskCache =
+        DISK_CACHES.computeIfAbsent(directory, dir -> new DiskContentCache(dir, maxTotalBytes));
+    Preconditions.checkArgument(
+        diskCache.maxTotalBytes() == maxTotalBytes,
+        "Cannot use manifest disk cache directory %s with max total bytes %s: already used with %s",
+        directory,
+        maxTotalBytes,
+        diskCache.maxTotalBytes());
+    return diskCache;
   }
 
   /** Drop manifest file cache object for a FileIO if exists. */
@@ -460,4 +487,15 @@ public class ManifestFiles {
         CatalogProperties.IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH,
         CatalogProperties.IO_MANIFEST_CACHE_MAX_CONTENT_LENGTH_DEFAULT);
   }
+
+  static String cacheDiskDirectory(FileIO io) {
+    return io.properties().get(CatalogProperties.IO_MANIFEST_CACHE_DISK_DIRECTORY);
+  }
+
+  static long cacheDiskTotalBytes(FileIO io) {
+    return PropertyUtil.propertyAsLong(
+        io.properties(),
+        CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES,
+        CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES_DEFAULT);
+  }
 }
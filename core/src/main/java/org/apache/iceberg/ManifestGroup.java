@@ -21,6 +21,7 @@ package org.apache.iceberg;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,8 +63,13 @@ class ManifestGroup {
   private List<String> columns;
   private boolean caseSensitive;
   private Set<Integer> columnsToKeepStats;
+  // set when planning to limit the stats decoded from manifests, null to decode all stats
+  private Set<Integer> columnsToDecodeStats = null;
   private ExecutorService executorService;
   private ScanMetrics scanMetrics;
+  private PartitionStatisticsFile partitionStatsFile = null;
+  private Types.StructType partitionStatsType = null;
+  private int partitionStatsFormatVersion = 0;
 
   ManifestGroup(FileIO io, Iterable<ManifestFile> manifests) {
     this(
@@ -156,6 +162,22 @@ class ManifestGroup {
     return this;
   }
 
+  /**
+   * Skips data manifests that cannot contain live files matching the filters, using the partition
+   * statistics of the snapshot that is planned.
+   *
+   * @param statsFile partition statistics file of the snapshot that is planned
+   * @param unifiedPartitionType the table's unified partition type
+   * @param formatVersion the table's format version, which determines the statistics file schema
+   */
+  ManifestGroup filterWithPartitionStats(
+      PartitionStatisticsFile statsFile, Types.StructType unifiedPartitionType, int formatVersion) {
+    this.partitionStatsFile = statsFile;
+    this.partitionStatsType = unifiedPartitionType;
+    this.partitionStatsFormatVersion = formatVersion;
+    return this;
+  }
+
   ManifestGroup planWith(ExecutorService newExecutorService) {
     this.executorService = newExecutorService;
     deleteIndexBuilder.planWith(newExecutorService);
@@ -189,6 +211,11 @@ class ManifestGroup {
       select(ManifestReader.withStatsColumns(columns));
     }
 
+    // equality deletes are matched using the stats of their equality columns, so decoded stats
+    // can only be limited to the requested columns when there are no equality deletes
+    this.columnsToDecodeStats =
+        dropStats || deleteFiles.hasEqualityDeletes() ? null : columnsToKeepStats;
+
     LoadingCache<Integer, TaskContext> taskContextCache =
         Caffeine.newBuilder()
             .build(
@@ -208,6 +235,17 @@ class ManifestGroup {
             });
 
     if (executorService != null) {
+      long maxQueueBytes = SystemConfigs.SCAN_PLAN_QUEUE_MAX_BYTES.value();
+      if (maxQueueBytes > 0) {
+        return new ParallelIterable<>(
+            tasks,
+            executorService,
+            maxQueueBytes,
+            ManifestGroup::estimatedSize,
+            scanMetrics.planningProducerStallDuration(),
+            scanMetrics.planningConsumerWaitDuration());
+      }
+
       return new ParallelIterable<>(tasks, executorService);
     } else {
       return CloseableIterable.concat(tasks);
@@ -249,12 +287,13 @@ class ManifestGroup {
                 .build(
                     specId -> {
                       PartitionSpec spec = specsById.get(specId);
-                      return ManifestEvaluator.forPartitionFilter(
-                          Expressions.and(
-                              partitionFilter,
-                              Projections.inclusive(spec, caseSensitive).project(dataFilter)),
-                          spec,
-                          caseSensitive);
+                      Expression filter = projectedPartitionFilter(spec);
+                      if (SystemConfigs.SCAN_COMPILED_EVALUATORS_ENABLED.value()) {
+                        return ManifestEvaluator.compiledForPartitionFilter(
+                            filter, spec, caseSensitive);
+                      }
+
+                      return ManifestEvaluator.forPartitionFilter(filter, spec, caseSensitive);
                     });
 
     Evaluator evaluator;
@@ -274,6 +313,23 @@ class ManifestGroup {
                 closeableDataManifests,
                 manifest -> evalCache.get(manifest.partitionSpecId()).eval(manifest));
 
+    if (partitionStatsFile != null && specsById != null && hasPartitionFilter()) {
+      PartitionStatsManifestFilter statsFilter =
+          new PartitionStatsManifestFilter(
+              io,
+              partitionStatsFile,
+              partitionStatsType,
+              partitionStatsFormatVersion,
+              specsById,
+              this::projectedPartitionFilter,
+              caseSensitive);
+      matchingManifests =
+          CloseableIterable.filter(
+              scanMetrics.skippedDataManifests(),
+              matchingManifests,
+              statsFilter::mayContainMatchingFiles);
+    }
+
     if (ignoreDeleted) {
       // only scan manifests that have entries other than deletes
       // remove any manifests that don't have any existing or added files. if either the added or
@@ -313,6 +369,7 @@ class ManifestGroup {
                         .filterPartitions(partitionFilter)
                         .caseSensitive(caseSensitive)
                         .select(columns)
+                        .columnsToKeepStats(columnsToDecodeStats)
                         .scanMetrics(scanMetrics);
 
                 CloseableIterable<ManifestEntry<DataFile>> entries;
@@ -356,6 +413,15 @@ class ManifestGroup {
             });
   }
 
+  private Expression projectedPartitionFilter(PartitionSpec spec) {
+    return Expressions.and(
+        partitionFilter, Projections.inclusive(spec, caseSensitive).project(dataFilter));
+  }
+
+  private boolean hasPartitionFilter() {
+    return partitionFilter != Expressions.alwaysTrue() || dataFilter != Expressions.alwaysTrue();
+  }
+
   private static CloseableIterable<FileScanTask> createFileScanTasks(
       CloseableIterable<ManifestEntry<DataFile>> entries, TaskContext ctx) {
     return CloseableIterable.transform(
@@ -370,6 +436,43 @@ class ManifestGroup {
         });
   }
 
+  // rough estimates of the in-memory size of a task and of a single column stats entry
+  private static final long TASK_SIZE_ESTIMATE = 512L;
+  private static final long STATS_ENTRY_SIZE_ESTIMATE = 48L;
+
+  private static long estimatedSize(ScanTask task) {
+    if (!(task instanceof ContentScanTask)) {
+      return TASK_SIZE_ESTIMATE;
+    }
+
+    ContentFile<?> file = ((ContentScanTask<?>) task).file();
+    long size = TASK_SIZE_ESTIMATE + 2L * file.location().length();
+    size += STATS_ENTRY_SIZE_ESTIMATE * statsCount(file.columnSizes());
+    size += STATS_ENTRY_SIZE_ESTIMATE * statsCount(file.valueCounts());
+    size += STATS_ENTRY_SIZE_ESTIMATE * statsCount(file.nullValueCounts());
+    size += STATS_ENTRY_SIZE_ESTIMATE * statsCount(file.nanValueCounts());
+    size += boundsSize(file.lowerBounds());
+    size += boundsSize(file.upperBounds());
+    return size;
+  }
+
+  private static int statsCount(Map<Integer, ?> stats) {
+    return stats != null ? stats.size() : 0;
+  }
+
+  private static long boundsSize(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0L;
+    }
+
+    long size = 0L;
+    for (ByteBuffer bound : bounds.values()) {
+      size += STATS_ENTRY_SIZE_ESTIMATE + (bound != null ? bound.remaining() : 0);
+    }
+
+    return size;
+  }
+
   @FunctionalInterface
   interface CreateTasksFunction<T extends ScanTask> {
     CloseableIterable<T> apply(
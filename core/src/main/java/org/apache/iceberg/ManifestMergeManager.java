@@ -77,13 +77,18 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
 
     ManifestFile first = manifestIter.next();
 
-    List<ManifestFile> merged = Lists.newArrayList();
+    // pack the bins of all specs first so that bins of different specs are merged in parallel
+    List<Integer> binSpecIds = Lists.newArrayList();
+    List<List<ManifestFile>> bins = Lists.newArrayList();
     ListMultimap<Integer, ManifestFile> groups = groupBySpec(first, manifestIter);
     for (Integer specId : groups.keySet()) {
-      Iterables.addAll(merged, mergeGroup(first, specId, groups.get(specId)));
+      for (List<ManifestFile> bin : packGroup(groups.get(specId))) {
+        binSpecIds.add(specId);
+        bins.add(bin);
+      }
     }
 
-    return merged;
+    return mergeBins(first, binSpecIds, bins);
   }
 
   void cleanUncommitted(Set<ManifestFile> committed) {
@@ -112,15 +117,17 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
     return groups;
   }
 
-  @SuppressWarnings("unchecked")
-  private Iterable<ManifestFile> mergeGroup(
-      ManifestFile first, int specId, List<ManifestFile> group) {
+  private List<List<ManifestFile>> packGroup(List<ManifestFile> group) {
     // use a lookback of 1 to avoid reordering the manifests. using 1 also means this should pack
     // from the end so that the manifest that gets under-filled is the first one, which will be
     // merged the next time.
     ListPacker<ManifestFile> packer = new ListPacker<>(targetSizeBytes, 1, false);
-    List<List<ManifestFile>> bins = packer.packEnd(group, ManifestFile::length);
+    return packer.packEnd(group, ManifestFile::length);
+  }
 
+  @SuppressWarnings("unchecked")
+  private Iterable<ManifestFile> mergeBins(
+      ManifestFile first, List<Integer> binSpecIds, List<List<ManifestFile>> bins) {
     // process bins in parallel, but put results in the order of the bins into an array to preserve
     // the order of manifests and contents. preserving the order helps avoid random deletes when
     // data files are eventually aged off.
@@ -153,7 +160,7 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
                 outputManifests.addAll(bin);
               } else {
                 // merge the group
-                outputManifests.add(createManifest(specId, bin));
+                outputManifests.add(createManifest(binSpecIds.get(index), bin));
               }
             });
 
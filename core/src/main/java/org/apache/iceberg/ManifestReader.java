@@ -28,6 +28,7 @@ import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.avro.AvroIterable;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -64,6 +65,15 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
           "upper_bounds",
           "record_count");
 
+  private static final List<Integer> STATS_MAP_IDS =
+      ImmutableList.of(
+          DataFile.COLUMN_SIZES.fieldId(),
+          DataFile.VALUE_COUNTS.fieldId(),
+          DataFile.NULL_VALUE_COUNTS.fieldId(),
+          DataFile.NAN_VALUE_COUNTS.fieldId(),
+          DataFile.LOWER_BOUNDS.fieldId(),
+          DataFile.UPPER_BOUNDS.fieldId());
+
   protected enum FileType {
     DATA_FILES(GenericDataFile.class),
     DELETE_FILES(GenericDeleteFile.class);
@@ -92,6 +102,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
   private Expression rowFilter = alwaysTrue();
   private Schema fileProjection = null;
   private Collection<String> columns = null;
+  private Set<Integer> columnsToKeepStats = null;
   private boolean caseSensitive = true;
   private ScanMetrics scanMetrics = ScanMetrics.noop();
 
@@ -217,6 +228,17 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     return this;
   }
 
+  /**
+   * Decode column stats only for the given field IDs and the columns referenced by the row filter.
+   *
+   * <p>Stats of other columns are skipped while decoding manifest entries, if the manifest format
+   * supports it.
+   */
+  ManifestReader<F> columnsToKeepStats(Set<Integer> newColumnsToKeepStats) {
+    this.columnsToKeepStats = newColumnsToKeepStats;
+    return this;
+  }
+
   ManifestReader<F> scanMetrics(ScanMetrics newScanMetrics) {
     this.scanMetrics = newScanMetrics;
     return this;
@@ -236,7 +258,9 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
       Collection<String> projectColumns =
           requireStatsProjection ? withStatsColumns(columns) : columns;
       CloseableIterable<ManifestEntry<F>> entries =
-          open(projection(fileSchema, fileProjection, projectColumns, caseSensitive));
+          open(
+              projection(fileSchema, fileProjection, projectColumns, caseSensitive),
+              statsFieldIds(requireStatsProjection));
 
       return CloseableIterable.filter(
           content == FileType.DATA_FILES
@@ -250,7 +274,7 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
                   && inPartitionSet(entry.file()));
     } else {
       CloseableIterable<ManifestEntry<F>> entries =
-          open(projection(fileSchema, fileProjection, columns, caseSensitive));
+          open(projection(fileSchema, fileProjection, columns, caseSensitive), columnsToKeepStats);
       return onlyLive ? filterLiveEntries(entries) : entries;
     }
   }
@@ -268,7 +292,25 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
         || partitionSet.contains(fileToCheck.specId(), fileToCheck.partition());
   }
 
-  private CloseableIterable<ManifestEntry<F>> open(Schema projection) {
+  private Set<Integer> statsFieldIds(boolean statsOnlyForFilter) {
+    if (!statsOnlyForFilter && columnsToKeepStats == null) {
+      return null;
+    }
+
+    // stats of columns referenced by the row filter are needed for metrics evaluation
+    Set<Integer> fieldIds =
+        Sets.newHashSet(
+            Binder.boundReferences(
+                spec.schema().asStruct(), ImmutableList.of(rowFilter), caseSensitive));
+    if (!statsOnlyForFilter) {
+      fieldIds.addAll(columnsToKeepStats);
+    }
+
+    return fieldIds;
+  }
+
+  private CloseableIterable<ManifestEntry<F>> open(
+      Schema projection, Set<Integer> statsFieldIds) {
     FileFormat format = FileFormat.fromFileName(file.location());
     Preconditions.checkArgument(
         format != null, "Unable to determine format of manifest: %s", file.location());
@@ -283,14 +325,21 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
     }
     fields.add(MetadataColumns.ROW_POSITION);
 
-    CloseableIterable<ManifestEntry<F>> reader =
+    InternalData.ReadBuilder builder =
         InternalData.read(format, file)
             .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
             .setRootType(GenericManifestEntry.class)
             .setCustomType(ManifestEntry.DATA_FILE_ID, content.fileClass())
             .setCustomType(DataFile.PARTITION_ID, PartitionData.class)
-            .reuseContainers()
-            .build();
+            .reuseContainers();
+
+    if (statsFieldIds != null) {
+      for (int statsMapId : STATS_MAP_IDS) {
+        builder.selectMapKeys(statsMapId, statsFieldIds);
+      }
+    }
+
+    CloseableIterable<ManifestEntry<F>> reader = builder.build();
 
     addCloseable(reader);
 
@@ -352,12 +401,13 @@ public class ManifestReader<F extends ContentFile<F>> extends CloseableGroup
 
   private InclusiveMetricsEvaluator metricsEvaluator() {
     if (lazyMetricsEvaluator == null) {
-      if (rowFilter != null) {
+      Expression filter = rowFilter != null ? rowFilter : Expressions.alwaysTrue();
+      if (SystemConfigs.SCAN_COMPILED_EVALUATORS_ENABLED.value()) {
         this.lazyMetricsEvaluator =
-            new InclusiveMetricsEvaluator(spec.schema(), rowFilter, caseSensitive);
+            InclusiveMetricsEvaluator.compiled(spec.schema(), filter, caseSensitive);
       } else {
         this.lazyMetricsEvaluator =
-            new InclusiveMetricsEvaluator(spec.schema(), Expressions.alwaysTrue(), caseSensitive);
+            new InclusiveMetricsEvaluator(spec.schema(), filter, caseSensitive);
       }
     }
     return lazyMetricsEvaluator;
@@ -33,6 +33,8 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Literal;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppender;
@@ -243,14 +245,28 @@ public class PartitionStatsHandler {
         return statisticsFile;
       }
 
-      try {
-        stats = computeAndMergeStatsIncremental(table, snapshot, partitionType, statisticsFile);
-      } catch (InvalidStatsFileException exception) {
-        LOG.warn(
-            "Using full compute as previous statistics file is corrupted for incremental compute.");
-        stats =
-            computeStats(table, snapshot.allManifests(table.io()), false /* incremental */)
-                .values();
+      List<ManifestFile> manifests = snapshot.allManifests(table.io());
+      List<ManifestFile> changedManifests =
+          changedManifests(table, table.snapshot(statisticsFile.snapshotId()), snapshot);
+      if (changedManifests.size() >= manifests.size()) {
+        // reading the previous stats file and the changes costs more than reading all manifests
+        LOG.info(
+            "Using full compute as {} manifests changed since snapshot {}, out of {} manifests",
+            changedManifests.size(),
+            statisticsFile.snapshotId(),
+            manifests.size());
+        stats = computeStats(table, manifests, false /* incremental */).values();
+      } else {
+        try {
+          stats =
+              computeAndMergeStatsIncremental(
+                  table, changedManifests, partitionType, statisticsFile);
+        } catch (InvalidStatsFileException exception) {
+          LOG.warn(
+              "Using full compute as previous statistics file is corrupted for incremental "
+                  + "compute.");
+          stats = computeStats(table, manifests, false /* incremental */).values();
+        }
       }
     }
 
@@ -309,6 +325,50 @@ public class PartitionStatsHandler {
     return CloseableIterable.transform(records, PartitionStatsHandler::recordToPartitionStats);
   }
 
+  /**
+   * Reads the partition statistics of a snapshot for the partitions that match a filter.
+   *
+   * <p>This answers questions like row counts per partition or the list of non-empty partitions
+   * without reading manifests. Only the statistics file written for the given snapshot is used;
+   * statistics of an ancestor snapshot may be stale.
+   *
+   * @param table The {@link Table} to read the partition statistics for.
+   * @param snapshotId snapshot for which partition statistics are read.
+   * @param partitionFilter a filter on the fields of the table's unified partition type.
+   * @return the matching {@link PartitionStats}, or an empty iterable if the snapshot has no
+   *     statistics file.
+   */
+  public static CloseableIterable<PartitionStats> readPartitionStats(
+      Table table, long snapshotId, Expression partitionFilter) {
+    Preconditions.checkArgument(table != null, "Invalid table: null");
+    Preconditions.checkArgument(partitionFilter != null, "Invalid partition filter: null");
+
+    PartitionStatisticsFile statsFile = statsFileForSnapshot(table, snapshotId);
+    if (statsFile == null) {
+      return CloseableIterable.empty();
+    }
+
+    StructType partitionType = Partitioning.partitionType(table);
+    Evaluator evaluator = new Evaluator(partitionType, partitionFilter);
+    CloseableIterable<PartitionStats> stats =
+        readPartitionStatsFile(
+            schema(partitionType, TableUtil.formatVersion(table)),
+            table.io().newInputFile(statsFile.path()));
+    return CloseableIterable.filter(
+        stats, partitionStats -> evaluator.eval(partitionStats.partition()));
+  }
+
+  /** Returns the partition statistics file written for the snapshot, or null if there is none. */
+  static PartitionStatisticsFile statsFileForSnapshot(Table table, long snapshotId) {
+    for (PartitionStatisticsFile statsFile : table.partitionStatisticsFiles()) {
+      if (statsFile.snapshotId() == snapshotId) {
+        return statsFile;
+      }
+    }
+
+    return null;
+  }
+
   private static OutputFile newPartitionStatsFile(
       Table table, FileFormat fileFormat, long snapshotId) {
     Preconditions.checkArgument(
@@ -341,7 +401,7 @@ public class PartitionStatsHandler {
 
   private static Collection<PartitionStats> computeAndMergeStatsIncremental(
       Table table,
-      Snapshot snapshot,
+      List<ManifestFile> changedManifests,
       StructType partitionType,
       PartitionStatisticsFile previousStatsFile) {
     PartitionMap<PartitionStats> statsMap = PartitionMap.create(table.specs());
@@ -359,7 +419,7 @@ public class PartitionStatsHandler {
 
     // incrementally compute the new stats, partition field will be written as PartitionData
     PartitionMap<PartitionStats> incrementalStatsMap =
-        computeStatsDiff(table, table.snapshot(previousStatsFile.snapshotId()), snapshot);
+        computeStats(table, changedManifests, true /* incremental */);
 
     // convert PartitionData into GenericRecord and merge stats
     incrementalStatsMap.forEach(
@@ -406,7 +466,11 @@ public class PartitionStatsHandler {
     return null;
   }
 
-  private static PartitionMap<PartitionStats> computeStatsDiff(
+  /**
+   * Returns the manifests written after {@code fromSnapshot} up to {@code toSnapshot} that may
+   * contain added or deleted entries.
+   */
+  private static List<ManifestFile> changedManifests(
       Table table, Snapshot fromSnapshot, Snapshot toSnapshot) {
     Iterable<Snapshot> snapshots =
         SnapshotUtil.ancestorsBetween(
@@ -414,15 +478,15 @@ public class PartitionStatsHandler {
     // DELETED manifest entries are not carried over to subsequent snapshots.
     // So, for incremental computation, gather the manifests added by each snapshot
     // instead of relying solely on those from the latest snapshot.
-    List<ManifestFile> manifests =
-        StreamSupport.stream(snapshots.spliterator(), false)
-            .flatMap(
-                snapshot ->
-                    snapshot.allManifests(table.io()).stream()
-                        .filter(file -> file.snapshotId().equals(snapshot.snapshotId())))
-            .collect(Collectors.toList());
-
-    return computeStats(table, manifests, true /* incremental */);
+    // Manifests with only existing entries, like those written by rewriting manifests, are
+    // already included in the previous stats and are skipped without reading them.
+    return StreamSupport.stream(snapshots.spliterator(), false)
+        .flatMap(
+            snapshot ->
+                snapshot.allManifests(table.io()).stream()
+                    .filter(file -> file.snapshotId().equals(snapshot.snapshotId()))
+                    .filter(file -> file.hasAddedFiles() || file.hasDeletedFiles()))
+        .collect(Collectors.toList());
   }
 
   private static PartitionMap<PartitionStats> computeStats(
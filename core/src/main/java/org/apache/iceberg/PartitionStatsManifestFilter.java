@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.iceberg.ManifestFile.PartitionFieldSummary;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.NaNUtil;
+
+/**
+ * Skips data manifests using the partition statistics file of the snapshot that is scanned.
+ *
+ * <p>Partition statistics hold the number of live data files in each partition. A data manifest
+ * can contain live files that match a partition filter only if a partition that matches the filter
+ * and has live data files lies within the manifest's partition summaries. This prunes manifests
+ * whose partition ranges are wide but no longer hold matching live partitions.
+ *
+ * <p>The statistics file must be for the scanned snapshot. Stats of an older snapshot could miss
+ * partitions that were added later.
+ */
+class PartitionStatsManifestFilter {
+  // comparing each manifest with more partitions than this is too expensive
+  private static final int MAX_PARTITIONS_TO_COMPARE = 1000;
+
+  private final Map<Integer, PartitionSpec> specsById;
+  private final Map<Integer, List<StructLike>> matchingPartitionsBySpec = Maps.newHashMap();
+  private final Set<Integer> unprunableSpecs = Sets.newHashSet();
+
+  PartitionStatsManifestFilter(
+      FileIO io,
+      PartitionStatisticsFile statsFile,
+      StructType partitionType,
+      int formatVersion,
+      Map<Integer, PartitionSpec> specsById,
+      Function<PartitionSpec, Expression> partitionFilterForSpec,
+      boolean caseSensitive) {
+    this.specsById = specsById;
+
+    Map<Integer, Evaluator> evaluators = Maps.newHashMap();
+    Map<Integer, int[]> unifiedPositions = Maps.newHashMap();
+    try (CloseableIterable<PartitionStats> stats =
+        PartitionStatsHandler.readPartitionStatsFile(
+            PartitionStatsHandler.schema(partitionType, formatVersion),
+            io.newInputFile(statsFile.path()))) {
+      for (PartitionStats partitionStats : stats) {
+        int specId = partitionStats.specId();
+        PartitionSpec spec = specsById.get(specId);
+        if (spec == null) {
+          unprunableSpecs.add(specId);
+          continue;
+        }
+
+        if (partitionStats.dataFileCount() <= 0 || unprunableSpecs.contains(specId)) {
+          continue;
+        }
+
+        PartitionData partition =
+            toSpecPartition(
+                spec,
+                partitionStats.partition(),
+                unifiedPositions.computeIfAbsent(
+                    specId, id -> unifiedPositions(spec, partitionType)));
+        Evaluator evaluator =
+            evaluators.computeIfAbsent(
+                specId,
+                id ->
+                    new Evaluator(
+                        spec.partitionType(), partitionFilterForSpec.apply(spec), caseSensitive));
+        if (evaluator.eval(partition)) {
+          List<StructLike> matching =
+              matchingPartitionsBySpec.computeIfAbsent(specId, id -> Lists.newArrayList());
+          if (matching.size() < MAX_PARTITIONS_TO_COMPARE) {
+            matching.add(partition);
+          } else {
+            unprunableSpecs.add(specId);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns false if the manifest cannot contain live data files that match the filter. */
+  boolean mayContainMatchingFiles(ManifestFile manifest) {
+    int specId = manifest.partitionSpecId();
+    if (unprunableSpecs.contains(specId)) {
+      return true;
+    }
+
+    List<StructLike> matching = matchingPartitionsBySpec.get(specId);
+    if (matching == null) {
+      // no partition of the spec that matches the filter has live data files
+      return false;
+    }
+
+    List<PartitionFieldSummary> summaries = manifest.partitions();
+    if (summaries == null) {
+      return true;
+    }
+
+    StructType specPartitionType = specsById.get(specId).partitionType();
+    for (StructLike partition : matching) {
+      if (inRange(specPartitionType, summaries, partition)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean inRange(
+      StructType partitionType, List<PartitionFieldSummary> summaries, StructLike partition) {
+    for (int pos = 0; pos < summaries.size(); pos += 1) {
+      PartitionFieldSummary summary = summaries.get(pos);
+      Object value = partition.get(pos, Object.class);
+      if (value == null) {
+        if (!summary.containsNull()) {
+          return false;
+        }
+
+        continue;
+      }
+
+      if (NaNUtil.isNaN(value)) {
+        if (summary.containsNaN() != null && !summary.containsNaN()) {
+          return false;
+        }
+
+        continue;
+      }
+
+      Type type = partitionType.fields().get(pos).type();
+      if (compare(type, summary.lowerBound(), value) > 0
+          || compare(type, summary.upperBound(), value) < 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> int compare(Type type, ByteBuffer bound, Object value) {
+    if (bound == null) {
+      // there are no non-null values in the manifest, so the value is out of range
+      return 1;
+    }
+
+    Comparator<T> comparator = Comparators.forType(type.asPrimitiveType());
+    return comparator.compare(Conversions.fromByteBuffer(type, bound), (T) value);
+  }
+
+  private static int[] unifiedPositions(PartitionSpec spec, StructType partitionType) {
+    List<PartitionField> fields = spec.fields();
+    int[] positions = new int[fields.size()];
+    for (int index = 0; index < fields.size(); index += 1) {
+      positions[index] =
+          partitionType.fields().indexOf(partitionType.field(fields.get(index).fieldId()));
+    }
+
+    return positions;
+  }
+
+  private static PartitionData toSpecPartition(
+      PartitionSpec spec, StructLike unifiedPartition, int[] positions) {
+    PartitionData partition = new PartitionData(spec.partitionType());
+    for (int index = 0; index < positions.length; index += 1) {
+      partition.set(index, unifiedPartition.get(positions[index], Object.class));
+    }
+
+    return partition;
+  }
+}
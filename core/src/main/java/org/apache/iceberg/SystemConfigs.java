@@ -19,6 +19,7 @@
 package org.apache.iceberg;
 
 import java.util.function.Function;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +54,58 @@ public class SystemConfigs {
           Math.max(2, 4 * Runtime.getRuntime().availableProcessors()),
           Integer::parseUnsignedInt);
 
+  /**
+   * Whether the worker pools run tasks on virtual threads instead of platform threads. Virtual
+   * threads do not hold a platform thread while blocked on I/O, so the pool sizes only limit the
+   * number of concurrent tasks and can be set much higher than the number of cores. Requires Java
+   * 21 or later; platform threads are used otherwise.
+   */
+  public static final ConfigEntry<Boolean> WORKER_VIRTUAL_THREADS_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.worker.virtual-threads.enabled",
+          "ICEBERG_WORKER_VIRTUAL_THREADS_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /**
+   * Estimated on-heap size in bytes above which equality deletes for a data file are loaded into
+   * an off-heap set that spills to local disk instead of an on-heap set. The default of 0 disables
+   * the off-heap set.
+   */
+  public static final ConfigEntry<Long> DELETE_EQUALITY_OFF_HEAP_THRESHOLD_BYTES =
+      new ConfigEntry<>(
+          "iceberg.delete.equality.off-heap-threshold-bytes",
+          "ICEBERG_DELETE_EQUALITY_OFF_HEAP_THRESHOLD_BYTES",
+          0L,
+          Long::parseUnsignedLong);
+
+  /** Maximum off-heap memory in bytes used by an equality delete set before spilling to disk. */
+  public static final ConfigEntry<Long> DELETE_EQUALITY_OFF_HEAP_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.delete.equality.off-heap-max-bytes",
+          "ICEBERG_DELETE_EQUALITY_OFF_HEAP_MAX_BYTES",
+          256L * 1024 * 1024, // 256MB
+          Long::parseUnsignedLong);
+
+  /** Local directory used to spill equality deletes that do not fit in off-heap memory. */
+  public static final ConfigEntry<String> DELETE_EQUALITY_SPILL_DIRECTORY =
+      new ConfigEntry<>(
+          "iceberg.delete.equality.spill-directory",
+          "ICEBERG_DELETE_EQUALITY_SPILL_DIRECTORY",
+          System.getProperty("java.io.tmpdir"),
+          Function.identity());
+
+  /**
+   * Maximum total size in bytes of decoded position delete indexes and deletion vectors that are
+   * cached for reuse by all readers in the process. Setting 0 disables the cache.
+   */
+  public static final ConfigEntry<Long> DELETE_POSITION_INDEX_CACHE_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.delete.position-index-cache.max-total-bytes",
+          "ICEBERG_DELETE_POSITION_INDEX_CACHE_MAX_TOTAL_BYTES",
+          64L * 1024 * 1024, // 64MB
+          Long::parseUnsignedLong);
+
   /** Whether to use the shared worker pool when planning table scans. */
   public static final ConfigEntry<Boolean> SCAN_THREAD_POOL_ENABLED =
       new ConfigEntry<>(
@@ -61,6 +114,36 @@ public class SystemConfigs {
           true,
           Boolean::parseBoolean);
 
+  /**
+   * Whether scan planning compiles partition and row filters into specialized evaluators for
+   * manifest files and data file metrics, instead of visiting the filter expression for each file.
+   * Compiled evaluators return the same results and are faster for scans that evaluate many files.
+   */
+  public static final ConfigEntry<Boolean> SCAN_COMPILED_EVALUATORS_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.scan.compiled-evaluators.enabled",
+          "ICEBERG_SCAN_COMPILED_EVALUATORS_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /**
+   * Maximum estimated size in bytes of planned tasks that are buffered while planning a scan in the
+   * worker pool. When set, manifest readers stop buffering more tasks than this once the consumer
+   * of the scan falls behind. The default of 0 only limits the number of buffered tasks
+   * approximately. Invalid values fail scan planning instead of falling back to the default.
+   */
+  public static final ConfigEntry<Long> SCAN_PLAN_QUEUE_MAX_BYTES =
+      new ConfigEntry<>(
+          "iceberg.scan.plan-queue-max-bytes",
+          "ICEBERG_SCAN_PLAN_QUEUE_MAX_BYTES",
+          0L,
+          value -> {
+            long maxBytes = Long.parseLong(value);
+            Preconditions.checkArgument(maxBytes >= 0, "Invalid max bytes: %s", maxBytes);
+            return maxBytes;
+          },
+          true);
+
   /**
    * Maximum number of distinct {@link org.apache.iceberg.io.FileIO} that is allowed to have
    * associated {@link org.apache.iceberg.io.ContentCache} in memory at a time.
@@ -92,14 +175,25 @@ public class SystemConfigs {
     private final String envKey;
     private final T defaultValue;
     private final Function<String, T> parseFunc;
+    private final boolean failOnInvalidValue;
     private T lazyValue = null;
 
     private ConfigEntry(
         String propertyKey, String envKey, T defaultValue, Function<String, T> parseFunc) {
+      this(propertyKey, envKey, defaultValue, parseFunc, false);
+    }
+
+    private ConfigEntry(
+        String propertyKey,
+        String envKey,
+        T defaultValue,
+        Function<String, T> parseFunc,
+        boolean failOnInvalidValue) {
       this.propertyKey = propertyKey;
       this.envKey = envKey;
       this.defaultValue = defaultValue;
       this.parseFunc = parseFunc;
+      this.failOnInvalidValue = failOnInvalidValue;
     }
 
     public final String propertyKey() {
@@ -132,6 +226,16 @@ public class SystemConfigs {
         try {
           return parseFunc.apply(value);
         } catch (Exception e) {
+          if (failOnInvalidValue) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid value for system property %s or env variable %s: %s",
+                    propertyKey,
+                    envKey,
+                    value),
+                e);
+          }
+
           // will return the default value
           LOG.error(
               "Failed to parse the config value set by system property: {} or env variable: {}, "
@@ -19,23 +19,32 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airlift.compress.zstd.ZstdInputStream;
+import io.airlift.compress.zstd.ZstdOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.iceberg.TableMetadata.MetadataLogEntry;
 import org.apache.iceberg.TableMetadata.SnapshotLogEntry;
 import org.apache.iceberg.encryption.EncryptedKey;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
@@ -43,13 +52,16 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.JsonUtil;
+import org.apache.iceberg.util.SerializableSupplier;
 
 public class TableMetadataParser {
 
   public enum Codec {
     NONE(""),
-    GZIP(".gz");
+    GZIP(".gz"),
+    ZSTD(".zst");
 
     private final String extension;
 
@@ -74,10 +86,36 @@ public class TableMetadataParser {
         return Codec.GZIP;
       }
       String fileNameWithoutSuffix = fileName.substring(0, fileName.lastIndexOf(".metadata.json"));
-      if (fileNameWithoutSuffix.endsWith(Codec.GZIP.extension)) {
-        return Codec.GZIP;
-      } else {
-        return Codec.NONE;
+      for (Codec codec : values()) {
+        if (codec != NONE && fileNameWithoutSuffix.endsWith(codec.extension)) {
+          return codec;
+        }
+      }
+
+      return Codec.NONE;
+    }
+
+    /** Wraps a stream of metadata file bytes to decompress them with this codec. */
+    public InputStream decompress(InputStream stream) throws IOException {
+      switch (this) {
+        case GZIP:
+          return new GZIPInputStream(stream);
+        case ZSTD:
+          return new ZstdInputStream(stream);
+        default:
+          return stream;
+      }
+    }
+
+    /** Wraps a metadata file output stream to compress bytes written to it with this codec. */
+    public OutputStream compress(OutputStream stream) throws IOException {
+      switch (this) {
+        case GZIP:
+          return new GZIPOutputStream(stream);
+        case ZSTD:
+          return new ZstdOutputStream(stream);
+        default:
+          return stream;
       }
     }
   }
@@ -125,9 +163,9 @@ public class TableMetadataParser {
 
   public static void internalWrite(
       TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
-    boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
+    Codec codec = Codec.fromFileName(outputFile.location());
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
-    try (OutputStream ou = isGzip ? new GZIPOutputStream(stream) : stream;
+    try (OutputStream ou = codec.compress(stream);
         OutputStreamWriter writer = new OutputStreamWriter(ou, StandardCharsets.UTF_8)) {
       JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
       toJson(metadata, generator);
@@ -296,9 +334,9 @@ public class TableMetadataParser {
 
   public static TableMetadata read(FileIO io, InputFile file) {
     Codec codec = Codec.fromFileName(file.location());
-    try (InputStream is =
-        codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(file, JsonUtil.mapper().readValue(is, JsonNode.class));
+    try (InputStream is = codec.decompress(file.newStream());
+        JsonParser parser = JsonUtil.mapper().createParser(is)) {
+      return fromJson(file.location(), parser);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file.location());
     }
@@ -324,7 +362,128 @@ public class TableMetadataParser {
    * @return a TableMetadata object
    */
   public static TableMetadata fromJson(String metadataLocation, String json) {
-    return JsonUtil.parse(json, node -> TableMetadataParser.fromJson(metadataLocation, node));
+    try (JsonParser parser = JsonUtil.mapper().createParser(json)) {
+      return fromJson(metadataLocation, parser);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Read TableMetadata from a JSON token stream without parsing the whole document into a tree.
+   *
+   * <p>Snapshots that are not referenced by the current snapshot or a ref are kept as compact JSON
+   * and are only parsed when all snapshots are needed, for example by {@link
+   * TableMetadata#snapshots()}. Large snapshot and metadata logs are read one entry at a time.
+   */
+  static TableMetadata fromJson(String metadataLocation, JsonParser parser) throws IOException {
+    JsonToken startToken = parser.nextToken();
+    Preconditions.checkArgument(startToken != null, "Cannot parse metadata from empty JSON");
+    if (startToken != JsonToken.START_OBJECT) {
+      // use the tree parser to produce the same error as for other non-object JSON
+      return fromJson(metadataLocation, (JsonNode) parser.readValueAsTree());
+    }
+
+    ObjectNode node = JsonUtil.mapper().createObjectNode();
+    ParsedSnapshots snapshots = null;
+    List<HistoryEntry> snapshotLog = null;
+    List<MetadataLogEntry> metadataLog = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      boolean isArray = parser.nextToken() == JsonToken.START_ARRAY;
+      if (isArray && SNAPSHOTS.equals(field)) {
+        snapshots = readSnapshots(parser, referencedSnapshotIds(node));
+      } else if (isArray && SNAPSHOT_LOG.equals(field)) {
+        snapshotLog = readSnapshotLog(parser);
+      } else if (isArray && METADATA_LOG.equals(field)) {
+        metadataLog = readMetadataLog(parser);
+      } else {
+        node.set(field, parser.readValueAsTree());
+      }
+    }
+
+    return fromJson(metadataLocation, node, snapshots, snapshotLog, metadataLog);
+  }
+
+  /**
+   * Returns the IDs of snapshots referenced by fields that were already parsed, or null if the
+   * referenced snapshots are not known yet.
+   */
+  private static Set<Long> referencedSnapshotIds(JsonNode node) {
+    if (!node.has(REFS) && !node.has(CURRENT_SNAPSHOT_ID)) {
+      return null;
+    }
+
+    Set<Long> ids = Sets.newHashSet();
+    Long currentSnapshotId = JsonUtil.getLongOrNull(CURRENT_SNAPSHOT_ID, node);
+    if (currentSnapshotId != null) {
+      ids.add(currentSnapshotId);
+    }
+
+    if (node.has(REFS)) {
+      refsFromJson(node.get(REFS)).values().forEach(ref -> ids.add(ref.snapshotId()));
+    }
+
+    return ids;
+  }
+
+  private static ParsedSnapshots readSnapshots(JsonParser parser, Set<Long> referencedIds)
+      throws IOException {
+    ImmutableList.Builder<Snapshot> eager = ImmutableList.builder();
+    List<Integer> eagerPositions = Lists.newArrayList();
+    ByteArrayOutputStream lazyJson = new ByteArrayOutputStream();
+    int lazyCount = 0;
+
+    try (JsonGenerator generator = JsonUtil.factory().createGenerator(lazyJson)) {
+      generator.writeStartArray();
+      int position = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        JsonNode snapshotNode = parser.readValueAsTree();
+        Long snapshotId =
+            snapshotNode.isObject() ? JsonUtil.getLongOrNull(SNAPSHOT_ID, snapshotNode) : null;
+        if (referencedIds == null || snapshotId == null || referencedIds.contains(snapshotId)) {
+          eager.add(SnapshotParser.fromJson(snapshotNode));
+          eagerPositions.add(position);
+        } else {
+          generator.writeTree(snapshotNode);
+          lazyCount += 1;
+        }
+
+        position += 1;
+      }
+
+      generator.writeEndArray();
+    }
+
+    return new ParsedSnapshots(
+        eager.build(),
+        eagerPositions.stream().mapToInt(Integer::intValue).toArray(),
+        lazyCount > 0 ? lazyJson.toByteArray() : null);
+  }
+
+  private static List<HistoryEntry> readSnapshotLog(JsonParser parser) throws IOException {
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      JsonNode entryNode = parser.readValueAsTree();
+      entries.add(
+          new SnapshotLogEntry(
+              JsonUtil.getLong(TIMESTAMP_MS, entryNode), JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
+    }
+
+    return entries.build();
+  }
+
+  private static List<MetadataLogEntry> readMetadataLog(JsonParser parser) throws IOException {
+    ImmutableList.Builder<MetadataLogEntry> entries = ImmutableList.builder();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      JsonNode entryNode = parser.readValueAsTree();
+      entries.add(
+          new MetadataLogEntry(
+              JsonUtil.getLong(TIMESTAMP_MS, entryNode),
+              JsonUtil.getString(METADATA_FILE, entryNode)));
+    }
+
+    return entries.build();
   }
 
   public static TableMetadata fromJson(InputFile file, JsonNode node) {
@@ -335,8 +494,17 @@ public class TableMetadataParser {
     return fromJson((String) null, node);
   }
 
-  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
   public static TableMetadata fromJson(String metadataLocation, JsonNode node) {
+    return fromJson(metadataLocation, node, null, null, null);
+  }
+
+  @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:MethodLength"})
+  private static TableMetadata fromJson(
+      String metadataLocation,
+      JsonNode node,
+      ParsedSnapshots parsedSnapshots,
+      List<HistoryEntry> parsedSnapshotLog,
+      List<MetadataLogEntry> parsedMetadataLog) {
     Preconditions.checkArgument(
         node.isObject(), "Cannot parse metadata from a non-object: %s", node);
 
@@ -502,7 +670,23 @@ public class TableMetadataParser {
     }
 
     List<Snapshot> snapshots;
-    if (node.has(SNAPSHOTS)) {
+    SerializableSupplier<List<Snapshot>> snapshotsSupplier = null;
+    if (parsedSnapshots != null) {
+      snapshots = parsedSnapshots.eager;
+      if (parsedSnapshots.lazyJson != null) {
+        snapshotsSupplier = parsedSnapshots.validated(lastSequenceNumber);
+        Set<Long> eagerIds = Sets.newHashSet();
+        snapshots.forEach(snapshot -> eagerIds.add(snapshot.snapshotId()));
+        boolean allReferencedLoaded =
+            (currentSnapshotId == -1L || eagerIds.contains(currentSnapshotId))
+                && refs.values().stream().allMatch(ref -> eagerIds.contains(ref.snapshotId()));
+        if (!allReferencedLoaded) {
+          // refs were written after the snapshots, so the referenced snapshots were not known
+          snapshots = parsedSnapshots.get();
+          snapshotsSupplier = null;
+        }
+      }
+    } else if (node.has(SNAPSHOTS)) {
       JsonNode snapshotArray = JsonUtil.get(SNAPSHOTS, node);
       Preconditions.checkArgument(
           snapshotArray.isArray(), "Cannot parse snapshots from non-array: %s", snapshotArray);
@@ -531,7 +715,9 @@ public class TableMetadataParser {
     }
 
     ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
-    if (node.has(SNAPSHOT_LOG)) {
+    if (parsedSnapshotLog != null) {
+      entries.addAll(parsedSnapshotLog);
+    } else if (node.has(SNAPSHOT_LOG)) {
       Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
       while (logIterator.hasNext()) {
         JsonNode entryNode = logIterator.next();
@@ -543,7 +729,9 @@ public class TableMetadataParser {
     }
 
     ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
-    if (node.has(METADATA_LOG)) {
+    if (parsedMetadataLog != null) {
+      metadataEntries.addAll(parsedMetadataLog);
+    } else if (node.has(METADATA_LOG)) {
       Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
       while (logIterator.hasNext()) {
         JsonNode entryNode = logIterator.next();
@@ -572,7 +760,7 @@ public class TableMetadataParser {
         properties,
         currentSnapshotId,
         snapshots,
-        null,
+        snapshotsSupplier,
         entries.build(),
         metadataEntries.build(),
         refs,
@@ -627,4 +815,69 @@ public class TableMetadataParser {
 
     return statsFileBuilder.build();
   }
+
+  /**
+   * Snapshots read from a token stream: snapshots that are referenced when the metadata is read and
+   * the JSON of all other snapshots, which is parsed when all snapshots are loaded.
+   */
+  private static class ParsedSnapshots implements SerializableSupplier<List<Snapshot>> {
+    private final List<Snapshot> eager;
+    private final int[] eagerPositions;
+    private final byte[] lazyJson;
+
+    private ParsedSnapshots(List<Snapshot> eager, int[] eagerPositions, byte[] lazyJson) {
+      this.eager = eager;
+      this.eagerPositions = eagerPositions;
+      this.lazyJson = lazyJson;
+    }
+
+    /** Returns all snapshots in the order of the metadata file. */
+    @Override
+    public List<Snapshot> get() {
+      if (lazyJson == null) {
+        return eager;
+      }
+
+      JsonNode lazyArray;
+      try {
+        lazyArray = JsonUtil.mapper().readTree(lazyJson);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      List<Snapshot> snapshots =
+          Lists.newArrayListWithExpectedSize(eager.size() + lazyArray.size());
+      Iterator<JsonNode> lazyNodes = lazyArray.elements();
+      int eagerIndex = 0;
+      while (eagerIndex < eager.size() || lazyNodes.hasNext()) {
+        if (eagerIndex < eager.size() && eagerPositions[eagerIndex] == snapshots.size()) {
+          snapshots.add(eager.get(eagerIndex));
+          eagerIndex += 1;
+        } else {
+          snapshots.add(SnapshotParser.fromJson(lazyNodes.next()));
+        }
+      }
+
+      return snapshots;
+    }
+
+    /**
+     * Returns a supplier of all snapshots that fails like the eager parser if a snapshot has a
+     * sequence number greater than the last sequence number of the metadata.
+     */
+    private SerializableSupplier<List<Snapshot>> validated(long lastSequenceNumber) {
+      return () -> {
+        List<Snapshot> snapshots = get();
+        for (Snapshot snapshot : snapshots) {
+          ValidationException.check(
+              snapshot.sequenceNumber() <= lastSequenceNumber,
+              "Invalid snapshot with sequence number %s greater than last sequence number %s",
+              snapshot.sequenceNumber(),
+              lastSequenceNumber);
+        }
+
+        return snapshots;
+      };
+    }
+  }
 }
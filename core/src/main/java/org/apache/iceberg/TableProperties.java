@@ -240,6 +240,10 @@ public class TableProperties {
   public static final String ORC_BATCH_SIZE = "read.orc.vectorization.batch-size";
   public static final int ORC_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String PARTITION_STATS_PRUNING_ENABLED =
+      "read.partition-stats-pruning.enabled";
+  public static final boolean PARTITION_STATS_PRUNING_ENABLED_DEFAULT = false;
+
   public static final String DATA_PLANNING_MODE = "read.data-planning-mode";
   public static final String DELETE_PLANNING_MODE = "read.delete-planning-mode";
   public static final String PLANNING_MODE_DEFAULT = PlanningMode.AUTO.modeName();
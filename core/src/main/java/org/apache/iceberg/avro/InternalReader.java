@@ -21,6 +21,7 @@ package org.apache.iceberg.avro;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.apache.avro.LogicalType;
 import org.apache.avro.LogicalTypes;
@@ -42,12 +43,14 @@ import org.apache.iceberg.util.Pair;
  *
  * @param <T> Java type returned by the reader
  */
-public class InternalReader<T> implements DatumReader<T>, SupportsRowPosition, SupportsCustomTypes {
+public class InternalReader<T>
+    implements DatumReader<T>, SupportsRowPosition, SupportsCustomTypes, SupportsMapKeySelection {
   private static final int ROOT_ID = -1;
 
   private final Types.StructType expectedType;
   private final Map<Integer, Class<? extends StructLike>> typeMap = Maps.newHashMap();
   private final Map<Integer, Object> idToConstant = ImmutableMap.of();
+  private final Map<Integer, Set<?>> mapKeys = Maps.newHashMap();
   private Schema fileSchema = null;
   private ValueReader<T> reader = null;
 
@@ -95,6 +98,25 @@ public class InternalReader<T> implements DatumReader<T>, SupportsRowPosition, S
     return this;
   }
 
+  @Override
+  public void setMapKeys(Map<Integer, Set<?>> keysByMapId) {
+    for (Map.Entry<Integer, Set<?>> entry : keysByMapId.entrySet()) {
+      selectMapKeys(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Reads only the given keys of the map with the given field ID.
+   *
+   * <p>Entries with other keys are skipped without decoding their values. This is only supported
+   * for maps with non-string keys, which are stored as arrays of key/value records in Avro. Key
+   * selection for other maps is ignored.
+   */
+  public InternalReader<T> selectMapKeys(int fieldId, Set<?> keys) {
+    mapKeys.put(fieldId, keys);
+    return this;
+  }
+
   @Override
   public void setRowPositionSupplier(Supplier<Long> posSupplier) {
     if (reader instanceof SupportsRowPosition) {
@@ -146,6 +168,11 @@ public class InternalReader<T> implements DatumReader<T>, SupportsRowPosition, S
         Schema map,
         ValueReader<?> keyReader,
         ValueReader<?> valueReader) {
+      Set<?> keys = partner != null ? mapKeys.get(partner.first()) : null;
+      if (keys != null) {
+        return ValueReaders.arrayMap(keyReader, valueReader, keys);
+      }
+
       return ValueReaders.arrayMap(keyReader, valueReader);
     }
 
@@ -32,6 +32,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -162,7 +163,16 @@ public class ValueReaders {
 
   public static <K, V> ValueReader<Map<K, V>> arrayMap(
       ValueReader<K> keyReader, ValueReader<V> valueReader) {
-    return new ArrayMapReader<>(keyReader, valueReader);
+    return new ArrayMapReader<>(keyReader, valueReader, null);
+  }
+
+  /**
+   * Returns a reader for a map stored as an array of key/value records that only materializes
+   * entries for the given keys. Values of other keys are skipped in the decoder.
+   */
+  public static <K, V> ValueReader<Map<K, V>> arrayMap(
+      ValueReader<K> keyReader, ValueReader<V> valueReader, Set<?> keysToRead) {
+    return new ArrayMapReader<>(keyReader, valueReader, keysToRead);
   }
 
   public static <K, V> ValueReader<Map<K, V>> map(
@@ -849,11 +859,14 @@ public class ValueReaders {
   private static class ArrayMapReader<K, V> implements ValueReader<Map<K, V>> {
     private final ValueReader<K> keyReader;
     private final ValueReader<V> valueReader;
+    private final Set<?> keysToRead;
     private Map lastMap = null;
 
-    private ArrayMapReader(ValueReader<K> keyReader, ValueReader<V> valueReader) {
+    private ArrayMapReader(
+        ValueReader<K> keyReader, ValueReader<V> valueReader, Set<?> keysToRead) {
       this.keyReader = keyReader;
       this.valueReader = valueReader;
+      this.keysToRead = keysToRead;
     }
 
     @Override
@@ -881,7 +894,15 @@ public class ValueReaders {
         for (long i = 0; i < chunkLength; i += 1) {
           K key;
           V value;
-          if (kvIter.hasNext()) {
+          if (keysToRead != null) {
+            key = keyReader.read(decoder, null);
+            if (!keysToRead.contains(key)) {
+              valueReader.skip(decoder);
+              continue;
+            }
+
+            value = valueReader.read(decoder, null);
+          } else if (kvIter.hasNext()) {
             Map.Entry<?, ?> last = kvIter.next();
             key = keyReader.read(decoder, last.getKey());
             value = valueReader.read(decoder, last.getValue());
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.nio.ByteBuffer;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.util.BinaryHashSet;
+
+/**
+ * An {@link EqualityDeleteSet} for a single string key column, backed by a set of UTF-8 encoded
+ * byte arrays with precomputed hashes.
+ */
+public class BinaryEqualityDeleteSet implements EqualityDeleteSet {
+  private final BinaryHashSet values;
+  private boolean containsNull = false;
+
+  public BinaryEqualityDeleteSet() {
+    this.values = new BinaryHashSet();
+  }
+
+  public BinaryEqualityDeleteSet(int expectedSize) {
+    this.values = new BinaryHashSet(expectedSize);
+  }
+
+  /** Adds the key of a row projected to the equality delete schema. */
+  public void add(StructLike key) {
+    add(key.get(0, CharSequence.class));
+  }
+
+  /** Adds a key value, which may be null. */
+  public void add(CharSequence value) {
+    if (value == null) {
+      this.containsNull = true;
+    } else {
+      values.add(value);
+    }
+  }
+
+  /** Adds all keys from another set to this set. */
+  public void addAll(BinaryEqualityDeleteSet other) {
+    values.addAll(other.values);
+    this.containsNull |= other.containsNull;
+  }
+
+  @Override
+  public boolean isDeleted(StructLike key) {
+    CharSequence value = key.get(0, CharSequence.class);
+    return value == null ? containsNull : values.contains(value);
+  }
+
+  /** Checks whether a non-null key value is deleted. */
+  public boolean isDeleted(CharSequence value) {
+    return values.contains(value);
+  }
+
+  /** Checks whether a non-null key value, given as UTF-8 bytes, is deleted. */
+  public boolean isDeleted(byte[] utf8, int offset, int length) {
+    return values.contains(utf8, offset, length);
+  }
+
+  /** Checks whether a non-null key value, given as UTF-8 bytes, is deleted. */
+  public boolean isDeleted(ByteBuffer utf8) {
+    return values.contains(utf8);
+  }
+
+  /** Checks whether rows with a null key are deleted. */
+  public boolean isNullDeleted() {
+    return containsNull;
+  }
+
+  @Override
+  public long size() {
+    return values.size() + (containsNull ? 1 : 0);
+  }
+
+  /** Returns an estimate of the memory used by this set, in bytes. */
+  public long sizeInBytes() {
+    return values.sizeInBytes();
+  }
+}
@@ -108,6 +108,11 @@ class BitmapPositionDeleteIndex implements PositionDeleteIndex {
     return bitmap.cardinality();
   }
 
+  // the serialized size of the bitmap, used to estimate the memory it takes
+  long serializedSizeInBytes() {
+    return bitmap.serializedSizeInBytes();
+  }
+
   /**
    * Serializes the index using the following format:
    *
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.util.List;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+import org.apache.iceberg.util.StructLikeUtil;
+
+/** Factory methods for {@link EqualityDeleteSet}. */
+public class EqualityDeleteSets {
+
+  private EqualityDeleteSets() {}
+
+  /** Returns an {@link EqualityDeleteSet} that checks keys against a {@link StructLikeSet}. */
+  public static EqualityDeleteSet wrap(StructLikeSet deleteSet) {
+    return new EqualityDeleteSet() {
+      @Override
+      public boolean isDeleted(StructLike key) {
+        return deleteSet.contains(key);
+      }
+
+      @Override
+      public long size() {
+        return deleteSet.size();
+      }
+    };
+  }
+
+  /**
+   * Returns whether deletes for the given equality delete schema can be stored in a
+   * primitive-specialized set.
+   *
+   * <p>This is the case for a single int, long or string key column.
+   */
+  public static boolean isSpecialized(Schema deleteSchema) {
+    List<Types.NestedField> columns = deleteSchema.columns();
+    if (columns.size() != 1) {
+      return false;
+    }
+
+    Type.TypeID typeId = columns.get(0).type().typeId();
+    return typeId == Type.TypeID.INTEGER
+        || typeId == Type.TypeID.LONG
+        || typeId == Type.TypeID.STRING;
+  }
+
+  /**
+   * Creates a primitive-specialized set from keys projected to the equality delete schema.
+   *
+   * <p>String keys are stored by their UTF-8 encoding. If a string key has no UTF-8 encoding, such
+   * as a string with unpaired surrogates, the keys are read again into a {@link StructLikeSet}.
+   *
+   * @param deleteSchema the equality delete schema, for which {@link #isSpecialized(Schema)} must
+   *     return true
+   * @param keys rows projected to the equality delete schema
+   * @return a set containing the keys
+   */
+  public static EqualityDeleteSet specialized(
+      Schema deleteSchema, Iterable<? extends StructLike> keys) {
+    Preconditions.checkArgument(
+        isSpecialized(deleteSchema), "Cannot specialize equality deletes for %s", deleteSchema);
+
+    if (deleteSchema.columns().get(0).type().typeId() == Type.TypeID.STRING) {
+      try {
+        BinaryEqualityDeleteSet deleteSet = new BinaryEqualityDeleteSet();
+        keys.forEach(deleteSet::add);
+        return deleteSet;
+      } catch (IllegalArgumentException e) {
+        // replacing the characters that cannot be encoded would make distinct keys equal
+        StructLikeSet deleteSet = StructLikeSet.create(deleteSchema.asStruct());
+        keys.forEach(key -> deleteSet.add(StructLikeUtil.copy(key)));
+        return wrap(deleteSet);
+      }
+    } else {
+      LongEqualityDeleteSet deleteSet = new LongEqualityDeleteSet();
+      keys.forEach(deleteSet::add);
+      return deleteSet;
+    }
+  }
+
+  /**
+   * Merges sets created by {@link #specialized(Schema, Iterable)} for the same equality delete
+   * schema.
+   *
+   * <p>The keys are merged into one of the given sets, which is modified and returned. If any of
+   * the sets is not primitive-specialized, this returns a set that checks each of the given sets.
+   *
+   * @param deleteSchema the equality delete schema of all sets
+   * @param deleteSets sets to merge
+   * @return a set containing the keys of all sets
+   */
+  public static EqualityDeleteSet merge(
+      Schema deleteSchema, Iterable<? extends EqualityDeleteSet> deleteSets) {
+    List<EqualityDeleteSet> sets = Lists.newArrayList(deleteSets);
+    if (sets.isEmpty()) {
+      return specialized(deleteSchema, Lists.newArrayList());
+    } else if (sets.size() == 1) {
+      return Iterables.getOnlyElement(sets);
+    }
+
+    if (!Iterables.all(sets, EqualityDeleteSets::isPrimitive)) {
+      return union(sets);
+    }
+
+    // merge into the largest set to copy as few keys as possible
+    EqualityDeleteSet largest = sets.get(0);
+    for (EqualityDeleteSet set : sets) {
+      if (set.size() > largest.size()) {
+        largest = set;
+      }
+    }
+
+    for (EqualityDeleteSet set : sets) {
+      if (set != largest) {
+        if (largest instanceof LongEqualityDeleteSet) {
+          ((LongEqualityDeleteSet) largest).addAll((LongEqualityDeleteSet) set);
+        } else if (largest instanceof BinaryEqualityDeleteSet) {
+          ((BinaryEqualityDeleteSet) largest).addAll((BinaryEqualityDeleteSet) set);
+        } else {
+          throw new IllegalArgumentException(
+              "Cannot merge equality delete set: " + set.getClass().getName());
+        }
+      }
+    }
+
+    return largest;
+  }
+
+  private static boolean isPrimitive(EqualityDeleteSet deleteSet) {
+    return deleteSet instanceof LongEqualityDeleteSet
+        || deleteSet instanceof BinaryEqualityDeleteSet;
+  }
+
+  private static EqualityDeleteSet union(List<EqualityDeleteSet> deleteSets) {
+    return new EqualityDeleteSet() {
+      @Override
+      public boolean isDeleted(StructLike key) {
+        for (EqualityDeleteSet deleteSet : deleteSets) {
+          if (deleteSet.isDeleted(key)) {
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public long size() {
+        // keys that are in more than one set are counted once for each set
+        return deleteSets.stream().mapToLong(EqualityDeleteSet::size).sum();
+      }
+    };
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.util.LongHashSet;
+
+/**
+ * An {@link EqualityDeleteSet} for a single int or long key column, backed by a primitive set.
+ *
+ * <p>Int keys are widened to long, which preserves equality.
+ */
+public class LongEqualityDeleteSet implements EqualityDeleteSet {
+  private final LongHashSet values;
+  private boolean containsNull = false;
+
+  public LongEqualityDeleteSet() {
+    this.values = new LongHashSet();
+  }
+
+  public LongEqualityDeleteSet(int expectedSize) {
+    this.values = new LongHashSet(expectedSize);
+  }
+
+  /** Adds the key of a row projected to the equality delete schema. */
+  public void add(StructLike key) {
+    add(key.get(0, Object.class));
+  }
+
+  /** Adds a key value, which must be a {@link Number} or null. */
+  public void add(Object value) {
+    if (value == null) {
+      this.containsNull = true;
+    } else {
+      values.add(((Number) value).longValue());
+    }
+  }
+
+  /** Adds all keys from another set to this set. */
+  public void addAll(LongEqualityDeleteSet other) {
+    values.addAll(other.values);
+    this.containsNull |= other.containsNull;
+  }
+
+  @Override
+  public boolean isDeleted(StructLike key) {
+    Object value = key.get(0, Object.class);
+    return value == null ? containsNull : values.contains(((Number) value).longValue());
+  }
+
+  /** Checks whether a non-null key value is deleted. */
+  public boolean isDeleted(long value) {
+    return values.contains(value);
+  }
+
+  /** Checks whether rows with a null key are deleted. */
+  public boolean isNullDeleted() {
+    return containsNull;
+  }
+
+  @Override
+  public long size() {
+    return values.size() + (containsNull ? 1 : 0);
+  }
+
+  /** Returns an estimate of the memory used by this set, in bytes. */
+  public long sizeInBytes() {
+    return values.sizeInBytes();
+  }
+}
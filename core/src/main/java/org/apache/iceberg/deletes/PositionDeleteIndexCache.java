@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A size-bounded cache of decoded {@link PositionDeleteIndex position delete indexes}.
+ *
+ * <p>Deletion vectors are keyed by the location of the Puffin file and the offset of the blob;
+ * indexes read from position delete files are keyed by the location of the delete file and the
+ * data file they apply to. Because delete files are immutable, cached entries never go stale.
+ * Entries are weighed by the serialized size of their bitmap.
+ *
+ * <p>A process-wide instance is returned by {@link #shared()} and sized by {@link
+ * SystemConfigs#DELETE_POSITION_INDEX_CACHE_MAX_BYTES}. Cached indexes are shared by all readers
+ * and must not be modified.
+ */
+public class PositionDeleteIndexCache {
+  private static final Logger LOG = LoggerFactory.getLogger(PositionDeleteIndexCache.class);
+  // the approximate size of an index object and its cache entry, excluding the bitmap
+  private static final long ENTRY_OVERHEAD_BYTES = 128L;
+  private static final long DEFAULT_EXPIRE_AFTER_ACCESS_MS = Duration.ofMinutes(10).toMillis();
+
+  private static volatile PositionDeleteIndexCache sharedCache = null;
+  private static volatile boolean sharedCacheInitialized = false;
+
+  private final long maxTotalBytes;
+  private final Cache<Key, PositionDeleteIndex> cache;
+
+  /**
+   * Returns the process-wide cache, or null if it is disabled.
+   *
+   * <p>The cache is disabled if {@link SystemConfigs#DELETE_POSITION_INDEX_CACHE_MAX_BYTES} is 0.
+   */
+  public static PositionDeleteIndexCache shared() {
+    if (!sharedCacheInitialized) {
+      synchronized (PositionDeleteIndexCache.class) {
+        if (!sharedCacheInitialized) {
+          long maxTotalBytes = SystemConfigs.DELETE_POSITION_INDEX_CACHE_MAX_BYTES.value();
+          if (maxTotalBytes > 0) {
+            sharedCache =
+                new PositionDeleteIndexCache(DEFAULT_EXPIRE_AFTER_ACCESS_MS, maxTotalBytes);
+          }
+
+          sharedCacheInitialized = true;
+        }
+      }
+    }
+
+    return sharedCache;
+  }
+
+  /**
+   * Constructor for PositionDeleteIndexCache class.
+   *
+   * @param expireAfterAccessMs controls the duration for which entries are held since last access.
+   *     Must be greater or equal than 0. Setting 0 means entries expire only if they are evicted
+   *     due to memory pressure.
+   * @param maxTotalBytes controls the maximum total size of cached indexes. Must be greater than 0.
+   */
+  public PositionDeleteIndexCache(long expireAfterAccessMs, long maxTotalBytes) {
+    ValidationException.check(expireAfterAccessMs >= 0, "expireAfterAccessMs is less than 0");
+    ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
+    this.maxTotalBytes = maxTotalBytes;
+
+    Caffeine<Object, Object> builder = Caffeine.newBuilder();
+    if (expireAfterAccessMs > 0) {
+      builder = builder.expireAfterAccess(Duration.ofMillis(expireAfterAccessMs));
+    }
+
+    this.cache =
+        builder
+            .maximumWeight(maxTotalBytes)
+            .weigher((Weigher<Key, PositionDeleteIndex>) (key, index) -> weight(index))
+            .removalListener(
+                (key, index, cause) ->
+                    LOG.debug("Evicted {} from PositionDeleteIndexCache ({})", key, cause))
+            .recordStats()
+            .build();
+  }
+
+  public long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedCacheSize() {
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Returns the cached index for a deletion vector, loading it if it is not cached.
+   *
+   * @param location the location of the file that contains the deletion vector
+   * @param offset the offset of the deletion vector in the file
+   * @param loader a supplier that loads the index
+   * @return the cached or loaded index
+   */
+  public PositionDeleteIndex get(
+      String location, long offset, Supplier<PositionDeleteIndex> loader) {
+    return cache.get(new Key(location, offset, null), key -> loader.get());
+  }
+
+  /**
+   * Returns the cached index of a position delete file for a data file, loading it if it is not
+   * cached.
+   *
+   * @param location the location of the position delete file
+   * @param dataFilePath the location of the data file that deletes apply to
+   * @param loader a supplier that loads the index
+   * @return the cached or loaded index
+   */
+  public PositionDeleteIndex get(
+      String location, CharSequence dataFilePath, Supplier<PositionDeleteIndex> loader) {
+    return cache.get(new Key(location, -1L, dataFilePath.toString()), key -> loader.get());
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("maxTotalBytes", maxTotalBytes)
+        .add("cacheStats", cache.stats())
+        .toString();
+  }
+
+  private static int weight(PositionDeleteIndex index) {
+    // delete loaders produce bitmap indexes, or the empty index that has no bitmap
+    long bitmapSize = 0L;
+    if (index instanceof BitmapPositionDeleteIndex) {
+      bitmapSize = ((BitmapPositionDeleteIndex) index).serializedSizeInBytes();
+    }
+
+    return (int) Math.min(ENTRY_OVERHEAD_BYTES + bitmapSize, Integer.MAX_VALUE);
+  }
+
+  private static class Key {
+    private final String location;
+    private final long offset;
+    private final String dataFilePath;
+
+    private Key(String location, long offset, String dataFilePath) {
+      this.location = location;
+      this.offset = offset;
+      this.dataFilePath = dataFilePath;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      Key that = (Key) other;
+      return offset == that.offset
+          && location.equals(that.location)
+          && Objects.equals(dataFilePath, that.dataFilePath);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, offset, dataFilePath);
+    }
+
+    @Override
+    public String toString() {
+      return dataFilePath != null ? location + " for " + dataFilePath : location + "@" + offset;
+    }
+  }
+}
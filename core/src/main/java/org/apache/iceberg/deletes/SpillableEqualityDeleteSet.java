@@ -0,0 +1,523 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EqualityDeleteSet} that keeps keys off-heap and spills them to local disk.
+ *
+ * <p>Keys are serialized to bytes and stored in an off-heap hash table. When the table would grow
+ * beyond the configured memory limit, its keys are written to a local file as a run sorted by key
+ * hash, and the table is reset. Each run has a Bloom filter that is checked before the run is
+ * searched, and run files are memory-mapped, so that neither the keys in memory nor the spilled
+ * keys are held on the heap.
+ *
+ * <p>Keys must be added by a single thread. Once all keys are added, the set can be read
+ * concurrently. {@link #close()} releases the spilled files; they are also deleted when the set is
+ * garbage collected.
+ */
+public class SpillableEqualityDeleteSet implements EqualityDeleteSet, Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(SpillableEqualityDeleteSet.class);
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024; // 4MB
+  private static final long MAX_RUN_SIZE = 1024L * 1024 * 1024; // 1GB, must fit in one mapping
+  private static final int MIN_TABLE_CAPACITY = 1024;
+  private static final int TABLE_SLOT_SIZE = 12; // address (long) and hash (int)
+  private static final int INDEX_ENTRY_SIZE = 12; // hash (int) and data offset (long)
+  private static final int FOOTER_SIZE = 12; // index offset (long) and entry count (int)
+  private static final int BLOOM_BITS_PER_KEY = 10;
+  private static final int BLOOM_HASHES = 4;
+
+  private final List<Type> keyTypes;
+  private final long maxMemoryBytes;
+  private final Path spillDirectory;
+  private final int chunkSize;
+  private final ThreadLocal<KeyBuffer> keyBuffers = ThreadLocal.withInitial(KeyBuffer::new);
+  private final List<Run> runs = Lists.newArrayList();
+  private final SpillFiles spillFiles;
+  private final Cleaner.Cleanable cleanable;
+
+  // off-heap keys in chunks of length-prefixed bytes, addressed by (chunk index << 32 | offset)
+  private final List<ByteBuffer> chunks = Lists.newArrayList();
+  private int currentChunk = 0;
+  private ByteBuffer table;
+  private int tableMask;
+  private int tableSize = 0;
+  private long size = 0L;
+  private boolean closed = false;
+
+  /**
+   * Creates a spillable set for keys of the given type.
+   *
+   * @param keyType the struct type of the equality delete keys; all fields must be primitive
+   * @param maxMemoryBytes the maximum number of off-heap bytes to use before spilling to disk
+   * @param spillDirectory a local directory for spilled runs
+   */
+  public SpillableEqualityDeleteSet(
+      Types.StructType keyType, long maxMemoryBytes, Path spillDirectory) {
+    Preconditions.checkArgument(maxMemoryBytes > 0, "Invalid max memory: %s", maxMemoryBytes);
+    Preconditions.checkArgument(spillDirectory != null, "Invalid spill directory: null");
+    this.keyTypes = Lists.newArrayList();
+    for (Types.NestedField field : keyType.fields()) {
+      Preconditions.checkArgument(
+          field.type().isPrimitiveType(), "Cannot spill non-primitive key field: %s", field);
+      keyTypes.add(field.type());
+    }
+
+    long memoryLimit = Math.min(maxMemoryBytes, MAX_RUN_SIZE);
+    this.maxMemoryBytes = memoryLimit;
+    this.chunkSize = (int) Math.max(1024, Math.min(DEFAULT_CHUNK_SIZE, memoryLimit / 4));
+    this.spillDirectory = spillDirectory;
+    this.spillFiles = new SpillFiles();
+    this.cleanable = CLEANER.register(this, spillFiles);
+    resetTable(MIN_TABLE_CAPACITY);
+  }
+
+  /**
+   * Adds the key of a row projected to the equality delete schema.
+   *
+   * @param key a row projected to the equality delete schema
+   */
+  public void add(StructLike key) {
+    Preconditions.checkState(!closed, "Cannot add to a closed set");
+    KeyBuffer buffer = keyBuffers.get().encode(keyTypes, key);
+    long hash = hash(buffer.bytes, buffer.length);
+
+    if (findInTable((int) hash, buffer.bytes, buffer.length) >= 0) {
+      return;
+    }
+
+    if (requiredMemory(buffer.length) > maxMemoryBytes && tableSize > 0) {
+      spill();
+    }
+
+    if (tableSize + 1 > (tableMask + 1) / 2) {
+      growTable();
+    }
+
+    long address = append(buffer.bytes, buffer.length);
+    insertIntoTable((int) hash, address);
+    this.size += 1;
+  }
+
+  /** Adds all keys to this set. */
+  public void addAll(Iterable<? extends StructLike> keys) {
+    keys.forEach(this::add);
+  }
+
+  @Override
+  public boolean isDeleted(StructLike key) {
+    Preconditions.checkState(!closed, "Cannot read from a closed set");
+    KeyBuffer buffer = keyBuffers.get().encode(keyTypes, key);
+    long hash = hash(buffer.bytes, buffer.length);
+
+    if (findInTable((int) hash, buffer.bytes, buffer.length) >= 0) {
+      return true;
+    }
+
+    for (Run run : runs) {
+      if (run.contains(hash, buffer.bytes, buffer.length)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the number of added keys.
+   *
+   * <p>Keys that were added again after the run containing them was spilled are counted more than
+   * once.
+   */
+  @Override
+  public long size() {
+    return size;
+  }
+
+  /** Returns the number of runs that were spilled to disk. */
+  public int spilledRuns() {
+    return runs.size();
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      this.closed = true;
+      this.table = null;
+      chunks.clear();
+      runs.clear();
+      cleanable.clean();
+    }
+  }
+
+  private long requiredMemory(int keyLength) {
+    long chunkBytes = (long) chunks.size() * chunkSize;
+    // chunks after the current one are empty and reused after a spill
+    boolean needsChunk =
+        currentChunk >= chunks.size() - 1
+            && (chunks.isEmpty()
+                || chunks.get(currentChunk).remaining() < Integer.BYTES + keyLength);
+    if (needsChunk) {
+      chunkBytes += Math.max(chunkSize, Integer.BYTES + keyLength);
+    }
+
+    long tableCapacity = tableMask + 1L;
+    if (tableSize + 1 > tableCapacity / 2) {
+      tableCapacity *= 2;
+    }
+
+    return chunkBytes + tableCapacity * TABLE_SLOT_SIZE;
+  }
+
+  private long append(byte[] bytes, int length) {
+    int required = Integer.BYTES + length;
+    while (currentChunk < chunks.size() && chunks.get(currentChunk).remaining() < required) {
+      this.currentChunk += 1;
+    }
+
+    if (currentChunk == chunks.size()) {
+      chunks.add(ByteBuffer.allocateDirect(Math.max(chunkSize, required)));
+    }
+
+    ByteBuffer chunk = chunks.get(currentChunk);
+    int offset = chunk.position();
+    chunk.putInt(length);
+    chunk.put(bytes, 0, length);
+    return ((long) currentChunk << 32) | offset;
+  }
+
+  private int findInTable(int hash, byte[] bytes, int length) {
+    int index = hash & tableMask;
+    long address;
+    while ((address = table.getLong(index * TABLE_SLOT_SIZE)) != 0L) {
+      if (table.getInt(index * TABLE_SLOT_SIZE + Long.BYTES) == hash
+          && keyEquals(address - 1, bytes, length)) {
+        return index;
+      }
+
+      index = (index + 1) & tableMask;
+    }
+
+    return -1;
+  }
+
+  private void insertIntoTable(int hash, long address) {
+    int index = hash & tableMask;
+    while (table.getLong(index * TABLE_SLOT_SIZE) != 0L) {
+      index = (index + 1) & tableMask;
+    }
+
+    // addresses are stored plus one so that 0 marks an empty slot
+    table.putLong(index * TABLE_SLOT_SIZE, address + 1);
+    table.putInt(index * TABLE_SLOT_SIZE + Long.BYTES, hash);
+    this.tableSize += 1;
+  }
+
+  private void growTable() {
+    ByteBuffer oldTable = table;
+    int oldCapacity = tableMask + 1;
+    resetTable(oldCapacity * 2);
+
+    for (int i = 0; i < oldCapacity; i += 1) {
+      long address = oldTable.getLong(i * TABLE_SLOT_SIZE);
+      if (address != 0L) {
+        insertIntoTable(oldTable.getInt(i * TABLE_SLOT_SIZE + Long.BYTES), address - 1);
+      }
+    }
+  }
+
+  private void resetTable(int capacity) {
+    this.table = ByteBuffer.allocateDirect(capacity * TABLE_SLOT_SIZE);
+    this.tableMask = capacity - 1;
+    this.tableSize = 0;
+  }
+
+  private boolean keyEquals(long address, byte[] bytes, int length) {
+    ByteBuffer chunk = chunks.get((int) (address >>> 32));
+    int offset = (int) address;
+    if (chunk.getInt(offset) != length) {
+      return false;
+    }
+
+    return regionEquals(chunk, offset + Integer.BYTES, bytes, length);
+  }
+
+  private void spill() {
+    // sort the table entries by hash; the packed entries are only held while writing the run
+    long[] entries = new long[tableSize];
+    int count = 0;
+    for (int i = 0; i <= tableMask; i += 1) {
+      if (table.getLong(i * TABLE_SLOT_SIZE) != 0L) {
+        long hash = table.getInt(i * TABLE_SLOT_SIZE + Long.BYTES);
+        entries[count] = (hash << 32) | i;
+        count += 1;
+      }
+    }
+
+    Arrays.sort(entries);
+
+    try {
+      Path file = Files.createTempFile(spillDirectory, "eq-deletes-", ".run");
+      spillFiles.add(file);
+      runs.add(writeRun(file, entries));
+      LOG.debug("Spilled {} equality delete keys to {}", entries.length, file);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to spill equality deletes to %s", spillDirectory);
+    }
+
+    // reuse the allocated chunks for the next run
+    chunks.forEach(ByteBuffer::clear);
+    this.currentChunk = 0;
+    resetTable(MIN_TABLE_CAPACITY);
+  }
+
+  private Run writeRun(Path file, long[] entries) throws IOException {
+    long[] bloom = new long[bloomWords(entries.length)];
+    long[] dataOffsets = new long[entries.length];
+    long position = 0L;
+
+    try (OutputStream fileOut = Files.newOutputStream(file);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, 1 << 16))) {
+      byte[] scratch = new byte[256];
+      for (int i = 0; i < entries.length; i += 1) {
+        int slot = (int) entries[i];
+        long address = table.getLong(slot * TABLE_SLOT_SIZE) - 1;
+        ByteBuffer chunk = chunks.get((int) (address >>> 32));
+        int offset = (int) address;
+        int length = chunk.getInt(offset);
+        if (scratch.length < length) {
+          scratch = new byte[length];
+        }
+
+        ByteBuffer key = chunk.duplicate();
+        key.position(offset + Integer.BYTES);
+        key.get(scratch, 0, length);
+
+        addToBloom(bloom, hash(scratch, length));
+        dataOffsets[i] = position;
+        out.writeInt(length);
+        out.write(scratch, 0, length);
+        position += Integer.BYTES + length;
+      }
+
+      long indexOffset = position;
+      for (int i = 0; i < entries.length; i += 1) {
+        out.writeInt((int) (entries[i] >> 32));
+        out.writeLong(dataOffsets[i]);
+      }
+
+      out.writeLong(indexOffset);
+      out.writeInt(entries.length);
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new Run(mapped, bloom);
+    }
+  }
+
+  private static int bloomWords(int keyCount) {
+    long bits = Math.max(64L, (long) keyCount * BLOOM_BITS_PER_KEY);
+    return (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+  }
+
+  private static void addToBloom(long[] bloom, long hash) {
+    long numBits = (long) bloom.length * 64;
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= BLOOM_HASHES; i += 1) {
+      long bit = ((hash1 + (long) i * hash2) & Long.MAX_VALUE) % numBits;
+      bloom[(int) (bit >>> 6)] |= 1L << bit;
+    }
+  }
+
+  private static boolean mightContain(long[] bloom, long hash) {
+    long numBits = (long) bloom.length * 64;
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= BLOOM_HASHES; i += 1) {
+      long bit = ((hash1 + (long) i * hash2) & Long.MAX_VALUE) % numBits;
+      if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean regionEquals(ByteBuffer buffer, int offset, byte[] bytes, int length) {
+    for (int i = 0; i < length; i += 1) {
+      if (buffer.get(offset + i) != bytes[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // a 64-bit FNV-1a hash with the MurmurHash3 finalizer
+  private static long hash(byte[] bytes, int length) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < length; i += 1) {
+      hash ^= bytes[i];
+      hash *= 0x100000001b3L;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /** A spilled run of keys sorted by hash, with an index at the end of the file. */
+  private static class Run {
+    private final ByteBuffer data;
+    private final long[] bloom;
+    private final int indexOffset;
+    private final int count;
+
+    private Run(ByteBuffer data, long[] bloom) {
+      this.data = data;
+      this.bloom = bloom;
+      int footerOffset = data.capacity() - FOOTER_SIZE;
+      this.indexOffset = (int) data.getLong(footerOffset);
+      this.count = data.getInt(footerOffset + Long.BYTES);
+    }
+
+    private boolean contains(long hash, byte[] bytes, int length) {
+      if (!mightContain(bloom, hash)) {
+        return false;
+      }
+
+      int keyHash = (int) hash;
+
+      // find the first index entry with the hash
+      int low = 0;
+      int high = count;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (hashAt(mid) < keyHash) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+
+      for (int i = low; i < count && hashAt(i) == keyHash; i += 1) {
+        int dataOffset = (int) data.getLong(indexOffset + i * INDEX_ENTRY_SIZE + Integer.BYTES);
+        if (data.getInt(dataOffset) == length
+            && regionEquals(data, dataOffset + Integer.BYTES, bytes, length)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    private int hashAt(int index) {
+      return data.getInt(indexOffset + index * INDEX_ENTRY_SIZE);
+    }
+  }
+
+  /** Tracks spilled files so that they are deleted when the set is closed or collected. */
+  private static class SpillFiles implements Runnable {
+    private final List<Path> files = Lists.newArrayList();
+
+    private synchronized void add(Path file) {
+      files.add(file);
+    }
+
+    @Override
+    public synchronized void run() {
+      for (Path file : files) {
+        try {
+          Files.deleteIfExists(file);
+        } catch (IOException e) {
+          LOG.warn("Failed to delete spilled equality deletes {}", file, e);
+        }
+      }
+
+      files.clear();
+    }
+  }
+
+  /** A reusable buffer for serialized keys. */
+  private static class KeyBuffer {
+    private byte[] bytes = new byte[64];
+    private int length = 0;
+
+    private KeyBuffer encode(List<Type> types, StructLike key) {
+      this.length = 0;
+      for (int pos = 0; pos < types.size(); pos += 1) {
+        Type type = types.get(pos);
+        Object value = key.get(pos, Object.class);
+        if (value == null) {
+          ensureCapacity(1);
+          bytes[length++] = 0;
+        } else {
+          ByteBuffer valueBytes = Conversions.toByteBuffer(type, value).duplicate();
+          int valueLength = valueBytes.remaining();
+          ensureCapacity(1 + Integer.BYTES + valueLength);
+          bytes[length++] = 1;
+          // a length prefix keeps variable-length values from running into the next field
+          bytes[length++] = (byte) (valueLength >>> 24);
+          bytes[length++] = (byte) (valueLength >>> 16);
+          bytes[length++] = (byte) (valueLength >>> 8);
+          bytes[length++] = (byte) valueLength;
+          valueBytes.get(bytes, length, valueLength);
+          this.length += valueLength;
+        }
+      }
+
+      return this;
+    }
+
+    private void ensureCapacity(int additional) {
+      if (bytes.length < length + additional) {
+        this.bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+      }
+    }
+  }
+}
@@ -29,6 +29,7 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletionException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
@@ -47,6 +48,10 @@ import org.slf4j.LoggerFactory;
  * does not exist in the cache yet, a regular InputFile will be instantiated, read-ahead, and loaded
  * into the cache before returning ByteBufferInputStream. The regular InputFile is also used as a
  * fallback if cache loading fail.
+ *
+ * <p>An optional {@link DiskContentCache} can be used as a second tier. File content that is not in
+ * memory is first looked up on local disk, and content downloaded from the source file is also
+ * stored on disk so that it is available after the process restarts.
  */
 public class ContentCache {
   private static final Logger LOG = LoggerFactory.getLogger(ContentCache.class);
@@ -56,6 +61,7 @@ public class ContentCache {
   private final long maxTotalBytes;
   private final long maxContentLength;
   private final Cache<String, FileContent> cache;
+  private final DiskContentCache diskCache;
 
   /**
    * Constructor for ContentCache class.
@@ -69,12 +75,34 @@ public class ContentCache {
    *     be greater than 0.
    */
   public ContentCache(long expireAfterAccessMs, long maxTotalBytes, long maxContentLength) {
+    this(expireAfterAccessMs, maxTotalBytes, maxContentLength, null);
+  }
+
+  /**
+   * Constructor for ContentCache class with a local-disk tier.
+   *
+   * @param expireAfterAccessMs controls the duration for which entries in the ContentCache are hold
+   *     since last access. Must be greater or equal than 0. Setting 0 means cache entries expire
+   *     only if it gets evicted due to memory pressure.
+   * @param maxTotalBytes controls the maximum total amount of bytes to cache in ContentCache. Must
+   *     be greater than 0.
+   * @param maxContentLength controls the maximum length of file to be considered for caching. Must
+   *     be greater than 0.
+   * @param diskCache a {@link DiskContentCache} used as a second tier, or null to cache only in
+   *     memory
+   */
+  public ContentCache(
+      long expireAfterAccessMs,
+      long maxTotalBytes,
+      long maxContentLength,
+      DiskContentCache diskCache) {
     ValidationException.check(expireAfterAccessMs >= 0, "expireAfterAccessMs is less than 0");
     ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
     ValidationException.check(maxContentLength > 0, "maxContentLength is equal or less than 0");
     this.expireAfterAccessMs = expireAfterAccessMs;
     this.maxTotalBytes = maxTotalBytes;
     this.maxContentLength = maxContentLength;
+    this.diskCache = diskCache;
 
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
     if (expireAfterAccessMs > 0) {
@@ -111,6 +139,11 @@ public class ContentCache {
     return cache.stats();
   }
 
+  /** Returns the local-disk tier of this cache, or null if content is cached only in memory. */
+  public DiskContentCache diskCache() {
+    return diskCache;
+  }
+
   /**
    * Try cache the file-content of file in the given location upon stream reading.
    *
@@ -165,6 +198,7 @@ public class ContentCache {
         .add("maxContentLength", maxContentLength)
         .add("maxTotalBytes", maxTotalBytes)
         .add("cacheStats", cache.stats())
+        .add("diskCache", diskCache)
         .toString();
   }
 
@@ -241,7 +275,8 @@ public class ContentCache {
 
     private SeekableInputStream cachedStream() throws IOException {
       try {
-        FileContent content = contentCache.cache.get(input.location(), k -> download(input));
+        FileContent content =
+            contentCache.cache.get(input.location(), k -> contentCache.load(input));
         return ByteBufferInputStream.wrap(content.buffers);
       } catch (UncheckedIOException ex) {
         throw ex.getCause();
@@ -249,9 +284,30 @@ public class ContentCache {
     }
   }
 
+  private FileContent load(InputFile input) {
+    if (diskCache == null) {
+      return download(input);
+    }
+
+    long length = input.getLength();
+    List<ByteBuffer> buffers = diskCache.get(input.location(), length);
+    if (buffers != null) {
+      return new FileContent(length, buffers);
+    }
+
+    FileContent content = download(input);
+    diskCache.put(input.location(), content.length, content.buffers);
+    return content;
+  }
+
   private static FileContent download(InputFile input) {
     try (SeekableInputStream stream = input.newStream()) {
       long fileLength = input.getLength();
+      if (stream instanceof RangeReadable
+          && ((RangeReadable) stream).isMultipartDownloadEnabled()) {
+        return new FileContent(fileLength, downloadChunks((RangeReadable) stream, fileLength));
+      }
+
       long totalBytesToRead = fileLength;
       List<ByteBuffer> buffers = Lists.newArrayList();
 
@@ -281,4 +337,37 @@ public class ContentCache {
       throw new UncheckedIOException(ex);
     }
   }
+
+  /**
+   * Reads all chunks of a file with a single vectored read, which allows file systems to fetch the
+   * chunks with parallel requests. This is only used for streams with multipart downloads enabled.
+   */
+  private static List<ByteBuffer> downloadChunks(RangeReadable stream, long fileLength)
+      throws IOException {
+    List<FileRange> chunks = Lists.newArrayList();
+    for (long offset = 0; offset < fileLength; offset += BUFFER_CHUNK_SIZE) {
+      chunks.add(new FileRange(offset, (int) Math.min(BUFFER_CHUNK_SIZE, fileLength - offset)));
+    }
+
+    stream.readVectored(chunks, ByteBuffer::allocate);
+
+    List<ByteBuffer> buffers = Lists.newArrayListWithCapacity(chunks.size());
+    try {
+      for (FileRange chunk : chunks) {
+        buffers.add(chunk.byteBuffer().join());
+      }
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+
+      throw new IOException(
+          String.format(Locale.ROOT, "Failed to read %d bytes", fileLength), cause);
+    }
+
+    return buffers;
+  }
 }
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A size-bounded, local-disk tier for {@link ContentCache}.
+ *
+ * <p>File content is stored as one file per cached entry in a local directory, keyed by the file
+ * location and length. Because the content of files such as manifests is immutable, entries stay
+ * valid across JVM restarts and are picked up again when a new instance is created for the same
+ * directory. Cached content is memory-mapped when read, so it does not count against the heap.
+ *
+ * <p>When the total size of cached files exceeds {@link #maxTotalBytes()}, the least recently used
+ * entries are deleted. All operations are best-effort: I/O failures are logged and reported as a
+ * cache miss so that callers fall back to reading from the source file.
+ */
+public class DiskContentCache {
+  private static final Logger LOG = LoggerFactory.getLogger(DiskContentCache.class);
+  private static final String TEMP_PREFIX = ".tmp-";
+  private static final long MAX_MAPPED_CHUNK_SIZE = 1024 * 1024 * 1024; // 1GB
+
+  private final Path directory;
+  private final long maxTotalBytes;
+  // cache key -> content length, in access order so that iteration starts at the LRU entry
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLong hitCount = new AtomicLong(0L);
+  private final AtomicLong missCount = new AtomicLong(0L);
+  private long totalBytes = 0L;
+
+  /**
+   * Constructor for DiskContentCache class.
+   *
+   * @param directory local directory used to store cached content. It is created if it does not
+   *     exist, and entries that are already present in it are reused.
+   * @param maxTotalBytes controls the maximum total amount of bytes to keep on disk. Must be
+   *     greater than 0.
+   */
+  public DiskContentCache(String directory, long maxTotalBytes) {
+    ValidationException.check(directory != null, "directory is null");
+    ValidationException.check(maxTotalBytes > 0, "maxTotalBytes is equal or less than 0");
+    this.directory = Paths.get(directory);
+    this.maxTotalBytes = maxTotalBytes;
+
+    try {
+      Files.createDirectories(this.directory);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to create cache directory: %s", directory);
+    }
+
+    loadExistingEntries();
+  }
+
+  public String directory() {
+    return directory.toString();
+  }
+
+  public long maxTotalBytes() {
+    return maxTotalBytes;
+  }
+
+  public synchronized long totalBytes() {
+    return totalBytes;
+  }
+
+  public synchronized long entryCount() {
+    return entries.size();
+  }
+
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Returns the cached content for a file, or null if it is not cached.
+   *
+   * @param location the location of the source file
+   * @param length the length of the source file
+   * @return a list of read-only, memory-mapped buffers, or null if the content is not cached
+   */
+  public List<ByteBuffer> get(String location, long length) {
+    String key = key(location, length);
+    Path path = directory.resolve(key);
+
+    boolean known;
+    synchronized (this) {
+      known = entries.get(key) != null;
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() != length) {
+        // a partially written or otherwise corrupted entry; drop it
+        remove(key);
+        missCount.incrementAndGet();
+        return null;
+      }
+
+      if (!known) {
+        // written by another process sharing the same directory
+        register(key, length);
+      }
+
+      List<ByteBuffer> buffers = map(channel, length);
+      hitCount.incrementAndGet();
+      return buffers;
+
+    } catch (NoSuchFileException e) {
+      if (known) {
+        // deleted outside of this instance
+        remove(key);
+      }
+
+      missCount.incrementAndGet();
+      return null;
+
+    } catch (IOException e) {
+      LOG.warn("Failed to read {} from disk cache {}", location, directory, e);
+      missCount.incrementAndGet();
+      return null;
+    }
+  }
+
+  /**
+   * Stores the content of a file.
+   *
+   * <p>Content that is larger than {@link #maxTotalBytes()} is not stored. The buffers are not
+   * modified.
+   *
+   * @param location the location of the source file
+   * @param length the length of the source file
+   * @param buffers the complete content of the source file
+   */
+  public void put(String location, long length, List<ByteBuffer> buffers) {
+    if (length > maxTotalBytes) {
+      return;
+    }
+
+    String key = key(location, length);
+    Path path = directory.resolve(key);
+    Path temp = directory.resolve(TEMP_PREFIX + UUID.randomUUID());
+
+    try {
+      try (FileChannel channel =
+          FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)) {
+        for (ByteBuffer buffer : buffers) {
+          ByteBuffer toWrite = buffer.duplicate();
+          while (toWrite.hasRemaining()) {
+            channel.write(toWrite);
+          }
+        }
+      }
+
+      moveIntoPlace(temp, path);
+      register(key, length);
+
+    } catch (IOException e) {
+      LOG.warn("Failed to write {} to disk cache {}", location, directory, e);
+      deleteQuietly(temp);
+    }
+  }
+
+  /** Removes the cached content of a file, if present. */
+  public void invalidate(String location, long length) {
+    remove(key(location, length));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("directory", directory)
+        .add("maxTotalBytes", maxTotalBytes)
+        .add("totalBytes", totalBytes())
+        .add("hitCount", hitCount())
+        .add("missCount", missCount())
+        .toString();
+  }
+
+  static String key(String location, long length) {
+    return Hashing.sha256().hashString(location, StandardCharsets.UTF_8) + "-" + length;
+  }
+
+  private void loadExistingEntries() {
+    List<Path> files = Lists.newArrayList();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      for (Path file : stream) {
+        if (file.getFileName().toString().startsWith(TEMP_PREFIX)) {
+          // left behind by a process that did not finish writing
+          deleteQuietly(file);
+        } else if (Files.isRegularFile(file)) {
+          files.add(file);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to list cache directory: %s", directory);
+    }
+
+    // register the oldest files first so that they are evicted first
+    files.sort(Comparator.comparingLong(DiskContentCache::lastModified));
+    for (Path file : files) {
+      try {
+        register(file.getFileName().toString(), Files.size(file));
+      } catch (IOException e) {
+        LOG.warn("Ignoring unreadable cache entry {}", file, e);
+      }
+    }
+  }
+
+  private void register(String key, long length) {
+    List<String> evicted = Lists.newArrayList();
+    synchronized (this) {
+      Long previous = entries.put(key, length);
+      if (previous != null) {
+        totalBytes -= previous;
+      }
+
+      totalBytes += length;
+
+      Iterator<Map.Entry<String, Long>> iter = entries.entrySet().iterator();
+      while (totalBytes > maxTotalBytes && iter.hasNext()) {
+        Map.Entry<String, Long> eldest = iter.next();
+        if (!eldest.getKey().equals(key)) {
+          totalBytes -= eldest.getValue();
+          evicted.add(eldest.getKey());
+          iter.remove();
+        }
+      }
+    }
+
+    for (String evictedKey : evicted) {
+      LOG.debug("Evicted {} from disk cache {}", evictedKey, directory);
+      deleteQuietly(directory.resolve(evictedKey));
+    }
+  }
+
+  private void remove(String key) {
+    synchronized (this) {
+      Long length = entries.remove(key);
+      if (length != null) {
+        totalBytes -= length;
+      }
+    }
+
+    deleteQuietly(directory.resolve(key));
+  }
+
+  private static List<ByteBuffer> map(FileChannel channel, long length) throws IOException {
+    List<ByteBuffer> buffers = Lists.newArrayList();
+    long position = 0L;
+    while (position < length) {
+      long size = Math.min(MAX_MAPPED_CHUNK_SIZE, length - position);
+      buffers.add(channel.map(FileChannel.MapMode.READ_ONLY, position, size).asReadOnlyBuffer());
+      position += size;
+    }
+
+    return buffers;
+  }
+
+  private static void moveIntoPlace(Path source, Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0L;
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete {} from disk cache", file, e);
+    }
+  }
+}
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * Utility methods to implement {@link RangeReadable#readVectored} on top of positional reads.
+ *
+ * <p>Ranges are sorted and nearby ranges are coalesced into a single request when the gap between
+ * them is at most a maximum gap size and the merged request is at most a maximum request size.
+ * Requests that are larger than the maximum request size, which can only contain a single range,
+ * are split into several parts. All parts are read in parallel.
+ *
+ * <p>Each request is read directly into a single buffer from the caller's allocate function. The
+ * ranges of a coalesced request are returned as slices of that buffer, which also holds the gaps
+ * between them.
+ *
+ * <p>This class also implements multipart downloads, which split a single large positional read
+ * into parts that are fetched in parallel and reassembled in order.
+ */
+public class FileRanges {
+  /** Default maximum number of bytes between two ranges that are read in the same request. */
+  public static final int MAX_GAP_BYTES_DEFAULT = 128 * 1024;
+
+  /** Default maximum number of bytes to read in a single request. */
+  public static final int MAX_REQUEST_BYTES_DEFAULT = 8 * 1024 * 1024;
+
+  /** Default size of each part of a multipart download. */
+  public static final int DOWNLOAD_PART_SIZE_BYTES_DEFAULT = 8 * 1024 * 1024;
+
+  private FileRanges() {}
+
+  /** Reads a range of a file with a single request. */
+  @FunctionalInterface
+  public interface RangeReader {
+    void readFully(long position, byte[] buffer, int offset, int length) throws IOException;
+  }
+
+  private static class ReadPoolHolder {
+    private static final ExecutorService READ_POOL =
+        ThreadPools.newExitingWorkerPool(
+            "iceberg-vectored-read-pool", ThreadPools.WORKER_THREAD_POOL_SIZE);
+  }
+
+  // parts are fetched by a separate pool because vectored reads may block waiting for them
+  private static class DownloadPoolHolder {
+    private static final ExecutorService DOWNLOAD_POOL =
+        ThreadPools.newExitingWorkerPool(
+            "iceberg-multipart-download-pool", ThreadPools.WORKER_THREAD_POOL_SIZE);
+  }
+
+  /**
+   * Reads a range of a file into a buffer, splitting it into parts that are fetched in parallel.
+   *
+   * <p>Ranges that are not larger than the part size are read with a single request in the calling
+   * thread. Otherwise, each part is read directly into its place in the buffer using a shared
+   * download pool and this method returns once all parts are read.
+   *
+   * @param reader reads a part with a single request; must support concurrent calls
+   * @param position position in the file to read from
+   * @param buffer a buffer to read into
+   * @param offset offset in the buffer to start writing at
+   * @param length number of bytes to read
+   * @param partSizeBytes maximum number of bytes to read in a single request
+   * @throws IOException if any part cannot be read
+   */
+  public static void readFully(
+      RangeReader reader,
+      long position,
+      byte[] buffer,
+      int offset,
+      int length,
+      int partSizeBytes)
+      throws IOException {
+    Preconditions.checkArgument(partSizeBytes > 0, "Invalid part size: %s", partSizeBytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, buffer.length);
+
+    if (length <= partSizeBytes) {
+      reader.readFully(position, buffer, offset, length);
+      return;
+    }
+
+    List<Future<?>> parts = Lists.newArrayList();
+    for (int partOffset = 0; partOffset < length; partOffset += partSizeBytes) {
+      long partPosition = position + partOffset;
+      int bufferOffset = offset + partOffset;
+      int partLength = Math.min(partSizeBytes, length - partOffset);
+      parts.add(
+          DownloadPoolHolder.DOWNLOAD_POOL.submit(
+              () -> {
+                reader.readFully(partPosition, buffer, bufferOffset, partLength);
+                return null;
+              }));
+    }
+
+    awaitParts(parts);
+  }
+
+  private static void awaitParts(List<Future<?>> parts) throws IOException {
+    try {
+      for (Future<?> part : parts) {
+        part.get();
+      }
+    } catch (InterruptedException e) {
+      parts.forEach(part -> part.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading parts");
+    } catch (ExecutionException e) {
+      parts.forEach(part -> part.cancel(true));
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+
+      throw new IOException("Failed to read part", cause);
+    }
+  }
+
+  /**
+   * Reads ranges in parallel using a shared read pool.
+   *
+   * @param source a source that supports concurrent calls to {@link RangeReadable#readFully(long,
+   *     byte[], int, int)}
+   * @param ranges the ranges to read
+   * @param allocate a function to allocate a buffer of a given size for the data of a request
+   * @param maxGapBytes maximum number of bytes between two ranges that are read in one request
+   * @param maxRequestBytes maximum number of bytes to read in a single request
+   */
+  public static void readVectored(
+      RangeReadable source,
+      List<FileRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      int maxGapBytes,
+      int maxRequestBytes) {
+    readVectored(source, ranges, allocate, maxGapBytes, maxRequestBytes, ReadPoolHolder.READ_POOL);
+  }
+
+  /**
+   * Reads ranges in parallel using an executor.
+   *
+   * <p>This method returns once the reads are submitted. The future of each range is completed
+   * when the request that contains the range completes.
+   *
+   * @param source a source that supports concurrent calls to {@link RangeReadable#readFully(long,
+   *     byte[], int, int)}
+   * @param ranges the ranges to read
+   * @param allocate a function to allocate a buffer of a given size for the data of a request
+   * @param maxGapBytes maximum number of bytes between two ranges that are read in one request
+   * @param maxRequestBytes maximum number of bytes to read in a single request
+   * @param executor an executor to run requests
+   */
+  public static void readVectored(
+      RangeReadable source,
+      List<FileRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      int maxGapBytes,
+      int maxRequestBytes,
+      ExecutorService executor) {
+    for (CombinedRange combined : coalesce(ranges, maxGapBytes, maxRequestBytes)) {
+      read(source, combined, allocate, maxRequestBytes, executor);
+    }
+  }
+
+  /**
+   * Coalesces ranges into requests.
+   *
+   * @param ranges the ranges to read
+   * @param maxGapBytes maximum number of bytes between two ranges that are read in one request
+   * @param maxRequestBytes maximum size of a request that contains more than one range
+   * @return requests that contain all ranges, ordered by offset
+   * @throws IllegalArgumentException if ranges overlap
+   */
+  static List<CombinedRange> coalesce(
+      List<FileRange> ranges, int maxGapBytes, int maxRequestBytes) {
+    Preconditions.checkArgument(maxGapBytes >= 0, "Invalid max gap size: %s", maxGapBytes);
+    Preconditions.checkArgument(
+        maxRequestBytes > 0, "Invalid max request size: %s", maxRequestBytes);
+
+    List<FileRange> sorted = Lists.newArrayList(ranges);
+    sorted.sort(Comparator.comparingLong(FileRange::offset));
+
+    List<CombinedRange> combinedRanges = Lists.newArrayList();
+    CombinedRange current = null;
+    for (FileRange range : sorted) {
+      if (current != null) {
+        Preconditions.checkArgument(
+            range.offset() >= current.end(),
+            "Cannot read overlapping ranges: %s and %s",
+            current.lastRange(),
+            range);
+      }
+
+      if (current != null
+          && range.offset() - current.end() <= maxGapBytes
+          && range.end() - current.offset() <= maxRequestBytes) {
+        current.add(range);
+      } else {
+        current = new CombinedRange(range);
+        combinedRanges.add(current);
+      }
+    }
+
+    return combinedRanges;
+  }
+
+  private static void read(
+      RangeReadable source,
+      CombinedRange combined,
+      IntFunction<ByteBuffer> allocate,
+      int maxRequestBytes,
+      ExecutorService executor) {
+    int length = (int) (combined.end() - combined.offset());
+    ByteBuffer buffer;
+    try {
+      buffer = allocate.apply(length);
+    } catch (RuntimeException e) {
+      combined.fail(e);
+      return;
+    }
+
+    List<CompletableFuture<Void>> parts = Lists.newArrayList();
+    for (int partOffset = 0; partOffset < length; partOffset += maxRequestBytes) {
+      long position = combined.offset() + partOffset;
+      int offset = partOffset;
+      int partLength = Math.min(maxRequestBytes, length - partOffset);
+      parts.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  readPart(source, position, buffer, offset, partLength);
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              },
+              executor));
+    }
+
+    CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0]))
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                combined.fail(unwrap(error));
+              } else {
+                combined.complete(buffer);
+              }
+            });
+  }
+
+  /** Reads a part of a request into its place in the request's buffer. */
+  private static void readPart(
+      RangeReadable source, long position, ByteBuffer buffer, int offset, int length)
+      throws IOException {
+    int bufferOffset = buffer.position() + offset;
+    if (buffer.hasArray()) {
+      source.readFully(position, buffer.array(), buffer.arrayOffset() + bufferOffset, length);
+    } else {
+      // direct buffers can only be filled from an array
+      byte[] part = new byte[length];
+      source.readFully(position, part, 0, length);
+      ByteBuffer target = buffer.duplicate();
+      target.position(bufferOffset);
+      target.put(part);
+    }
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    Throwable cause = error;
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+
+    if (cause instanceof UncheckedIOException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+
+    return cause;
+  }
+
+  /** A request that reads one or more ranges. */
+  static class CombinedRange {
+    private final long offset;
+    private final List<FileRange> ranges = Lists.newArrayList();
+    private long end;
+
+    private CombinedRange(FileRange range) {
+      this.offset = range.offset();
+      this.end = range.end();
+      ranges.add(range);
+    }
+
+    long offset() {
+      return offset;
+    }
+
+    long end() {
+      return end;
+    }
+
+    List<FileRange> ranges() {
+      return ImmutableList.copyOf(ranges);
+    }
+
+    private FileRange lastRange() {
+      return ranges.get(ranges.size() - 1);
+    }
+
+    private void add(FileRange range) {
+      ranges.add(range);
+      this.end = range.end();
+    }
+
+    private void complete(ByteBuffer buffer) {
+      for (FileRange range : ranges) {
+        ByteBuffer rangeBuffer = buffer.duplicate();
+        int start = buffer.position() + (int) (range.offset() - offset);
+        rangeBuffer.limit(start + range.length());
+        rangeBuffer.position(start);
+        range.byteBuffer().complete(rangeBuffer.slice());
+      }
+    }
+
+    private void fail(Throwable error) {
+      for (FileRange range : ranges) {
+        range.byteBuffer().completeExceptionally(error);
+      }
+    }
+  }
+}
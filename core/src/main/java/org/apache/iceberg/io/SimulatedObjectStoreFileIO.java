@@ -0,0 +1,647 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.CatalogUtil;
+import org.apache.iceberg.inmemory.InMemoryFileIO;
+import org.apache.iceberg.metrics.FixedReservoirHistogram;
+import org.apache.iceberg.metrics.Histogram;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.SerializableMap;
+
+/**
+ * A {@link FileIO} that simulates the performance of an object store on top of another FileIO,
+ * such as {@link InMemoryFileIO} or a local file system FileIO.
+ *
+ * <p>Each simulated request waits for a configurable latency, and transfers are limited to a
+ * configurable throughput per stream. Requests can be rejected at random to simulate throttling,
+ * and listings are paged with a delay for each page. The duration of each request is recorded in a
+ * histogram per {@link Request request type}.
+ *
+ * <p>Requests are modeled on object store APIs:
+ *
+ * <ul>
+ *   <li>{@link InputFile#getLength()} and {@link InputFile#exists()} issue a HEAD request
+ *   <li>each positional read and each stream read after opening the stream or seeking issues a GET
+ *       request
+ *   <li>closing an output stream issues a PUT request
+ *   <li>each deleted file and each batch of a bulk delete issues a DELETE request
+ *   <li>each page of a listing issues a LIST request
+ * </ul>
+ *
+ * <p>This FileIO is intended for benchmarks and tests.
+ */
+public class SimulatedObjectStoreFileIO implements DelegateFileIO {
+  /** Class name of the FileIO to delegate to, if one is not passed to the constructor. */
+  public static final String DELEGATE_IO_IMPL = "simulated-store.delegate-io-impl";
+
+  /** Latency of each request, in milliseconds. */
+  public static final String REQUEST_LATENCY_MS = "simulated-store.request-latency-ms";
+
+  /** Maximum random latency added to each request, in milliseconds. */
+  public static final String REQUEST_LATENCY_JITTER_MS =
+      "simulated-store.request-latency-jitter-ms";
+
+  /** Maximum number of bytes per second read or written by a stream, or 0 for no limit. */
+  public static final String THROUGHPUT_BYTES_PER_SECOND =
+      "simulated-store.throughput-bytes-per-second";
+
+  /** Probability that a request is rejected with a {@link ThrottledException}. */
+  public static final String THROTTLE_PROBABILITY = "simulated-store.throttle-probability";
+
+  /** Latency of each page of a listing, in milliseconds. */
+  public static final String LIST_LATENCY_MS = "simulated-store.list-latency-ms";
+
+  /** Number of entries in each page of a listing. */
+  public static final String LIST_PAGE_SIZE = "simulated-store.list-page-size";
+
+  public static final int LIST_PAGE_SIZE_DEFAULT = 1000;
+
+  /** Number of files removed by each request of a bulk delete. */
+  public static final String DELETE_BATCH_SIZE = "simulated-store.delete-batch-size";
+
+  public static final int DELETE_BATCH_SIZE_DEFAULT = 1000;
+
+  /** Seed for the random latency and throttling, to make runs repeatable. */
+  public static final String SEED = "simulated-store.seed";
+
+  private static final int HISTOGRAM_RESERVOIR_SIZE = 10_000;
+
+  /** Types of requests sent to the simulated object store. */
+  public enum Request {
+    HEAD,
+    GET,
+    PUT,
+    DELETE,
+    LIST
+  }
+
+  /** Thrown when a simulated request is throttled, like an HTTP 503 Slow Down response. */
+  public static class ThrottledException extends RuntimeException {
+    public ThrottledException(Request request) {
+      super(String.format(Locale.ROOT, "Simulated 503 Slow Down for %s request", request));
+    }
+  }
+
+  private FileIO delegate;
+  private SerializableMap<String, String> properties = SerializableMap.copyOf(ImmutableMap.of());
+  private long requestLatencyNanos = 0L;
+  private long requestLatencyJitterNanos = 0L;
+  private long throughputBytesPerSecond = 0L;
+  private double throttleProbability = 0.0;
+  private long listLatencyNanos = 0L;
+  private int listPageSize = LIST_PAGE_SIZE_DEFAULT;
+  private int deleteBatchSize = DELETE_BATCH_SIZE_DEFAULT;
+  private Random random = new Random();
+  private final AtomicLong throttledRequests = new AtomicLong(0L);
+  private transient volatile Map<Request, Histogram> histograms = null;
+
+  /**
+   * No-arg constructor to load the FileIO dynamically.
+   *
+   * <p>The delegate FileIO is loaded from {@link #DELEGATE_IO_IMPL} in {@link #initialize(Map)}.
+   */
+  public SimulatedObjectStoreFileIO() {}
+
+  /**
+   * Constructor with a delegate FileIO that is already initialized.
+   *
+   * @param delegate a FileIO that stores the data of the simulated object store
+   */
+  public SimulatedObjectStoreFileIO(FileIO delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void initialize(Map<String, String> props) {
+    this.properties = SerializableMap.copyOf(props);
+
+    if (delegate == null) {
+      String impl = props.getOrDefault(DELEGATE_IO_IMPL, InMemoryFileIO.class.getName());
+      this.delegate = CatalogUtil.loadFileIO(impl, props, null);
+    }
+
+    this.requestLatencyNanos = millisToNanos(props, REQUEST_LATENCY_MS);
+    this.requestLatencyJitterNanos = millisToNanos(props, REQUEST_LATENCY_JITTER_MS);
+    this.listLatencyNanos = millisToNanos(props, LIST_LATENCY_MS);
+
+    this.throughputBytesPerSecond =
+        PropertyUtil.propertyAsLong(props, THROUGHPUT_BYTES_PER_SECOND, 0L);
+    Preconditions.checkArgument(
+        throughputBytesPerSecond >= 0,
+        "Invalid %s: %s (must be >= 0)",
+        THROUGHPUT_BYTES_PER_SECOND,
+        throughputBytesPerSecond);
+
+    this.throttleProbability = PropertyUtil.propertyAsDouble(props, THROTTLE_PROBABILITY, 0.0);
+    Preconditions.checkArgument(
+        throttleProbability >= 0.0 && throttleProbability <= 1.0,
+        "Invalid %s: %s (must be between 0 and 1)",
+        THROTTLE_PROBABILITY,
+        throttleProbability);
+
+    this.listPageSize = PropertyUtil.propertyAsInt(props, LIST_PAGE_SIZE, LIST_PAGE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        listPageSize > 0, "Invalid %s: %s (must be > 0)", LIST_PAGE_SIZE, listPageSize);
+
+    this.deleteBatchSize =
+        PropertyUtil.propertyAsInt(props, DELETE_BATCH_SIZE, DELETE_BATCH_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        deleteBatchSize > 0, "Invalid %s: %s (must be > 0)", DELETE_BATCH_SIZE, deleteBatchSize);
+
+    if (props.containsKey(SEED)) {
+      this.random = new Random(PropertyUtil.propertyAsLong(props, SEED, 0L));
+    }
+  }
+
+  private static long millisToNanos(Map<String, String> props, String property) {
+    long millis = PropertyUtil.propertyAsLong(props, property, 0L);
+    Preconditions.checkArgument(millis >= 0, "Invalid %s: %s (must be >= 0)", property, millis);
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  /** Returns the FileIO that stores the data of the simulated object store. */
+  public FileIO delegate() {
+    return delegate;
+  }
+
+  /**
+   * Returns a histogram of the duration of requests of a type, in microseconds.
+   *
+   * <p>For GET requests of streams, the duration is the time until the first byte is read. For
+   * positional reads, it includes the transfer.
+   */
+  public Histogram histogram(Request request) {
+    return histograms().get(request);
+  }
+
+  /** Returns the number of requests that were rejected by simulated throttling. */
+  public long throttledRequests() {
+    return throttledRequests.get();
+  }
+
+  /** Discards all recorded request durations and the throttled request count. */
+  public void resetStatistics() {
+    this.histograms = null;
+    throttledRequests.set(0L);
+  }
+
+  @Override
+  public InputFile newInputFile(String path) {
+    return new SimulatedInputFile(delegate.newInputFile(path));
+  }
+
+  @Override
+  public InputFile newInputFile(String path, long length) {
+    return new SimulatedInputFile(delegate.newInputFile(path, length));
+  }
+
+  @Override
+  public OutputFile newOutputFile(String path) {
+    return new SimulatedOutputFile(delegate.newOutputFile(path));
+  }
+
+  @Override
+  public void deleteFile(String path) {
+    long start = request(Request.DELETE, requestLatencyNanos);
+    try {
+      delegate.deleteFile(path);
+    } finally {
+      record(Request.DELETE, start);
+    }
+  }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    int failures = 0;
+    Iterator<List<String>> batches = Iterators.partition(pathsToDelete.iterator(), deleteBatchSize);
+    while (batches.hasNext()) {
+      List<String> batch = batches.next();
+      long start = request(Request.DELETE, requestLatencyNanos);
+      try {
+        failures += deleteBatch(batch);
+      } finally {
+        record(Request.DELETE, start);
+      }
+    }
+
+    if (failures > 0) {
+      throw new BulkDeletionFailureException(failures);
+    }
+  }
+
+  private int deleteBatch(List<String> batch) {
+    if (delegate instanceof SupportsBulkOperations) {
+      try {
+        ((SupportsBulkOperations) delegate).deleteFiles(batch);
+        return 0;
+      } catch (BulkDeletionFailureException e) {
+        return e.numberFailedObjects();
+      }
+    }
+
+    int failures = 0;
+    for (String path : batch) {
+      try {
+        delegate.deleteFile(path);
+      } catch (RuntimeException e) {
+        failures += 1;
+      }
+    }
+
+    return failures;
+  }
+
+  @Override
+  public Iterable<FileInfo> listPrefix(String prefix) {
+    SupportsPrefixOperations prefixOps = prefixOperations();
+    return () -> new PagedIterator(prefixOps.listPrefix(prefix).iterator());
+  }
+
+  @Override
+  public void deletePrefix(String prefix) {
+    SupportsPrefixOperations prefixOps = prefixOperations();
+    long start = request(Request.DELETE, requestLatencyNanos);
+    try {
+      prefixOps.deletePrefix(prefix);
+    } finally {
+      record(Request.DELETE, start);
+    }
+  }
+
+  private SupportsPrefixOperations prefixOperations() {
+    if (delegate instanceof SupportsPrefixOperations) {
+      return (SupportsPrefixOperations) delegate;
+    }
+
+    throw new UnsupportedOperationException(
+        String.format(
+            "Cannot use prefix operations: %s does not support them",
+            delegate.getClass().getName()));
+  }
+
+  @Override
+  public Map<String, String> properties() {
+    return properties.immutableMap();
+  }
+
+  @Override
+  public void close() {
+    if (delegate != null) {
+      delegate.close();
+    }
+  }
+
+  private Map<Request, Histogram> histograms() {
+    if (histograms == null) {
+      synchronized (this) {
+        if (histograms == null) {
+          Map<Request, Histogram> newHistograms = new EnumMap<>(Request.class);
+          for (Request request : Request.values()) {
+            newHistograms.put(request, new FixedReservoirHistogram(HISTOGRAM_RESERVOIR_SIZE));
+          }
+
+          this.histograms = newHistograms;
+        }
+      }
+    }
+
+    return histograms;
+  }
+
+  /**
+   * Starts a simulated request, waiting for its latency.
+   *
+   * @return the start time of the request, to pass to {@link #record(Request, long)}
+   * @throws ThrottledException if the request is throttled
+   */
+  private long request(Request request, long latencyNanos) {
+    long start = System.nanoTime();
+
+    long jitterNanos = 0L;
+    if (requestLatencyJitterNanos > 0) {
+      jitterNanos = (long) (nextRandom() * requestLatencyJitterNanos);
+    }
+
+    boolean throttled = throttleProbability > 0.0 && nextRandom() < throttleProbability;
+
+    sleep(latencyNanos + jitterNanos);
+
+    if (throttled) {
+      throttledRequests.incrementAndGet();
+      record(request, start);
+      throw new ThrottledException(request);
+    }
+
+    return start;
+  }
+
+  private synchronized double nextRandom() {
+    return random.nextDouble();
+  }
+
+  private void record(Request request, long start) {
+    histogram(request).update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+  }
+
+  /** Waits for the time it takes to transfer a number of bytes at the configured throughput. */
+  private void transfer(long bytes) {
+    if (throughputBytesPerSecond > 0 && bytes > 0) {
+      sleep(bytes * TimeUnit.SECONDS.toNanos(1) / throughputBytesPerSecond);
+    }
+  }
+
+  private static void sleep(long nanos) {
+    if (nanos <= 0) {
+      return;
+    }
+
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted during simulated request", e);
+    }
+  }
+
+  private class PagedIterator implements Iterator<FileInfo> {
+    private final Iterator<FileInfo> files;
+    private long returned = 0L;
+    private long pages = 0L;
+
+    private PagedIterator(Iterator<FileInfo> files) {
+      this.files = files;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (returned >= pages * listPageSize) {
+        // the current page is exhausted, so fetch the next one
+        record(Request.LIST, request(Request.LIST, listLatencyNanos));
+        pages += 1;
+      }
+
+      return files.hasNext();
+    }
+
+    @Override
+    public FileInfo next() {
+      hasNext();
+      FileInfo file = files.next();
+      returned += 1;
+      return file;
+    }
+  }
+
+  private class SimulatedInputFile implements InputFile {
+    private final InputFile file;
+
+    private SimulatedInputFile(InputFile file) {
+      this.file = file;
+    }
+
+    @Override
+    public long getLength() {
+      long start = request(Request.HEAD, requestLatencyNanos);
+      try {
+        return file.getLength();
+      } finally {
+        record(Request.HEAD, start);
+      }
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new SimulatedInputStream(file);
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public boolean exists() {
+      long start = request(Request.HEAD, requestLatencyNanos);
+      try {
+        return file.exists();
+      } finally {
+        record(Request.HEAD, start);
+      }
+    }
+  }
+
+  private class SimulatedInputStream extends SeekableInputStream implements RangeReadable {
+    private final InputFile file;
+    private final SeekableInputStream stream;
+    private long pos = 0L;
+    private boolean requested = false;
+
+    private SimulatedInputStream(InputFile file) {
+      this.file = file;
+      this.stream = file.newStream();
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      if (newPos != pos) {
+        // object store streams are reopened with a new GET request after a seek
+        this.requested = false;
+        this.pos = newPos;
+      }
+    }
+
+    private void startRequest() throws IOException {
+      if (!requested) {
+        record(Request.GET, request(Request.GET, requestLatencyNanos));
+        stream.seek(pos);
+        this.requested = true;
+      }
+    }
+
+    @Override
+    public int read() throws IOException {
+      startRequest();
+      int value = stream.read();
+      if (value >= 0) {
+        transfer(1);
+        pos += 1;
+      }
+
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      startRequest();
+      int bytesRead = stream.read(b, off, len);
+      if (bytesRead > 0) {
+        transfer(bytesRead);
+        pos += bytesRead;
+      }
+
+      return bytesRead;
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length)
+        throws IOException {
+      long start = request(Request.GET, requestLatencyNanos);
+      try {
+        if (stream instanceof RangeReadable) {
+          ((RangeReadable) stream).readFully(position, buffer, offset, length);
+        } else {
+          // positional reads are independent requests, so they do not use the shared stream
+          try (SeekableInputStream rangeStream = file.newStream()) {
+            rangeStream.seek(position);
+            IOUtil.readFully(rangeStream, buffer, offset, length);
+          }
+        }
+
+        transfer(length);
+      } finally {
+        record(Request.GET, start);
+      }
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) throws IOException {
+      long start = request(Request.GET, requestLatencyNanos);
+      try {
+        int bytesRead;
+        if (stream instanceof RangeReadable) {
+          bytesRead = ((RangeReadable) stream).readTail(buffer, offset, length);
+        } else {
+          try (SeekableInputStream rangeStream = file.newStream()) {
+            rangeStream.seek(Math.max(0L, file.getLength() - length));
+            bytesRead = IOUtil.readRemaining(rangeStream, buffer, offset, length);
+          }
+        }
+
+        transfer(bytesRead);
+        return bytesRead;
+      } finally {
+        record(Request.GET, start);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      super.close();
+      stream.close();
+    }
+  }
+
+  private class SimulatedOutputFile implements OutputFile {
+    private final OutputFile file;
+
+    private SimulatedOutputFile(OutputFile file) {
+      this.file = file;
+    }
+
+    @Override
+    public PositionOutputStream create() {
+      return new SimulatedOutputStream(file.create());
+    }
+
+    @Override
+    public PositionOutputStream createOrOverwrite() {
+      return new SimulatedOutputStream(file.createOrOverwrite());
+    }
+
+    @Override
+    public String location() {
+      return file.location();
+    }
+
+    @Override
+    public InputFile toInputFile() {
+      return new SimulatedInputFile(file.toInputFile());
+    }
+  }
+
+  private class SimulatedOutputStream extends PositionOutputStream {
+    private final PositionOutputStream stream;
+    private boolean closed = false;
+
+    private SimulatedOutputStream(PositionOutputStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return stream.getPos();
+    }
+
+    @Override
+    public long storedLength() throws IOException {
+      return stream.storedLength();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      stream.write(b);
+      transfer(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      stream.write(b, off, len);
+      transfer(len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      stream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+
+      // a throttled upload fails before the data is stored and can be retried
+      long start = request(Request.PUT, requestLatencyNanos);
+      try {
+        stream.close();
+        this.closed = true;
+      } finally {
+        record(Request.PUT, start);
+      }
+    }
+  }
+}
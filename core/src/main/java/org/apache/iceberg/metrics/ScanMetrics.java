@@ -41,6 +41,8 @@ public abstract class ScanMetrics {
   public static final String EQUALITY_DELETE_FILES = "equality-delete-files";
   public static final String POSITIONAL_DELETE_FILES = "positional-delete-files";
   public static final String DVS = "dvs";
+  public static final String PLANNING_PRODUCER_STALL_DURATION = "planning-producer-stall-duration";
+  public static final String PLANNING_CONSUMER_WAIT_DURATION = "planning-consumer-wait-duration";
 
   public static ScanMetrics noop() {
     return ScanMetrics.of(MetricsContext.nullMetrics());
@@ -133,6 +135,16 @@ public abstract class ScanMetrics {
     return metricsContext().counter(DVS);
   }
 
+  @Value.Derived
+  public Timer planningProducerStallDuration() {
+    return metricsContext().timer(PLANNING_PRODUCER_STALL_DURATION, TimeUnit.NANOSECONDS);
+  }
+
+  @Value.Derived
+  public Timer planningConsumerWaitDuration() {
+    return metricsContext().timer(PLANNING_CONSUMER_WAIT_DURATION, TimeUnit.NANOSECONDS);
+  }
+
   public static ScanMetrics of(MetricsContext metricsContext) {
     return ImmutableScanMetrics.builder().metricsContext(metricsContext).build();
   }
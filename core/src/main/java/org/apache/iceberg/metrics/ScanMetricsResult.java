@@ -79,6 +79,18 @@ public interface ScanMetricsResult {
     return null;
   }
 
+  @Nullable
+  @Value.Default
+  default TimerResult planningProducerStallDuration() {
+    return null;
+  }
+
+  @Nullable
+  @Value.Default
+  default TimerResult planningConsumerWaitDuration() {
+    return null;
+  }
+
   static ScanMetricsResult fromScanMetrics(ScanMetrics scanMetrics) {
     Preconditions.checkArgument(null != scanMetrics, "Invalid scan metrics: null");
     return ImmutableScanMetricsResult.builder()
@@ -100,6 +112,10 @@ public interface ScanMetricsResult {
         .equalityDeleteFiles(CounterResult.fromCounter(scanMetrics.equalityDeleteFiles()))
         .positionalDeleteFiles(CounterResult.fromCounter(scanMetrics.positionalDeleteFiles()))
         .dvs(CounterResult.fromCounter(scanMetrics.dvs()))
+        .planningProducerStallDuration(
+            TimerResult.fromTimer(scanMetrics.planningProducerStallDuration()))
+        .planningConsumerWaitDuration(
+            TimerResult.fromTimer(scanMetrics.planningConsumerWaitDuration()))
         .build();
   }
 }
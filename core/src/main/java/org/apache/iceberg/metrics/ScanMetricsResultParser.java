@@ -126,6 +126,16 @@ class ScanMetricsResultParser {
       CounterResultParser.toJson(metrics.dvs(), gen);
     }
 
+    if (null != metrics.planningProducerStallDuration()) {
+      gen.writeFieldName(ScanMetrics.PLANNING_PRODUCER_STALL_DURATION);
+      TimerResultParser.toJson(metrics.planningProducerStallDuration(), gen);
+    }
+
+    if (null != metrics.planningConsumerWaitDuration()) {
+      gen.writeFieldName(ScanMetrics.PLANNING_CONSUMER_WAIT_DURATION);
+      TimerResultParser.toJson(metrics.planningConsumerWaitDuration(), gen);
+    }
+
     gen.writeEndObject();
   }
 
@@ -165,6 +175,10 @@ class ScanMetricsResultParser {
         .positionalDeleteFiles(
             CounterResultParser.fromJson(ScanMetrics.POSITIONAL_DELETE_FILES, json))
         .dvs(CounterResultParser.fromJson(ScanMetrics.DVS, json))
+        .planningProducerStallDuration(
+            TimerResultParser.fromJson(ScanMetrics.PLANNING_PRODUCER_STALL_DURATION, json))
+        .planningConsumerWaitDuration(
+            TimerResultParser.fromJson(ScanMetrics.PLANNING_CONSUMER_WAIT_DURATION, json))
         .build();
   }
 }
@@ -22,18 +22,30 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
@@ -46,16 +58,23 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.HttpVersion;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.reactor.ssl.SSLBufferMode;
+import org.apache.iceberg.CatalogUtil;
 import org.apache.iceberg.IcebergBuild;
 import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.exceptions.RESTException;
+import org.apache.iceberg.metrics.MetricsReporter;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
@@ -95,8 +114,21 @@ public class HTTPClient extends BaseHTTPClient {
 
   static final String REST_TLS_CONFIGURER = "rest.client.tls.configurer-impl";
 
+  static final String REST_HTTP2_ENABLED = "rest.client.http2.enabled";
+  static final boolean REST_HTTP2_ENABLED_DEFAULT = false;
+
+  static final String REST_HTTP2_MAX_CONCURRENT_STREAMS =
+      "rest.client.http2.max-concurrent-streams";
+  static final int REST_HTTP2_MAX_CONCURRENT_STREAMS_DEFAULT = 100;
+
+  static final String REST_METRICS_REPORT_INTERVAL_MS = "rest.client.metrics-report-interval-ms";
+  static final long REST_METRICS_REPORT_INTERVAL_MS_DEFAULT = 60_000L;
+
   private final URI baseUri;
   private final CloseableHttpClient httpClient;
+  private final CloseableHttpAsyncClient http2Client;
+  private final Semaphore http2Streams;
+  private final HTTPClientMetrics metrics;
   private final Map<String, String> baseHeaders;
   private final ObjectMapper mapper;
   private final AuthSession authSession;
@@ -111,33 +143,70 @@ public class HTTPClient extends BaseHTTPClient {
       ObjectMapper objectMapper,
       Map<String, String> properties,
       HttpClientConnectionManager connectionManager,
-      AuthSession session) {
+      AuthSession session,
+      MetricsReporter metricsReporter) {
     this.baseUri = baseUri;
     this.baseHeaders = baseHeaders;
     this.mapper = objectMapper;
     this.authSession = session;
 
-    HttpClientBuilder clientBuilder = HttpClients.custom();
+    int maxRetries = PropertyUtil.propertyAsInt(properties, REST_MAX_RETRIES, 5);
+    String userAgent = PropertyUtil.propertyAsString(properties, REST_USER_AGENT, null);
 
-    clientBuilder.setConnectionManager(connectionManager);
+    Supplier<PoolStats> poolStats;
+    String protocol;
+    if (connectionManager != null) {
+      HttpClientBuilder clientBuilder = HttpClients.custom();
 
-    int maxRetries = PropertyUtil.propertyAsInt(properties, REST_MAX_RETRIES, 5);
-    clientBuilder.setRetryStrategy(new ExponentialHttpRequestRetryStrategy(maxRetries));
+      clientBuilder.setConnectionManager(connectionManager);
+      clientBuilder.setRetryStrategy(new ExponentialHttpRequestRetryStrategy(maxRetries));
 
-    String userAgent = PropertyUtil.propertyAsString(properties, REST_USER_AGENT, null);
-    if (userAgent != null) {
-      clientBuilder.setUserAgent(userAgent);
-    }
+      if (userAgent != null) {
+        clientBuilder.setUserAgent(userAgent);
+      }
 
-    if (proxy != null) {
-      if (proxyCredsProvider != null) {
-        clientBuilder.setDefaultCredentialsProvider(proxyCredsProvider);
+      if (proxy != null) {
+        if (proxyCredsProvider != null) {
+          clientBuilder.setDefaultCredentialsProvider(proxyCredsProvider);
+        }
+
+        clientBuilder.setProxy(proxy);
       }
 
-      clientBuilder.setProxy(proxy);
+      this.httpClient = clientBuilder.build();
+      this.http2Client = null;
+      this.http2Streams = null;
+      protocol = HttpVersion.HTTP_1_1.toString();
+      poolStats = connectionPoolStats(connectionManager);
+    } else {
+      Preconditions.checkArgument(
+          proxy == null, "Invalid http client proxy: proxies are not supported with HTTP/2");
+      int maxStreams =
+          PropertyUtil.propertyAsInt(
+              properties,
+              REST_HTTP2_MAX_CONCURRENT_STREAMS,
+              REST_HTTP2_MAX_CONCURRENT_STREAMS_DEFAULT);
+      Preconditions.checkArgument(
+          maxStreams > 0,
+          "Invalid %s: %s (must be > 0)",
+          REST_HTTP2_MAX_CONCURRENT_STREAMS,
+          maxStreams);
+
+      Semaphore streams = new Semaphore(maxStreams, true /* fair */);
+      this.httpClient = null;
+      this.http2Client = configureHttp2Client(properties, maxRetries, userAgent);
+      this.http2Streams = streams;
+      protocol = HttpVersion.HTTP_2.toString();
+      poolStats =
+          () ->
+              new PoolStats(
+                  maxStreams - streams.availablePermits(),
+                  streams.getQueueLength(),
+                  streams.availablePermits(),
+                  maxStreams);
     }
 
-    this.httpClient = clientBuilder.build();
+    this.metrics = configureMetrics(baseUri, protocol, poolStats, properties, metricsReporter);
     this.isRootClient = true;
   }
 
@@ -149,6 +218,9 @@ public class HTTPClient extends BaseHTTPClient {
   private HTTPClient(HTTPClient parent, AuthSession authSession) {
     this.baseUri = parent.baseUri;
     this.httpClient = parent.httpClient;
+    this.http2Client = parent.http2Client;
+    this.http2Streams = parent.http2Streams;
+    this.metrics = parent.metrics;
     this.mapper = parent.mapper;
     this.baseHeaders = parent.baseHeaders;
     this.authSession = authSession;
@@ -161,6 +233,17 @@ public class HTTPClient extends BaseHTTPClient {
     return new HTTPClient(this, session);
   }
 
+  private static String extractResponseBodyAsString(SimpleHttpResponse response) {
+    byte[] body = response.getBodyBytes();
+    if (body == null) {
+      return null;
+    }
+
+    ContentType contentType = response.getContentType();
+    Charset charset = contentType != null ? contentType.getCharset() : null;
+    return new String(body, charset != null ? charset : StandardCharsets.UTF_8);
+  }
+
   private static String extractResponseBodyAsString(CloseableHttpResponse response) {
     try {
       if (response.getEntity() == null) {
@@ -174,14 +257,14 @@ public class HTTPClient extends BaseHTTPClient {
     }
   }
 
-  private static boolean isSuccessful(CloseableHttpResponse response) {
+  private static boolean isSuccessful(HttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
         || code == HttpStatus.SC_NO_CONTENT;
   }
 
-  private static ErrorResponse buildDefaultErrorResponse(CloseableHttpResponse response) {
+  private static ErrorResponse buildDefaultErrorResponse(HttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -198,7 +281,7 @@ public class HTTPClient extends BaseHTTPClient {
   // Process a failed response through the provided errorHandler, and throw a RESTException if the
   // provided error handler doesn't already throw.
   private static void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      HttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
 
     if (responseBody != null) {
@@ -303,57 +386,144 @@ public class HTTPClient extends BaseHTTPClient {
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders,
       ParserContext parserContext) {
-    HttpUriRequestBase request = new HttpUriRequestBase(req.method().name(), req.requestUri());
+    long startNanos = System.nanoTime();
+    boolean failed = false;
+    try {
+      if (http2Client != null) {
+        SimpleHttpResponse response = executeHttp2(req);
+        return handleResponse(
+            req,
+            response,
+            () -> extractResponseBodyAsString(response),
+            responseType,
+            errorHandler,
+            responseHeaders,
+            parserContext);
+      }
+
+      HttpUriRequestBase request = new HttpUriRequestBase(req.method().name(), req.requestUri());
+
+      req.headers().entries().forEach(e -> request.addHeader(e.name(), e.value()));
+
+      String encodedBody = req.encodedBody();
+      if (encodedBody != null) {
+        request.setEntity(new StringEntity(encodedBody));
+      }
+
+      try (CloseableHttpResponse response = httpClient.execute(request)) {
+        return handleResponse(
+            req,
+            response,
+            () -> extractResponseBodyAsString(response),
+            responseType,
+            errorHandler,
+            responseHeaders,
+            parserContext);
+      }
+    } catch (IOException e) {
+      failed = true;
+      throw new RESTException(e, "Error occurred while processing %s request", req.method());
+    } catch (RuntimeException e) {
+      // error responses are thrown by the error handler or as a RESTException
+      failed = true;
+      throw e;
+    } finally {
+      metrics.requestCompleted(startNanos, failed);
+    }
+  }
+
+  private SimpleHttpResponse executeHttp2(HTTPRequest req) throws IOException {
+    SimpleRequestBuilder requestBuilder =
+        SimpleRequestBuilder.create(req.method().name()).setUri(req.requestUri());
 
-    req.headers().entries().forEach(e -> request.addHeader(e.name(), e.value()));
+    req.headers().entries().forEach(e -> requestBuilder.addHeader(e.name(), e.value()));
 
     String encodedBody = req.encodedBody();
     if (encodedBody != null) {
-      request.setEntity(new StringEntity(encodedBody));
+      // use the same encoding as the StringEntity of classic requests
+      requestBuilder.setBody(encodedBody, ContentType.DEFAULT_TEXT);
     }
 
-    try (CloseableHttpResponse response = httpClient.execute(request)) {
-      Map<String, String> respHeaders = Maps.newHashMap();
-      for (Header header : response.getHeaders()) {
-        respHeaders.put(header.getName(), header.getValue());
-      }
+    try {
+      http2Streams.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for an HTTP/2 stream");
+    }
 
-      responseHeaders.accept(respHeaders);
+    try {
+      return awaitResponse(http2Client.execute(requestBuilder.build(), null));
+    } finally {
+      http2Streams.release();
+    }
+  }
 
-      // Skip parsing the response stream for any successful request not expecting a response body
-      if (response.getCode() == HttpStatus.SC_NO_CONTENT
-          || (responseType == null && isSuccessful(response))) {
-        return null;
+  private static SimpleHttpResponse awaitResponse(Future<SimpleHttpResponse> future)
+      throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for an HTTP/2 response");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
+      throw new IOException(cause);
+    }
+  }
 
-      if (!isSuccessful(response)) {
-        // The provided error handler is expected to throw, but a RESTException is thrown if not.
-        throwFailure(response, responseBody, errorHandler);
-      }
+  private <T extends RESTResponse> T handleResponse(
+      HTTPRequest req,
+      HttpResponse response,
+      Supplier<String> responseBodySupplier,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders,
+      ParserContext parserContext) {
+    Map<String, String> respHeaders = Maps.newHashMap();
+    for (Header header : response.getHeaders()) {
+      respHeaders.put(header.getName(), header.getValue());
+    }
 
-      if (responseBody == null) {
-        throw new RESTException(
-            "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
-            responseType.getSimpleName(), req.method(), req.path(), response.getCode());
-      }
+    responseHeaders.accept(respHeaders);
 
-      try {
-        ObjectReader reader = objectReaderCache.computeIfAbsent(responseType, mapper::readerFor);
-        if (parserContext != null && !parserContext.isEmpty()) {
-          reader = reader.with(parserContext.toInjectableValues());
-        }
-        return reader.readValue(responseBody);
-      } catch (JsonProcessingException e) {
-        throw new RESTException(
-            e,
-            "Received a success response code of %d, but failed to parse response body into %s",
-            response.getCode(),
-            responseType.getSimpleName());
+    // Skip parsing the response stream for any successful request not expecting a response body
+    if (response.getCode() == HttpStatus.SC_NO_CONTENT
+        || (responseType == null && isSuccessful(response))) {
+      return null;
+    }
+
+    String responseBody = responseBodySupplier.get();
+
+    if (!isSuccessful(response)) {
+      // The provided error handler is expected to throw, but a RESTException is thrown if not.
+      throwFailure(response, responseBody, errorHandler);
+    }
+
+    if (responseBody == null) {
+      throw new RESTException(
+          "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
+          responseType.getSimpleName(), req.method(), req.path(), response.getCode());
+    }
+
+    try {
+      ObjectReader reader = objectReaderCache.computeIfAbsent(responseType, mapper::readerFor);
+      if (parserContext != null && !parserContext.isEmpty()) {
+        reader = reader.with(parserContext.toInjectableValues());
       }
-    } catch (IOException e) {
-      throw new RESTException(e, "Error occurred while processing %s request", req.method());
+      return reader.readValue(responseBody);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType.getSimpleName());
     }
   }
 
@@ -362,10 +532,109 @@ public class HTTPClient extends BaseHTTPClient {
     // Do not close the AuthSession as it's managed by the owner of this HTTPClient.
     // Only close the underlying Apache HTTP client if this is a root HTTPClient.
     if (isRootClient) {
-      httpClient.close(CloseMode.GRACEFUL);
+      metrics.close();
+      if (httpClient != null) {
+        httpClient.close(CloseMode.GRACEFUL);
+      } else {
+        http2Client.close(CloseMode.GRACEFUL);
+      }
     }
   }
 
+  @VisibleForTesting
+  HTTPClientReport metricsReport() {
+    return metrics.currentReport();
+  }
+
+  private static Supplier<PoolStats> connectionPoolStats(
+      HttpClientConnectionManager connectionManager) {
+    if (connectionManager instanceof ConnPoolControl) {
+      ConnPoolControl<?> pool = (ConnPoolControl<?>) connectionManager;
+      return pool::getTotalStats;
+    }
+
+    return () -> new PoolStats(0, 0, 0, 0);
+  }
+
+  private static HTTPClientMetrics configureMetrics(
+      URI baseUri,
+      String protocol,
+      Supplier<PoolStats> poolStats,
+      Map<String, String> properties,
+      MetricsReporter metricsReporter) {
+    Long reportIntervalMs =
+        PropertyUtil.propertyAsNullableLong(properties, REST_METRICS_REPORT_INTERVAL_MS);
+    Preconditions.checkArgument(
+        reportIntervalMs == null || reportIntervalMs >= 0,
+        "Invalid %s: %s (must be >= 0)",
+        REST_METRICS_REPORT_INTERVAL_MS,
+        reportIntervalMs);
+
+    // a reporter is only loaded from the catalog properties when reporting is configured
+    MetricsReporter reporter = metricsReporter;
+    boolean ownsReporter = false;
+    if (reporter == null && reportIntervalMs != null) {
+      reporter = CatalogUtil.loadMetricsReporter(properties);
+      ownsReporter = true;
+    }
+
+    return new HTTPClientMetrics(
+        baseUri,
+        protocol,
+        poolStats,
+        reporter,
+        ownsReporter,
+        reportIntervalMs != null ? reportIntervalMs : REST_METRICS_REPORT_INTERVAL_MS_DEFAULT);
+  }
+
+  @SuppressWarnings("deprecation")
+  static CloseableHttpAsyncClient configureHttp2Client(
+      Map<String, String> properties, int maxRetries, String userAgent) {
+    H2AsyncClientBuilder clientBuilder =
+        HttpAsyncClients.customHttp2()
+            .useSystemProperties()
+            .setRetryStrategy(new ExponentialHttpRequestRetryStrategy(maxRetries));
+
+    if (userAgent != null) {
+      clientBuilder.setUserAgent(userAgent);
+    }
+
+    Long connectionTimeoutMillis =
+        PropertyUtil.propertyAsNullableLong(properties, REST_CONNECTION_TIMEOUT_MS);
+    if (connectionTimeoutMillis != null) {
+      // the HTTP/2 client does not use a connection manager, so the connect timeout is set on the
+      // default request config
+      clientBuilder.setDefaultRequestConfig(
+          RequestConfig.custom()
+              .setConnectTimeout(connectionTimeoutMillis, TimeUnit.MILLISECONDS)
+              .build());
+    }
+
+    Integer socketTimeoutMillis =
+        PropertyUtil.propertyAsNullableInt(properties, REST_SOCKET_TIMEOUT_MS);
+    if (socketTimeoutMillis != null) {
+      clientBuilder.setIOReactorConfig(
+          IOReactorConfig.custom()
+              .setSoTimeout(socketTimeoutMillis, TimeUnit.MILLISECONDS)
+              .build());
+    }
+
+    TLSConfigurer tlsConfigurer = loadTlsConfigurer(properties);
+    if (tlsConfigurer != null) {
+      clientBuilder.setTlsStrategy(
+          new DefaultClientTlsStrategy(
+              tlsConfigurer.sslContext(),
+              tlsConfigurer.supportedProtocols(),
+              tlsConfigurer.supportedCipherSuites(),
+              SSLBufferMode.STATIC,
+              tlsConfigurer.hostnameVerifier()));
+    }
+
+    CloseableHttpAsyncClient client = clientBuilder.build();
+    client.start();
+    return client;
+  }
+
   static HttpClientConnectionManager configureConnectionManager(Map<String, String> properties) {
     PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder =
         PoolingHttpClientConnectionManagerBuilder.create();
@@ -472,6 +741,7 @@ public class HTTPClient extends BaseHTTPClient {
     private HttpHost proxy;
     private CredentialsProvider proxyCredentialsProvider;
     private AuthSession authSession;
+    private MetricsReporter metricsReporter;
 
     private Builder(Map<String, String> properties) {
       this.properties = properties;
@@ -526,6 +796,17 @@ public class HTTPClient extends BaseHTTPClient {
       return this;
     }
 
+    /**
+     * Sets the reporter that receives {@link HTTPClientReport}s.
+     *
+     * <p>When not set, a reporter is loaded from {@code metrics-reporter-impl} if {@code
+     * rest.client.metrics-report-interval-ms} is set.
+     */
+    public Builder withMetricsReporter(MetricsReporter reporter) {
+      this.metricsReporter = reporter;
+      return this;
+    }
+
     public HTTPClient build() {
       withHeader(CLIENT_VERSION_HEADER, IcebergBuild.fullVersion());
       withHeader(CLIENT_GIT_COMMIT_SHORT_HEADER, IcebergBuild.gitCommitShortId());
@@ -561,6 +842,10 @@ public class HTTPClient extends BaseHTTPClient {
             proxy, "Invalid http client proxy for proxy credentials provider: null");
       }
 
+      boolean http2Enabled =
+          PropertyUtil.propertyAsBoolean(
+              properties, HTTPClient.REST_HTTP2_ENABLED, HTTPClient.REST_HTTP2_ENABLED_DEFAULT);
+
       return new HTTPClient(
           uri,
           proxy,
@@ -568,8 +853,9 @@ public class HTTPClient extends BaseHTTPClient {
           baseHeaders,
           mapper,
           properties,
-          configureConnectionManager(properties),
-          authSession);
+          http2Enabled ? null : configureConnectionManager(properties),
+          authSession,
+          metricsReporter);
     }
   }
 }
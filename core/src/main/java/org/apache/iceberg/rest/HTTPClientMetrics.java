@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.metrics.TimerResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks request latency of an {@link HTTPClient} and reports {@link HTTPClientReport}s.
+ *
+ * <p>Reports are sent from request threads when a request completes and the report interval has
+ * passed since the last report, so that no background thread is needed. A final report is sent
+ * when the client is closed.
+ */
+class HTTPClientMetrics implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(HTTPClientMetrics.class);
+
+  private final URI baseUri;
+  private final String protocol;
+  private final Supplier<PoolStats> poolStats;
+  private final MetricsReporter reporter;
+  private final boolean closeReporter;
+  private final long reportIntervalNanos;
+  private final Timer requestDuration;
+  private final Counter failedRequests;
+  private final AtomicLong lastReportNanos;
+
+  /**
+   * @param reporter a reporter to send reports to, or null to only track metrics
+   * @param closeReporter whether the reporter is owned by the client and closed with it
+   */
+  HTTPClientMetrics(
+      URI baseUri,
+      String protocol,
+      Supplier<PoolStats> poolStats,
+      MetricsReporter reporter,
+      boolean closeReporter,
+      long reportIntervalMs) {
+    this.baseUri = baseUri;
+    this.protocol = protocol;
+    this.poolStats = poolStats;
+    this.reporter = reporter;
+    this.closeReporter = closeReporter;
+    this.reportIntervalNanos = TimeUnit.MILLISECONDS.toNanos(reportIntervalMs);
+    MetricsContext context = new DefaultMetricsContext();
+    this.requestDuration = context.timer("request-duration", TimeUnit.NANOSECONDS);
+    this.failedRequests = context.counter("failed-requests", MetricsContext.Unit.COUNT);
+    this.lastReportNanos = new AtomicLong(System.nanoTime());
+  }
+
+  void requestCompleted(long startNanos, boolean failed) {
+    long now = System.nanoTime();
+    requestDuration.record(now - startNanos, TimeUnit.NANOSECONDS);
+    if (failed) {
+      failedRequests.increment();
+    }
+
+    long lastReport = lastReportNanos.get();
+    if (reporter != null
+        && now - lastReport >= reportIntervalNanos
+        && lastReportNanos.compareAndSet(lastReport, now)) {
+      report();
+    }
+  }
+
+  HTTPClientReport currentReport() {
+    PoolStats stats = poolStats.get();
+    return ImmutableHTTPClientReport.builder()
+        .baseUri(baseUri)
+        .protocol(protocol)
+        .leased(stats.getLeased())
+        .pending(stats.getPending())
+        .available(stats.getAvailable())
+        .max(stats.getMax())
+        .requestDuration(TimerResult.fromTimer(requestDuration))
+        .failedRequests(CounterResult.fromCounter(failedRequests))
+        .build();
+  }
+
+  private void report() {
+    try {
+      reporter.report(currentReport());
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to report HTTP client metrics for {}", baseUri, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (reporter != null) {
+      report();
+      if (closeReporter) {
+        reporter.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.net.URI;
+import javax.annotation.Nullable;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.immutables.value.Value;
+
+/**
+ * A report of the connection pool state and request latency of an {@link HTTPClient}.
+ *
+ * <p>With HTTP/1.1, pool values count connections. With HTTP/2, requests are multiplexed over
+ * shared connections and pool values count concurrent streams instead.
+ *
+ * <p>Request metrics are cumulative since the client was created.
+ */
+@Value.Immutable
+public interface HTTPClientReport extends MetricsReport {
+
+  @Nullable
+  URI baseUri();
+
+  /** Returns the HTTP protocol used by the client, either HTTP/1.1 or HTTP/2.0. */
+  String protocol();
+
+  /** Returns the number of connections or streams that are serving requests. */
+  int leased();
+
+  /** Returns the number of requests waiting for a connection or stream. */
+  int pending();
+
+  /** Returns the number of idle connections or unused streams. */
+  int available();
+
+  /** Returns the maximum number of connections or streams. */
+  int max();
+
+  /** Returns the duration of completed requests, including retries. */
+  TimerResult requestDuration();
+
+  /** Returns the number of requests that failed, either without a response or with an error. */
+  CounterResult failedRequests();
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A set of byte arrays that uses open addressing with linear probing.
+ *
+ * <p>Each value is stored as a plain byte array together with its precomputed hash, so checking
+ * whether a value is in the set compares hashes first and only compares bytes on a hash match.
+ * Character sequences are stored and looked up by their UTF-8 encoding; lookups encode into a
+ * reusable per-thread buffer instead of allocating a new array. Sequences that have no UTF-8
+ * encoding, such as those with unpaired surrogates, cannot be added and are never contained.
+ *
+ * <p>This class is not thread-safe for writes; concurrent reads are safe once the set is no longer
+ * modified.
+ */
+public class BinaryHashSet {
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int INITIAL_BUFFER_SIZE = 64;
+
+  private final ThreadLocal<Utf8Buffer> buffers = ThreadLocal.withInitial(Utf8Buffer::new);
+  private byte[][] slots;
+  private int[] hashes;
+  private int mask;
+  private int size = 0;
+
+  public BinaryHashSet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public BinaryHashSet(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Invalid expected size: %s", expectedSize);
+    int capacity = capacityFor(expectedSize);
+    this.slots = new byte[capacity][];
+    this.hashes = new int[capacity];
+    this.mask = capacity - 1;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds a value to the set. The array is not copied and must not be modified afterwards.
+   *
+   * @param value a value
+   * @return true if the value was not already in the set
+   */
+  public boolean add(byte[] value) {
+    Preconditions.checkArgument(value != null, "Invalid value: null");
+    int hash = hash(value, 0, value.length);
+    int index = find(hash, value, 0, value.length);
+    if (slots[index] != null) {
+      return false;
+    }
+
+    slots[index] = value;
+    hashes[index] = hash;
+    this.size += 1;
+
+    if (size > slots.length / 2) {
+      resize();
+    }
+
+    return true;
+  }
+
+  /**
+   * Adds the UTF-8 encoding of a character sequence to the set.
+   *
+   * @param value a character sequence
+   * @return true if the value was not already in the set
+   * @throws IllegalArgumentException if the value cannot be encoded as UTF-8
+   */
+  public boolean add(CharSequence value) {
+    Preconditions.checkArgument(value != null, "Invalid value: null");
+    Utf8Buffer buffer = buffers.get();
+    Preconditions.checkArgument(buffer.encode(value), "Cannot encode value as UTF-8: %s", value);
+    if (contains(buffer.bytes, 0, buffer.length)) {
+      return false;
+    }
+
+    return add(Arrays.copyOf(buffer.bytes, buffer.length));
+  }
+
+  /** Adds all values from another set to this set. */
+  public void addAll(BinaryHashSet other) {
+    other.forEach(this::add);
+  }
+
+  public boolean contains(byte[] value) {
+    return value != null && contains(value, 0, value.length);
+  }
+
+  public boolean contains(byte[] bytes, int offset, int length) {
+    int index = find(hash(bytes, offset, length), bytes, offset, length);
+    return slots[index] != null;
+  }
+
+  /** Checks whether the remaining bytes of the buffer are in the set, without consuming them. */
+  public boolean contains(ByteBuffer value) {
+    if (value == null) {
+      return false;
+    } else if (value.hasArray()) {
+      return contains(value.array(), value.arrayOffset() + value.position(), value.remaining());
+    } else {
+      Utf8Buffer buffer = buffers.get().copy(value);
+      return contains(buffer.bytes, 0, buffer.length);
+    }
+  }
+
+  /** Checks whether the UTF-8 encoding of a character sequence is in the set. */
+  public boolean contains(CharSequence value) {
+    if (value == null) {
+      return false;
+    }
+
+    // only values with a UTF-8 encoding can be added, so a value without one is never contained
+    Utf8Buffer buffer = buffers.get();
+    return buffer.encode(value) && contains(buffer.bytes, 0, buffer.length);
+  }
+
+  /** Applies the consumer to all values in the set, in no particular order. */
+  public void forEach(Consumer<byte[]> consumer) {
+    for (byte[] value : slots) {
+      if (value != null) {
+        consumer.accept(value);
+      }
+    }
+  }
+
+  /** Returns an estimate of the memory used by this set, in bytes. */
+  public long sizeInBytes() {
+    // each slot holds a reference and a hash; each value has an array header
+    long sizeInBytes = 12L * slots.length;
+    for (byte[] value : slots) {
+      if (value != null) {
+        sizeInBytes += 16 + value.length;
+      }
+    }
+
+    return sizeInBytes;
+  }
+
+  private int find(int hash, byte[] bytes, int offset, int length) {
+    int index = hash & mask;
+    byte[] current;
+    while ((current = slots[index]) != null) {
+      if (hashes[index] == hash && equals(current, bytes, offset, length)) {
+        return index;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    return index;
+  }
+
+  private void resize() {
+    Preconditions.checkState(slots.length < MAX_CAPACITY, "Cannot grow set beyond max capacity");
+    byte[][] oldSlots = slots;
+    int[] oldHashes = hashes;
+    this.slots = new byte[oldSlots.length * 2][];
+    this.hashes = new int[oldSlots.length * 2];
+    this.mask = slots.length - 1;
+
+    for (int i = 0; i < oldSlots.length; i += 1) {
+      if (oldSlots[i] != null) {
+        int index = oldHashes[i] & mask;
+        while (slots[index] != null) {
+          index = (index + 1) & mask;
+        }
+
+        slots[index] = oldSlots[i];
+        hashes[index] = oldHashes[i];
+      }
+    }
+  }
+
+  private static boolean equals(byte[] value, byte[] bytes, int offset, int length) {
+    return value.length == length
+        && Arrays.equals(value, 0, length, bytes, offset, offset + length);
+  }
+
+  private static int capacityFor(int expectedSize) {
+    // keep the load factor at or below 0.5 to keep probe sequences short
+    long capacity = Math.max(DEFAULT_CAPACITY, 2L * expectedSize);
+    Preconditions.checkArgument(
+        capacity <= MAX_CAPACITY, "Invalid expected size: %s", expectedSize);
+    return Integer.highestOneBit((int) capacity - 1) << 1;
+  }
+
+  private static int hash(byte[] bytes, int offset, int length) {
+    int hash = length;
+    for (int i = offset; i < offset + length; i += 1) {
+      hash = 31 * hash + bytes[i];
+    }
+
+    // the finalization step of MurmurHash3 to spread similar values across slots
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  /** A reusable buffer for the UTF-8 encoding of lookup values. */
+  private static class Utf8Buffer {
+    private final CharsetEncoder encoder =
+        StandardCharsets.UTF_8
+            .newEncoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+    private int length = 0;
+
+    /** Encodes a value into the buffer, returning false if it has no UTF-8 encoding. */
+    private boolean encode(CharSequence value) {
+      int maxLength = (int) Math.min(Integer.MAX_VALUE, 3L * value.length());
+      if (bytes.length < maxLength) {
+        this.bytes = new byte[maxLength];
+      }
+
+      ByteBuffer out = ByteBuffer.wrap(bytes);
+      encoder.reset();
+      CoderResult result = encoder.encode(CharBuffer.wrap(value), out, true);
+      if (result.isUnderflow()) {
+        result = encoder.flush(out);
+      }
+
+      if (result.isError()) {
+        return false;
+      }
+
+      Preconditions.checkState(result.isUnderflow(), "Failed to encode value: %s", result);
+      this.length = out.position();
+      return true;
+    }
+
+    private Utf8Buffer copy(ByteBuffer value) {
+      if (bytes.length < value.remaining()) {
+        this.bytes = new byte[value.remaining()];
+      }
+
+      value.duplicate().get(bytes, 0, value.remaining());
+      this.length = value.remaining();
+      return this;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.function.LongConsumer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A set of primitive longs that uses open addressing with linear probing.
+ *
+ * <p>Values are stored unboxed in a single array, which uses far less memory than a {@code
+ * Set<Long>} and avoids boxing when checking whether a value is in the set. This class is not
+ * thread-safe for writes; concurrent reads are safe once the set is no longer modified.
+ */
+public class LongHashSet {
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final int DEFAULT_CAPACITY = 16;
+  // 0 marks an empty slot, so the value 0 is tracked separately
+  private static final long EMPTY = 0L;
+
+  private long[] slots;
+  private int mask;
+  private int size = 0;
+  private boolean containsEmpty = false;
+
+  public LongHashSet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongHashSet(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Invalid expected size: %s", expectedSize);
+    int capacity = capacityFor(expectedSize);
+    this.slots = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds a value to the set.
+   *
+   * @param value a value
+   * @return true if the value was not already in the set
+   */
+  public boolean add(long value) {
+    if (value == EMPTY) {
+      if (containsEmpty) {
+        return false;
+      }
+
+      this.containsEmpty = true;
+      this.size += 1;
+      return true;
+    }
+
+    int index = hash(value) & mask;
+    while (slots[index] != EMPTY) {
+      if (slots[index] == value) {
+        return false;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    slots[index] = value;
+    this.size += 1;
+
+    if (size > slots.length / 2) {
+      resize();
+    }
+
+    return true;
+  }
+
+  /** Adds all values from another set to this set. */
+  public void addAll(LongHashSet other) {
+    other.forEach(this::add);
+  }
+
+  public boolean contains(long value) {
+    if (value == EMPTY) {
+      return containsEmpty;
+    }
+
+    int index = hash(value) & mask;
+    long current;
+    while ((current = slots[index]) != EMPTY) {
+      if (current == value) {
+        return true;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    return false;
+  }
+
+  /** Applies the consumer to all values in the set, in no particular order. */
+  public void forEach(LongConsumer consumer) {
+    if (containsEmpty) {
+      consumer.accept(EMPTY);
+    }
+
+    for (long value : slots) {
+      if (value != EMPTY) {
+        consumer.accept(value);
+      }
+    }
+  }
+
+  /** Returns an estimate of the memory used by this set, in bytes. */
+  public long sizeInBytes() {
+    return 8L * slots.length;
+  }
+
+  private void resize() {
+    Preconditions.checkState(slots.length < MAX_CAPACITY, "Cannot grow set beyond max capacity");
+    long[] oldSlots = slots;
+    this.slots = new long[oldSlots.length * 2];
+    this.mask = slots.length - 1;
+
+    for (long value : oldSlots) {
+      if (value != EMPTY) {
+        int index = hash(value) & mask;
+        while (slots[index] != EMPTY) {
+          index = (index + 1) & mask;
+        }
+
+        slots[index] = value;
+      }
+    }
+  }
+
+  private static int capacityFor(int expectedSize) {
+    // keep the load factor at or below 0.5 to keep probe sequences short
+    long capacity = Math.max(DEFAULT_CAPACITY, 2L * expectedSize);
+    Preconditions.checkArgument(
+        capacity <= MAX_CAPACITY, "Invalid expected size: %s", expectedSize);
+    return Integer.highestOneBit((int) capacity - 1) << 1;
+  }
+
+  // the finalization step of MurmurHash3 to spread sequential keys across slots
+  private static int hash(long value) {
+    long hash = value;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+}
@@ -30,11 +30,14 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -42,6 +45,15 @@ import org.apache.iceberg.relocated.com.google.common.io.Closer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * An iterable that reads a group of iterables in parallel using a worker pool.
+ *
+ * <p>By default, the number of buffered items is bounded only approximately: tasks yield before
+ * they start when the queue is over the size limit, but a started task adds all of its items. When
+ * created with a byte budget, producers also yield before adding an item that would exceed the
+ * budget and are resumed once the consumer has drained the queue, so that memory stays bounded
+ * even if the consumer is much slower than the producers.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
 
   private static final Logger LOG = LoggerFactory.getLogger(ParallelIterable.class);
@@ -57,6 +69,12 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
   // even in the case when input iterables are large.
   private final int approximateMaxQueueSize;
 
+  // Optional hard bound for the estimated size in bytes of queued items, 0 if not bounded
+  private final long maxQueueBytes;
+  private final ToLongFunction<? super T> sizeInBytes;
+  private final Timer producerStall;
+  private final Timer consumerWait;
+
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool) {
     this(iterables, workerPool, DEFAULT_MAX_QUEUE_SIZE);
   }
@@ -68,12 +86,60 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
     this.iterables = Preconditions.checkNotNull(iterables, "Input iterables cannot be null");
     this.workerPool = Preconditions.checkNotNull(workerPool, "Worker pool cannot be null");
     this.approximateMaxQueueSize = approximateMaxQueueSize;
+    this.maxQueueBytes = 0L;
+    this.sizeInBytes = null;
+    this.producerStall = Timer.NOOP;
+    this.consumerWait = Timer.NOOP;
+  }
+
+  /**
+   * Creates a parallel iterable that bounds the estimated size of queued items.
+   *
+   * <p>Producers yield their worker thread when adding an item would make the total estimated size
+   * of queued items exceed {@code maxQueueBytes}, and are resubmitted once the consumer has drained
+   * the queue. An item is always accepted when the queue is empty, so a single item that is larger
+   * than the budget does not stall forever. A producer that yields closes its input iterator, so
+   * that it does not hold resources such as pooled connections while it waits, and skips the items
+   * it already queued when it is resumed. Inputs must return the same items in the same order each
+   * time they are iterated.
+   *
+   * @param iterables iterables to read in parallel
+   * @param workerPool the pool used to run producers
+   * @param maxQueueBytes the maximum estimated size in bytes of queued items
+   * @param sizeInBytes a function that estimates the in-memory size of an item; it is called once
+   *     when an item is queued and once when it is consumed, and must return the same value
+   * @param producerStall a timer for the time producers spent yielded on a full queue
+   * @param consumerWait a timer for the time the consumer spent waiting for items
+   */
+  public ParallelIterable(
+      Iterable<? extends Iterable<T>> iterables,
+      ExecutorService workerPool,
+      long maxQueueBytes,
+      ToLongFunction<? super T> sizeInBytes,
+      Timer producerStall,
+      Timer consumerWait) {
+    Preconditions.checkArgument(maxQueueBytes > 0, "Max queue bytes must be greater than 0");
+    this.iterables = Preconditions.checkNotNull(iterables, "Input iterables cannot be null");
+    this.workerPool = Preconditions.checkNotNull(workerPool, "Worker pool cannot be null");
+    this.approximateMaxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    this.maxQueueBytes = maxQueueBytes;
+    this.sizeInBytes = Preconditions.checkNotNull(sizeInBytes, "Size function cannot be null");
+    this.producerStall = Preconditions.checkNotNull(producerStall, "Stall timer cannot be null");
+    this.consumerWait = Preconditions.checkNotNull(consumerWait, "Wait timer cannot be null");
   }
 
   @Override
   public CloseableIterator<T> iterator() {
+    QueueBudget<T> budget =
+        maxQueueBytes > 0 ? new QueueBudget<>(maxQueueBytes, sizeInBytes) : null;
     ParallelIterator<T> iter =
-        new ParallelIterator<>(iterables, workerPool, approximateMaxQueueSize);
+        new ParallelIterator<>(
+            iterables,
+            workerPool,
+            approximateMaxQueueSize,
+            budget,
+            producerStall,
+            consumerWait);
     addCloseable(iter);
     return iter;
   }
@@ -87,18 +153,29 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
     private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final int maxQueueSize;
+    private final QueueBudget<T> budget;
+    private final Timer consumerWait;
 
     private ParallelIterator(
-        Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool, int maxQueueSize) {
+        Iterable<? extends Iterable<T>> iterables,
+        ExecutorService workerPool,
+        int maxQueueSize,
+        QueueBudget<T> budget,
+        Timer producerStall,
+        Timer consumerWait) {
       Preconditions.checkArgument(maxQueueSize > 0, "Max queue size must be greater than 0");
       this.tasks =
           Iterables.transform(
-                  iterables, iterable -> new Task<>(iterable, queue, closed, maxQueueSize))
+                  iterables,
+                  iterable ->
+                      new Task<>(iterable, queue, closed, maxQueueSize, budget, producerStall))
               .iterator();
       this.workerPool = workerPool;
       // submit 2 tasks per worker at a time
       this.taskFutures = new CompletableFuture[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
       this.maxQueueSize = maxQueueSize;
+      this.budget = budget;
+      this.consumerWait = consumerWait;
     }
 
     @Override
@@ -169,7 +246,7 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
           }
 
           // submit a new task if there is space in the queue
-          if (queue.size() < maxQueueSize) {
+          if (queue.size() < maxQueueSize && (budget == null || budget.hasCapacity())) {
             taskFutures[i] = submitNextTask();
           }
         }
@@ -208,17 +285,19 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
 
       // this cannot conclude that there are no more records until tasks have finished. while some
       // are running, return true when there is at least one item to return.
-      while (checkTasks()) {
-        if (!queue.isEmpty()) {
-          return true;
-        }
+      try (Timer.Timed ignored = consumerWait.start()) {
+        while (checkTasks()) {
+          if (!queue.isEmpty()) {
+            return true;
+          }
 
-        try {
-          Thread.sleep(10);
+          try {
+            Thread.sleep(10);
 
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new RuntimeException(e);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+          }
         }
       }
 
@@ -232,13 +311,64 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      return queue.poll();
+
+      T next = queue.poll();
+      if (budget != null) {
+        budget.release(next);
+      }
+
+      return next;
     }
 
     @VisibleForTesting
     int queueSize() {
       return queue.size();
     }
+
+    @VisibleForTesting
+    long queuedBytes() {
+      return budget != null ? budget.usedBytes() : 0L;
+    }
+  }
+
+  /** Tracks the estimated size of queued items and rejects items when it is over the limit. */
+  private static class QueueBudget<T> {
+    private final long maxBytes;
+    private final ToLongFunction<? super T> sizeInBytes;
+    private long usedBytes = 0L;
+
+    private QueueBudget(long maxBytes, ToLongFunction<? super T> sizeInBytes) {
+      this.maxBytes = maxBytes;
+      this.sizeInBytes = sizeInBytes;
+    }
+
+    private synchronized boolean hasCapacity() {
+      return usedBytes < maxBytes;
+    }
+
+    private synchronized long usedBytes() {
+      return usedBytes;
+    }
+
+    /**
+     * Reserves space for an item if there is enough space in the queue.
+     *
+     * @return true if the item can be queued, false if the producer should yield
+     */
+    private synchronized boolean tryAcquire(T item) {
+      long size = sizeInBytes.applyAsLong(item);
+      // always accept an item when the queue is empty to avoid stalling on large items forever
+      if (usedBytes > 0 && usedBytes + size > maxBytes) {
+        return false;
+      }
+
+      usedBytes += size;
+      return true;
+    }
+
+    private synchronized void release(T item) {
+      usedBytes -= sizeInBytes.applyAsLong(item);
+    }
   }
 
   private static class Task<T> implements Supplier<Optional<Task<T>>>, Closeable {
@@ -246,18 +376,27 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
     private final ConcurrentLinkedQueue<T> queue;
     private final AtomicBoolean closed;
     private final int approximateMaxQueueSize;
+    private final QueueBudget<T> budget;
+    private final Timer producerStall;
 
     private Iterator<T> iterator = null;
+    // number of items queued by this task, which are skipped when the iterator is reopened
+    private long queuedCount = 0L;
+    private long yieldedAtNanos = 0L;
 
     Task(
         Iterable<T> input,
         ConcurrentLinkedQueue<T> queue,
         AtomicBoolean closed,
-        int approximateMaxQueueSize) {
+        int approximateMaxQueueSize,
+        QueueBudget<T> budget,
+        Timer producerStall) {
       this.input = Preconditions.checkNotNull(input, "input cannot be null");
       this.queue = Preconditions.checkNotNull(queue, "queue cannot be null");
       this.closed = Preconditions.checkNotNull(closed, "closed cannot be null");
       this.approximateMaxQueueSize = approximateMaxQueueSize;
+      this.budget = budget;
+      this.producerStall = producerStall;
     }
 
     @Override
@@ -278,6 +417,15 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
 
         if (iterator == null) {
           iterator = input.iterator();
+          // skip the items that were queued before the task yielded on the queue budget
+          for (long skipped = 0; skipped < queuedCount && iterator.hasNext(); skipped += 1) {
+            iterator.next();
+          }
+        }
+
+        if (yieldedAtNanos != 0L) {
+          producerStall.record(System.nanoTime() - yieldedAtNanos, TimeUnit.NANOSECONDS);
+          this.yieldedAtNanos = 0L;
         }
 
         while (iterator.hasNext()) {
@@ -286,7 +434,16 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
             break;
           }
 
+          if (budget != null && !budget.tryAcquire(next)) {
+            // Yield until the consumer has drained the queue. For the same reason as above, the
+            // iterator is closed before yielding and reopened when the task is resumed.
+            closeIterator();
+            this.yieldedAtNanos = System.nanoTime();
+            return Optional.of(this);
+          }
+
           queue.add(next);
+          queuedCount += 1;
         }
       } catch (Throwable e) {
         try {
@@ -313,6 +470,18 @@ public class ParallelIterable<T> extends CloseableGroup implements CloseableIter
       return Optional.empty();
     }
 
+    private void closeIterator() {
+      Iterator<T> toClose = iterator;
+      this.iterator = null;
+      if (toClose instanceof Closeable) {
+        try {
+          ((Closeable) toClose).close();
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to close task iterator", e);
+        }
+      }
+    }
+
     @Override
     public void close() throws IOException {
       iterator = null;
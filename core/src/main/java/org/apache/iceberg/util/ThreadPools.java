@@ -20,15 +20,36 @@ package org.apache.iceberg.util;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.common.DynMethods;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ThreadPools {
+  private static final Logger LOG = LoggerFactory.getLogger(ThreadPools.class);
+
+  // Thread.ofVirtual() is only available in Java 21 or later
+  private static final DynMethods.UnboundMethod OF_VIRTUAL =
+      DynMethods.builder("ofVirtual").impl(Thread.class).orNoop().build();
+  private static final DynMethods.UnboundMethod BUILDER_NAME =
+      DynMethods.builder("name")
+          .impl("java.lang.Thread$Builder", String.class, long.class)
+          .orNoop()
+          .build();
+  private static final DynMethods.UnboundMethod BUILDER_FACTORY =
+      DynMethods.builder("factory").impl("java.lang.Thread$Builder").orNoop().build();
+
+  private static final boolean VIRTUAL_THREADS_SUPPORTED = checkVirtualThreadsSupported();
+
+  private static final boolean WORKER_VIRTUAL_THREADS_ENABLED = workerVirtualThreadsEnabled();
 
   private ThreadPools() {}
 
@@ -58,7 +79,8 @@ public class ThreadPools {
    * base table implementation across all concurrent planning operations.
    *
    * <p>The size of this thread-pool is controlled by the Java system property {@code
-   * iceberg.worker.num-threads}.
+   * iceberg.worker.num-threads}. When {@code iceberg.worker.virtual-threads.enabled} is set, tasks
+   * run on virtual threads and the size only limits the number of concurrent tasks.
    *
    * @return an {@link ExecutorService} that uses the worker pool
    */
@@ -74,7 +96,8 @@ public class ThreadPools {
    * worker pool by default.
    *
    * <p>The size of this thread-pool is controlled by the Java system property {@code
-   * iceberg.worker.delete-num-threads}.
+   * iceberg.worker.delete-num-threads}. When {@code iceberg.worker.virtual-threads.enabled} is set,
+   * tasks run on virtual threads and the size only limits the number of concurrent tasks.
    *
    * @return an {@link ExecutorService} that uses the delete worker pool
    */
@@ -128,10 +151,77 @@ public class ThreadPools {
    * Creates a fixed-size thread pool that uses daemon threads and registers a shutdown hook to
    * ensure the pool terminates when the JVM exits. This is suitable for long-lived thread pools
    * that should be automatically cleaned up on JVM shutdown.
+   *
+   * <p>When {@code iceberg.worker.virtual-threads.enabled} is set, the pool uses virtual threads
+   * and the pool size limits the number of concurrent tasks.
    */
   public static ExecutorService newExitingWorkerPool(String namePrefix, int poolSize) {
-    return MoreExecutors.getExitingExecutorService(
-        (ThreadPoolExecutor) newFixedThreadPool(namePrefix, poolSize));
+    ExecutorService pool =
+        WORKER_VIRTUAL_THREADS_ENABLED
+            ? newVirtualThreadPool(namePrefix, poolSize)
+            : newFixedThreadPool(namePrefix, poolSize);
+    return MoreExecutors.getExitingExecutorService((ThreadPoolExecutor) pool);
+  }
+
+  /**
+   * Creates a thread pool that runs at most the given number of tasks concurrently on virtual
+   * threads. Additional tasks are queued until a running task completes.
+   *
+   * <p>Blocked tasks, for example tasks waiting for a response from an object store, do not hold a
+   * platform thread, so the concurrency can be much higher than the number of cores.
+   *
+   * @param namePrefix a base name for threads in the executor service's thread pool
+   * @param maxConcurrency max number of tasks that run concurrently
+   * @return an executor service
+   * @throws UnsupportedOperationException if virtual threads are not supported by the JVM
+   */
+  public static ExecutorService newVirtualThreadPool(String namePrefix, int maxConcurrency) {
+    if (!virtualThreadsSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+    }
+
+    Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + "-", 0L);
+    ThreadFactory threadFactory = BUILDER_FACTORY.invoke(builder);
+    // the pool's threads are virtual, so they only bound the concurrency and are cheap to keep
+    return new ThreadPoolExecutor(
+        maxConcurrency,
+        maxConcurrency,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        threadFactory);
+  }
+
+  /** Returns whether the JVM supports virtual threads. */
+  public static boolean virtualThreadsSupported() {
+    return VIRTUAL_THREADS_SUPPORTED;
+  }
+
+  private static boolean checkVirtualThreadsSupported() {
+    if (OF_VIRTUAL.isNoop() || BUILDER_NAME.isNoop() || BUILDER_FACTORY.isNoop()) {
+      return false;
+    }
+
+    try {
+      // virtual threads are a preview feature in Java 19 and 20
+      OF_VIRTUAL.invoke(null);
+      return true;
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  private static boolean workerVirtualThreadsEnabled() {
+    if (!SystemConfigs.WORKER_VIRTUAL_THREADS_ENABLED.value()) {
+      return false;
+    }
+
+    if (!VIRTUAL_THREADS_SUPPORTED) {
+      LOG.warn("Virtual threads are not supported by this JVM, using platform worker threads");
+      return false;
+    }
+
+    return true;
   }
 
   /** Creates a fixed-size thread pool that uses daemon threads. */
@@ -28,8 +28,6 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SchemaParser;
 import org.apache.iceberg.TableMetadataParser.Codec;
@@ -171,8 +169,7 @@ public class ViewMetadataParser {
 
   public static ViewMetadata read(InputFile file) {
     Codec codec = Codec.fromFileName(file.location());
-    try (InputStream is =
-        codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
+    try (InputStream is = codec.decompress(file.newStream())) {
       return fromJson(file.location(), JsonUtil.mapper().readValue(is, JsonNode.class));
     } catch (IOException e) {
       throw new UncheckedIOException(
@@ -182,11 +179,10 @@ public class ViewMetadataParser {
 
   private static void internalWrite(
       ViewMetadata metadata, OutputFile outputFile, boolean overwrite) {
-    boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
+    Codec codec = Codec.fromFileName(outputFile.location());
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
     try (OutputStreamWriter writer =
-        new OutputStreamWriter(
-            isGzip ? new GZIPOutputStream(stream) : stream, StandardCharsets.UTF_8)) {
+        new OutputStreamWriter(codec.compress(stream), StandardCharsets.UTF_8)) {
       JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
       toJson(metadata, generator);
       generator.flush();
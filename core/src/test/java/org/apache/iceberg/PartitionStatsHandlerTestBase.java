@@ -50,8 +50,12 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.Literal;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanReport;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -677,6 +681,129 @@ public abstract class PartitionStatsHandlerTestBase {
     assertThat(partitionStats.get(0).dataFileCount()).isEqualTo(2);
   }
 
+  @Test
+  public void testIncrementalComputeWithRewrittenManifests() throws Exception {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c1").build();
+    Table testTable =
+        TestTables.create(
+            tempDir("incremental_compute"),
+            "incremental_compute",
+            SCHEMA,
+            spec,
+            2,
+            fileFormatProperty);
+    testTable
+        .newAppend()
+        .appendFile(FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of(1)))
+        .commit();
+
+    // stats that do not match the table show whether the previous stats file was used
+    Types.StructType partitionType = Partitioning.partitionType(testTable);
+    PartitionData partitionData = new PartitionData(partitionType);
+    partitionData.set(0, 1);
+    PartitionStats previousStats = new PartitionStats(partitionData, spec.specId());
+    previousStats.set(DATA_RECORD_COUNT_POSITION, 1000L);
+    previousStats.set(DATA_FILE_COUNT_POSITION, 100);
+    previousStats.set(TOTAL_DATA_FILE_SIZE_IN_BYTES_POSITION, 1024L);
+    PartitionStatisticsFile previousStatsFile =
+        PartitionStatsHandler.writePartitionStatsFile(
+            testTable,
+            testTable.currentSnapshot().snapshotId(),
+            PartitionStatsHandler.schema(partitionType, 2),
+            Collections.singletonList(previousStats));
+    testTable.updatePartitionStatistics().setPartitionStatistics(previousStatsFile).commit();
+
+    // rewritten manifests only contain existing entries that are in the previous stats
+    testTable.rewriteManifests().clusterBy(file -> "").commit();
+    testTable
+        .newAppend()
+        .appendFile(FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of(2)))
+        .commit();
+    testTable
+        .newAppend()
+        .appendFile(FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of(2)))
+        .commit();
+
+    PartitionStatisticsFile statisticsFile =
+        PartitionStatsHandler.computeAndWriteStatsFile(testTable);
+
+    List<PartitionStats> partitionStats;
+    try (CloseableIterable<PartitionStats> recordIterator =
+        PartitionStatsHandler.readPartitionStatsFile(
+            PartitionStatsHandler.schema(partitionType, 2),
+            testTable.io().newInputFile(statisticsFile.path()))) {
+      partitionStats = Lists.newArrayList(recordIterator);
+    }
+
+    assertThat(partitionStats)
+        .extracting(stats -> stats.partition().get(0, Integer.class), PartitionStats::dataFileCount)
+        .containsExactly(Tuple.tuple(1, 100), Tuple.tuple(2, 2));
+  }
+
+  @Test
+  public void testPlanningWithPartitionStats() throws Exception {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c1").build();
+    Table testTable =
+        TestTables.create(
+            tempDir("stats_planning"), "stats_planning", SCHEMA, spec, 2, fileFormatProperty);
+    DataFile file1 = FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of(1));
+    DataFile file3 = FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of(3));
+    DataFile file5 = FileGenerationUtil.generateDataFile(testTable, TestHelpers.Row.of(5));
+    testTable.newAppend().appendFile(file1).appendFile(file3).commit();
+    testTable.newAppend().appendFile(file5).commit();
+    // the rewritten manifest still covers c1=1 in its partition summary
+    testTable.newDelete().deleteFile(file1).commit();
+
+    // without a stats file for the scanned snapshot, only the partition summaries are used
+    testTable
+        .updateProperties()
+        .set(TableProperties.PARTITION_STATS_PRUNING_ENABLED, "true")
+        .commit();
+    assertThat(skippedDataManifests(testTable, Expressions.equal("c1", 1))).isEqualTo(1);
+
+    PartitionStatisticsFile statisticsFile =
+        PartitionStatsHandler.computeAndWriteStatsFile(testTable);
+    testTable.updatePartitionStatistics().setPartitionStatistics(statisticsFile).commit();
+
+    assertThat(skippedDataManifests(testTable, Expressions.equal("c1", 1))).isEqualTo(2);
+    assertThat(skippedDataManifests(testTable, Expressions.equal("c1", 3))).isEqualTo(1);
+    assertThat(skippedDataManifests(testTable, Expressions.alwaysTrue())).isEqualTo(0);
+
+    testTable
+        .updateProperties()
+        .set(TableProperties.PARTITION_STATS_PRUNING_ENABLED, "false")
+        .commit();
+    assertThat(skippedDataManifests(testTable, Expressions.equal("c1", 1))).isEqualTo(1);
+
+    try (CloseableIterable<PartitionStats> recordIterator =
+        PartitionStatsHandler.readPartitionStats(
+            testTable,
+            testTable.currentSnapshot().snapshotId(),
+            Expressions.greaterThanOrEqual("c1", 3))) {
+      assertThat(recordIterator)
+          .extracting(
+              stats -> stats.partition().get(0, Integer.class), PartitionStats::dataFileCount)
+          .containsExactly(Tuple.tuple(3, 1), Tuple.tuple(5, 1));
+    }
+
+    Snapshot parent = testTable.snapshot(testTable.currentSnapshot().parentId());
+    assertThat(
+            PartitionStatsHandler.readPartitionStats(
+                testTable, parent.snapshotId(), Expressions.alwaysTrue()))
+        .isEmpty();
+  }
+
+  private static long skippedDataManifests(Table table, Expression filter) throws IOException {
+    List<MetricsReport> reports = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks =
+        table.newScan().filter(filter).metricsReporter(reports::add).planFiles()) {
+      Lists.newArrayList(tasks);
+    }
+
+    assertThat(reports).hasSize(1);
+    return ((ScanReport) reports.get(0)).scanMetrics().skippedDataManifests().value();
+  }
+
   @Test
   public void testV2toV3SchemaEvolution() throws Exception {
     Table testTable =
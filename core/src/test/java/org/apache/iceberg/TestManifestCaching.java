@@ -20,6 +20,7 @@ package org.apache.iceberg;
 
 import static org.apache.iceberg.types.Types.NestedField.required;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.testing.GcFinalization;
@@ -218,6 +219,37 @@ public class TestManifestCaching {
                 ManifestFiles.cacheMaxContentLength(fileIO)));
   }
 
+  @Test
+  public void testConflictingDiskCacheSize() throws Exception {
+    String directory = Files.createTempDirectory(temp, "cache").toFile().getAbsolutePath();
+    FileIO io1 = diskCacheEnabledHadoopFileIO(directory, "1024");
+    FileIO io2 = diskCacheEnabledHadoopFileIO(directory, "1024");
+    FileIO io3 = diskCacheEnabledHadoopFileIO(directory, "2048");
+
+    ManifestFiles.contentCache(io1);
+    ManifestFiles.contentCache(io2);
+    assertThatThrownBy(() -> ManifestFiles.contentCache(io3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Cannot use manifest disk cache directory %s with max total bytes 2048: "
+                + "already used with 1024",
+            directory);
+
+    ManifestFiles.dropCache(io1);
+    ManifestFiles.dropCache(io2);
+  }
+
+  private FileIO diskCacheEnabledHadoopFileIO(String directory, String maxTotalBytes) {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CatalogProperties.IO_MANIFEST_CACHE_ENABLED, "true",
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_DIRECTORY, directory,
+            CatalogProperties.IO_MANIFEST_CACHE_DISK_MAX_TOTAL_BYTES, maxTotalBytes);
+    HadoopFileIO io = new HadoopFileIO(new Configuration());
+    io.initialize(properties);
+    return io;
+  }
+
   private FileIO cacheEnabledHadoopFileIO() {
     Map<String, String> properties =
         ImmutableMap.of(
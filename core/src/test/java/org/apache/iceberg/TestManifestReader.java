@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Streams;
@@ -75,6 +76,53 @@ public class TestManifestReader extends TestBase {
     }
   }
 
+  @TestTemplate
+  public void testReaderWithSelectedColumnStats() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_WITH_STATS);
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO).columnsToKeepStats(ImmutableSet.of(4))) {
+      DataFile file = Iterables.getOnlyElement(reader.entries()).file();
+      assertThat(file.recordCount()).isEqualTo(10L);
+      assertThat(file.columnSizes()).containsOnlyKeys(4);
+      assertThat(file.valueCounts()).containsOnlyKeys(4);
+      assertThat(file.nullValueCounts()).containsOnlyKeys(4);
+      assertThat(file.nanValueCounts()).containsOnlyKeys(4);
+      assertThat(file.lowerBounds()).containsOnlyKeys(4);
+      assertThat(file.upperBounds()).containsOnlyKeys(4);
+    }
+
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .filterRows(Expressions.lessThan("id", 3))
+            .columnsToKeepStats(ImmutableSet.of(4))) {
+      DataFile file = Iterables.getOnlyElement(reader.entries()).file();
+      assertThat(file.lowerBounds())
+          .as("Should also decode stats of columns referenced by the row filter")
+          .containsOnlyKeys(3, 4);
+    }
+  }
+
+  @TestTemplate
+  public void testReaderDecodesOnlyFilterStatsWhenStatsAreNotSelected() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_WITH_STATS);
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .select(ImmutableList.of("file_path"))
+            .filterRows(Expressions.lessThan("id", 3))) {
+      DataFile file = Iterables.getOnlyElement(reader.entries()).file();
+      assertThat(file.valueCounts()).containsOnlyKeys(3);
+      assertThat(file.lowerBounds()).containsOnlyKeys(3);
+      assertThat(file.upperBounds()).containsOnlyKeys(3);
+    }
+
+    try (ManifestReader<DataFile> reader =
+        ManifestFiles.read(manifest, FILE_IO)
+            .select(ImmutableList.of("file_path"))
+            .filterRows(Expressions.greaterThan("id", 5))) {
+      assertThat(reader.entries()).as("Should evaluate the filter using decoded stats").isEmpty();
+    }
+  }
+
   @TestTemplate
   public void testInvalidUsage() throws IOException {
     ManifestFile manifest = writeManifest(FILE_A, FILE_B);
@@ -995,6 +995,63 @@ public class TestMergeAppend extends TestBase {
         statuses(Status.EXISTING, Status.EXISTING));
   }
 
+  @TestTemplate
+  public void testRecoveryReusesMergedManifestsOfAllSpecs() {
+    // merge all manifests for this test
+    table.updateProperties().set("commit.manifest.min-count-to-merge", "1").commit();
+
+    long idA = commit(table, table.newFastAppend().appendFile(FILE_A), branch).snapshotId();
+    long idB = commit(table, table.newFastAppend().appendFile(FILE_B), branch).snapshotId();
+
+    TableMetadata base = readMetadata();
+    PartitionSpec newSpec =
+        PartitionSpec.builderFor(base.schema()).bucket("data", 16).bucket("id", 4).build();
+    table.ops().commit(base, base.updatePartitionSpec(newSpec));
+
+    DataFile newFileY =
+        DataFiles.builder(table.spec())
+            .withPath("/path/to/data-y.parquet")
+            .withFileSizeInBytes(10)
+            .withPartitionPath("data_bucket=2/id_bucket=3")
+            .withRecordCount(1)
+            .build();
+    DataFile newFileZ =
+        DataFiles.builder(table.spec())
+            .withPath("/path/to/data-z.parquet")
+            .withFileSizeInBytes(10)
+            .withPartitionPath("data_bucket=3/id_bucket=1")
+            .withRecordCount(1)
+            .build();
+    commit(table, table.newFastAppend().appendFile(newFileY), branch);
+    assertThat(latestSnapshot(table, branch).allManifests(table.io())).hasSize(3);
+
+    table.ops().failCommits(3);
+
+    AppendFiles append = table.newAppend().appendFile(newFileZ);
+    Snapshot pending = apply(append, branch);
+
+    // both specs are merged into a single manifest each, the newest spec first
+    List<ManifestFile> mergedManifests = pending.allManifests(table.io());
+    assertThat(mergedManifests)
+        .extracting(ManifestFile::partitionSpecId)
+        .containsExactly(newSpec.specId(), SPEC.specId());
+    validateManifest(
+        mergedManifests.get(1),
+        dataSeqs(2L, 1L),
+        fileSeqs(2L, 1L),
+        ids(idB, idA),
+        files(FILE_B, FILE_A),
+        statuses(Status.EXISTING, Status.EXISTING));
+
+    Snapshot snapshot = commit(table, append, branch);
+
+    // retries reuse the manifests merged by the first attempt
+    assertThat(snapshot.allManifests(table.io())).isEqualTo(mergedManifests);
+    for (ManifestFile manifest : mergedManifests) {
+      assertThat(new File(manifest.path())).exists();
+    }
+  }
+
   @TestTemplate
   public void testFailure() {
     // merge all manifests for this test
@@ -26,6 +26,7 @@ import static org.apache.iceberg.TableMetadataParser.LAST_UPDATED_MILLIS;
 import static org.apache.iceberg.TableMetadataParser.LOCATION;
 import static org.apache.iceberg.TableMetadataParser.PARTITION_SPEC;
 import static org.apache.iceberg.TableMetadataParser.PROPERTIES;
+import static org.apache.iceberg.TableMetadataParser.REFS;
 import static org.apache.iceberg.TableMetadataParser.SCHEMA;
 import static org.apache.iceberg.TableMetadataParser.SNAPSHOTS;
 import static org.apache.iceberg.TestHelpers.MAX_FORMAT_VERSION;
@@ -36,6 +37,8 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -237,6 +240,79 @@ public class TestTableMetadata {
     assertThat(metadata.nextRowId()).isEqualTo(expected.nextRowId());
   }
 
+  @Test
+  public void testLazySnapshotParsing() throws Exception {
+    TableMetadata.Builder builder =
+        TableMetadata.buildFrom(
+            TableMetadata.newTableMetadata(
+                TEST_SCHEMA,
+                PartitionSpec.unpartitioned(),
+                TEST_LOCATION,
+                ImmutableMap.of(TableProperties.FORMAT_VERSION, "2")));
+    long timestamp = System.currentTimeMillis();
+    Long parentId = null;
+    for (long id = 1; id <= 5; id += 1) {
+      builder.addSnapshot(
+          new BaseSnapshot(
+              id,
+              id,
+              parentId,
+              timestamp + id,
+              DataOperations.APPEND,
+              null,
+              TEST_SCHEMA.schemaId(),
+              "file:/tmp/manifest-list-" + id + ".avro",
+              null,
+              null,
+              null));
+      parentId = id;
+    }
+
+    String json =
+        TableMetadataParser.toJson(
+            builder
+                .setBranchSnapshot(5L, SnapshotRef.MAIN_BRANCH)
+                .setRef("tag", SnapshotRef.tagBuilder(2L).build())
+                .build());
+
+    TableMetadata metadata = TableMetadataParser.fromJson(json);
+    assertThat(metadata.currentSnapshot().snapshotId()).isEqualTo(5L);
+    assertThat(metadata.snapshot(2L).snapshotId()).isEqualTo(2L);
+
+    for (TableMetadata parsed : List.of(metadata, TestHelpers.roundTripSerialize(metadata))) {
+      assertThat(parsed.snapshots())
+          .extracting(Snapshot::snapshotId)
+          .containsExactly(1L, 2L, 3L, 4L, 5L);
+      assertThat(parsed.snapshot(3L).manifestListLocation())
+          .isEqualTo("file:/tmp/manifest-list-3.avro");
+      assertThat(parsed.snapshot(3L).parentId()).isEqualTo(2L);
+    }
+
+    // refs written after the snapshots are only known after all snapshots are read
+    ObjectNode node = (ObjectNode) JsonUtil.mapper().readTree(json);
+    JsonNode refs = node.remove(REFS);
+    JsonNode currentSnapshotId = node.remove(CURRENT_SNAPSHOT_ID);
+    node.set(REFS, refs);
+    node.set(CURRENT_SNAPSHOT_ID, currentSnapshotId);
+
+    TableMetadata reordered =
+        TableMetadataParser.fromJson(JsonUtil.mapper().writeValueAsString(node));
+    assertThat(reordered.currentSnapshot().snapshotId()).isEqualTo(5L);
+    assertThat(reordered.ref("tag").snapshotId()).isEqualTo(2L);
+    assertThat(reordered.snapshots())
+        .extracting(Snapshot::snapshotId)
+        .containsExactly(1L, 2L, 3L, 4L, 5L);
+
+    // lazily parsed snapshots are validated like eagerly parsed snapshots
+    ObjectNode invalid = (ObjectNode) JsonUtil.mapper().readTree(json);
+    ((ObjectNode) invalid.get(SNAPSHOTS).get(2)).put("sequence-number", 10L);
+    TableMetadata invalidMetadata =
+        TableMetadataParser.fromJson(JsonUtil.mapper().writeValueAsString(invalid));
+    assertThatThrownBy(invalidMetadata::snapshots)
+        .isInstanceOf(ValidationException.class)
+        .hasMessage("Invalid snapshot with sequence number 10 greater than last sequence number 5");
+  }
+
   @Test
   public void testBackwardCompat() throws Exception {
     PartitionSpec spec = PartitionSpec.builderFor(TEST_SCHEMA).identity("x").withSpecId(6).build();
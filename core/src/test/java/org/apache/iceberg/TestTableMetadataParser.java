@@ -50,7 +50,7 @@ public class TestTableMetadataParser {
 
   @Parameters(name = "codecName = {0}")
   private static List<Object> parameters() {
-    return Arrays.asList("none", "gzip");
+    return Arrays.asList("none", "gzip", "zstd");
   }
 
   @Parameter private String codecName;
@@ -21,7 +21,14 @@ package org.apache.iceberg;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import org.apache.iceberg.TableMetadataParser.Codec;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.junit.jupiter.api.Test;
 
 public class TestTableMetadataParserCodec {
@@ -37,6 +44,32 @@ public class TestTableMetadataParserCodec {
     assertThat(Codec.fromName("nOnE")).isEqualTo(Codec.NONE);
     assertThat(Codec.fromFileName("v3.metadata.json")).isEqualTo(Codec.NONE);
     assertThat(Codec.fromFileName("v3-f326-4b66-a541-7b1c.metadata.json")).isEqualTo(Codec.NONE);
+    assertThat(Codec.fromName("zstd")).isEqualTo(Codec.ZSTD);
+    assertThat(Codec.fromName("ZSTD")).isEqualTo(Codec.ZSTD);
+    assertThat(Codec.fromFileName("v3.zst.metadata.json")).isEqualTo(Codec.ZSTD);
+    assertThat(Codec.fromFileName("v3-f326-4b66-a541-7b1c.zst.metadata.json"))
+        .isEqualTo(Codec.ZSTD);
+  }
+
+  @Test
+  public void testCompressionRoundTrip() throws IOException {
+    byte[] data = "{\"format-version\":2}".getBytes(StandardCharsets.UTF_8);
+    for (Codec codec : Codec.values()) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (OutputStream out = codec.compress(bytes)) {
+        out.write(data);
+      }
+
+      if (codec == Codec.NONE) {
+        assertThat(bytes.toByteArray()).isEqualTo(data);
+      } else {
+        assertThat(bytes.toByteArray()).as("Should compress with %s", codec).isNotEqualTo(data);
+      }
+
+      try (InputStream in = codec.decompress(new ByteArrayInputStream(bytes.toByteArray()))) {
+        assertThat(ByteStreams.toByteArray(in)).isEqualTo(data);
+      }
+    }
   }
 
   @Test
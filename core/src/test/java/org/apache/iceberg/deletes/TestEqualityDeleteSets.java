@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+import org.junit.jupiter.api.Test;
+
+public class TestEqualityDeleteSets {
+  private static final Schema LONG_SCHEMA =
+      new Schema(Types.NestedField.optional(1, "id", Types.LongType.get()));
+  private static final Schema INT_SCHEMA =
+      new Schema(Types.NestedField.optional(1, "id", Types.IntegerType.get()));
+  private static final Schema STRING_SCHEMA =
+      new Schema(Types.NestedField.optional(2, "data", Types.StringType.get()));
+  private static final Schema STRUCT_SCHEMA =
+      new Schema(
+          Types.NestedField.optional(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Test
+  public void testIsSpecialized() {
+    assertThat(EqualityDeleteSets.isSpecialized(LONG_SCHEMA)).isTrue();
+    assertThat(EqualityDeleteSets.isSpecialized(INT_SCHEMA)).isTrue();
+    assertThat(EqualityDeleteSets.isSpecialized(STRING_SCHEMA)).isTrue();
+    assertThat(EqualityDeleteSets.isSpecialized(STRUCT_SCHEMA)).isFalse();
+    assertThat(
+            EqualityDeleteSets.isSpecialized(
+                new Schema(Types.NestedField.optional(3, "d", Types.DoubleType.get()))))
+        .isFalse();
+  }
+
+  @Test
+  public void testLongKeys() {
+    List<StructLike> keys = ImmutableList.of(Row.of(1L), Row.of(0L), Row.of(-5L));
+    EqualityDeleteSet deleteSet = EqualityDeleteSets.specialized(LONG_SCHEMA, keys);
+
+    assertThat(deleteSet).isInstanceOf(LongEqualityDeleteSet.class);
+    assertThat(deleteSet.size()).isEqualTo(3);
+    assertThat(deleteSet.isDeleted(Row.of(1L))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of(0L))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of(-5L))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of(2L))).isFalse();
+    assertThat(deleteSet.isDeleted(Row.of((Object) null))).isFalse();
+  }
+
+  @Test
+  public void testIntKeys() {
+    List<StructLike> keys = ImmutableList.of(Row.of(1), Row.of((Object) null));
+    EqualityDeleteSet deleteSet = EqualityDeleteSets.specialized(INT_SCHEMA, keys);
+
+    assertThat(deleteSet.size()).isEqualTo(2);
+    assertThat(deleteSet.isDeleted(Row.of(1))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of(2))).isFalse();
+    assertThat(deleteSet.isDeleted(Row.of((Object) null))).isTrue();
+  }
+
+  @Test
+  public void testStringKeys() {
+    List<StructLike> keys = ImmutableList.of(Row.of("a"), Row.of("b"));
+    EqualityDeleteSet deleteSet = EqualityDeleteSets.specialized(STRING_SCHEMA, keys);
+
+    assertThat(deleteSet).isInstanceOf(BinaryEqualityDeleteSet.class);
+    assertThat(deleteSet.isDeleted(Row.of("a"))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of(new StringBuilder("b")))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of("c"))).isFalse();
+    assertThat(deleteSet.isDeleted(Row.of((Object) null))).isFalse();
+  }
+
+  @Test
+  public void testStringKeysWithoutUtf8Encoding() {
+    List<StructLike> keys = ImmutableList.of(Row.of("a"), Row.of("b\uD800"));
+    EqualityDeleteSet deleteSet = EqualityDeleteSets.specialized(STRING_SCHEMA, keys);
+
+    assertThat(deleteSet).isNotInstanceOf(BinaryEqualityDeleteSet.class);
+    assertThat(deleteSet.size()).isEqualTo(2);
+    assertThat(deleteSet.isDeleted(Row.of("a"))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of("b\uD800"))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of("b\uDC00"))).isFalse();
+    assertThat(deleteSet.isDeleted(Row.of("b?"))).isFalse();
+
+    EqualityDeleteSet merged =
+        EqualityDeleteSets.merge(
+            STRING_SCHEMA,
+            ImmutableList.of(
+                deleteSet,
+                EqualityDeleteSets.specialized(STRING_SCHEMA, ImmutableList.of(Row.of("c")))));
+    assertThat(merged.isDeleted(Row.of("b\uD800"))).isTrue();
+    assertThat(merged.isDeleted(Row.of("c"))).isTrue();
+    assertThat(merged.isDeleted(Row.of("b\uDC00"))).isFalse();
+  }
+
+  @Test
+  public void testMerge() {
+    EqualityDeleteSet first =
+        EqualityDeleteSets.specialized(LONG_SCHEMA, ImmutableList.of(Row.of(1L)));
+    EqualityDeleteSet second =
+        EqualityDeleteSets.specialized(
+            LONG_SCHEMA, ImmutableList.of(Row.of(2L), Row.of(3L), Row.of((Object) null)));
+
+    EqualityDeleteSet merged =
+        EqualityDeleteSets.merge(LONG_SCHEMA, ImmutableList.of(first, second));
+    assertThat(merged.size()).isEqualTo(4);
+    assertThat(merged.isDeleted(Row.of(1L))).isTrue();
+    assertThat(merged.isDeleted(Row.of(3L))).isTrue();
+    assertThat(merged.isDeleted(Row.of((Object) null))).isTrue();
+
+    assertThat(EqualityDeleteSets.merge(STRING_SCHEMA, ImmutableList.of()).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testWrap() {
+    StructLikeSet structs = StructLikeSet.create(STRUCT_SCHEMA.asStruct());
+    structs.add(Row.of(1L, "a"));
+
+    EqualityDeleteSet deleteSet = EqualityDeleteSets.wrap(structs);
+    assertThat(deleteSet.size()).isEqualTo(1);
+    assertThat(deleteSet.isDeleted(Row.of(1L, "a"))).isTrue();
+    assertThat(deleteSet.isDeleted(Row.of(1L, "b"))).isFalse();
+  }
+}
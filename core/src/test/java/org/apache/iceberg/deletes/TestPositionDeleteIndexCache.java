@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.junit.jupiter.api.Test;
+
+public class TestPositionDeleteIndexCache {
+
+  @Test
+  public void testInvalidArguments() {
+    assertThatThrownBy(() -> new PositionDeleteIndexCache(-1, 1024))
+        .isInstanceOf(ValidationException.class)
+        .hasMessage("expireAfterAccessMs is less than 0");
+
+    assertThatThrownBy(() -> new PositionDeleteIndexCache(0, 0))
+        .isInstanceOf(ValidationException.class)
+        .hasMessage("maxTotalBytes is equal or less than 0");
+  }
+
+  @Test
+  public void testDeletionVectors() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(0, 1024 * 1024);
+    AtomicInteger loads = new AtomicInteger(0);
+
+    PositionDeleteIndex first = cache.get("dv.puffin", 4L, loader(loads, 1L, 5L));
+    PositionDeleteIndex second = cache.get("dv.puffin", 4L, loader(loads, 1L, 5L));
+    PositionDeleteIndex other = cache.get("dv.puffin", 100L, loader(loads, 7L));
+
+    assertThat(second).isSameAs(first);
+    assertThat(other).isNotSameAs(first);
+    assertThat(other.isDeleted(7L)).isTrue();
+    assertThat(other.isDeleted(5L)).isFalse();
+    assertThat(loads).hasValue(2);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void testPositionDeleteFiles() {
+    PositionDeleteIndexCache cache = new PositionDeleteIndexCache(0, 1024 * 1024);
+    AtomicInteger loads = new AtomicInteger(0);
+
+    PositionDeleteIndex first = cache.get("deletes.parquet", "a.parquet", loader(loads, 1L));
+    PositionDeleteIndex second =
+        cache.get("deletes.parquet", new StringBuilder("a.parquet"), loader(loads, 1L));
+    PositionDeleteIndex other = cache.get("deletes.parquet", "b.parquet", loader(loads, 2L));
+
+    assertThat(second).isSameAs(first);
+    assertThat(other.isDeleted(2L)).isTrue();
+    assertThat(loads).hasValue(2);
+
+    cache.invalidateAll();
+    cache.get("deletes.parquet", "a.parquet", loader(loads, 1L));
+    assertThat(loads).hasValue(3);
+  }
+
+  private static Supplier<PositionDeleteIndex> loader(AtomicInteger loads, long... positions) {
+    return () -> {
+      loads.incrementAndGet();
+      BitmapPositionDeleteIndex index = new BitmapPositionDeleteIndex();
+      for (long pos : positions) {
+        index.delete(pos);
+      }
+
+      return index;
+    };
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestSpillableEqualityDeleteSet {
+  private static final Types.StructType KEY_TYPE =
+      Types.StructType.of(
+          required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+
+  @TempDir private Path temp;
+
+  @Test
+  public void testInMemory() {
+    try (SpillableEqualityDeleteSet deleteSet =
+        new SpillableEqualityDeleteSet(KEY_TYPE, 1024 * 1024, temp)) {
+      deleteSet.add(Row.of(1L, "a"));
+      deleteSet.add(Row.of(2L, null));
+      deleteSet.add(Row.of(1L, "a"));
+
+      assertThat(deleteSet.size()).isEqualTo(2);
+      assertThat(deleteSet.spilledRuns()).isEqualTo(0);
+      assertThat(deleteSet.isDeleted(Row.of(1L, "a"))).isTrue();
+      assertThat(deleteSet.isDeleted(Row.of(2L, null))).isTrue();
+      assertThat(deleteSet.isDeleted(Row.of(1L, "b"))).isFalse();
+      assertThat(deleteSet.isDeleted(Row.of(2L, ""))).isFalse();
+      assertThat(deleteSet.isDeleted(Row.of(3L, null))).isFalse();
+    }
+  }
+
+  @Test
+  public void testSpillToDisk() throws IOException {
+    int numKeys = 20_000;
+    try (SpillableEqualityDeleteSet deleteSet =
+        new SpillableEqualityDeleteSet(KEY_TYPE, 64 * 1024, temp)) {
+      for (long id = 0; id < numKeys; id += 2) {
+        deleteSet.add(Row.of(id, "data-" + id));
+      }
+
+      assertThat(deleteSet.spilledRuns()).isGreaterThan(1);
+      assertThat(listFiles()).hasSize(deleteSet.spilledRuns());
+
+      for (long id = 0; id < numKeys; id += 1) {
+        assertThat(deleteSet.isDeleted(Row.of(id, "data-" + id)))
+            .as("Key %s should be deleted only if it was added", id)
+            .isEqualTo(id % 2 == 0);
+      }
+
+      assertThat(deleteSet.isDeleted(Row.of(0L, "data-1"))).isFalse();
+      assertThat(deleteSet.isDeleted(Row.of(0L, null))).isFalse();
+    }
+
+    assertThat(listFiles()).as("Spilled runs should be deleted on close").isEmpty();
+  }
+
+  @Test
+  public void testClosedSet() {
+    SpillableEqualityDeleteSet deleteSet = new SpillableEqualityDeleteSet(KEY_TYPE, 1024, temp);
+    deleteSet.close();
+
+    assertThatThrownBy(() -> deleteSet.isDeleted(Row.of(1L, "a")))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot read from a closed set");
+    assertThatThrownBy(() -> deleteSet.add(Row.of(1L, "a")))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot add to a closed set");
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThatThrownBy(() -> new SpillableEqualityDeleteSet(KEY_TYPE, 0, temp))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid max memory: 0");
+
+    Types.StructType nested =
+        Types.StructType.of(
+            required(1, "point", Types.StructType.of(required(2, "x", Types.IntegerType.get()))));
+    assertThatThrownBy(() -> new SpillableEqualityDeleteSet(nested, 1024, temp))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot spill non-primitive key field");
+  }
+
+  private List<Path> listFiles() throws IOException {
+    try (Stream<Path> files = Files.list(temp)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.inmemory.InMemoryInputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestDiskContentCache {
+  private static final Random RANDOM = new Random(42);
+
+  @TempDir private Path temp;
+
+  @Test
+  public void testInvalidArguments() {
+    assertThatThrownBy(() -> new DiskContentCache(temp.toString(), 0))
+        .isInstanceOf(ValidationException.class)
+        .hasMessage("maxTotalBytes is equal or less than 0");
+  }
+
+  @Test
+  public void testPutAndGet() {
+    DiskContentCache cache = new DiskContentCache(temp.toString(), 1024);
+    byte[] content = randomBytes(100);
+
+    assertThat(cache.get("s3://bucket/a.avro", content.length)).isNull();
+    cache.put("s3://bucket/a.avro", content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    assertThat(read(cache.get("s3://bucket/a.avro", content.length))).isEqualTo(content);
+    assertThat(cache.get("s3://bucket/a.avro", content.length + 1))
+        .as("Entries should be keyed by location and length")
+        .isNull();
+    assertThat(cache.get("s3://bucket/b.avro", content.length)).isNull();
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.missCount()).isEqualTo(3);
+    assertThat(cache.totalBytes()).isEqualTo(content.length);
+  }
+
+  @Test
+  public void testEntriesSurviveRestart() {
+    DiskContentCache cache = new DiskContentCache(temp.toString(), 1024);
+    byte[] content = randomBytes(100);
+    cache.put("s3://bucket/a.avro", content.length, ImmutableList.of(ByteBuffer.wrap(content)));
+
+    DiskContentCache restarted = new DiskContentCache(temp.toString(), 1024);
+    assertThat(restarted.entryCount()).isEqualTo(1);
+    assertThat(restarted.totalBytes()).isEqualTo(content.length);
+    assertThat(read(restarted.get("s3://bucket/a.avro", content.length))).isEqualTo(content);
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEviction() {
+    DiskContentCache cache = new DiskContentCache(temp.toString(), 250);
+    byte[] content = randomBytes(100);
+    List<ByteBuffer> buffers = ImmutableList.of(ByteBuffer.wrap(content));
+
+    cache.put("a", content.length, buffers);
+    cache.put("b", content.length, buffers);
+    assertThat(cache.get("a", content.length)).isNotNull();
+
+    cache.put("c", content.length, buffers);
+    assertThat(cache.entryCount()).isEqualTo(2);
+    assertThat(cache.totalBytes()).isEqualTo(200);
+    assertThat(cache.get("a", content.length)).isNotNull();
+    assertThat(cache.get("b", content.length)).as("LRU entry should be evicted").isNull();
+    assertThat(cache.get("c", content.length)).isNotNull();
+    assertThat(temp.resolve(DiskContentCache.key("b", content.length))).doesNotExist();
+
+    cache.put("d", 1000, ImmutableList.of(ByteBuffer.wrap(randomBytes(1000))));
+    assertThat(cache.get("d", 1000)).as("Content larger than the cache is not stored").isNull();
+  }
+
+  @Test
+  public void testIgnoresTruncatedAndTempFiles() throws IOException {
+    Files.write(temp.resolve(".tmp-abc"), randomBytes(10));
+    Files.write(temp.resolve(DiskContentCache.key("a", 100)), randomBytes(10));
+
+    DiskContentCache cache = new DiskContentCache(temp.toString(), 1024);
+    assertThat(temp.resolve(".tmp-abc")).doesNotExist();
+    assertThat(cache.get("a", 100)).isNull();
+    assertThat(cache.entryCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void testContentCacheWithDiskTier() {
+    DiskContentCache diskCache = new DiskContentCache(temp.toString(), 1024 * 1024);
+    byte[] content = randomBytes(10_000);
+    InputFile input = new InMemoryInputFile("s3://bucket/manifest.avro", content);
+
+    ContentCache cache = new ContentCache(0, 1024 * 1024, 1024 * 1024, diskCache);
+    assertThat(readFully(cache.tryCache(input))).isEqualTo(content);
+    assertThat(diskCache.missCount()).isEqualTo(1);
+    assertThat(diskCache.entryCount()).isEqualTo(1);
+
+    // a new in-memory cache, as after a restart, is loaded from disk
+    ContentCache restarted = new ContentCache(0, 1024 * 1024, 1024 * 1024, diskCache);
+    assertThat(readFully(restarted.tryCache(input))).isEqualTo(content);
+    assertThat(diskCache.hitCount()).isEqualTo(1);
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    RANDOM.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static byte[] read(List<ByteBuffer> buffers) {
+    assertThat(buffers).isNotNull();
+    int length = buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+    ByteBuffer result = ByteBuffer.allocate(length);
+    buffers.forEach(buffer -> result.put(buffer.duplicate()));
+    return result.array();
+  }
+
+  private static byte[] readFully(InputFile input) {
+    byte[] bytes = new byte[(int) input.getLength()];
+    try (SeekableInputStream stream = input.newStream()) {
+      IOUtil.readFully(stream, bytes, 0, bytes.length);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    return bytes;
+  }
+}
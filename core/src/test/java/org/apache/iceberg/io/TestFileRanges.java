@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+public class TestFileRanges {
+  private static final byte[] DATA = new byte[1000];
+
+  static {
+    for (int i = 0; i < DATA.length; i += 1) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  @Test
+  public void testCoalesce() {
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(500, 10),
+            new FileRange(0, 10),
+            new FileRange(15, 10),
+            new FileRange(30, 5));
+
+    List<FileRanges.CombinedRange> combined = FileRanges.coalesce(ranges, 5, 100);
+
+    assertThat(combined).hasSize(2);
+    assertThat(combined.get(0).offset()).isEqualTo(0);
+    assertThat(combined.get(0).end()).isEqualTo(35);
+    assertThat(combined.get(0).ranges())
+        .containsExactly(ranges.get(1), ranges.get(2), ranges.get(3));
+    assertThat(combined.get(1).offset()).isEqualTo(500);
+    assertThat(combined.get(1).ranges()).containsExactly(ranges.get(0));
+  }
+
+  @Test
+  public void testCoalesceRespectsMaxRequestSize() {
+    List<FileRange> ranges =
+        ImmutableList.of(new FileRange(0, 40), new FileRange(40, 40), new FileRange(80, 40));
+
+    List<FileRanges.CombinedRange> combined = FileRanges.coalesce(ranges, 0, 100);
+
+    assertThat(combined).hasSize(2);
+    assertThat(combined.get(0).end()).isEqualTo(80);
+    assertThat(combined.get(1).offset()).isEqualTo(80);
+  }
+
+  @Test
+  public void testCoalesceRejectsOverlappingRanges() {
+    List<FileRange> ranges = ImmutableList.of(new FileRange(0, 20), new FileRange(10, 20));
+
+    assertThatThrownBy(() -> FileRanges.coalesce(ranges, 0, 100))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot read overlapping ranges");
+  }
+
+  @Test
+  public void testReadVectored() throws Exception {
+    TrackingSource source = new TrackingSource();
+    List<FileRange> ranges =
+        ImmutableList.of(
+            new FileRange(900, 100),
+            new FileRange(0, 10),
+            new FileRange(20, 300),
+            new FileRange(10, 0));
+
+    FileRanges.readVectored(source, ranges, ByteBuffer::allocate, 10, 100);
+
+    for (FileRange range : ranges) {
+      assertThat(toBytes(range.byteBuffer().get()))
+          .isEqualTo(Arrays.copyOfRange(DATA, (int) range.offset(), (int) range.end()));
+    }
+
+    // [0, 10) and the empty range are merged, [20, 320) is split into 3 parts
+    assertThat(source.requests)
+        .containsExactlyInAnyOrder("0-10", "20-120", "120-220", "220-320", "900-1000");
+  }
+
+  @Test
+  public void testReadVectoredIntoRequestBuffers() throws Exception {
+    TrackingSource source = new TrackingSource();
+    List<FileRange> ranges = ImmutableList.of(new FileRange(0, 10), new FileRange(15, 5));
+    List<Integer> allocated = new CopyOnWriteArrayList<>();
+
+    FileRanges.readVectored(
+        source,
+        ranges,
+        size -> {
+          allocated.add(size);
+          return ByteBuffer.allocateDirect(size);
+        },
+        10,
+        100);
+
+    for (FileRange range : ranges) {
+      assertThat(toBytes(range.byteBuffer().get()))
+          .isEqualTo(Arrays.copyOfRange(DATA, (int) range.offset(), (int) range.end()));
+    }
+
+    // both ranges are read into one buffer for the merged request
+    assertThat(allocated).containsExactly(20);
+    assertThat(source.requests).containsExactly("0-20");
+  }
+
+  @Test
+  public void testReadVectoredFailure() {
+    TrackingSource source = new TrackingSource();
+    FileRange valid = new FileRange(0, 10);
+    FileRange invalid = new FileRange(990, 20);
+
+    FileRanges.readVectored(source, ImmutableList.of(valid, invalid), ByteBuffer::allocate, 0, 100);
+
+    assertThatThrownBy(() -> invalid.byteBuffer().get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(EOFException.class);
+    assertThat(valid.byteBuffer()).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  public void testDefaultReadVectored() throws Exception {
+    TrackingSource source = new TrackingSource();
+    List<FileRange> ranges = ImmutableList.of(new FileRange(10, 5), new FileRange(0, 5));
+
+    source.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(toBytes(ranges.get(0).byteBuffer().get()))
+        .isEqualTo(Arrays.copyOfRange(DATA, 10, 15));
+    assertThat(toBytes(ranges.get(1).byteBuffer().get()))
+        .isEqualTo(Arrays.copyOfRange(DATA, 0, 5));
+    assertThat(source.requests).containsExactly("10-15", "0-5");
+  }
+
+  @Test
+  public void testReadFullyInParts() throws Exception {
+    TrackingSource source = new TrackingSource();
+    byte[] buffer = new byte[260];
+
+    FileRanges.readFully(source::readFully, 50, buffer, 5, 250, 100);
+
+    assertThat(Arrays.copyOfRange(buffer, 5, 255)).isEqualTo(Arrays.copyOfRange(DATA, 50, 300));
+    assertThat(source.requests).containsExactlyInAnyOrder("50-150", "150-250", "250-300");
+  }
+
+  @Test
+  public void testReadFullyInSinglePart() throws Exception {
+    TrackingSource source = new TrackingSource();
+    byte[] buffer = new byte[100];
+
+    FileRanges.readFully(source::readFully, 0, buffer, 0, 100, 100);
+
+    assertThat(buffer).isEqualTo(Arrays.copyOfRange(DATA, 0, 100));
+    assertThat(source.requests).containsExactly("0-100");
+  }
+
+  @Test
+  public void testReadFullyInPartsFailure() {
+    TrackingSource source = new TrackingSource();
+
+    assertThatThrownBy(
+            () -> FileRanges.readFully(source::readFully, 800, new byte[300], 0, 300, 100))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("Cannot read past the end of the data: 1100");
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private static class TrackingSource implements RangeReadable {
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length)
+        throws IOException {
+      requests.add(position + "-" + (position + length));
+      if (position + length > DATA.length) {
+        throw new EOFException("Cannot read past the end of the data: " + (position + length));
+      }
+
+      System.arraycopy(DATA, (int) position, buffer, offset, length);
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public void close() {}
+  }
+}
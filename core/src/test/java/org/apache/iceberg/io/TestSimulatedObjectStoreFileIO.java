@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.inmemory.InMemoryFileIO;
+import org.apache.iceberg.io.SimulatedObjectStoreFileIO.Request;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+public class TestSimulatedObjectStoreFileIO {
+  private static final byte[] DATA = new byte[1024];
+
+  static {
+    for (int i = 0; i < DATA.length; i += 1) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  @Test
+  public void testRequestLatency() throws IOException {
+    SimulatedObjectStoreFileIO io = new SimulatedObjectStoreFileIO();
+    io.initialize(ImmutableMap.of(SimulatedObjectStoreFileIO.REQUEST_LATENCY_MS, "20"));
+    assertThat(io.delegate()).isInstanceOf(InMemoryFileIO.class);
+
+    String location = "s3://bucket/" + UUID.randomUUID();
+    long start = System.nanoTime();
+    write(io, location);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+        .isGreaterThanOrEqualTo(20L);
+
+    byte[] bytes = new byte[DATA.length];
+    try (SeekableInputStream in = io.newInputFile(location).newStream()) {
+      IOUtil.readFully(in, bytes, 0, 100);
+      IOUtil.readFully(in, bytes, 100, DATA.length - 100);
+    }
+
+    assertThat(bytes).isEqualTo(DATA);
+    assertThat(io.newInputFile(location).getLength()).isEqualTo(DATA.length);
+
+    assertThat(io.histogram(Request.PUT).count()).isEqualTo(1);
+    assertThat(io.histogram(Request.HEAD).count()).isEqualTo(1);
+    assertThat(io.histogram(Request.GET).count())
+        .as("Sequential reads should use a single GET request")
+        .isEqualTo(1);
+    assertThat(io.histogram(Request.GET).statistics().min()).isGreaterThanOrEqualTo(20_000L);
+  }
+
+  @Test
+  public void testSeekAndPositionalReads() throws IOException {
+    SimulatedObjectStoreFileIO io = new SimulatedObjectStoreFileIO(new InMemoryFileIO());
+    io.initialize(ImmutableMap.of());
+
+    String location = "s3://bucket/" + UUID.randomUUID();
+    write(io, location);
+
+    byte[] bytes = new byte[10];
+    try (SeekableInputStream in = io.newInputFile(location).newStream()) {
+      in.seek(500);
+      IOUtil.readFully(in, bytes, 0, 10);
+      assertThat(bytes).isEqualTo(Arrays.copyOfRange(DATA, 500, 510));
+
+      ((RangeReadable) in).readFully(100, bytes, 0, 10);
+      assertThat(bytes).isEqualTo(Arrays.copyOfRange(DATA, 100, 110));
+
+      assertThat(((RangeReadable) in).readTail(bytes, 0, 10)).isEqualTo(10);
+      assertThat(bytes).isEqualTo(Arrays.copyOfRange(DATA, DATA.length - 10, DATA.length));
+
+      in.seek(0);
+      assertThat(in.read()).isEqualTo(0);
+    }
+
+    assertThat(io.histogram(Request.GET).count()).isEqualTo(4);
+  }
+
+  @Test
+  public void testThrottling() {
+    SimulatedObjectStoreFileIO io = new SimulatedObjectStoreFileIO(new InMemoryFileIO());
+    io.initialize(ImmutableMap.of(SimulatedObjectStoreFileIO.THROTTLE_PROBABILITY, "1.0"));
+
+    String location = "s3://bucket/" + UUID.randomUUID();
+    assertThatThrownBy(() -> write(io, location))
+        .isInstanceOf(SimulatedObjectStoreFileIO.ThrottledException.class)
+        .hasMessage("Simulated 503 Slow Down for PUT request");
+    assertThat(io.throttledRequests()).isEqualTo(1L);
+
+    io.resetStatistics();
+    assertThat(io.throttledRequests()).isEqualTo(0L);
+    assertThat(io.histogram(Request.PUT).count()).isEqualTo(0);
+  }
+
+  @Test
+  public void testBulkDelete() {
+    SimulatedObjectStoreFileIO io = new SimulatedObjectStoreFileIO(new InMemoryFileIO());
+    io.initialize(ImmutableMap.of(SimulatedObjectStoreFileIO.DELETE_BATCH_SIZE, "2"));
+
+    String prefix = "s3://bucket/" + UUID.randomUUID();
+    for (int i = 0; i < 3; i += 1) {
+      write(io, prefix + "/" + i);
+    }
+
+    assertThatThrownBy(
+            () ->
+                io.deleteFiles(
+                    Arrays.asList(prefix + "/0", prefix + "/1", prefix + "/2", prefix + "/3")))
+        .isInstanceOf(BulkDeletionFailureException.class)
+        .hasMessage("Failed to delete 1 files");
+    assertThat(io.histogram(Request.DELETE).count()).isEqualTo(2);
+
+    assertThatThrownBy(() -> io.listPrefix(prefix))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessageContaining("does not support them");
+  }
+
+  @Test
+  public void testInvalidProperties() {
+    SimulatedObjectStoreFileIO io = new SimulatedObjectStoreFileIO(new InMemoryFileIO());
+    assertThatThrownBy(
+            () ->
+                io.initialize(
+                    ImmutableMap.of(SimulatedObjectStoreFileIO.THROTTLE_PROBABILITY, "1.5")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Invalid simulated-store.throttle-probability: 1.5 (must be between 0 and 1)");
+  }
+
+  private static void write(FileIO io, String location) {
+    try (PositionOutputStream out = io.newOutputFile(location).create()) {
+      out.write(DATA);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -180,6 +180,8 @@ public class TestScanMetricsResultParser {
     scanMetrics.positionalDeleteFiles().increment(6L);
     scanMetrics.dvs().increment();
     scanMetrics.equalityDeleteFiles().increment(4L);
+    scanMetrics.planningProducerStallDuration().record(2, TimeUnit.SECONDS);
+    scanMetrics.planningConsumerWaitDuration().record(3, TimeUnit.SECONDS);
 
     ScanMetricsResult scanMetricsResult = ScanMetricsResult.fromScanMetrics(scanMetrics);
     assertThat(
@@ -201,6 +203,8 @@ public class TestScanMetricsResultParser {
                     + "\"equality-delete-files\":{\"unit\":\"count\",\"value\":4},"
                     + "\"positional-delete-files\":{\"unit\":\"count\",\"value\":6},"
                     + "\"dvs\":{\"unit\":\"count\",\"value\":1},"
+                    + "\"planning-producer-stall-duration\":{\"count\":1,\"time-unit\":\"nanoseconds\",\"total-duration\":2000000000},"
+                    + "\"planning-consumer-wait-duration\":{\"count\":1,\"time-unit\":\"nanoseconds\",\"total-duration\":3000000000},"
                     + "\"extra\": \"value\",\"extra2\":23}"))
         .isEqualTo(scanMetricsResult);
   }
@@ -246,6 +250,8 @@ public class TestScanMetricsResultParser {
     scanMetrics.positionalDeleteFiles().increment(6L);
     scanMetrics.dvs().increment(3L);
     scanMetrics.equalityDeleteFiles().increment(4L);
+    scanMetrics.planningProducerStallDuration().record(2, TimeUnit.SECONDS);
+    scanMetrics.planningConsumerWaitDuration().record(3, TimeUnit.SECONDS);
 
     ScanMetricsResult scanMetricsResult = ScanMetricsResult.fromScanMetrics(scanMetrics);
 
@@ -319,6 +325,16 @@ public class TestScanMetricsResultParser {
             + "  \"dvs\" : {\n"
             + "    \"unit\" : \"count\",\n"
             + "    \"value\" : 3\n"
+            + "  },\n"
+            + "  \"planning-producer-stall-duration\" : {\n"
+            + "    \"count\" : 1,\n"
+            + "    \"time-unit\" : \"nanoseconds\",\n"
+            + "    \"total-duration\" : 2000000000\n"
+            + "  },\n"
+            + "  \"planning-consumer-wait-duration\" : {\n"
+            + "    \"count\" : 1,\n"
+            + "    \"time-unit\" : \"nanoseconds\",\n"
+            + "    \"total-duration\" : 3000000000\n"
             + "  }\n"
             + "}";
 
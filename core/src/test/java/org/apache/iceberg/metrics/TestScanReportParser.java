@@ -120,6 +120,8 @@ public class TestScanReportParser {
                     + "\"equality-delete-files\":{\"unit\":\"count\",\"value\":4},"
                     + "\"positional-delete-files\":{\"unit\":\"count\",\"value\":6},"
                     + "\"dvs\":{\"unit\":\"count\",\"value\":1},"
+                    + "\"planning-producer-stall-duration\":{\"count\":0,\"time-unit\":\"nanoseconds\",\"total-duration\":0},"
+                    + "\"planning-consumer-wait-duration\":{\"count\":0,\"time-unit\":\"nanoseconds\",\"total-duration\":0},"
                     + "\"extra-metric\":\"extra-val\"},"
                     + "\"extra\":\"extraVal\"}"))
         .isEqualTo(scanReport);
@@ -285,6 +287,16 @@ public class TestScanReportParser {
             + "    \"dvs\" : {\n"
             + "      \"unit\" : \"count\",\n"
             + "      \"value\" : 0\n"
+            + "    },\n"
+            + "    \"planning-producer-stall-duration\" : {\n"
+            + "      \"count\" : 0,\n"
+            + "      \"time-unit\" : \"nanoseconds\",\n"
+            + "      \"total-duration\" : 0\n"
+            + "    },\n"
+            + "    \"planning-consumer-wait-duration\" : {\n"
+            + "      \"count\" : 0,\n"
+            + "      \"time-unit\" : \"nanoseconds\",\n"
+            + "      \"total-duration\" : 0\n"
             + "    }\n"
             + "  }\n"
             + "}";
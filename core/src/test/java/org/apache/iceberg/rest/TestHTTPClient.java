@@ -34,6 +34,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -48,7 +49,10 @@ import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.iceberg.IcebergBuild;
+import org.apache.iceberg.exceptions.RESTException;
+import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.auth.AuthSession;
 import org.apache.iceberg.rest.auth.TLSConfigurer;
 import org.apache.iceberg.rest.responses.ErrorResponse;
@@ -443,6 +447,101 @@ public class TestHTTPClient {
         .hasMessage(String.format("duration must not be negative: %s", invalidNegativeTimeoutMs));
   }
 
+  @Test
+  public void testMetricsReport() throws IOException {
+    List<MetricsReport> reports = Lists.newArrayList();
+    String path = "metrics/report/path";
+    Map<String, String> properties =
+        ImmutableMap.of(HTTPClient.REST_METRICS_REPORT_INTERVAL_MS, "0");
+
+    try (HTTPClient client =
+        HTTPClient.builder(properties)
+            .uri(URI)
+            .withAuthSession(AuthSession.EMPTY)
+            .withMetricsReporter(reports::add)
+            .build()) {
+      HttpRequest mockRequest =
+          request()
+              .withPath("/" + path)
+              .withMethod(HttpMethod.HEAD.name().toUpperCase(Locale.ROOT));
+      mockServer.when(mockRequest).respond(response().withStatusCode(200));
+
+      client.head(path, ImmutableMap.of(), (unused) -> {});
+      assertThat(reports).hasSize(1);
+    }
+
+    assertThat(reports).as("Should report once more on close").hasSize(2);
+    assertThat(reports.get(1)).isInstanceOf(HTTPClientReport.class);
+    HTTPClientReport report = (HTTPClientReport) reports.get(1);
+    assertThat(report.protocol()).isEqualTo("HTTP/1.1");
+    assertThat(report.max()).isEqualTo(HTTPClient.REST_MAX_CONNECTIONS_DEFAULT);
+    assertThat(report.leased()).isEqualTo(0);
+    assertThat(report.pending()).isEqualTo(0);
+    assertThat(report.requestDuration().count()).isEqualTo(1L);
+    assertThat(report.failedRequests().value()).isEqualTo(0L);
+  }
+
+  @Test
+  public void testMetricsReportCountsFailedResponses() throws IOException {
+    String path = "metrics/failure/path";
+    try (HTTPClient client =
+        HTTPClient.builder(ImmutableMap.of()).uri(URI).withAuthSession(AuthSession.EMPTY).build()) {
+      HttpRequest mockRequest =
+          request()
+              .withPath("/" + path)
+              .withMethod(HttpMethod.HEAD.name().toUpperCase(Locale.ROOT));
+      mockServer.when(mockRequest).respond(response().withStatusCode(503));
+
+      assertThatThrownBy(() -> client.head(path, ImmutableMap.of(), (unused) -> {}))
+          .isInstanceOf(RESTException.class);
+
+      HTTPClientReport report = client.metricsReport();
+      assertThat(report.requestDuration().count()).isEqualTo(1L);
+      assertThat(report.failedRequests().value()).isEqualTo(1L);
+    }
+  }
+
+  @Test
+  public void testHttp2StreamPool() throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            HTTPClient.REST_HTTP2_ENABLED, "true",
+            HTTPClient.REST_HTTP2_MAX_CONCURRENT_STREAMS, "10");
+
+    try (HTTPClient client =
+        HTTPClient.builder(properties).uri(URI).withAuthSession(AuthSession.EMPTY).build()) {
+      HTTPClientReport report = client.metricsReport();
+      assertThat(report.protocol()).isEqualTo("HTTP/2.0");
+      assertThat(report.max()).isEqualTo(10);
+      assertThat(report.available()).isEqualTo(10);
+      assertThat(report.leased()).isEqualTo(0);
+      assertThat(report.requestDuration().count()).isEqualTo(0L);
+    }
+  }
+
+  @Test
+  public void testInvalidHttp2Settings() {
+    assertThatThrownBy(
+            () ->
+                HTTPClient.builder(
+                        ImmutableMap.of(
+                            HTTPClient.REST_HTTP2_ENABLED, "true",
+                            HTTPClient.REST_HTTP2_MAX_CONCURRENT_STREAMS, "0"))
+                    .uri(URI)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid rest.client.http2.max-concurrent-streams: 0 (must be > 0)");
+
+    assertThatThrownBy(
+            () ->
+                HTTPClient.builder(ImmutableMap.of(HTTPClient.REST_HTTP2_ENABLED, "true"))
+                    .uri(URI)
+                    .withProxy("localhost", 1070)
+                    .build())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid http client proxy: proxies are not supported with HTTP/2");
+  }
+
   @Test
   public void testCloseChild() throws IOException {
     AuthSession authSession = mock(AuthSession.class);
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+public class TestBinaryHashSet {
+
+  @Test
+  public void testAddAndContainsStrings() {
+    BinaryHashSet set = new BinaryHashSet();
+    assertThat(set.add("a")).isTrue();
+    assertThat(set.add(new StringBuilder("a"))).isFalse();
+    assertThat(set.add("")).isTrue();
+    assertThat(set.add("snowman \u2603")).isTrue();
+    assertThat(set.add("emoji \uD83D\uDE00")).isTrue();
+
+    assertThat(set.size()).isEqualTo(4);
+    assertThat(set.contains("a")).isTrue();
+    assertThat(set.contains(new StringBuilder("a"))).isTrue();
+    assertThat(set.contains("")).isTrue();
+    assertThat(set.contains("snowman \u2603")).isTrue();
+    assertThat(set.contains("emoji \uD83D\uDE00")).isTrue();
+    assertThat(set.contains("b")).isFalse();
+    assertThat(set.contains((CharSequence) null)).isFalse();
+  }
+
+  @Test
+  public void testStringsWithoutUtf8Encoding() {
+    BinaryHashSet set = new BinaryHashSet();
+    assertThat(set.add("a?")).isTrue();
+
+    assertThatThrownBy(() -> set.add("a\uD800"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot encode value as UTF-8");
+    assertThat(set.size()).isEqualTo(1);
+    assertThat(set.contains("a\uD800")).isFalse();
+    assertThat(set.contains("a\uDC00")).isFalse();
+    assertThat(set.contains("a?")).isTrue();
+  }
+
+  @Test
+  public void testStringsMatchUtf8Bytes() {
+    BinaryHashSet set = new BinaryHashSet();
+    set.add("snowman \u2603");
+
+    byte[] utf8 = "snowman \u2603".getBytes(StandardCharsets.UTF_8);
+    assertThat(set.contains(utf8)).isTrue();
+
+    byte[] padded = new byte[utf8.length + 4];
+    System.arraycopy(utf8, 0, padded, 2, utf8.length);
+    assertThat(set.contains(padded, 2, utf8.length)).isTrue();
+    assertThat(set.contains(padded, 1, utf8.length)).isFalse();
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length);
+    direct.put(utf8).flip();
+    assertThat(set.contains(direct)).isTrue();
+    assertThat(direct.remaining()).as("Should not consume the buffer").isEqualTo(utf8.length);
+    assertThat(set.contains(ByteBuffer.wrap(padded, 2, utf8.length))).isTrue();
+  }
+
+  @Test
+  public void testResize() {
+    Set<String> expected = Sets.newHashSet();
+    BinaryHashSet set = new BinaryHashSet(4);
+
+    for (int i = 0; i < 50_000; i += 1) {
+      String value = "key-" + (i * 7919 % 30_000);
+      assertThat(set.add(value)).isEqualTo(expected.add(value));
+    }
+
+    assertThat(set.size()).isEqualTo(expected.size());
+    for (String value : expected) {
+      assertThat(set.contains(value)).isTrue();
+    }
+
+    assertThat(set.contains("key--1")).isFalse();
+
+    Set<String> actual = Sets.newHashSet();
+    set.forEach(bytes -> actual.add(new String(bytes, StandardCharsets.UTF_8)));
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void testAddAll() {
+    BinaryHashSet first = new BinaryHashSet();
+    first.add("a");
+    BinaryHashSet second = new BinaryHashSet();
+    second.add("a");
+    second.add("b");
+
+    first.addAll(second);
+    assertThat(first.size()).isEqualTo(2);
+    assertThat(first.contains("b")).isTrue();
+  }
+}
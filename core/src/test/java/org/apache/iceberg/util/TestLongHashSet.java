@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+public class TestLongHashSet {
+
+  @Test
+  public void testAddAndContains() {
+    LongHashSet set = new LongHashSet();
+    assertThat(set.isEmpty()).isTrue();
+
+    assertThat(set.add(1L)).isTrue();
+    assertThat(set.add(1L)).isFalse();
+    assertThat(set.add(-1L)).isTrue();
+    assertThat(set.add(Long.MAX_VALUE)).isTrue();
+    assertThat(set.add(Long.MIN_VALUE)).isTrue();
+
+    assertThat(set.size()).isEqualTo(4);
+    assertThat(set.contains(1L)).isTrue();
+    assertThat(set.contains(-1L)).isTrue();
+    assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+    assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+    assertThat(set.contains(2L)).isFalse();
+  }
+
+  @Test
+  public void testZero() {
+    LongHashSet set = new LongHashSet();
+    assertThat(set.contains(0L)).isFalse();
+    assertThat(set.add(0L)).isTrue();
+    assertThat(set.add(0L)).isFalse();
+    assertThat(set.contains(0L)).isTrue();
+    assertThat(set.size()).isEqualTo(1);
+
+    Set<Long> values = Sets.newHashSet();
+    set.forEach(values::add);
+    assertThat(values).containsExactly(0L);
+  }
+
+  @Test
+  public void testResize() {
+    Random random = new Random(7);
+    Set<Long> expected = Sets.newHashSet();
+    LongHashSet set = new LongHashSet(4);
+
+    for (int i = 0; i < 100_000; i += 1) {
+      long value = i % 2 == 0 ? i : random.nextLong();
+      assertThat(set.add(value)).isEqualTo(expected.add(value));
+    }
+
+    assertThat(set.size()).isEqualTo(expected.size());
+    for (long value : expected) {
+      assertThat(set.contains(value)).isTrue();
+    }
+
+    assertThat(set.contains(-2L)).isFalse();
+
+    Set<Long> actual = Sets.newHashSet();
+    set.forEach(actual::add);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  public void testAddAll() {
+    LongHashSet first = new LongHashSet();
+    first.add(1L);
+    first.add(0L);
+    LongHashSet second = new LongHashSet();
+    second.add(1L);
+    second.add(2L);
+
+    first.addAll(second);
+    assertThat(first.size()).isEqualTo(3);
+    assertThat(first.contains(0L)).isTrue();
+    assertThat(first.contains(2L)).isTrue();
+  }
+
+  @Test
+  public void testInvalidExpectedSize() {
+    assertThatThrownBy(() -> new LongHashSet(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid expected size: -1");
+  }
+}
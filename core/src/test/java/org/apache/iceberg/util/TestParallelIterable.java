@@ -27,10 +27,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.collect.HashMultiset;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMultiset;
@@ -183,6 +186,106 @@ public class TestParallelIterable {
     }
   }
 
+  @Test
+  @Timeout(10)
+  public void limitQueueBytes() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<Iterable<Integer>> iterables =
+          ImmutableList.of(
+              () -> IntStream.range(0, 1000).iterator(),
+              () -> IntStream.range(0, 1000).iterator(),
+              () -> IntStream.range(0, 1000).iterator());
+
+      Multiset<Integer> expectedValues =
+          IntStream.range(0, 1000)
+              .boxed()
+              .flatMap(i -> Stream.of(i, i, i))
+              .collect(ImmutableMultiset.toImmutableMultiset());
+
+      // each item is 10 bytes, so at most 5 items fit in the queue
+      long maxQueueBytes = 50;
+      Timer producerStall = new DefaultTimer(TimeUnit.NANOSECONDS);
+      Timer consumerWait = new DefaultTimer(TimeUnit.NANOSECONDS);
+      ParallelIterable<Integer> parallelIterable =
+          new ParallelIterable<>(
+              iterables, executor, maxQueueBytes, item -> 10, producerStall, consumerWait);
+      ParallelIterator<Integer> iterator = (ParallelIterator<Integer>) parallelIterable.iterator();
+
+      // let producers fill the queue while the consumer is idle
+      assertThat(iterator.hasNext()).isTrue();
+      Thread.sleep(100);
+      assertThat(iterator.queueSize()).as("iterator internal queue size").isLessThanOrEqualTo(5);
+
+      Multiset<Integer> actualValues = HashMultiset.create();
+      while (iterator.hasNext()) {
+        assertThat(iterator.queuedBytes()).as("queued bytes").isLessThanOrEqualTo(maxQueueBytes);
+        actualValues.add(iterator.next());
+      }
+
+      assertThat(actualValues)
+          .as("multiset of values returned by the iterator")
+          .isEqualTo(expectedValues);
+      assertThat(iterator.queuedBytes()).isEqualTo(0);
+      assertThat(producerStall.count()).as("producer stalls").isGreaterThan(0);
+      assertThat(consumerWait.count()).as("consumer waits").isGreaterThan(0);
+
+      iterator.close();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @Timeout(10)
+  public void producersYieldWorkerThreadsOnFullQueue() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      List<Iterable<Integer>> iterables =
+          ImmutableList.of(() -> IntStream.range(0, 1000).iterator());
+
+      ParallelIterable<Integer> parallelIterable =
+          new ParallelIterable<>(iterables, executor, 10, item -> 10, Timer.NOOP, Timer.NOOP);
+      ParallelIterator<Integer> iterator = (ParallelIterator<Integer>) parallelIterable.iterator();
+      assertThat(iterator.hasNext()).isTrue();
+
+      // the producer gives up the only worker thread while the queue is full
+      assertThat(executor.submit(() -> true).get(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(iterator.queueSize()).as("iterator internal queue size").isEqualTo(1);
+
+      iterator.close();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @Timeout(10)
+  public void closeReleasesYieldedProducers() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<Iterable<Integer>> iterables =
+          ImmutableList.of(
+              () -> IntStream.range(0, 1000).iterator(),
+              () -> IntStream.range(0, 1000).iterator());
+
+      ParallelIterable<Integer> parallelIterable =
+          new ParallelIterable<>(iterables, executor, 10, item -> 10, Timer.NOOP, Timer.NOOP);
+      ParallelIterator<Integer> iterator = (ParallelIterator<Integer>) parallelIterable.iterator();
+
+      assertThat(iterator.next()).isNotNull();
+      iterator.close();
+
+      // producers that yielded on the full queue are closed and not resumed
+      executor.shutdown();
+      Awaitility.await("Producers are released")
+          .atMost(5, TimeUnit.SECONDS)
+          .untilAsserted(() -> assertThat(executor.isTerminated()).isTrue());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   @Timeout(10)
   public void noDeadlock() {
@@ -213,6 +316,81 @@ public class TestParallelIterable {
     }
   }
 
+  @Test
+  @Timeout(10)
+  public void producersReleaseResourcesOnFullQueue() {
+    // each iterator holds a connection from a pool with a single connection until it is closed,
+    // so a producer that yields on the full queue must not keep its iterator open
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    try {
+      Semaphore connections = new Semaphore(1);
+      List<Iterable<Integer>> iterables =
+          ImmutableList.of(
+              pooledIterable(connections, IntStream.range(0, 100)),
+              pooledIterable(connections, IntStream.range(200, 300)));
+
+      ParallelIterable<Integer> parallelIterable =
+          new ParallelIterable<>(iterables, executor, 30, item -> 10, Timer.NOOP, Timer.NOOP);
+      ParallelIterator<Integer> iterator = (ParallelIterator<Integer>) parallelIterable.iterator();
+
+      Multiset<Integer> actualValues = HashMultiset.create();
+      iterator.forEachRemaining(actualValues::add);
+
+      assertThat(actualValues)
+          .as("multiset of values returned by the iterator")
+          .isEqualTo(
+              IntStream.concat(IntStream.range(0, 100), IntStream.range(200, 300))
+                  .boxed()
+                  .collect(ImmutableMultiset.toImmutableMultiset()));
+      assertThat(connections.availablePermits()).as("available connections").isEqualTo(1);
+
+      iterator.close();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Iterable<Integer> pooledIterable(Semaphore connections, IntStream values) {
+    List<Integer> items = values.boxed().collect(Collectors.toList());
+    return () -> {
+      try {
+        if (!connections.tryAcquire(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Timed out waiting for a connection");
+        }
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+
+      Iterator<Integer> iterator = items.iterator();
+      return new CloseableIterator<Integer>() {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+          if (!closed) {
+            closed = true;
+            connections.release();
+          }
+        }
+
+        @Override
+        public boolean hasNext() {
+          boolean hasNext = iterator.hasNext();
+          if (!hasNext) {
+            close();
+          }
+
+          return hasNext;
+        }
+
+        @Override
+        public Integer next() {
+          return iterator.next();
+        }
+      };
+    };
+  }
+
   private <T> CloseableIterable<T> testIterable(
       RunnableWithException open, RunnableWithException close, Iterator<T> iterator) {
     return new CloseableIterable<T>() {
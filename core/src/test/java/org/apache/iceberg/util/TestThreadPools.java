@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class TestThreadPools {
+
+  @Test
+  public void testVirtualThreadPoolLimitsConcurrency() throws InterruptedException {
+    assumeThat(ThreadPools.virtualThreadsSupported()).isTrue();
+
+    ExecutorService pool = ThreadPools.newVirtualThreadPool("test-virtual", 4);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    try {
+      Tasks.range(64)
+          .executeWith(pool)
+          .run(
+              i -> {
+                int current = running.incrementAndGet();
+                maxRunning.accumulateAndGet(current, Math::max);
+                assertThat(Thread.currentThread().getName()).startsWith("test-virtual-");
+                try {
+                  Thread.sleep(5);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                } finally {
+                  running.decrementAndGet();
+                }
+              });
+    } finally {
+      pool.shutdown();
+      assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    assertThat(maxRunning.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  public void testVirtualThreadPoolUnsupported() {
+    assumeThat(ThreadPools.virtualThreadsSupported()).isFalse();
+
+    assertThatThrownBy(() -> ThreadPools.newVirtualThreadPool("test-virtual", 4))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Virtual threads require Java 21 or later");
+  }
+}
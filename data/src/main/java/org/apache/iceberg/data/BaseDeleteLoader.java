@@ -20,6 +20,8 @@ package org.apache.iceberg.data;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
@@ -35,7 +37,10 @@ import org.apache.iceberg.data.avro.PlannedDataReader;
 import org.apache.iceberg.data.orc.GenericOrcReader;
 import org.apache.iceberg.data.parquet.GenericParquetReaders;
 import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.EqualityDeleteSets;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.deletes.PositionDeleteIndexCache;
 import org.apache.iceberg.deletes.PositionDeleteIndexUtil;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -51,11 +56,13 @@ import org.apache.iceberg.parquet.ParquetValueReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.apache.iceberg.relocated.com.google.common.math.LongMath;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.CharSequenceMap;
 import org.apache.iceberg.util.ContentFileUtil;
+import org.apache.iceberg.util.SortedMerge;
 import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -116,6 +123,71 @@ public class BaseDeleteLoader implements DeleteLoader {
     return deleteSet;
   }
 
+  /**
+   * Loads the content of equality delete files into a set that can be used to check whether a row
+   * is deleted.
+   *
+   * <p>If the projection is a single int, long or string column, keys are stored in a
+   * primitive-specialized set and deletes that are not cached are read without materializing
+   * records. Otherwise, this returns a set backed by {@link #loadEqualityDeletes}.
+   *
+   * @param deleteFiles equality delete files
+   * @param projection a projection of columns to load
+   * @return a set of equality deletes
+   */
+  @Override
+  public EqualityDeleteSet loadEqualityDeleteSet(
+      Iterable<DeleteFile> deleteFiles, Schema projection) {
+    if (!EqualityDeleteSets.isSpecialized(projection)) {
+      return EqualityDeleteSets.wrap(loadEqualityDeletes(deleteFiles, projection));
+    }
+
+    Iterable<EqualityDeleteSet> deleteSets =
+        execute(deleteFiles, deleteFile -> getOrReadEqDeleteSet(deleteFile, projection));
+    return EqualityDeleteSets.merge(projection, deleteSets);
+  }
+
+  /**
+   * Opens equality delete files that are sorted by the given order as a single stream of delete
+   * keys in that order.
+   *
+   * <p>Delete files are read lazily and merged while the returned iterable is consumed, so only
+   * the current key of each file is held in memory.
+   *
+   * @param deleteFiles equality delete files sorted by the given order
+   * @param projection a projection of columns to load
+   * @param order a comparator for rows of the projection
+   * @return an iterable of delete keys in order
+   */
+  public CloseableIterable<StructLike> openSortedEqualityDeletes(
+      Iterable<DeleteFile> deleteFiles, Schema projection, Comparator<StructLike> order) {
+    List<CloseableIterable<StructLike>> deletes = Lists.newArrayList();
+    for (DeleteFile deleteFile : deleteFiles) {
+      // records are copied because the merge holds on to the current key of each file
+      CloseableIterable<Record> records = openDeletes(deleteFile, projection);
+      deletes.add(toStructs(CloseableIterable.transform(records, Record::copy), projection));
+    }
+
+    return new SortedMerge<>(order, deletes);
+  }
+
+  private EqualityDeleteSet getOrReadEqDeleteSet(DeleteFile deleteFile, Schema projection) {
+    long estimatedSize = estimateEqDeletesSize(deleteFile, projection);
+    if (canCache(estimatedSize)) {
+      // share cached entries with loadEqualityDeletes
+      Iterable<StructLike> deletes = getOrReadEqDeletes(deleteFile, projection);
+      return EqualityDeleteSets.specialized(projection, deletes);
+    } else {
+      // the key is extracted from each record, so records are neither copied nor materialized
+      try (CloseableIterable<StructLike> deletes =
+          toStructs(openDeletes(deleteFile, projection), projection)) {
+        return EqualityDeleteSets.specialized(projection, deletes);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to close iterable", e);
+      }
+    }
+  }
+
   private Iterable<StructLike> getOrReadEqDeletes(DeleteFile deleteFile, Schema projection) {
     long estimatedSize = estimateEqDeletesSize(deleteFile, projection);
     if (canCache(estimatedSize)) {
@@ -133,8 +205,7 @@ public class BaseDeleteLoader implements DeleteLoader {
     return materialize(copiedDeletesAsStructs);
   }
 
-  private CloseableIterable<StructLike> toStructs(
-      CloseableIterable<Record> records, Schema schema) {
+  CloseableIterable<StructLike> toStructs(CloseableIterable<Record> records, Schema schema) {
     InternalRecordWrapper wrapper = new InternalRecordWrapper(schema.asStruct());
     return CloseableIterable.transform(records, wrapper::copyFor);
   }
@@ -152,16 +223,19 @@ public class BaseDeleteLoader implements DeleteLoader {
    * Loads the content of a deletion vector or position delete files for a given data file path into
    * a position index.
    *
-   * <p>The deletion vector is currently loaded without caching as the existing Puffin reader
+   * <p>The deletion vector is not cached through {@link #getOrLoad} as the existing Puffin reader
    * requires at least 3 requests to fetch the entire file. Caching a single deletion vector may
    * only be useful when multiple data file splits are processed on the same node, which is unlikely
-   * as task locality is not guaranteed.
+   * as task locality is not guaranteed. Decoded deletion vectors are kept in the {@link
+   * #positionIndexCache() position index cache} instead, so splits of the same data file that are
+   * read in the same process decode the deletion vector once.
    *
    * <p>For position delete files, however, there is no efficient way to read deletes for a
    * particular data file. Therefore, caching may be more effective as such delete files potentially
    * apply to many data files, especially in unpartitioned tables and tables with deep partitions.
    * If a position delete file qualifies for caching, this method will attempt to cache a position
-   * index for each referenced data file.
+   * index for each referenced data file. Otherwise, the index for the given data file is kept in
+   * the position index cache.
    *
    * @param deleteFiles a deletion vector or position delete files
    * @param filePath the data file path for which to load deletes
@@ -173,12 +247,30 @@ public class BaseDeleteLoader implements DeleteLoader {
     if (ContentFileUtil.containsSingleDV(deleteFiles)) {
       DeleteFile dv = Iterables.getOnlyElement(deleteFiles);
       validateDV(dv, filePath);
-      return readDV(dv);
+      return getOrReadDV(dv);
     } else {
       return getOrReadPosDeletes(deleteFiles, filePath);
     }
   }
 
+  /**
+   * Returns the cache for decoded position delete indexes, or null to disable it.
+   *
+   * <p>By default, this is the process-wide {@link PositionDeleteIndexCache#shared() cache}.
+   */
+  protected PositionDeleteIndexCache positionIndexCache() {
+    return PositionDeleteIndexCache.shared();
+  }
+
+  private PositionDeleteIndex getOrReadDV(DeleteFile dv) {
+    PositionDeleteIndexCache cache = positionIndexCache();
+    if (cache != null) {
+      return cache.get(dv.location(), dv.contentOffset(), () -> readDV(dv));
+    } else {
+      return readDV(dv);
+    }
+  }
+
   private PositionDeleteIndex readDV(DeleteFile dv) {
     LOG.trace("Opening DV file {}", dv.location());
     InputFile inputFile = loadInputFile.apply(dv);
@@ -203,6 +295,9 @@ public class BaseDeleteLoader implements DeleteLoader {
       CharSequenceMap<PositionDeleteIndex> indexes =
           getOrLoad(cacheKey, () -> readPosDeletes(deleteFile), estimatedSize);
       return indexes.getOrDefault(filePath, PositionDeleteIndex.empty());
+    } else if (positionIndexCache() != null) {
+      return positionIndexCache()
+          .get(deleteFile.location(), filePath, () -> readPosDeletes(deleteFile, filePath));
     } else {
       return readPosDeletes(deleteFile, filePath);
     }
@@ -219,7 +314,7 @@ public class BaseDeleteLoader implements DeleteLoader {
     return Deletes.toPositionIndex(filePath, deletes, deleteFile);
   }
 
-  private CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema projection) {
+  CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema projection) {
     return openDeletes(deleteFile, projection, null /* no filter */);
   }
 
@@ -290,7 +385,7 @@ public class BaseDeleteLoader implements DeleteLoader {
   }
 
   // estimates the memory required to cache equality deletes (in bytes)
-  private long estimateEqDeletesSize(DeleteFile deleteFile, Schema projection) {
+  long estimateEqDeletesSize(DeleteFile deleteFile, Schema projection) {
     try {
       long recordCount = deleteFile.recordCount();
       int recordSize = estimateRecordSize(projection);
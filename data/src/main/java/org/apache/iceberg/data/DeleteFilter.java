@@ -19,18 +19,26 @@
 package org.apache.iceberg.data;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.apache.iceberg.Accessor;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortField;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.SortOrderComparators;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemConfigs;
 import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -42,7 +50,6 @@ import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
-import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.StructProjection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +66,7 @@ public abstract class DeleteFilter<T> {
   private final boolean hasIsDeletedColumn;
   private final int isDeletedColumnPosition;
   private final DeleteCounter counter;
+  private final SortOrder sortOrder;
 
   private volatile DeleteLoader deleteLoader = null;
   private PositionDeleteIndex deleteRowPositions = null;
@@ -72,8 +80,35 @@ public abstract class DeleteFilter<T> {
       Schema expectedSchema,
       DeleteCounter counter,
       boolean needRowPosCol) {
+    this(filePath, deletes, tableSchema, expectedSchema, counter, needRowPosCol, null);
+  }
+
+  /**
+   * Creates a delete filter for a data file that is sorted by the given sort order.
+   *
+   * <p>If the equality delete files have the same sort order and it starts with the equality
+   * fields, {@link #filter(CloseableIterable)} applies equality deletes with a streaming merge
+   * instead of loading them into memory.
+   *
+   * @param filePath the location of the data file
+   * @param deletes delete files that apply to the data file
+   * @param tableSchema the table schema
+   * @param expectedSchema the schema of rows produced by the reader
+   * @param counter a counter for deleted rows
+   * @param needRowPosCol whether the row position column is needed to apply position deletes
+   * @param sortOrder the sort order of the data file, or null if it is unknown
+   */
+  protected DeleteFilter(
+      String filePath,
+      List<DeleteFile> deletes,
+      Schema tableSchema,
+      Schema expectedSchema,
+      DeleteCounter counter,
+      boolean needRowPosCol,
+      SortOrder sortOrder) {
     this.filePath = filePath;
     this.counter = counter;
+    this.sortOrder = sortOrder != null ? sortOrder : SortOrder.unsorted();
     this.expectedSchema = expectedSchema;
 
     ImmutableList.Builder<DeleteFile> posDeleteBuilder = ImmutableList.builder();
@@ -159,6 +194,10 @@ public abstract class DeleteFilter<T> {
   }
 
   protected DeleteLoader newDeleteLoader() {
+    if (SystemConfigs.DELETE_EQUALITY_OFF_HEAP_THRESHOLD_BYTES.value() > 0) {
+      return new SpillableDeleteLoader(this::loadInputFile);
+    }
+
     return new BaseDeleteLoader(this::loadInputFile);
   }
 
@@ -188,14 +227,8 @@ public abstract class DeleteFilter<T> {
       return isInDeleteSets;
     }
 
-    Multimap<Set<Integer>, DeleteFile> filesByDeleteIds =
-        Multimaps.newMultimap(Maps.newHashMap(), Lists::newArrayList);
-    for (DeleteFile delete : eqDeletes) {
-      filesByDeleteIds.put(Sets.newHashSet(delete.equalityFieldIds()), delete);
-    }
-
     for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry :
-        filesByDeleteIds.asMap().entrySet()) {
+        eqDeletesByFieldIds().entrySet()) {
       Set<Integer> ids = entry.getKey();
       Iterable<DeleteFile> deletes = entry.getValue();
 
@@ -204,15 +237,25 @@ public abstract class DeleteFilter<T> {
       // a projection to select and reorder fields of the file schema to match the delete rows
       StructProjection projectRow = StructProjection.create(requiredSchema, deleteSchema);
 
-      StructLikeSet deleteSet = deleteLoader().loadEqualityDeletes(deletes, deleteSchema);
+      EqualityDeleteSet deleteSet = deleteLoader().loadEqualityDeleteSet(deletes, deleteSchema);
       Predicate<T> isInDeleteSet =
-          record -> deleteSet.contains(projectRow.wrap(asStructLike(record)));
+          record -> deleteSet.isDeleted(projectRow.wrap(asStructLike(record)));
       isInDeleteSets.add(isInDeleteSet);
     }
 
     return isInDeleteSets;
   }
 
+  private Map<Set<Integer>, Collection<DeleteFile>> eqDeletesByFieldIds() {
+    Multimap<Set<Integer>, DeleteFile> filesByDeleteIds =
+        Multimaps.newMultimap(Maps.newHashMap(), Lists::newArrayList);
+    for (DeleteFile delete : eqDeletes) {
+      filesByDeleteIds.put(Sets.newHashSet(delete.equalityFieldIds()), delete);
+    }
+
+    return filesByDeleteIds.asMap();
+  }
+
   public CloseableIterable<T> findEqualityDeleteRows(CloseableIterable<T> records) {
     // Predicate to test whether a row has been deleted by equality deletions.
     Predicate<T> deletedRows = applyEqDeletes().stream().reduce(Predicate::or).orElse(t -> false);
@@ -221,11 +264,93 @@ public abstract class DeleteFilter<T> {
   }
 
   private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records) {
+    if (sortOrder.isSorted() && !eqDeletes.isEmpty()) {
+      CloseableIterable<T> merged = applySortedEqDeletes(records);
+      if (merged != null) {
+        return merged;
+      }
+    }
+
     Predicate<T> isEqDeleted = applyEqDeletes().stream().reduce(Predicate::or).orElse(t -> false);
 
     return createDeleteIterable(records, isEqDeleted);
   }
 
+  // applies equality deletes with a streaming merge if all of them are sorted by the equality key
+  private CloseableIterable<T> applySortedEqDeletes(CloseableIterable<T> records) {
+    if (!(deleteLoader() instanceof BaseDeleteLoader)) {
+      return null;
+    }
+
+    BaseDeleteLoader loader = (BaseDeleteLoader) deleteLoader();
+    Map<Set<Integer>, Collection<DeleteFile>> filesByDeleteIds = eqDeletesByFieldIds();
+    Map<Set<Integer>, SortOrder> keyOrders = Maps.newHashMap();
+    for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry : filesByDeleteIds.entrySet()) {
+      SortOrder keyOrder = keyOrder(entry.getKey(), entry.getValue());
+      if (keyOrder == null) {
+        return null;
+      }
+
+      keyOrders.put(entry.getKey(), keyOrder);
+    }
+
+    CloseableGroup merges = new CloseableGroup();
+    List<Predicate<T>> isInDeletes = Lists.newArrayList();
+    for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry : filesByDeleteIds.entrySet()) {
+      Iterable<DeleteFile> deletes = entry.getValue();
+      SortOrder keyOrder = keyOrders.get(entry.getKey());
+      Schema deleteSchema = keyOrder.schema();
+      StructProjection projectRow = StructProjection.create(requiredSchema, deleteSchema);
+      Comparator<StructLike> comparator = SortOrderComparators.forSchema(deleteSchema, keyOrder);
+
+      LOG.debug("Merging sorted equality deletes for {} using {}", filePath, keyOrder);
+      EqualityDeleteMerge merge =
+          new EqualityDeleteMerge(
+              comparator,
+              loader.openSortedEqualityDeletes(deletes, deleteSchema, comparator),
+              () -> loader.loadEqualityDeleteSet(deletes, deleteSchema));
+      merges.addCloseable(merge);
+      isInDeletes.add(record -> merge.test(projectRow.wrap(asStructLike(record))));
+    }
+
+    Predicate<T> isEqDeleted = isInDeletes.stream().reduce(Predicate::or).orElse(t -> false);
+    CloseableIterable<T> filtered = createDeleteIterable(records, isEqDeleted);
+    merges.addCloseable(filtered);
+    return CloseableIterable.combine(filtered, merges);
+  }
+
+  /**
+   * Returns the order of equality delete keys if the data file and all delete files are sorted by
+   * the equality fields, or null otherwise.
+   */
+  private SortOrder keyOrder(Set<Integer> ids, Collection<DeleteFile> deletes) {
+    for (DeleteFile delete : deletes) {
+      if (!Objects.equals(delete.sortOrderId(), sortOrder.orderId())) {
+        return null;
+      }
+    }
+
+    List<SortField> fields = sortOrder.fields();
+    if (fields.size() < ids.size()) {
+      return null;
+    }
+
+    // the leading sort fields must be identity transforms of exactly the equality fields
+    Schema deleteSchema = TypeUtil.select(requiredSchema, ids);
+    SortOrder.Builder builder = SortOrder.builderFor(deleteSchema);
+    Set<Integer> seenIds = Sets.newHashSet();
+    for (SortField field : fields.subList(0, ids.size())) {
+      String name = deleteSchema.findColumnName(field.sourceId());
+      if (!field.transform().isIdentity() || name == null || !seenIds.add(field.sourceId())) {
+        return null;
+      }
+
+      builder.sortBy(name, field.direction(), field.nullOrder());
+    }
+
+    return builder.build();
+  }
+
   protected void markRowDeleted(T item) {
     throw new UnsupportedOperationException(
         this.getClass().getName() + " does not implement markRowDeleted");
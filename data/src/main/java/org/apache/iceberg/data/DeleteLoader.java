@@ -20,6 +20,8 @@ package org.apache.iceberg.data;
 
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.EqualityDeleteSets;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.util.StructLikeSet;
 
@@ -34,6 +36,22 @@ public interface DeleteLoader {
    */
   StructLikeSet loadEqualityDeletes(Iterable<DeleteFile> deleteFiles, Schema projection);
 
+  /**
+   * Loads the content of equality delete files into a set that can be used to check whether a row
+   * is deleted.
+   *
+   * <p>Implementations may return a set specialized for the key type, for instance for a single
+   * int, long or string key column.
+   *
+   * @param deleteFiles equality delete files
+   * @param projection a projection of columns to load
+   * @return a set of equality deletes
+   */
+  default EqualityDeleteSet loadEqualityDeleteSet(
+      Iterable<DeleteFile> deleteFiles, Schema projection) {
+    return EqualityDeleteSets.wrap(loadEqualityDeletes(deleteFiles, projection));
+  }
+
   /**
    * Loads the content of a deletion vector or position delete files for a given data file path into
    * a position index.
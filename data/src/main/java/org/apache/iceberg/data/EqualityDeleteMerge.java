@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.util.StructLikeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies equality deletes to rows sorted by the equality key using a streaming merge.
+ *
+ * <p>Rows must be tested in order. Delete keys are read from a sorted stream and only advanced
+ * past keys that are less than the current row key, so memory use does not depend on the number
+ * of deletes.
+ *
+ * <p>The delete stream is read once and trusted to follow the sort order recorded in delete file
+ * metadata. Order is checked as the merge advances: if rows or delete keys are found to be out of
+ * order, the remaining rows are tested against a delete set loaded by the fallback supplier. A
+ * delete key that is out of order is only found when the merge reaches it, so rows tested before
+ * that are not matched against it.
+ */
+class EqualityDeleteMerge implements Predicate<StructLike>, Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(EqualityDeleteMerge.class);
+
+  private final Comparator<StructLike> order;
+  private final CloseableIterable<StructLike> deletes;
+  private final Supplier<EqualityDeleteSet> fallback;
+  private CloseableIterator<StructLike> deleteIterator = null;
+  private StructLike currentDelete = null;
+  private StructLike lastKey = null;
+  private EqualityDeleteSet deleteSet = null;
+
+  EqualityDeleteMerge(
+      Comparator<StructLike> order,
+      CloseableIterable<StructLike> deletes,
+      Supplier<EqualityDeleteSet> fallback) {
+    this.order = order;
+    this.deletes = deletes;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public boolean test(StructLike key) {
+    if (deleteSet != null) {
+      return deleteSet.isDeleted(key);
+    }
+
+    if (lastKey != null) {
+      int cmp = order.compare(key, lastKey);
+      if (cmp < 0) {
+        return fallBack("rows are not sorted").isDeleted(key);
+      } else if (cmp > 0) {
+        this.lastKey = StructLikeUtil.copy(key);
+      }
+    } else {
+      this.lastKey = StructLikeUtil.copy(key);
+      this.deleteIterator = deletes.iterator();
+      this.currentDelete = deleteIterator.hasNext() ? deleteIterator.next() : null;
+    }
+
+    while (currentDelete != null && order.compare(currentDelete, key) < 0) {
+      StructLike nextDelete = deleteIterator.hasNext() ? deleteIterator.next() : null;
+      if (nextDelete != null && order.compare(nextDelete, currentDelete) < 0) {
+        return fallBack("delete keys are not sorted").isDeleted(key);
+      }
+
+      this.currentDelete = nextDelete;
+    }
+
+    return currentDelete != null && order.compare(currentDelete, key) == 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.currentDelete = null;
+    if (deleteIterator != null) {
+      deleteIterator.close();
+      this.deleteIterator = null;
+    }
+
+    deletes.close();
+  }
+
+  private EqualityDeleteSet fallBack(String reason) {
+    LOG.warn("Cannot merge equality deletes: {}, falling back to a delete set", reason);
+    try {
+      close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close sorted equality deletes", e);
+    }
+
+    this.deleteSet = fallback.get();
+    return deleteSet;
+  }
+}
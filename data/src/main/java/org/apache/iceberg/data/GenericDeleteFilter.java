@@ -20,7 +20,9 @@ package org.apache.iceberg.data;
 
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.deletes.DeleteCounter;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 
@@ -30,7 +32,23 @@ public class GenericDeleteFilter extends DeleteFilter<Record> {
 
   public GenericDeleteFilter(
       FileIO io, FileScanTask task, Schema tableSchema, Schema requestedSchema) {
-    super(task.file().location(), task.deletes(), tableSchema, requestedSchema);
+    this(io, task, tableSchema, requestedSchema, null);
+  }
+
+  public GenericDeleteFilter(
+      FileIO io,
+      FileScanTask task,
+      Schema tableSchema,
+      Schema requestedSchema,
+      SortOrder sortOrder) {
+    super(
+        task.file().location(),
+        task.deletes(),
+        tableSchema,
+        requestedSchema,
+        new DeleteCounter(),
+        true,
+        sortOrder);
     this.io = io;
     this.asStructLike = new InternalRecordWrapper(requiredSchema().asStruct());
   }
@@ -24,6 +24,7 @@ import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.PlannedDataReader;
@@ -47,6 +48,7 @@ import org.apache.iceberg.util.PartitionUtil;
 class GenericReader implements Serializable {
   private final FileIO io;
   private final Schema tableSchema;
+  private final Map<Integer, SortOrder> sortOrders;
   private final Schema projection;
   private final boolean caseSensitive;
   private final boolean reuseContainers;
@@ -54,6 +56,7 @@ class GenericReader implements Serializable {
   GenericReader(TableScan scan, boolean reuseContainers) {
     this.io = scan.table().io();
     this.tableSchema = scan.table().schema();
+    this.sortOrders = scan.table().sortOrders();
     this.projection = scan.schema();
     this.caseSensitive = scan.isCaseSensitive();
     this.reuseContainers = reuseContainers;
@@ -70,7 +73,10 @@ class GenericReader implements Serializable {
   }
 
   public CloseableIterable<Record> open(FileScanTask task) {
-    DeleteFilter<Record> deletes = new GenericDeleteFilter(io, task, tableSchema, projection);
+    Integer sortOrderId = task.file().sortOrderId();
+    SortOrder sortOrder = sortOrderId != null ? sortOrders.get(sortOrderId) : null;
+    DeleteFilter<Record> deletes =
+        new GenericDeleteFilter(io, task, tableSchema, projection, sortOrder);
     Schema readSchema = deletes.requiredSchema();
 
     CloseableIterable<Record> records = openFile(task, readSchema);
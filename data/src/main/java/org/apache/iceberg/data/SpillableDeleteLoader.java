@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.SystemConfigs;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.SpillableEqualityDeleteSet;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.math.LongMath;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DeleteLoader} that loads large equality delete sets off-heap.
+ *
+ * <p>When the estimated on-heap size of the equality deletes for a data file is above a threshold,
+ * delete records are streamed into a {@link SpillableEqualityDeleteSet} instead of being
+ * materialized on-heap. The set keeps keys in off-heap memory up to a limit and spills the rest to
+ * a local directory. Smaller equality deletes and position deletes are loaded by {@link
+ * BaseDeleteLoader}.
+ */
+public class SpillableDeleteLoader extends BaseDeleteLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(SpillableDeleteLoader.class);
+
+  private final long thresholdBytes;
+  private final long maxMemoryBytes;
+  private final Path spillDirectory;
+
+  public SpillableDeleteLoader(Function<DeleteFile, InputFile> loadInputFile) {
+    this(
+        loadInputFile,
+        ThreadPools.getDeleteWorkerPool(),
+        SystemConfigs.DELETE_EQUALITY_OFF_HEAP_THRESHOLD_BYTES.value(),
+        SystemConfigs.DELETE_EQUALITY_OFF_HEAP_MAX_BYTES.value(),
+        SystemConfigs.DELETE_EQUALITY_SPILL_DIRECTORY.value());
+  }
+
+  /**
+   * Creates a delete loader.
+   *
+   * @param loadInputFile a function to open delete files
+   * @param workerPool a pool to read delete files in parallel
+   * @param thresholdBytes the estimated on-heap size above which deletes are loaded off-heap
+   * @param maxMemoryBytes the maximum off-heap memory used by a delete set before spilling
+   * @param spillDirectory a local directory for spilled deletes
+   */
+  public SpillableDeleteLoader(
+      Function<DeleteFile, InputFile> loadInputFile,
+      ExecutorService workerPool,
+      long thresholdBytes,
+      long maxMemoryBytes,
+      String spillDirectory) {
+    super(loadInputFile, workerPool);
+    Preconditions.checkArgument(thresholdBytes >= 0, "Invalid threshold: %s", thresholdBytes);
+    Preconditions.checkArgument(maxMemoryBytes > 0, "Invalid max memory: %s", maxMemoryBytes);
+    Preconditions.checkArgument(spillDirectory != null, "Invalid spill directory: null");
+    this.thresholdBytes = thresholdBytes;
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.spillDirectory = Paths.get(spillDirectory);
+  }
+
+  /**
+   * Loads the content of equality delete files into a set that can be used to check whether a row
+   * is deleted.
+   *
+   * <p>If the estimated on-heap size of the deletes is above the threshold, delete files are read
+   * one at a time into a {@link SpillableEqualityDeleteSet}. Its off-heap memory and spilled files
+   * are released once the set is no longer referenced.
+   *
+   * @param deleteFiles equality delete files
+   * @param projection a projection of columns to load
+   * @return a set of equality deletes
+   */
+  @Override
+  public EqualityDeleteSet loadEqualityDeleteSet(
+      Iterable<DeleteFile> deleteFiles, Schema projection) {
+    long estimatedSize = 0L;
+    for (DeleteFile deleteFile : deleteFiles) {
+      estimatedSize =
+          LongMath.saturatedAdd(estimatedSize, estimateEqDeletesSize(deleteFile, projection));
+    }
+
+    if (estimatedSize <= thresholdBytes) {
+      return super.loadEqualityDeleteSet(deleteFiles, projection);
+    }
+
+    LOG.debug(
+        "Loading equality deletes off-heap, estimated on-heap size {} is above {}",
+        estimatedSize,
+        thresholdBytes);
+
+    SpillableEqualityDeleteSet deleteSet =
+        new SpillableEqualityDeleteSet(projection.asStruct(), maxMemoryBytes, spillDirectory);
+    try {
+      for (DeleteFile deleteFile : deleteFiles) {
+        // keys are serialized as they are added, so records are neither copied nor materialized
+        try (CloseableIterable<StructLike> deletes =
+            toStructs(openDeletes(deleteFile, projection), projection)) {
+          deleteSet.addAll(deletes);
+        }
+      }
+    } catch (IOException e) {
+      deleteSet.close();
+      throw new UncheckedIOException("Failed to close iterable", e);
+    } catch (RuntimeException e) {
+      deleteSet.close();
+      throw e;
+    }
+
+    return deleteSet;
+  }
+}
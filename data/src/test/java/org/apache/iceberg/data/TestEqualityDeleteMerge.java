@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.SortOrderComparators;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.EqualityDeleteSets;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+import org.junit.jupiter.api.Test;
+
+public class TestEqualityDeleteMerge {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final Comparator<StructLike> ORDER =
+      SortOrderComparators.forSchema(
+          SCHEMA, SortOrder.builderFor(SCHEMA).asc("id").desc("data").build());
+
+  @Test
+  public void testMerge() throws IOException {
+    List<StructLike> deletes = rows(Row.of(1L, "b"), Row.of(3L, "a"), Row.of(5L, "a"));
+    AtomicInteger fallbacks = new AtomicInteger(0);
+
+    try (EqualityDeleteMerge merge = merge(deletes, fallbacks)) {
+      assertThat(merge.test(Row.of(0L, "a"))).isFalse();
+      assertThat(merge.test(Row.of(1L, "c"))).isFalse();
+      assertThat(merge.test(Row.of(1L, "b"))).isTrue();
+      assertThat(merge.test(Row.of(1L, "b"))).as("Duplicate rows should be deleted").isTrue();
+      assertThat(merge.test(Row.of(1L, "a"))).isFalse();
+      assertThat(merge.test(Row.of(5L, "a"))).as("Rows may be skipped").isTrue();
+      assertThat(merge.test(Row.of(6L, "a"))).isFalse();
+    }
+
+    assertThat(fallbacks).hasValue(0);
+  }
+
+  @Test
+  public void testUnsortedRowsFallBack() throws IOException {
+    List<StructLike> deletes = rows(Row.of(1L, "a"), Row.of(3L, "a"));
+    AtomicInteger fallbacks = new AtomicInteger(0);
+
+    try (EqualityDeleteMerge merge = merge(deletes, fallbacks)) {
+      assertThat(merge.test(Row.of(3L, "a"))).isTrue();
+      assertThat(merge.test(Row.of(1L, "a"))).isTrue();
+      assertThat(merge.test(Row.of(2L, "a"))).isFalse();
+    }
+
+    assertThat(fallbacks).hasValue(1);
+  }
+
+  @Test
+  public void testUnsortedDeletesFallBack() throws IOException {
+    List<StructLike> deletes = rows(Row.of(1L, "a"), Row.of(4L, "a"), Row.of(2L, "a"));
+    AtomicInteger fallbacks = new AtomicInteger(0);
+
+    try (EqualityDeleteMerge merge = merge(deletes, fallbacks)) {
+      assertThat(merge.test(Row.of(1L, "a"))).isTrue();
+      assertThat(merge.test(Row.of(5L, "a"))).isFalse();
+      assertThat(merge.test(Row.of(6L, "a"))).isFalse();
+    }
+
+    assertThat(fallbacks).hasValue(1);
+  }
+
+  @Test
+  public void testDeletesAreReadOnce() throws IOException {
+    List<StructLike> deletes = rows(Row.of(1L, "a"), Row.of(3L, "a"), Row.of(5L, "a"));
+    AtomicInteger opened = new AtomicInteger(0);
+    CloseableIterable<StructLike> deleteIterable =
+        new CloseableIterable<StructLike>() {
+          @Override
+          public CloseableIterator<StructLike> iterator() {
+            opened.incrementAndGet();
+            return CloseableIterator.withClose(deletes.iterator());
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    try (EqualityDeleteMerge merge =
+        new EqualityDeleteMerge(ORDER, deleteIterable, () -> deleteSet(deletes))) {
+      assertThat(merge.test(Row.of(1L, "a"))).isTrue();
+      assertThat(merge.test(Row.of(2L, "a"))).isFalse();
+      assertThat(merge.test(Row.of(5L, "a"))).isTrue();
+    }
+
+    assertThat(opened).as("Delete stream should be read once").hasValue(1);
+  }
+
+  private static EqualityDeleteMerge merge(List<StructLike> deletes, AtomicInteger fallbacks) {
+    return new EqualityDeleteMerge(
+        ORDER,
+        CloseableIterable.withNoopClose(deletes),
+        () -> {
+          fallbacks.incrementAndGet();
+          return deleteSet(deletes);
+        });
+  }
+
+  private static EqualityDeleteSet deleteSet(List<StructLike> deletes) {
+    StructLikeSet set = StructLikeSet.create(SCHEMA.asStruct());
+    set.addAll(deletes);
+    return EqualityDeleteSets.wrap(set);
+  }
+
+  private static List<StructLike> rows(StructLike... rows) {
+    return Stream.of(rows).collect(Collectors.toList());
+  }
+}
@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.rest.RESTUtil;
@@ -62,6 +63,31 @@ public class GCPProperties implements Serializable {
    */
   public static final int GCS_DELETE_BATCH_SIZE_DEFAULT = 50;
 
+  /** Max number of bytes between two ranges of a vectored read that are fetched together */
+  public static final String GCS_VECTORED_READ_MAX_GAP_BYTES = "gcs.vectored-read.max-gap-bytes";
+
+  public static final int GCS_VECTORED_READ_MAX_GAP_BYTES_DEFAULT =
+      FileRanges.MAX_GAP_BYTES_DEFAULT;
+
+  /** Max number of bytes to fetch with a single request in a vectored read */
+  public static final String GCS_VECTORED_READ_MAX_REQUEST_BYTES =
+      "gcs.vectored-read.max-request-bytes";
+
+  public static final int GCS_VECTORED_READ_MAX_REQUEST_BYTES_DEFAULT =
+      FileRanges.MAX_REQUEST_BYTES_DEFAULT;
+
+  /** Controls whether large reads are split into parts that are fetched in parallel */
+  public static final String GCS_MULTIPART_DOWNLOAD_ENABLED = "gcs.multipart-download.enabled";
+
+  public static final boolean GCS_MULTIPART_DOWNLOAD_ENABLED_DEFAULT = false;
+
+  /** Size of each part of a multipart download */
+  public static final String GCS_MULTIPART_DOWNLOAD_PART_SIZE =
+      "gcs.multipart-download.part-size-bytes";
+
+  public static final int GCS_MULTIPART_DOWNLOAD_PART_SIZE_DEFAULT =
+      FileRanges.DOWNLOAD_PART_SIZE_BYTES_DEFAULT;
+
   private final Map<String, String> allProperties;
 
   private String projectId;
@@ -82,6 +108,10 @@ public class GCPProperties implements Serializable {
   private boolean gcsOauth2RefreshCredentialsEnabled;
 
   private int gcsDeleteBatchSize = GCS_DELETE_BATCH_SIZE_DEFAULT;
+  private int gcsVectoredReadMaxGapBytes = GCS_VECTORED_READ_MAX_GAP_BYTES_DEFAULT;
+  private int gcsVectoredReadMaxRequestBytes = GCS_VECTORED_READ_MAX_REQUEST_BYTES_DEFAULT;
+  private boolean gcsMultipartDownloadEnabled = GCS_MULTIPART_DOWNLOAD_ENABLED_DEFAULT;
+  private int gcsMultipartDownloadPartSize = GCS_MULTIPART_DOWNLOAD_PART_SIZE_DEFAULT;
 
   public GCPProperties() {
     this.allProperties = ImmutableMap.of();
@@ -128,6 +158,37 @@ public class GCPProperties implements Serializable {
     gcsDeleteBatchSize =
         PropertyUtil.propertyAsInt(
             properties, GCS_DELETE_BATCH_SIZE, GCS_DELETE_BATCH_SIZE_DEFAULT);
+
+    gcsVectoredReadMaxGapBytes =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_VECTORED_READ_MAX_GAP_BYTES, GCS_VECTORED_READ_MAX_GAP_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        gcsVectoredReadMaxGapBytes >= 0,
+        "Invalid %s: %s (must be >= 0)",
+        GCS_VECTORED_READ_MAX_GAP_BYTES,
+        gcsVectoredReadMaxGapBytes);
+    gcsVectoredReadMaxRequestBytes =
+        PropertyUtil.propertyAsInt(
+            properties,
+            GCS_VECTORED_READ_MAX_REQUEST_BYTES,
+            GCS_VECTORED_READ_MAX_REQUEST_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        gcsVectoredReadMaxRequestBytes > 0,
+        "Invalid %s: %s (must be > 0)",
+        GCS_VECTORED_READ_MAX_REQUEST_BYTES,
+        gcsVectoredReadMaxRequestBytes);
+
+    gcsMultipartDownloadEnabled =
+        PropertyUtil.propertyAsBoolean(
+            properties, GCS_MULTIPART_DOWNLOAD_ENABLED, GCS_MULTIPART_DOWNLOAD_ENABLED_DEFAULT);
+    gcsMultipartDownloadPartSize =
+        PropertyUtil.propertyAsInt(
+            properties, GCS_MULTIPART_DOWNLOAD_PART_SIZE, GCS_MULTIPART_DOWNLOAD_PART_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        gcsMultipartDownloadPartSize > 0,
+        "Invalid %s: %s (must be > 0)",
+        GCS_MULTIPART_DOWNLOAD_PART_SIZE,
+        gcsMultipartDownloadPartSize);
   }
 
   public Optional<Integer> channelReadChunkSize() {
@@ -186,6 +247,22 @@ public class GCPProperties implements Serializable {
     return gcsOauth2RefreshCredentialsEnabled;
   }
 
+  public int vectoredReadMaxGapBytes() {
+    return gcsVectoredReadMaxGapBytes;
+  }
+
+  public int vectoredReadMaxRequestBytes() {
+    return gcsVectoredReadMaxRequestBytes;
+  }
+
+  public boolean multipartDownloadEnabled() {
+    return gcsMultipartDownloadEnabled;
+  }
+
+  public int multipartDownloadPartSize() {
+    return gcsMultipartDownloadPartSize;
+  }
+
   public Map<String, String> properties() {
     return allProperties;
   }
@@ -28,8 +28,11 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntFunction;
 import org.apache.iceberg.gcp.GCPProperties;
 import org.apache.iceberg.io.FileIOMetricsContext;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.io.RangeReadable;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.metrics.Counter;
@@ -147,10 +150,36 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
 
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
+    if (gcpProperties.multipartDownloadEnabled()) {
+      FileRanges.readFully(
+          this::readRangeFully,
+          position,
+          buffer,
+          offset,
+          length,
+          gcpProperties.multipartDownloadPartSize());
+    } else {
+      readRangeFully(position, buffer, offset, length);
+    }
+  }
+
+  private void readRangeFully(long position, byte[] buffer, int offset, int length)
+      throws IOException {
     try (ReadChannel readChannel = openChannel()) {
       readChannel.seek(position);
       readChannel.limit(position + length);
-      int bytesRead = read(readChannel, ByteBuffer.wrap(buffer), offset, length);
+      ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+      int bytesRead = 0;
+      while (bytesRead < length) {
+        // the channel may return fewer bytes than requested for reads larger than its chunk size
+        int bytes = read(readChannel, wrapped, offset + bytesRead, length - bytesRead);
+        if (bytes < 0) {
+          break;
+        }
+
+        bytesRead += bytes;
+      }
+
       if (bytesRead < length) {
         throw new EOFException(
             "Reached the end of stream with " + (length - bytesRead) + " bytes left to read");
@@ -158,6 +187,22 @@ class GCSInputStream extends SeekableInputStream implements RangeReadable {
     }
   }
 
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    FileRanges.readVectored(
+        this,
+        ranges,
+        allocate,
+        gcpProperties.vectoredReadMaxGapBytes(),
+        gcpProperties.vectoredReadMaxRequestBytes());
+  }
+
+  @Override
+  public boolean isMultipartDownloadEnabled() {
+    return gcpProperties.multipartDownloadEnabled();
+  }
+
   @Override
   public int readTail(byte[] buffer, int offset, int length) throws IOException {
     if (blobSize == null) {
@@ -18,7 +18,11 @@
  */
 package org.apache.iceberg.parquet;
 
+import java.util.PrimitiveIterator;
 import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.io.ParquetDecodingException;
 import org.apache.parquet.io.api.Binary;
 
 public abstract class ColumnIterator<T> extends BaseColumnIterator implements TripleIterator<T> {
@@ -90,11 +94,86 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   private final PageIterator<T> pageIterator;
 
+  // state for reading a subset of the rows in a row group
+  private PrimitiveIterator.OfLong rowIndexes = null;
+  private long nextSelectedRow = 0L;
+  private long currentRow = -1L;
+  private DataPage currentPage = null;
+  private boolean skipCurrentRow = false;
+  private long syncedTriple = -1L;
+
   private ColumnIterator(ColumnDescriptor desc, String writerVersion) {
     super(desc);
     this.pageIterator = PageIterator.newIterator(desc, writerVersion);
   }
 
+  @Override
+  public void setPageSource(PageReader source) {
+    setPageSource(source, null);
+  }
+
+  /**
+   * Sets the page source for a row group, reading only the selected rows.
+   *
+   * <p>When the pages of a row group are filtered, pages of different columns are not aligned and
+   * may contain rows that were not selected. Triples of those rows are skipped so that all columns
+   * return values for the same rows.
+   *
+   * @param source a page reader for this column in the row group
+   * @param selectedRows indexes of the rows to read within the row group, or null to read all rows
+   */
+  public void setPageSource(PageReader source, PrimitiveIterator.OfLong selectedRows) {
+    this.rowIndexes = selectedRows;
+    this.nextSelectedRow = -1L;
+    this.currentRow = -1L;
+    this.currentPage = null;
+    this.skipCurrentRow = false;
+    this.syncedTriple = -1L;
+    super.setPageSource(source);
+  }
+
+  @Override
+  protected void advance() {
+    super.advance();
+    if (rowIndexes != null && syncedTriple != triplesRead) {
+      skipUnselectedRows();
+      this.syncedTriple = triplesRead;
+    }
+  }
+
+  private void skipUnselectedRows() {
+    while (pageIterator.hasNext()) {
+      if (pageIterator.page != currentPage) {
+        this.currentPage = pageIterator.page;
+        long firstRowIndex =
+            currentPage
+                .getFirstRowIndex()
+                .orElseThrow(
+                    () ->
+                        new ParquetDecodingException(
+                            "Cannot skip rows without a page row index in col " + desc));
+        this.currentRow = firstRowIndex - 1;
+      }
+
+      if (pageIterator.currentRepetitionLevel() == 0) {
+        this.currentRow += 1;
+        while (nextSelectedRow < currentRow) {
+          this.nextSelectedRow = rowIndexes.hasNext() ? rowIndexes.nextLong() : Long.MAX_VALUE;
+        }
+
+        this.skipCurrentRow = currentRow != nextSelectedRow;
+      }
+
+      if (!skipCurrentRow) {
+        return;
+      }
+
+      this.triplesRead += 1;
+      pageIterator.skip();
+      super.advance();
+    }
+  }
+
   @Override
   public int currentDefinitionLevel() {
     advance();
@@ -109,50 +188,50 @@ public abstract class ColumnIterator<T> extends BaseColumnIterator implements Tr
 
   @Override
   public boolean nextBoolean() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextBoolean();
   }
 
   @Override
   public int nextInteger() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextInteger();
   }
 
   @Override
   public long nextLong() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextLong();
   }
 
   @Override
   public float nextFloat() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextFloat();
   }
 
   @Override
   public double nextDouble() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextDouble();
   }
 
   @Override
   public Binary nextBinary() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextBinary();
   }
 
   @Override
   public <N> N nextNull() {
-    this.triplesRead += 1;
     advance();
+    this.triplesRead += 1;
     return pageIterator.nextNull();
   }
 
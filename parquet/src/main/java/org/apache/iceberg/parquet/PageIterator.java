@@ -190,6 +190,19 @@ abstract class PageIterator<T> extends BasePageIterator implements TripleIterato
     return null;
   }
 
+  /** Skips the current triple, including its value if it is defined. */
+  void skip() {
+    boolean hasValue = currentDL == desc.getMaxDefinitionLevel();
+    advance();
+    if (hasValue) {
+      try {
+        values.skip();
+      } catch (RuntimeException e) {
+        throw handleRuntimeException(e);
+      }
+    }
+  }
+
   private void advance() {
     if (triplesRead < triplesCount) {
       this.currentDL = definitionLevels.nextInt();
@@ -113,6 +113,7 @@ import org.apache.parquet.crypto.FileDecryptionProperties;
 import org.apache.parquet.crypto.FileEncryptionProperties;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.hadoop.ParquetOutputFormat;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
@@ -1249,6 +1250,12 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets a Parquet read option for this read.
+     *
+     * <p>Set {@code parquet.filter.columnindex.enabled} to {@code true} to skip pages that cannot
+     * match the read filter using column and offset indexes. It defaults to {@code false}.
+     */
     public ReadBuilder set(String key, String value) {
       properties.put(key, value);
       return this;
@@ -1332,6 +1339,16 @@ public class Parquet {
           optionsBuilder.set(entry.getKey(), entry.getValue());
         }
 
+        // fetch the column chunks of a row group with one vectored read when the stream supports it
+        optionsBuilder.withUseHadoopVectoredIo(
+            PropertyUtil.propertyAsBoolean(
+                properties, ParquetInputFormat.HADOOP_VECTORED_IO_ENABLED, true));
+
+        // unlike Parquet, pages are skipped using column indexes only when enabled for this read
+        optionsBuilder.useColumnIndexFilter(
+            PropertyUtil.propertyAsBoolean(
+                properties, ParquetInputFormat.COLUMN_INDEX_FILTERING_ENABLED, false));
+
         if (start != null) {
           optionsBuilder.withRange(start, start + length);
         }
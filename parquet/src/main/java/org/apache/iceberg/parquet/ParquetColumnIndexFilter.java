@@ -0,0 +1,471 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore.MissingOffsetIndexException;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates an expression against the column indexes and offset indexes of a row group to find the
+ * rows that might match.
+ *
+ * <p>Pages are selected using the min, max and null count of each page in the column index and
+ * mapped to rows using the offset index. Predicates that cannot be evaluated with page bounds,
+ * columns that have no page index, and repeated columns select all rows.
+ */
+public class ParquetColumnIndexFilter {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final Schema schema;
+  private final Expression expr;
+
+  public ParquetColumnIndexFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Calculates the rows of a row group that might match the expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param columnIndexStore column indexes and offset indexes for the row group
+   * @param rowCount the number of rows in the row group
+   * @return ranges of rows that might match the expression; empty if no rows can match
+   */
+  public RowRanges calculateRowRanges(
+      MessageType fileSchema, ColumnIndexStore columnIndexStore, long rowCount) {
+    return new ColumnIndexEvalVisitor(fileSchema, columnIndexStore, rowCount).eval();
+  }
+
+  private class ColumnIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private final ColumnIndexStore columnIndexStore;
+    private final long rowCount;
+    private final Map<Integer, ColumnDescriptor> columns = Maps.newHashMap();
+    private final Map<Integer, PageIndex> pageIndexes = Maps.newHashMap();
+    private RowRanges allRows = null;
+
+    private ColumnIndexEvalVisitor(
+        MessageType fileSchema, ColumnIndexStore columnIndexStore, long rowCount) {
+      this.columnIndexStore = columnIndexStore;
+      this.rowCount = rowCount;
+      for (ColumnDescriptor desc : fileSchema.getColumns()) {
+        PrimitiveType colType = desc.getPrimitiveType();
+        if (colType.getId() != null) {
+          columns.put(colType.getId().intValue(), desc);
+        }
+      }
+    }
+
+    private RowRanges eval() {
+      if (rowCount <= 0) {
+        return RowRanges.EMPTY;
+      }
+
+      return ExpressionVisitors.visitEvaluator(expr, this);
+    }
+
+    private RowRanges allRows() {
+      if (allRows == null) {
+        this.allRows = RowRanges.createSingle(rowCount);
+      }
+
+      return allRows;
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return allRows(); // all rows match
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.EMPTY; // all rows fail
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // not is rewritten before binding, but the complement of might-match ranges is not a
+      // might-match result, so fall back to reading all rows
+      return allRows();
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.intersection(leftResult, rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.union(leftResult, rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+      if (!columns.containsKey(id)) {
+        // the column is not present and is all nulls
+        return allRows();
+      }
+
+      PageIndex index = pageIndex(id);
+      if (index == null || !index.hasNullCounts()) {
+        return allRows();
+      }
+
+      return index.select(page -> index.nullCount(page) > 0);
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      int id = ref.fieldId();
+
+      // leave all nested column type filters to be evaluated post scan
+      if (schema.findType(id) instanceof Type.NestedType) {
+        return allRows();
+      }
+
+      if (!columns.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      PageIndex index = pageIndex(id);
+      if (index == null) {
+        return allRows();
+      }
+
+      return index.select(page -> !index.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges isNaN(BoundReference<T> ref) {
+      if (!columns.containsKey(ref.fieldId())) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges notNaN(BoundReference<T> ref) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      return selectPages(
+          ref,
+          (index, page) -> lit.comparator().compare(index.<T>min(page), lit.value()) < 0);
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return selectPages(
+          ref,
+          (index, page) -> lit.comparator().compare(index.<T>min(page), lit.value()) <= 0);
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      return selectPages(
+          ref,
+          (index, page) -> lit.comparator().compare(index.<T>max(page), lit.value()) > 0);
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return selectPages(
+          ref,
+          (index, page) -> lit.comparator().compare(index.<T>max(page), lit.value()) >= 0);
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      Comparator<T> cmp = lit.comparator();
+      return selectPages(
+          ref,
+          (index, page) ->
+              cmp.compare(index.<T>min(page), lit.value()) <= 0
+                  && cmp.compare(index.<T>max(page), lit.value()) >= 0);
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // because page bounds are not necessarily a min or max value, this cannot be answered
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      if (literalSet.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return allRows();
+      }
+
+      Comparator<T> cmp = ref.comparator();
+      return selectPages(
+          ref,
+          (index, page) -> {
+            T lower = index.min(page);
+            T upper = index.max(page);
+            for (T value : literalSet) {
+              if (cmp.compare(lower, value) <= 0 && cmp.compare(upper, value) >= 0) {
+                return true;
+              }
+            }
+
+            return false;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // because page bounds are not necessarily a min or max value, this cannot be answered
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> cmp = Comparators.unsignedBytes();
+      return selectPages(
+          ref,
+          (index, page) -> {
+            ByteBuffer lower = index.rawMin(page);
+            int lowerLength = Math.min(prefix.remaining(), lower.remaining());
+            if (cmp.compare(BinaryUtil.truncateBinary(lower, lowerLength), prefix) > 0) {
+              return false;
+            }
+
+            ByteBuffer upper = index.rawMax(page);
+            int upperLength = Math.min(prefix.remaining(), upper.remaining());
+            return cmp.compare(BinaryUtil.truncateBinary(upper, upperLength), prefix) >= 0;
+          });
+    }
+
+    @Override
+    public <T> RowRanges notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      return allRows();
+    }
+
+    @Override
+    public <T> RowRanges handleNonReference(Bound<T> term) {
+      return allRows();
+    }
+
+    /**
+     * Selects the pages that might contain a non-null value matching a predicate on page bounds.
+     */
+    private <T> RowRanges selectPages(BoundReference<T> ref, PagePredicate predicate) {
+      int id = ref.fieldId();
+      if (!columns.containsKey(id)) {
+        // the column is not present and is all nulls
+        return RowRanges.EMPTY;
+      }
+
+      PageIndex index = pageIndex(id);
+      if (index == null) {
+        return allRows();
+      }
+
+      return index.select(
+          page ->
+              !index.isNullPage(page)
+                  && (index.hasNaNBound(page) || predicate.mightMatch(index, page)));
+    }
+
+    private PageIndex pageIndex(int id) {
+      if (pageIndexes.containsKey(id)) {
+        return pageIndexes.get(id);
+      }
+
+      PageIndex index = loadPageIndex(id);
+      pageIndexes.put(id, index);
+      return index;
+    }
+
+    private PageIndex loadPageIndex(int id) {
+      ColumnDescriptor desc = columns.get(id);
+      Type icebergType = schema.findType(id);
+      if (desc.getMaxRepetitionLevel() > 0
+          || icebergType == null
+          || !icebergType.isPrimitiveType()
+          || desc.getPrimitiveType().getPrimitiveTypeName()
+              == PrimitiveType.PrimitiveTypeName.INT96) {
+        return null;
+      }
+
+      ColumnPath path = ColumnPath.get(desc.getPath());
+      ColumnIndex columnIndex = columnIndexStore.getColumnIndex(path);
+      if (columnIndex == null) {
+        return null;
+      }
+
+      OffsetIndex offsetIndex;
+      try {
+        offsetIndex = columnIndexStore.getOffsetIndex(path);
+      } catch (MissingOffsetIndexException e) {
+        return null;
+      }
+
+      if (offsetIndex == null || offsetIndex.getPageCount() != columnIndex.getNullPages().size()) {
+        return null;
+      }
+
+      PrimitiveType colType = desc.getPrimitiveType();
+      return new PageIndex(
+          colType,
+          columnIndex,
+          offsetIndex,
+          ParquetConversions.converterFromParquet(colType, icebergType));
+    }
+
+    private class PageIndex {
+      private final PrimitiveType.PrimitiveTypeName typeName;
+      private final OffsetIndex offsetIndex;
+      private final List<Boolean> nullPages;
+      private final List<Long> nullCounts;
+      private final List<ByteBuffer> minValues;
+      private final List<ByteBuffer> maxValues;
+      private final Function<Object, Object> conversion;
+
+      private PageIndex(
+          PrimitiveType colType,
+          ColumnIndex columnIndex,
+          OffsetIndex offsetIndex,
+          Function<Object, Object> conversion) {
+        this.typeName = colType.getPrimitiveTypeName();
+        this.offsetIndex = offsetIndex;
+        this.nullPages = columnIndex.getNullPages();
+        this.nullCounts = columnIndex.getNullCounts();
+        this.minValues = columnIndex.getMinValues();
+        this.maxValues = columnIndex.getMaxValues();
+        this.conversion = conversion;
+      }
+
+      private RowRanges select(IntPredicate shouldRead) {
+        int pageCount = offsetIndex.getPageCount();
+        return RowRanges.create(
+            rowCount, IntStream.range(0, pageCount).filter(shouldRead).iterator(), offsetIndex);
+      }
+
+      private boolean isNullPage(int page) {
+        return nullPages.get(page);
+      }
+
+      private boolean hasNullCounts() {
+        return nullCounts != null && !nullCounts.isEmpty();
+      }
+
+      private long nullCount(int page) {
+        return nullCounts.get(page);
+      }
+
+      private ByteBuffer rawMin(int page) {
+        return minValues.get(page).duplicate();
+      }
+
+      private ByteBuffer rawMax(int page) {
+        return maxValues.get(page).duplicate();
+      }
+
+      private boolean hasNaNBound(int page) {
+        switch (typeName) {
+          case FLOAT:
+            return Float.isNaN((Float) decode(minValues.get(page)))
+                || Float.isNaN((Float) decode(maxValues.get(page)));
+          case DOUBLE:
+            return Double.isNaN((Double) decode(minValues.get(page)))
+                || Double.isNaN((Double) decode(maxValues.get(page)));
+          default:
+            return false;
+        }
+      }
+
+      @SuppressWarnings("unchecked")
+      private <T> T min(int page) {
+        return (T) conversion.apply(decode(minValues.get(page)));
+      }
+
+      @SuppressWarnings("unchecked")
+      private <T> T max(int page) {
+        return (T) conversion.apply(decode(maxValues.get(page)));
+      }
+
+      /** Decodes a plain-encoded page bound. */
+      private Object decode(ByteBuffer bound) {
+        ByteBuffer buffer = bound.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        switch (typeName) {
+          case BOOLEAN:
+            return buffer.get(buffer.position()) != 0;
+          case INT32:
+            return buffer.getInt(buffer.position());
+          case INT64:
+            return buffer.getLong(buffer.position());
+          case FLOAT:
+            return buffer.getFloat(buffer.position());
+          case DOUBLE:
+            return buffer.getDouble(buffer.position());
+          case BINARY:
+          case FIXED_LEN_BYTE_ARRAY:
+            return Binary.fromConstantByteBuffer(buffer);
+          default:
+            throw new UnsupportedOperationException("Unsupported page bound type: " + typeName);
+        }
+      }
+    }
+  }
+
+  private interface PagePredicate {
+    boolean mightMatch(ColumnIndexEvalVisitor.PageIndex index, int page);
+  }
+}
@@ -32,6 +32,7 @@ import org.apache.iceberg.mapping.NameMapping;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.io.ParquetDecodingException;
 import org.apache.parquet.schema.MessageType;
 import org.slf4j.Logger;
@@ -101,6 +102,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
 
     private final ParquetFileReader reader;
     private final boolean[] shouldSkip;
+    private final RowRanges[] rowRanges;
     private final ParquetValueReader<T> model;
     private final long totalValues;
     private final boolean reuseContainers;
@@ -113,6 +115,7 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     FileIterator(ReadConf<T> conf) {
       this.reader = conf.reader();
       this.shouldSkip = conf.shouldSkip();
+      this.rowRanges = conf.rowRanges();
       this.model = conf.model();
       this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
@@ -158,7 +161,13 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
 
       PageReadStore pages;
       try {
-        pages = reader.readNextRowGroup();
+        if (rowRanges[nextRowGroup] != null) {
+          // read only the pages that contain selected rows and keep the reader's position in sync
+          pages = reader.readFilteredRowGroup(nextRowGroup, rowRanges[nextRowGroup]);
+          reader.skipNextRowGroup();
+        } else {
+          pages = reader.readNextRowGroup();
+        }
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
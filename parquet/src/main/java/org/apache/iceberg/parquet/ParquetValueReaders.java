@@ -28,6 +28,7 @@ import java.nio.ByteOrder;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.UUID;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.data.GenericRecord;
@@ -339,10 +340,17 @@ public class ParquetValueReaders {
   private static class PositionReader implements ParquetValueReader<Long> {
     private long rowOffset = -1;
     private long rowGroupStart;
+    private PrimitiveIterator.OfLong rowIndexes = null;
 
     @Override
     public Long read(Long reuse) {
-      rowOffset = rowOffset + 1;
+      if (rowIndexes != null) {
+        // only selected rows are read from a filtered row group
+        rowOffset = rowIndexes.nextLong();
+      } else {
+        rowOffset = rowOffset + 1;
+      }
+
       return rowGroupStart + rowOffset;
     }
 
@@ -366,6 +374,7 @@ public class ParquetValueReaders {
                       new IllegalArgumentException(
                           "PageReadStore does not contain row index offset"));
       this.rowOffset = -1;
+      this.rowIndexes = pageStore.getRowIndexes().orElse(null);
     }
   }
 
@@ -460,7 +469,8 @@ public class ParquetValueReaders {
 
     @Override
     public void setPageSource(PageReadStore pageStore) {
-      column.setPageSource(pageStore.getPageReader(desc));
+      column.setPageSource(
+          pageStore.getPageReader(desc), pageStore.getRowIndexes().orElse(null));
     }
 
     @Override
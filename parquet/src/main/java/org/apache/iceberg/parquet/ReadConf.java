@@ -32,10 +32,14 @@ import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore.MissingOffsetIndexException;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 /**
@@ -52,6 +56,7 @@ class ReadConf<T> {
   private final VectorizedReader<T> vectorizedModel;
   private final List<BlockMetaData> rowGroups;
   private final boolean[] shouldSkip;
+  private final RowRanges[] rowRanges;
   private final long totalValues;
   private final boolean reuseContainers;
   private final Integer batchSize;
@@ -90,16 +95,26 @@ class ReadConf<T> {
 
     this.rowGroups = reader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
+    this.rowRanges = new RowRanges[rowGroups.size()];
 
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
     ParquetBloomRowGroupFilter bloomFilter = null;
+    ParquetColumnIndexFilter columnIndexFilter = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
       bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
+      if (options.useColumnIndexFilter()) {
+        columnIndexFilter = new ParquetColumnIndexFilter(expectedSchema, filter, caseSensitive);
+        // filter columns are bound to the expected schema, so only projected indexes are needed
+        reader.setRequestedSchema(projection);
+      }
     }
 
+    // only the row-based reader can read a subset of the rows in a row group
+    boolean readRowRanges = readerFunc != null;
+
     long computedTotalValues = 0L;
     for (int i = 0; i < shouldSkip.length; i += 1) {
       BlockMetaData rowGroup = rowGroups.get(i);
@@ -110,8 +125,25 @@ class ReadConf<T> {
                       typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup))
                   && bloomFilter.shouldRead(
                       typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup)));
+
+      if (shouldRead && columnIndexFilter != null) {
+        ColumnIndexStore columnIndexStore = reader.getColumnIndexStore(i);
+        RowRanges ranges =
+            columnIndexFilter.calculateRowRanges(
+                typeWithIds, columnIndexStore, rowGroup.getRowCount());
+        if (ranges.rowCount() == 0) {
+          shouldRead = false;
+        } else if (readRowRanges
+            && ranges.rowCount() < rowGroup.getRowCount()
+            && hasOffsetIndexes(columnIndexStore)) {
+          this.rowRanges[i] = ranges;
+        }
+      }
+
       this.shouldSkip[i] = !shouldRead;
-      if (shouldRead) {
+      if (rowRanges[i] != null) {
+        computedTotalValues += rowRanges[i].rowCount();
+      } else if (shouldRead) {
         computedTotalValues += rowGroup.getRowCount();
       }
     }
@@ -139,6 +171,7 @@ class ReadConf<T> {
     this.model = toCopy.model;
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
+    this.rowRanges = toCopy.rowRanges;
     this.totalValues = toCopy.totalValues;
     this.reuseContainers = toCopy.reuseContainers;
     this.batchSize = toCopy.batchSize;
@@ -169,6 +202,14 @@ class ReadConf<T> {
     return shouldSkip;
   }
 
+  /**
+   * Returns the rows to read from each row group, or null for a row group if all of its rows are
+   * read.
+   */
+  RowRanges[] rowRanges() {
+    return rowRanges;
+  }
+
   long totalValues() {
     return totalValues;
   }
@@ -197,6 +238,21 @@ class ReadConf<T> {
     }
   }
 
+  /** Returns whether pages of all projected columns can be located to read a subset of rows. */
+  private boolean hasOffsetIndexes(ColumnIndexStore columnIndexStore) {
+    try {
+      for (ColumnDescriptor desc : projection.getColumns()) {
+        if (columnIndexStore.getOffsetIndex(ColumnPath.get(desc.getPath())) == null) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (MissingOffsetIndexException e) {
+      return false;
+    }
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
     Set<ColumnPath> projectedColumns =
         projection.getColumns().stream()
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Strings;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestParquetColumnIndexFilter {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+  private static final int NUM_ROWS = 200;
+
+  private InputFile file = null;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    InMemoryOutputFile out = new InMemoryOutputFile();
+    GenericRecord record = GenericRecord.create(SCHEMA);
+
+    // small pages that hold a different number of rows for each column
+    FileAppender<Record> writer =
+        Parquet.write(out)
+            .schema(SCHEMA)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "10")
+            .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "256")
+            .set(TableProperties.PARQUET_DICT_SIZE_BYTES, "1")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "1")
+            .set(TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "1")
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .build();
+
+    try (writer) {
+      for (long id = 0; id < NUM_ROWS; id += 1) {
+        record.setField("id", id);
+        record.setField("data", id % 7 == 0 ? null : data(id));
+        writer.add(record);
+      }
+    }
+
+    this.file = out.toInputFile();
+  }
+
+  @Test
+  public void testReadSelectedPages() throws IOException {
+    List<Record> rows =
+        read(
+            Expressions.and(
+                Expressions.greaterThanOrEqual("id", 35L), Expressions.lessThan("id", 42L)));
+
+    List<Long> ids = ids(rows);
+    assertThat(ids).as("Should read pages that contain matching rows").contains(35L, 41L);
+    assertThat(ids).as("Should skip pages without matching rows").hasSizeLessThan(NUM_ROWS);
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+    assertRowsAreConsistent(rows);
+  }
+
+  @Test
+  public void testReadOr() throws IOException {
+    List<Record> rows =
+        read(Expressions.or(Expressions.equal("id", 3L), Expressions.in("id", 150L, 199L)));
+
+    List<Long> ids = ids(rows);
+    assertThat(ids).contains(3L, 150L, 199L).doesNotContain(100L).isSorted();
+    assertRowsAreConsistent(rows);
+  }
+
+  @Test
+  public void testReadNoMatchingPages() throws IOException {
+    assertThat(read(Expressions.greaterThan("id", 1000L))).isEmpty();
+    assertThat(read(Expressions.lessThan("id", 0L))).isEmpty();
+  }
+
+  @Test
+  public void testReadAllPagesForUnsupportedPredicates() throws IOException {
+    assertThat(read(Expressions.notEqual("id", 5L))).hasSize(NUM_ROWS);
+    assertThat(read(Expressions.notIn("id", 5L, 6L))).hasSize(NUM_ROWS);
+  }
+
+  @Test
+  public void testPageFilteringDisabledByDefault() throws IOException {
+    Expression filter =
+        Expressions.and(Expressions.greaterThanOrEqual("id", 35L), Expressions.lessThan("id", 42L));
+    assertThat(read(filter, ImmutableMap.of())).hasSize(NUM_ROWS);
+  }
+
+  @Test
+  public void testCalculateRowRanges() throws IOException {
+    Schema projection = new Schema(SCHEMA.findField("id"));
+    ParquetColumnIndexFilter filter =
+        new ParquetColumnIndexFilter(projection, Expressions.lessThan("id", 10L), true);
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      long rowCount = reader.getRowGroups().get(0).getRowCount();
+      assertThat(
+              filter
+                  .calculateRowRanges(
+                      reader.getFileMetaData().getSchema(), reader.getColumnIndexStore(0), rowCount)
+                  .rowCount())
+          .isEqualTo(10L);
+    }
+  }
+
+  private List<Record> read(Expression filter) throws IOException {
+    return read(filter, ImmutableMap.of(ParquetInputFormat.COLUMN_INDEX_FILTERING_ENABLED, "true"));
+  }
+
+  private List<Record> read(Expression filter, Map<String, String> properties) throws IOException {
+    Schema projection = TypeUtil.join(SCHEMA, new Schema(MetadataColumns.ROW_POSITION));
+    Parquet.ReadBuilder builder = Parquet.read(file);
+    properties.forEach(builder::set);
+    try (CloseableIterable<Record> reader =
+        builder
+            .project(projection)
+            .filter(filter)
+            .createReaderFunc(fileSchema -> InternalReader.create(projection, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private static List<Long> ids(List<Record> rows) {
+    return rows.stream().map(row -> (Long) row.getField("id")).collect(Collectors.toList());
+  }
+
+  private static void assertRowsAreConsistent(List<Record> rows) {
+    for (Record row : rows) {
+      long id = (Long) row.getField("id");
+      assertThat(row.getField(MetadataColumns.ROW_POSITION.name())).isEqualTo(id);
+      if (id % 7 == 0) {
+        assertThat(row.getField("data")).isNull();
+      } else {
+        assertThat(row.getField("data").toString()).isEqualTo(data(id));
+      }
+    }
+  }
+
+  private static String data(long id) {
+    return Strings.padStart(String.valueOf(id), 40, '0');
+  }
+}
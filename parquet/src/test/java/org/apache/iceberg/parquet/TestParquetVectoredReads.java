@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.IOUtil;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.RangeReadable;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestParquetVectoredReads {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "value", Types.DoubleType.get()));
+  private static final int NUM_ROWS = 1000;
+
+  private final AtomicInteger vectoredReads = new AtomicInteger(0);
+  private InputFile file = null;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    InMemoryOutputFile out = new InMemoryOutputFile();
+    GenericRecord record = GenericRecord.create(SCHEMA);
+
+    FileAppender<Record> writer =
+        Parquet.write(out)
+            .schema(SCHEMA)
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .build();
+
+    try (writer) {
+      for (long id = 0; id < NUM_ROWS; id += 1) {
+        record.setField("id", id);
+        record.setField("data", "data-" + id);
+        record.setField("value", id / 2.0);
+        writer.add(record);
+      }
+    }
+
+    this.file = new VectoredInputFile(out.toInputFile(), vectoredReads);
+  }
+
+  @Test
+  public void testVectoredReads() throws IOException {
+    List<Record> rows = read(true);
+
+    assertThat(rows).hasSize(NUM_ROWS);
+    for (int i = 0; i < NUM_ROWS; i += 1) {
+      assertThat(rows.get(i).getField("id")).isEqualTo((long) i);
+      assertThat(rows.get(i).getField("data").toString()).isEqualTo("data-" + i);
+      assertThat(rows.get(i).getField("value")).isEqualTo(i / 2.0);
+    }
+
+    assertThat(vectoredReads.get()).as("Should fetch column chunks with vectored reads").isOne();
+  }
+
+  @Test
+  public void testVectoredReadsDisabled() throws IOException {
+    assertThat(read(false)).hasSize(NUM_ROWS);
+    assertThat(vectoredReads.get()).isZero();
+  }
+
+  private List<Record> read(boolean vectoredReadsEnabled) throws IOException {
+    String enabled = String.valueOf(vectoredReadsEnabled);
+    try (CloseableIterable<Record> reader =
+        Parquet.read(file)
+            .project(SCHEMA)
+            .set(ParquetInputFormat.HADOOP_VECTORED_IO_ENABLED, enabled)
+            .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  /** An input file with streams that count vectored reads. */
+  private static class VectoredInputFile implements InputFile {
+    private final InputFile delegate;
+    private final AtomicInteger vectoredReads;
+
+    private VectoredInputFile(InputFile delegate, AtomicInteger vectoredReads) {
+      this.delegate = delegate;
+      this.vectoredReads = vectoredReads;
+    }
+
+    @Override
+    public long getLength() {
+      return delegate.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() {
+      return new VectoredInputStream(delegate, vectoredReads);
+    }
+
+    @Override
+    public String location() {
+      return delegate.location();
+    }
+
+    @Override
+    public boolean exists() {
+      return delegate.exists();
+    }
+  }
+
+  private static class VectoredInputStream extends SeekableInputStream implements RangeReadable {
+    private final InputFile file;
+    private final SeekableInputStream stream;
+    private final AtomicInteger vectoredReads;
+
+    private VectoredInputStream(InputFile file, AtomicInteger vectoredReads) {
+      this.file = file;
+      this.stream = file.newStream();
+      this.vectoredReads = vectoredReads;
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return stream.getPos();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      stream.seek(newPos);
+    }
+
+    @Override
+    public int read() throws IOException {
+      return stream.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return stream.read(b, off, len);
+    }
+
+    @Override
+    public void readFully(long position, byte[] buffer, int offset, int length)
+        throws IOException {
+      try (SeekableInputStream rangeStream = file.newStream()) {
+        rangeStream.seek(position);
+        IOUtil.readFully(rangeStream, buffer, offset, length);
+      }
+    }
+
+    @Override
+    public int readTail(byte[] buffer, int offset, int length) throws IOException {
+      int tailLength = (int) Math.min(length, file.getLength());
+      readFully(file.getLength() - tailLength, buffer, offset, tailLength);
+      return tailLength;
+    }
+
+    @Override
+    public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate)
+        throws IOException {
+      vectoredReads.incrementAndGet();
+      RangeReadable.super.readVectored(ranges, allocate);
+    }
+
+    @Override
+    public void close() throws IOException {
+      stream.close();
+    }
+  }
+}